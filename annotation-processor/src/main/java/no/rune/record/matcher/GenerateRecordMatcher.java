@@ -0,0 +1,38 @@
+package no.rune.record.matcher;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.PACKAGE;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.CLASS;
+
+/**
+ * Instructs the {@link RecordMatcherProcessor} to generate Hamcrest matchers for records.
+ * <p>
+ * When annotating a record without specifying any {@link #value() records}, a matcher is
+ * generated for the annotated record itself. Any type or package may be annotated to specify
+ * records to generate matchers for, which is useful e.g. to generate matchers as part of
+ * compiling the tests of a project for records residing in its main code.
+ * <p>
+ * The annotation is retained in the class files, as incremental compilation, e.g. by Gradle,
+ * can only relate the generated matchers to annotations it finds in the class files.
+ */
+@Documented
+@Retention(CLASS)
+@Target({ TYPE, PACKAGE })
+public @interface GenerateRecordMatcher {
+
+    /**
+     * The records to generate matchers for.
+     */
+    Class<? extends Record>[] value() default {};
+
+    /**
+     * Options for the matchers generated from this annotation, in addition to any
+     * options given to the {@link RecordMatcherProcessor processor}.
+     */
+    RecordMatcherGenerator.Option[] options() default {};
+
+}
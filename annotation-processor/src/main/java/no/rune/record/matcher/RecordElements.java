@@ -0,0 +1,92 @@
+package no.rune.record.matcher;
+
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.TypeName;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import java.util.HashSet;
+import java.util.Set;
+
+import static javax.lang.model.element.Modifier.PRIVATE;
+
+/**
+ * Resolves {@link RecordDefinition}s from the elements available to an annotation processor.
+ */
+final class RecordElements {
+
+    private static final Set<String> VALUE_EQUALITY_TYPES = Set.of(
+            "java.lang.String", "java.lang.Boolean", "java.lang.Byte", "java.lang.Short", "java.lang.Character",
+            "java.lang.Integer", "java.lang.Long", "java.lang.Float", "java.lang.Double");
+
+    static RecordDefinition definitionOf(TypeElement record) {
+        return new RecordDefinition(ClassName.get(record), record.getRecordComponents().stream()
+                .filter(component -> isAccessibleFromSamePackage(component.asType()))
+                .map(component -> new RecordDefinition.Component(component.getSimpleName().toString(), TypeName.get(component.asType()), hasValueEquality(component.asType())))
+                .toList());
+    }
+
+    /**
+     * The element equivalent of {@link ScanHelper#isAccessibleFromSamePackage(java.lang.reflect.Type)}.
+     */
+    static boolean isAccessibleFromSamePackage(TypeMirror type) {
+        if (type.getKind().isPrimitive()) {
+            return true;
+        } else if (type instanceof ArrayType arrayType) {
+            return isAccessibleFromSamePackage(arrayType.getComponentType());
+        } else if (type instanceof DeclaredType declaredType) {
+            if (!isAccessibleFromSamePackage(declaredType.asElement())) {
+                return false;
+            }
+            for (var typeArg : declaredType.getTypeArguments()) {
+                if (!isAccessibleFromSamePackage(typeArg)) {
+                    return false;
+                }
+            }
+            return true;
+        } else {
+            return false;
+        }
+    }
+
+    /**
+     * The element equivalent of {@link ScanHelper#hasValueEquality(java.lang.reflect.Type)}.
+     */
+    static boolean hasValueEquality(TypeMirror type) {
+        return hasValueEquality(type, new HashSet<>());
+    }
+
+    private static boolean hasValueEquality(TypeMirror type, Set<TypeElement> visitedRecords) {
+        if (type.getKind().isPrimitive()) {
+            return true;
+        } else if (type instanceof DeclaredType declaredType && declaredType.asElement() instanceof TypeElement typeElement && declaredType.getTypeArguments().isEmpty()) {
+            if (typeElement.getKind() == ElementKind.ENUM || VALUE_EQUALITY_TYPES.contains(typeElement.getQualifiedName().toString())) {
+                return true;
+            } else if (typeElement.getKind() == ElementKind.RECORD) {
+                return !visitedRecords.add(typeElement) || typeElement.getRecordComponents().stream()
+                        .allMatch(component -> hasValueEquality(component.asType(), visitedRecords));
+            }
+        }
+        return false;
+    }
+
+    static boolean isAccessibleFromSamePackage(Element typeElement) {
+        for (var e = typeElement; e instanceof TypeElement type; e = e.getEnclosingElement()) {
+            if (type.getNestingKind() == NestingKind.LOCAL || type.getNestingKind() == NestingKind.ANONYMOUS) {
+                return false;
+            }
+            if (type.getNestingKind() == NestingKind.MEMBER && type.getModifiers().contains(PRIVATE)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private RecordElements() {
+    }
+}
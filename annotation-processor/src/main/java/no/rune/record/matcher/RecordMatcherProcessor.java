@@ -0,0 +1,178 @@
+package no.rune.record.matcher;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static java.util.function.Predicate.not;
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toCollection;
+import static javax.tools.Diagnostic.Kind.ERROR;
+
+/**
+ * Generates Hamcrest matchers for records as part of compilation, as instructed by
+ * {@link GenerateRecordMatcher} annotations. This produces the same matchers as
+ * {@link RecordMatcherGenerator}, but from the elements being compiled instead of
+ * loaded classes.
+ * <p>
+ * The processor is <em>aggregating</em>, in terms of incremental annotation processing,
+ * as a matcher is generated from the components of a record which is not necessarily the
+ * annotated element, and one annotated element may produce several matchers. Both the
+ * annotated element and the record are given as originating elements of a generated matcher.
+ * <p>
+ * {@link RecordMatcherGenerator.Option Options} for the generated matchers may be given
+ * as a comma-separated list with the processor option {@value #OPTIONS}, e.g.
+ * {@code -Arecordmatcher.options=failFast}, which apply to all generated matchers, and with
+ * {@link GenerateRecordMatcher#options()}, which apply to the matchers generated from the
+ * annotation.
+ */
+@SupportedAnnotationTypes("no.rune.record.matcher.GenerateRecordMatcher")
+@SupportedOptions(RecordMatcherProcessor.OPTIONS)
+public class RecordMatcherProcessor extends AbstractProcessor {
+
+    static final String OPTIONS = "recordmatcher.options";
+
+    private Set<RecordMatcherGenerator.Option> processorOptions;
+
+    private final Map<Set<RecordMatcherGenerator.Option>, RecordMatcherGenerator> generators = new HashMap<>();
+
+    /**
+     * The matchers generated so far, by their class names.
+     */
+    private final Map<String, GeneratedMatcher> generatedMatchers = new HashMap<>();
+
+    private record GeneratedMatcher(Set<RecordMatcherGenerator.Option> options, Element annotatedElement) {}
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        processorOptions = Stream.of(processingEnv.getOptions().getOrDefault(OPTIONS, "").split(","))
+                .map(String::trim)
+                .filter(not(String::isEmpty))
+                .flatMap(this::resolveOption)
+                .collect(toCollection(() -> EnumSet.noneOf(RecordMatcherGenerator.Option.class)));
+    }
+
+    private Stream<RecordMatcherGenerator.Option> resolveOption(String optionName) {
+        try {
+            return Stream.of(RecordMatcherGenerator.Option.valueOf(optionName));
+        } catch (IllegalArgumentException e) {
+            processingEnv.getMessager().printMessage(ERROR,
+                    "Unknown option '" + optionName + "' in " + OPTIONS + ", valid options are " +
+                    Stream.of(RecordMatcherGenerator.Option.values()).map(Enum::name).collect(joining(", ")));
+            return Stream.empty();
+        }
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (var annotatedElement : roundEnv.getElementsAnnotatedWith(GenerateRecordMatcher.class)) {
+            var options = optionsFor(annotatedElement);
+            var generator = generators.computeIfAbsent(options, RecordMatcherGenerator::new);
+            for (var record : recordsToGenerateMatchersFor(annotatedElement)) {
+                if (isSupported(record, annotatedElement)) {
+                    generateMatcher(record, annotatedElement, options, generator);
+                }
+            }
+        }
+        return true;
+    }
+
+    private Set<RecordMatcherGenerator.Option> optionsFor(Element annotatedElement) {
+        var options = EnumSet.copyOf(processorOptions);
+        options.addAll(List.of(annotatedElement.getAnnotation(GenerateRecordMatcher.class).options()));
+        return options;
+    }
+
+    private List<TypeElement> recordsToGenerateMatchersFor(Element annotatedElement) {
+        var records = new ArrayList<TypeElement>();
+        for (var annotation : annotatedElement.getAnnotationMirrors()) {
+            if (!((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().contentEquals(GenerateRecordMatcher.class.getName())) {
+                continue;
+            }
+            annotation.getElementValues().forEach((name, value) -> {
+                if (name.getSimpleName().contentEquals("value")) {
+                    for (var recordType : (List<?>) value.getValue()) {
+                        records.add((TypeElement) ((DeclaredType) ((AnnotationValue) recordType).getValue()).asElement());
+                    }
+                }
+            });
+        }
+        if (records.isEmpty()) {
+            if (annotatedElement.getKind() == ElementKind.RECORD) {
+                records.add((TypeElement) annotatedElement);
+            } else {
+                processingEnv.getMessager().printMessage(ERROR,
+                        "The records to generate matchers for must be specified when annotating " + describe(annotatedElement), annotatedElement);
+            }
+        }
+        return records;
+    }
+
+    private static String describe(Element annotatedElement) {
+        return annotatedElement.getKind().toString().toLowerCase() + " " + annotatedElement;
+    }
+
+    private boolean isSupported(TypeElement record, Element annotatedElement) {
+        String problem;
+        if (record.getKind() != ElementKind.RECORD) {
+            problem = "it is not a record";
+        } else if (!record.getTypeParameters().isEmpty()) {
+            problem = "type parameters are not supported";
+        } else if (!RecordElements.isAccessibleFromSamePackage(record)) {
+            problem = "it is not accessible from its package";
+        } else {
+            return true;
+        }
+        processingEnv.getMessager().printMessage(ERROR,
+                "Can not generate matcher for " + record.getQualifiedName() + " because " + problem, annotatedElement);
+        return false;
+    }
+
+    private void generateMatcher(TypeElement record, Element annotatedElement, Set<RecordMatcherGenerator.Option> options, RecordMatcherGenerator generator) {
+        var definition = RecordElements.definitionOf(record);
+        var packageName = processingEnv.getElementUtils().getPackageOf(record).getQualifiedName().toString();
+        var matcherSimpleClassName = String.join("", definition.name().simpleNames()) + "Matcher";
+        var matcherClassName = packageName.isEmpty() ? matcherSimpleClassName : packageName + "." + matcherSimpleClassName;
+        var alreadyGenerated = generatedMatchers.putIfAbsent(matcherClassName, new GeneratedMatcher(options, annotatedElement));
+        if (alreadyGenerated != null) {
+            if (!alreadyGenerated.options().equals(options)) {
+                processingEnv.getMessager().printMessage(ERROR,
+                        "Conflicting options for " + matcherClassName + ": " + options + " when annotating " + describe(annotatedElement) + ", " +
+                        "and " + alreadyGenerated.options() + " when annotating " + describe(alreadyGenerated.annotatedElement()), annotatedElement);
+            }
+            return;
+        }
+
+        try (var writer = new BufferedWriter(processingEnv.getFiler().createSourceFile(matcherClassName, annotatedElement, record).openWriter())) {
+            generator.generateFromRecord(definition, packageName, matcherSimpleClassName, writer);
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(ERROR,
+                    "Unable to write " + matcherClassName + ", " +
+                    "because " + e.getClass().getSimpleName() + ": " + e.getMessage(), annotatedElement);
+        }
+    }
+
+}
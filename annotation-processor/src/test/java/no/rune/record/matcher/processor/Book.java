@@ -0,0 +1,10 @@
+package no.rune.record.matcher.processor;
+
+import java.util.List;
+
+public record Book(String title, List<String> authors, int pageCount, Publisher publisher, char[] isbn, Secret secret) {
+
+    public record Publisher(String name) {}
+
+    private record Secret() {}
+}
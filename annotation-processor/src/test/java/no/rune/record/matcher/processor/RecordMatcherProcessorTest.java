@@ -0,0 +1,182 @@
+package no.rune.record.matcher.processor;
+
+import com.google.testing.compile.Compilation;
+import com.google.testing.compile.JavaFileObjects;
+import no.rune.record.matcher.RecordMatcherGenerator;
+import no.rune.record.matcher.RecordMatcherProcessor;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import static com.google.testing.compile.Compilation.Status.FAILURE;
+import static com.google.testing.compile.Compilation.Status.SUCCESS;
+import static com.google.testing.compile.Compiler.javac;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.either;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static uk.co.probablyfine.matchers.Java8Matchers.where;
+
+class RecordMatcherProcessorTest {
+
+    private static Compilation compileWithProcessor(String fullyQualifiedName, String source, Object ... options) {
+        return javac()
+                .withProcessors(new RecordMatcherProcessor())
+                .withOptions(options)
+                .compile(JavaFileObjects.forSourceString(fullyQualifiedName, source));
+    }
+
+    private static String generatedSource(Compilation compilation, String fullyQualifiedName) {
+        try {
+            return compilation.generatedSourceFile(fullyQualifiedName).orElseThrow().getCharContent(true).toString();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Test
+    void generatesMatcherForAnnotatedRecord() {
+        var compilation = compileWithProcessor("x.y.Point", """
+            package x.y;
+            @no.rune.record.matcher.GenerateRecordMatcher
+            public record Point(int x, int y) {}
+            """);
+        assertAll(
+                () -> assertThat(compilation, where(Compilation::status, is(SUCCESS))),
+                () -> assertThat(generatedSource(compilation, "x.y.PointMatcher"), containsString("public static PointMatcher aPoint()")));
+    }
+
+    @Test
+    void generatesSameMatchersAsFromLoadedRecordClasses() {
+        var compilation = compileWithProcessor("x.y.Trigger", """
+            package x.y;
+            import no.rune.record.matcher.processor.Book;
+            @no.rune.record.matcher.GenerateRecordMatcher({ Book.class, Book.Publisher.class })
+            class Trigger {}
+            """);
+        var generator = new RecordMatcherGenerator();
+        assertAll(
+                () -> assertThat(compilation, where(Compilation::errors, empty())),
+                () -> assertEquals(generator.generateFromRecord(Book.class).content(), generatedSource(compilation, Book.class.getPackageName() + ".BookMatcher")),
+                () -> assertEquals(generator.generateFromRecord(Book.Publisher.class).content(), generatedSource(compilation, Book.class.getPackageName() + ".BookPublisherMatcher")));
+    }
+
+    @Test
+    void generatesMatchersWithGivenOptions() {
+        var compilation = compileWithProcessor("x.y.Trigger", """
+            package x.y;
+            import no.rune.record.matcher.processor.Book;
+            @no.rune.record.matcher.GenerateRecordMatcher(Book.class)
+            class Trigger {}
+            """, "-Arecordmatcher.options=failFast");
+        var generator = new RecordMatcherGenerator(RecordMatcherGenerator.Option.failFast);
+        assertAll(
+                () -> assertThat(compilation, where(Compilation::errors, empty())),
+                () -> assertEquals(generator.generateFromRecord(Book.class).content(), generatedSource(compilation, Book.class.getPackageName() + ".BookMatcher")));
+    }
+
+    @Test
+    void generatesMatchersWithOptionsOfAnnotationInAdditionToProcessorOptions() {
+        var compilation = compileWithProcessor("x.y.Trigger", """
+            package x.y;
+            import no.rune.record.matcher.processor.Book;
+            import static no.rune.record.matcher.RecordMatcherGenerator.Option.linkedBuilder;
+            @no.rune.record.matcher.GenerateRecordMatcher(value = Book.class, options = linkedBuilder)
+            class Trigger {}
+            """, "-Arecordmatcher.options=failFast");
+        var generator = new RecordMatcherGenerator(RecordMatcherGenerator.Option.failFast, RecordMatcherGenerator.Option.linkedBuilder);
+        assertAll(
+                () -> assertThat(compilation, where(Compilation::errors, empty())),
+                () -> assertEquals(generator.generateFromRecord(Book.class).content(), generatedSource(compilation, Book.class.getPackageName() + ".BookMatcher")));
+    }
+
+    @Test
+    void failsForRecordWithTypeParameters() {
+        var compilation = compileWithProcessor("x.y.Box", """
+            package x.y;
+            @no.rune.record.matcher.GenerateRecordMatcher
+            record Box<T>(T content) {}
+            """);
+        assertAll(
+                () -> assertThat(compilation, where(Compilation::status, is(FAILURE))),
+                () -> assertThat(compilation.errors().stream().map(error -> error.getMessage(null)).toList(),
+                        contains("Can not generate matcher for x.y.Box because type parameters are not supported")));
+    }
+
+    @Test
+    void failsWhenAnnotatingClassWithoutSpecifyingRecords() {
+        var compilation = compileWithProcessor("x.y.Trigger", """
+            package x.y;
+            @no.rune.record.matcher.GenerateRecordMatcher
+            class Trigger {}
+            """);
+        assertAll(
+                () -> assertThat(compilation, where(Compilation::status, is(FAILURE))),
+                () -> assertThat(compilation.errors().stream().map(error -> error.getMessage(null)).toList(),
+                        contains("The records to generate matchers for must be specified when annotating class x.y.Trigger")));
+    }
+
+    @Test
+    void failsForUnknownProcessorOption() {
+        var compilation = compileWithProcessor("x.y.Point", """
+            package x.y;
+            @no.rune.record.matcher.GenerateRecordMatcher
+            public record Point(int x, int y) {}
+            """, "-Arecordmatcher.options=failFast,fastFail");
+        assertAll(
+                () -> assertThat(compilation, where(Compilation::status, is(FAILURE))),
+                () -> assertThat(compilation.errors().stream().map(error -> error.getMessage(null)).toList(),
+                        contains("Unknown option 'fastFail' in recordmatcher.options, valid options are failFast, linkedBuilder, containsInAnyOrder, jfrEvents")));
+    }
+
+    @Test
+    void failsWhenSameMatcherIsRequestedWithConflictingOptions() {
+        var compilation = javac()
+                .withProcessors(new RecordMatcherProcessor())
+                .compile(
+                        JavaFileObjects.forSourceString("x.y.Trigger", """
+                            package x.y;
+                            import no.rune.record.matcher.processor.Book;
+                            @no.rune.record.matcher.GenerateRecordMatcher(Book.class)
+                            class Trigger {}
+                            """),
+                        JavaFileObjects.forSourceString("x.y.OtherTrigger", """
+                            package x.y;
+                            import no.rune.record.matcher.processor.Book;
+                            import static no.rune.record.matcher.RecordMatcherGenerator.Option.failFast;
+                            @no.rune.record.matcher.GenerateRecordMatcher(value = Book.class, options = failFast)
+                            class OtherTrigger {}
+                            """));
+        assertAll(
+                () -> assertThat(compilation, where(Compilation::status, is(FAILURE))),
+                () -> assertThat(compilation.errors().stream().map(error -> error.getMessage(null)).toList(), contains(either(
+                        containsString("Conflicting options for no.rune.record.matcher.processor.BookMatcher: [failFast] when annotating class x.y.OtherTrigger, and [] when annotating class x.y.Trigger"))
+                        .or(containsString("Conflicting options for no.rune.record.matcher.processor.BookMatcher: [] when annotating class x.y.Trigger, and [failFast] when annotating class x.y.OtherTrigger")))));
+    }
+
+    @Test
+    void generatesMatcherOnceWhenRequestedWithSameOptions() {
+        var compilation = javac()
+                .withProcessors(new RecordMatcherProcessor())
+                .compile(
+                        JavaFileObjects.forSourceString("x.y.Trigger", """
+                            package x.y;
+                            import no.rune.record.matcher.processor.Book;
+                            @no.rune.record.matcher.GenerateRecordMatcher(Book.class)
+                            class Trigger {}
+                            """),
+                        JavaFileObjects.forSourceString("x.y.OtherTrigger", """
+                            package x.y;
+                            import no.rune.record.matcher.processor.Book;
+                            @no.rune.record.matcher.GenerateRecordMatcher(Book.class)
+                            class OtherTrigger {}
+                            """));
+        assertThat(compilation, where(Compilation::errors, empty()));
+    }
+
+}
@@ -0,0 +1,70 @@
+package no.rune.record.matcher.benchmark;
+
+import org.hamcrest.Matcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static no.rune.record.matcher.benchmark.LinkedWideRecordMatcher.aLinkedWideRecord;
+import static no.rune.record.matcher.benchmark.ReflectiveRecordMatcher.aRecord;
+import static no.rune.record.matcher.benchmark.TwoValuesRecordMatcher.aTwoValuesRecord;
+import static no.rune.record.matcher.benchmark.WideRecordMatcher.aWideRecord;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * Measures constructing generated matchers by chaining the methods constraining
+ * record components.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BuilderBenchmark {
+
+    @Benchmark
+    public Matcher<TwoValuesRecord> twoValuesAnyRecord() {
+        return aTwoValuesRecord();
+    }
+
+    @Benchmark
+    public Matcher<TwoValuesRecord> twoValuesConstrainingAll() {
+        return aTwoValuesRecord().withText("x").withNumber(42);
+    }
+
+    @Benchmark
+    public Matcher<WideRecord> wideConstrainingTwo() {
+        return aWideRecord().withText1("text1").withNumber20(20);
+    }
+
+    @Benchmark
+    public Matcher<WideRecord> wideConstrainingTen() {
+        return aWideRecord()
+                .withText1("text1").withNumber2(2).withAmount3(3000L).withRatio4(4.5).withFlag5(false)
+                .withText31("text31").withNumber32(32).withAmount33(33000L).withRatio34(34.5).withFlag35(false);
+    }
+
+    @Benchmark
+    public Matcher<LinkedWideRecord> wideLinkedConstrainingTwo() {
+        return aLinkedWideRecord().withText1("text1").withNumber20(20);
+    }
+
+    @Benchmark
+    public Matcher<LinkedWideRecord> wideLinkedConstrainingTen() {
+        return aLinkedWideRecord()
+                .withText1("text1").withNumber2(2).withAmount3(3000L).withRatio4(4.5).withFlag5(false)
+                .withText31("text31").withNumber32(32).withAmount33(33000L).withRatio34(34.5).withFlag35(false);
+    }
+
+    @Benchmark
+    public Matcher<WideRecord> wideReflectiveConstrainingTwo() {
+        return aRecord(WideRecord.class).with("text1", is("text1")).with("number20", is(20));
+    }
+
+}
@@ -0,0 +1,60 @@
+package no.rune.record.matcher.benchmark;
+
+import org.hamcrest.Matcher;
+import org.hamcrest.Matchers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static no.rune.record.matcher.benchmark.ShipmentMatcher.aShipment;
+
+/**
+ * Measures matching a list of records against as many expected matchers, in any order,
+ * with the {@code containsInAnyOrder} matcher generated for the record, and with the one
+ * from Hamcrest for comparison.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollectionBenchmark {
+
+    List<Shipment> shipments;
+    Matcher<Iterable<? extends Shipment>> indexedContainsInAnyOrder;
+    Matcher<Iterable<? extends Shipment>> hamcrestContainsInAnyOrder;
+
+    @Setup
+    public void setUp() {
+        shipments = Fixtures.shipments(1_000);
+        var expected = IntStream.range(0, shipments.size())
+                .mapToObj(i -> shipments.get(shipments.size() - 1 - i))
+                .map(shipment -> aShipment().withTrackingCode(shipment.trackingCode()).withParcels(shipment.parcels()))
+                .toList();
+        indexedContainsInAnyOrder = ShipmentMatcher.containsInAnyOrder(expected);
+        hamcrestContainsInAnyOrder = Matchers.containsInAnyOrder(List.<Matcher<? super Shipment>>copyOf(expected));
+    }
+
+    @Benchmark
+    public boolean indexedContainsInAnyOrder() {
+        return indexedContainsInAnyOrder.matches(shipments);
+    }
+
+    @Benchmark
+    public boolean hamcrestContainsInAnyOrder() {
+        return hamcrestContainsInAnyOrder.matches(shipments);
+    }
+
+}
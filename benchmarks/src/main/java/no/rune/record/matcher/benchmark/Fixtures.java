@@ -0,0 +1,112 @@
+package no.rune.record.matcher.benchmark;
+
+import java.lang.reflect.RecordComponent;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+final class Fixtures {
+
+    static WideRecord wideRecord(String text1) {
+        return new WideRecord(
+                text1,
+                2,
+                3000L,
+                4.5,
+                false,
+                List.of("item6"),
+                "text7",
+                8,
+                9000L,
+                10.5,
+                false,
+                List.of("item12"),
+                "text13",
+                14,
+                15000L,
+                16.5,
+                false,
+                List.of("item18"),
+                "text19",
+                20,
+                21000L,
+                22.5,
+                false,
+                List.of("item24"),
+                "text25",
+                26,
+                27000L,
+                28.5,
+                false,
+                List.of("item30"),
+                "text31",
+                32,
+                33000L,
+                34.5,
+                false,
+                List.of("item36"),
+                "text37",
+                38,
+                39000L,
+                40.5,
+                false,
+                List.of("item42"),
+                "text43",
+                44,
+                45000L,
+                46.5,
+                false,
+                List.of("item48"),
+                "text49",
+                50,
+                51000L,
+                52.5,
+                false,
+                List.of("item54"),
+                "text55",
+                56,
+                57000L,
+                58.5,
+                false,
+                List.of("item60"));
+    }
+
+    static LinkedWideRecord linkedWideRecord(String text1) {
+        return copy(wideRecord(text1), LinkedWideRecord.class);
+    }
+
+    /**
+     * Copy a record to another record type with the same components.
+     */
+    private static <R extends Record> R copy(Record source, Class<R> target) {
+        try {
+            var components = source.getClass().getRecordComponents();
+            var values = new Object[components.length];
+            for (int i = 0; i < components.length; i++) {
+                values[i] = components[i].getAccessor().invoke(source);
+            }
+            return target.getConstructor(Stream.of(components).map(RecordComponent::getType).toArray(Class<?>[]::new)).newInstance(values);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static Order order(String customerName) {
+        return new Order("order-1",
+                new Order.Customer(customerName, new Order.Address("Street 1", "0001", "Oslo")),
+                List.of(new Order.Line("book", 2, 39900), new Order.Line("pen", 10, 1500)));
+    }
+
+    static SensorReading sensorReading(double lastValue) {
+        return new SensorReading("sensor-1", new double[] {1.0, 2.0, 3.0, lastValue}, new String[] {"indoor", "calibrated"});
+    }
+
+    static List<Shipment> shipments(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new Shipment("tracking-" + i, 1 + i % 5, "destination-" + i % 10))
+                .toList();
+    }
+
+    private Fixtures() {
+    }
+}
@@ -0,0 +1,173 @@
+package no.rune.record.matcher.benchmark;
+
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static no.rune.record.matcher.benchmark.SensorReadingMatcher.aSensorReading;
+import static no.rune.record.matcher.benchmark.OrderCustomerMatcher.aCustomer;
+import static no.rune.record.matcher.benchmark.OrderMatcher.anOrder;
+import static no.rune.record.matcher.benchmark.LinkedWideRecordMatcher.aLinkedWideRecord;
+import static no.rune.record.matcher.benchmark.ReflectiveRecordMatcher.aRecord;
+import static no.rune.record.matcher.benchmark.TwoValuesRecordMatcher.aTwoValuesRecord;
+import static no.rune.record.matcher.benchmark.WideRecordMatcher.aWideRecord;
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * Measures evaluating generated matchers, both when the matched record is as expected, and
+ * describing the mismatch when it is not. Matchers resolving the record components
+ * reflectively, and {@code equalTo} the expected record, are included for comparison.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MatchingBenchmark {
+
+    TwoValuesRecord twoValues;
+    TwoValuesRecord unexpectedTwoValues;
+    Matcher<TwoValuesRecord> twoValuesMatcher;
+    Matcher<TwoValuesRecord> reflectiveTwoValuesMatcher;
+    Matcher<TwoValuesRecord> twoValuesEqualTo;
+
+    WideRecord wide;
+    WideRecord unexpectedWide;
+    Matcher<WideRecord> wideMatcher;
+    Matcher<WideRecord> reflectiveWideMatcher;
+
+    LinkedWideRecord linkedWide;
+    Matcher<LinkedWideRecord> linkedWideMatcher;
+
+    Order order;
+    Order unexpectedOrder;
+    Matcher<Order> nestedMatcher;
+
+    SensorReading sensorReading;
+    Matcher<SensorReading> arrayMatcher;
+
+    @Setup
+    public void setUp() {
+        twoValues = new TwoValuesRecord("x", 42);
+        unexpectedTwoValues = new TwoValuesRecord("y", 42);
+        twoValuesMatcher = aTwoValuesRecord().withText("x").withNumber(42);
+        reflectiveTwoValuesMatcher = aRecord(TwoValuesRecord.class).with("text", is("x")).with("number", is(42));
+        twoValuesEqualTo = equalTo(new TwoValuesRecord("x", 42));
+
+        wide = Fixtures.wideRecord("text1");
+        unexpectedWide = Fixtures.wideRecord("unexpected");
+        wideMatcher = aWideRecord().withText1("text1").withNumber20(20);
+        reflectiveWideMatcher = aRecord(WideRecord.class).with("text1", is("text1")).with("number20", is(20));
+
+        linkedWide = Fixtures.linkedWideRecord("text1");
+        linkedWideMatcher = aLinkedWideRecord().withText1("text1").withNumber20(20);
+
+        order = Fixtures.order("Ada");
+        unexpectedOrder = Fixtures.order("Grace");
+        nestedMatcher = anOrder().withCustomer(aCustomer().withName("Ada")).withLines(hasItem(is(new Order.Line("pen", 10, 1500))));
+
+        sensorReading = Fixtures.sensorReading(4.0);
+        arrayMatcher = aSensorReading().withSensor("sensor-1").withTags(arrayContaining("indoor", "calibrated"));
+    }
+
+    @Benchmark
+    public boolean twoValuesMatches() {
+        return twoValuesMatcher.matches(twoValues);
+    }
+
+    @Benchmark
+    public boolean twoValuesReflectiveMatches() {
+        return reflectiveTwoValuesMatcher.matches(twoValues);
+    }
+
+    @Benchmark
+    public boolean twoValuesEqualToMatches() {
+        return twoValuesEqualTo.matches(twoValues);
+    }
+
+    @Benchmark
+    public String twoValuesDescribeMismatch() {
+        var description = new StringDescription();
+        twoValuesMatcher.describeMismatch(unexpectedTwoValues, description);
+        return description.toString();
+    }
+
+    @Benchmark
+    public String twoValuesReflectiveDescribeMismatch() {
+        var description = new StringDescription();
+        reflectiveTwoValuesMatcher.describeMismatch(unexpectedTwoValues, description);
+        return description.toString();
+    }
+
+    @Benchmark
+    public boolean wideMatches() {
+        return wideMatcher.matches(wide);
+    }
+
+    @Benchmark
+    public boolean wideReflectiveMatches() {
+        return reflectiveWideMatcher.matches(wide);
+    }
+
+    @Benchmark
+    public String wideDescribeMismatch() {
+        var description = new StringDescription();
+        wideMatcher.describeMismatch(unexpectedWide, description);
+        return description.toString();
+    }
+
+    @Benchmark
+    public String wideReflectiveDescribeMismatch() {
+        var description = new StringDescription();
+        reflectiveWideMatcher.describeMismatch(unexpectedWide, description);
+        return description.toString();
+    }
+
+    @Benchmark
+    public boolean wideLinkedMatches() {
+        return linkedWideMatcher.matches(linkedWide);
+    }
+
+    @Benchmark
+    public boolean wideConstrainAndMatch() {
+        return aWideRecord().withText1("text1").withNumber20(20).matches(wide);
+    }
+
+    @Benchmark
+    public boolean wideLinkedConstrainAndMatch() {
+        return aLinkedWideRecord().withText1("text1").withNumber20(20).matches(linkedWide);
+    }
+
+    @Benchmark
+    public boolean nestedMatches() {
+        return nestedMatcher.matches(order);
+    }
+
+    @Benchmark
+    public String nestedDescribeMismatch() {
+        var description = new StringDescription();
+        nestedMatcher.describeMismatch(unexpectedOrder, description);
+        return description.toString();
+    }
+
+    @Benchmark
+    public boolean arrayMatches() {
+        return arrayMatcher.matches(sensorReading);
+    }
+
+}
@@ -0,0 +1,13 @@
+package no.rune.record.matcher.benchmark;
+
+import java.util.List;
+
+public record Order(String id, Customer customer, List<Line> lines) {
+
+    public record Customer(String name, Address address) {}
+
+    public record Address(String street, String postalCode, String city) {}
+
+    public record Line(String product, int quantity, long priceInCents) {}
+
+}
@@ -0,0 +1,70 @@
+package no.rune.record.matcher.benchmark;
+
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.RecordComponent;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * A matcher for any record, which resolves component values reflectively, as a
+ * baseline to compare generated matchers against. Hamcrest's own reflective matchers,
+ * e.g. {@code samePropertyValuesAs}, resolve JavaBean properties and do not
+ * support records.
+ */
+public final class ReflectiveRecordMatcher<R extends Record> extends TypeSafeDiagnosingMatcher<R> {
+
+    public static <R extends Record> ReflectiveRecordMatcher<R> aRecord(Class<R> recordType) {
+        return new ReflectiveRecordMatcher<>(recordType, Map.of());
+    }
+
+    private final Class<R> recordType;
+    private final Map<RecordComponent, Matcher<?>> componentMatchers;
+
+    private ReflectiveRecordMatcher(Class<R> recordType, Map<RecordComponent, Matcher<?>> componentMatchers) {
+        super(recordType);
+        this.recordType = recordType;
+        this.componentMatchers = componentMatchers;
+    }
+
+    public ReflectiveRecordMatcher<R> with(String componentName, Matcher<?> componentMatcher) {
+        var component = Stream.of(recordType.getRecordComponents())
+                .filter(c -> c.getName().equals(componentName))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException(recordType.getSimpleName() + " has no component " + componentName));
+        var newComponentMatchers = new LinkedHashMap<>(componentMatchers);
+        newComponentMatchers.put(component, componentMatcher);
+        return new ReflectiveRecordMatcher<>(recordType, newComponentMatchers);
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        description.appendText(recordType.getSimpleName()).appendText(" record where");
+        componentMatchers.forEach((component, matcher) -> description.appendText(" " + component.getName() + " ").appendDescriptionOf(matcher));
+    }
+
+    @Override
+    protected boolean matchesSafely(R element, Description mismatchDescription) {
+        boolean matches = true;
+        for (var componentMatcher : componentMatchers.entrySet()) {
+            var component = componentMatcher.getKey();
+            Object value;
+            try {
+                value = component.getAccessor().invoke(element);
+            } catch (IllegalAccessException | InvocationTargetException e) {
+                throw new IllegalStateException(e.getMessage(), e);
+            }
+            if (!componentMatcher.getValue().matches(value)) {
+                mismatchDescription.appendText(" " + component.getName() + " ");
+                componentMatcher.getValue().describeMismatch(value, mismatchDescription);
+                matches = false;
+            }
+        }
+        return matches;
+    }
+
+}
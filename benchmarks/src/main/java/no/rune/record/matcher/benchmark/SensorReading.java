@@ -0,0 +1,4 @@
+package no.rune.record.matcher.benchmark;
+
+public record SensorReading(String sensor, double[] values, String[] tags) {
+}
@@ -0,0 +1,12 @@
+package no.rune.record.matcher.benchmark;
+
+import no.rune.record.matcher.GenerateRecordMatcher;
+
+import static no.rune.record.matcher.RecordMatcherGenerator.Option.containsInAnyOrder;
+
+/**
+ * The matcher of this record is generated with the {@code containsInAnyOrder} option.
+ */
+@GenerateRecordMatcher(options = containsInAnyOrder)
+public record Shipment(String trackingCode, int parcels, String destination) {
+}
@@ -0,0 +1,4 @@
+package no.rune.record.matcher.benchmark;
+
+public record TwoValuesRecord(String text, int number) {
+}
@@ -0,0 +1,70 @@
+package no.rune.record.matcher.benchmark;
+
+import java.util.List;
+
+/**
+ * A record with a large number of components, of which typically only a few are
+ * constrained by a matcher.
+ */
+public record WideRecord(
+        String text1,
+        int number2,
+        long amount3,
+        double ratio4,
+        boolean flag5,
+        List<String> items6,
+        String text7,
+        int number8,
+        long amount9,
+        double ratio10,
+        boolean flag11,
+        List<String> items12,
+        String text13,
+        int number14,
+        long amount15,
+        double ratio16,
+        boolean flag17,
+        List<String> items18,
+        String text19,
+        int number20,
+        long amount21,
+        double ratio22,
+        boolean flag23,
+        List<String> items24,
+        String text25,
+        int number26,
+        long amount27,
+        double ratio28,
+        boolean flag29,
+        List<String> items30,
+        String text31,
+        int number32,
+        long amount33,
+        double ratio34,
+        boolean flag35,
+        List<String> items36,
+        String text37,
+        int number38,
+        long amount39,
+        double ratio40,
+        boolean flag41,
+        List<String> items42,
+        String text43,
+        int number44,
+        long amount45,
+        double ratio46,
+        boolean flag47,
+        List<String> items48,
+        String text49,
+        int number50,
+        long amount51,
+        double ratio52,
+        boolean flag53,
+        List<String> items54,
+        String text55,
+        int number56,
+        long amount57,
+        double ratio58,
+        boolean flag59,
+        List<String> items60) {
+}
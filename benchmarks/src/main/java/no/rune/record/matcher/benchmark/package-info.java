@@ -0,0 +1,12 @@
+/**
+ * Benchmarks of generated matchers. The matchers are generated by the annotation
+ * processor when compiling this module.
+ */
+@GenerateRecordMatcher({
+    TwoValuesRecord.class,
+    WideRecord.class,
+    Order.class, Order.Customer.class, Order.Address.class, Order.Line.class,
+    SensorReading.class })
+package no.rune.record.matcher.benchmark;
+
+import no.rune.record.matcher.GenerateRecordMatcher;
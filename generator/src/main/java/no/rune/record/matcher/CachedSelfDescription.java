@@ -0,0 +1,117 @@
+package no.rune.record.matcher;
+
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+import no.rune.record.matcher.CodeFactory.RecordComponentCodeFactory;
+import org.hamcrest.Description;
+import org.hamcrest.StringDescription;
+import org.hamcrest.core.IsAnything;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static com.squareup.javapoet.CodeBlock.joining;
+import static javax.lang.model.element.Modifier.FINAL;
+import static javax.lang.model.element.Modifier.PRIVATE;
+
+/**
+ * A generated matcher is immutable, and so is its description if the matchers of all its
+ * components have immutable descriptions. The description is then rendered once, when the
+ * matcher is first described, and kept in the matcher for any later descriptions.
+ * <p>
+ * The only component matchers known to have immutable descriptions are the matchers of
+ * components which are not constrained, and the matchers nested in the generated matcher
+ * which match primitive values, or expected values of immutable types. Any other matcher
+ * given to constrain a component may describe itself differently each time, and the
+ * description of the generated matcher is then rendered each time it is described.
+ */
+final class CachedSelfDescription {
+
+    static final String DESCRIBE_METHOD = "describeSelfTo";
+
+    /**
+     * @param expectedValue the nested matcher of expected values, if generated
+     * @return the cached description of the generated matcher, unless none of its components
+     *         may be constrained by a matcher known to have an immutable description
+     */
+    static Optional<CachedSelfDescription> of(CodeFactory codeFactory, Optional<ExpectedValueMatching> expectedValue) {
+        var immutableMatchers = codeFactory.components()
+                .map(component -> new ImmutableMatchers(component, Stream.concat(
+                        component.primitiveMatching().map(matching -> matching.nestedMatcherClass(codeFactory.matcherClass)).stream(),
+                        expectedValue
+                            .filter(matching -> matching.matches(component))
+                            .filter(matching -> ExpectedValueMatching.isImmutableValueType(component.componentType()))
+                            .map(matching -> matching.nestedMatcherClass)
+                            .stream())
+                        .toList()))
+                .toList();
+        return immutableMatchers.stream().anyMatch(component -> !component.nestedMatcherClasses().isEmpty())
+                ? Optional.of(new CachedSelfDescription(immutableMatchers))
+                : Optional.empty();
+    }
+
+    private record ImmutableMatchers(RecordComponentCodeFactory component, List<ClassName> nestedMatcherClasses) {
+        CodeBlock isImmutable() {
+            return Stream.concat(Stream.of(ClassName.get(IsAnything.class)), nestedMatcherClasses.stream())
+                    .map(matcherClass -> CodeBlock.of("$N instanceof $T", component.matcherFieldName(), matcherClass))
+                    .collect(joining(" || ", "(", ")"));
+        }
+    }
+
+    private final List<ImmutableMatchers> immutableMatchers;
+
+    private CachedSelfDescription(List<ImmutableMatchers> immutableMatchers) {
+        this.immutableMatchers = immutableMatchers;
+    }
+
+    void addFieldsTo(TypeSpec.Builder matcherClassBuilder) {
+        matcherClassBuilder
+            .addField(TypeName.BOOLEAN, "immutableDescription", PRIVATE, FINAL)
+            .addField(String.class, "selfDescription", PRIVATE);
+    }
+
+    /**
+     * @return the statement flagging if the matchers of all the components of the constructed
+     *         matcher are known to have immutable descriptions
+     */
+    CodeBlock initImmutableDescription() {
+        return CodeBlock.builder()
+                .addStatement("this.immutableDescription = $L", immutableMatchers.stream()
+                        .map(ImmutableMatchers::isImmutable)
+                        .collect(joining("\n&& ")))
+                .build();
+    }
+
+    /**
+     * @return the code of {@code describeTo(..)} appending the cached description, given
+     *         that the description is rendered by the method named {@link #DESCRIBE_METHOD}.
+     *         The cached description is only appended to a {@link StringDescription}, as any
+     *         other kind of description may render the values it is given differently.
+     */
+    CodeBlock describeTo() {
+        return CodeBlock.builder()
+                .beginControlFlow("if (!immutableDescription || !(description instanceof $T))", StringDescription.class)
+                .addStatement("$N(description)", DESCRIBE_METHOD)
+                .addStatement("return")
+                .endControlFlow()
+                .addStatement("String selfDescription = this.selfDescription")
+                .beginControlFlow("if (selfDescription == null)")
+                .addStatement("$T rendered = new $T()", StringDescription.class, StringDescription.class)
+                .addStatement("$N(rendered)", DESCRIBE_METHOD)
+                .addStatement("this.selfDescription = selfDescription = rendered.toString()")
+                .endControlFlow()
+                .addStatement("description.appendText(selfDescription)")
+                .build();
+    }
+
+    MethodSpec.Builder newDescribeMethod() {
+        return MethodSpec.methodBuilder(DESCRIBE_METHOD)
+                .addModifiers(PRIVATE)
+                .addParameter(Description.class, "description");
+    }
+
+}
@@ -7,12 +7,16 @@ import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.ParameterizedTypeName;
 import com.squareup.javapoet.TypeName;
 import com.squareup.javapoet.TypeSpec;
-import java.lang.reflect.RecordComponent;
-import java.lang.reflect.Type;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
+import no.rune.text.Casing;
 import org.hamcrest.Matcher;
 import org.hamcrest.TypeSafeDiagnosingMatcher;
 import org.hamcrest.core.IsAnything;
@@ -26,40 +30,66 @@ import static javax.lang.model.element.Modifier.FINAL;
 import static javax.lang.model.element.Modifier.PRIVATE;
 import static javax.lang.model.element.Modifier.PUBLIC;
 import static javax.lang.model.element.Modifier.STATIC;
-import static no.rune.record.matcher.ScanHelper.isAccessibleFromSamePackage;
+import static no.rune.text.Casing.Style.CAPITALIZED_SNAKE_CASE;
+import static no.rune.text.Casing.wordsOf;
 
 final class CodeFactory {
 
     static final class RecordComponentCodeFactory {
-        final RecordComponent recordComponent;
+        final RecordDefinition.Component recordComponent;
+        final int index;
+        final ClassName matcherClass;
+        private final TypeName matcherValueType;
+        private final ParameterizedTypeName matcherType;
+        private final Optional<PrimitiveComponentMatching> primitiveMatching;
 
-        RecordComponentCodeFactory(RecordComponent recordComponent) {
+        RecordComponentCodeFactory(RecordDefinition.Component recordComponent, int index, ClassName matcherClass) {
             this.recordComponent = recordComponent;
+            this.index = index;
+            this.matcherClass = matcherClass;
+            this.matcherValueType = recordComponent.type().isPrimitive() ? recordComponent.type().box() : recordComponent.type();
+            this.matcherType = ParameterizedTypeName.get(HAMCREST_MATCHER_CLASSNAME, supertypeOf(matcherValueType));
+            this.primitiveMatching = PrimitiveComponentMatching.of(recordComponent.type());
         }
 
         String componentName() {
-            return recordComponent.getName();
+            return recordComponent.name();
         }
 
-        Type componentType() {
-            return recordComponent.getGenericType();
+        TypeName componentType() {
+            return recordComponent.type();
         }
 
-        boolean isFor(RecordComponent component) {
+        boolean isFor(RecordDefinition.Component component) {
             return recordComponent.equals(component);
         }
 
         TypeName matcherValueType() {
-            TypeName typeName = TypeName.get(recordComponent.getGenericType());
-            return typeName.isPrimitive() ? typeName.box() : typeName;
+            return matcherValueType;
         }
 
         ParameterizedTypeName matcherType() {
-            return ParameterizedTypeName.get(HAMCREST_MATCHER_CLASSNAME, supertypeOf(matcherValueType()));
+            return matcherType;
         }
 
         String matcherFieldName() {
-            return recordComponent.getName() + "Matcher";
+            return recordComponent.name() + "Matcher";
+        }
+
+        Optional<PrimitiveComponentMatching> primitiveMatching() {
+            return primitiveMatching;
+        }
+
+        /**
+         * @return the expression evaluating if the component of the given record matches,
+         *         without boxing the value of the component if it is
+         *         {@link #primitiveMatching() matched as a primitive}.
+         */
+        CodeBlock matches(String record) {
+            return primitiveMatching()
+                    .map(primitiveMatching -> CodeBlock.of("($N instanceof $T primitiveMatcher ? primitiveMatcher.matches($N.$N()) : $N.matches($N.$N()))",
+                            matcherFieldName(), primitiveMatching.nestedMatcherClass(matcherClass), record, componentName(), matcherFieldName(), record, componentName()))
+                    .orElseGet(() -> CodeBlock.of("$N.matches($N.$N())", matcherFieldName(), record, componentName()));
         }
 
         FieldSpec newMatcherField() {
@@ -68,33 +98,112 @@ final class CodeFactory {
                     .build();
         }
 
+        /**
+         * @return the bit flagging this component as constrained, in the
+         *         {@link CodeFactory#constrainedComponentsFieldName(int) field}
+         *         given by {@link #constrainedComponentsWord()}.
+         */
+        CodeBlock constrainedComponentBit() {
+            return CodeBlock.of("1L << $L", index % Long.SIZE);
+        }
+
+        int constrainedComponentsWord() {
+            return index / Long.SIZE;
+        }
+
+        CodeBlock isConstrained() {
+            return CodeBlock.of("($N & ($L)) != 0", constrainedComponentsFieldName(constrainedComponentsWord()), constrainedComponentBit());
+        }
+
+        CodeBlock isNotConstrained() {
+            return CodeBlock.of("($N & ($L)) == 0", constrainedComponentsFieldName(constrainedComponentsWord()), constrainedComponentBit());
+        }
+
     }
 
     private static final ClassName HAMCREST_MATCHER_CLASSNAME = ClassName.get(Matcher.class);
 
-    final Class<? extends Record> record;
+    final RecordDefinition record;
     final ClassName matcherClass;
 
-    private final Map<RecordComponent, CodeBlock> defaultComponentMatchers;
+    private final Map<RecordDefinition.Component, String> anyComponentMatcherConstants;
+    private final String anyRecordMatcherConstant;
+    private final Map<RecordDefinition.Component, CodeBlock> defaultComponentMatchers;
+    private final List<RecordComponentCodeFactory> components;
 
-    CodeFactory(Class<? extends Record> record, ClassName matcherClass) {
-        this.defaultComponentMatchers = Stream.of(record.getRecordComponents())
-                .filter(component -> isAccessibleFromSamePackage(component.getGenericType()))
+    CodeFactory(RecordDefinition record, ClassName matcherClass) {
+        var constantNames = new HashSet<String>();
+        var anyComponentMatcherConstants = new LinkedHashMap<RecordDefinition.Component, String>();
+        for (var component : record.components()) {
+            var constant = uniqueConstantName("any", component.name(), constantNames);
+            var clashingConstant = anyComponentMatcherConstants.putIfAbsent(component, constant);
+            if (clashingConstant != null) {
+                throw new IllegalStateException(
+                        "Got the component " + component + " of " + record.name() + " twice, " +
+                        "with the constants " + clashingConstant + " and " + constant);
+            }
+        }
+        this.anyComponentMatcherConstants = Collections.unmodifiableMap(anyComponentMatcherConstants);
+        this.anyRecordMatcherConstant = uniqueConstantName("any", record.simpleName(), constantNames);
+        this.defaultComponentMatchers = anyComponentMatcherConstants.entrySet().stream()
                 .collect(collectingAndThen(toMap(
-                    identity(), CodeFactory::isAnythingMatcher,
+                    Map.Entry::getKey, e -> CodeBlock.of("$N", e.getValue()),
                     (v1, v2) -> { throw new IllegalStateException("Got same index for " + v1 + " and " + v2); }, LinkedHashMap::new), Collections::unmodifiableMap));
         this.record = record;
         this.matcherClass = matcherClass;
+        this.components = IntStream.range(0, record.components().size())
+                .mapToObj(i -> new RecordComponentCodeFactory(record.components().get(i), i, matcherClass))
+                .toList();
+    }
+
+    private static String uniqueConstantName(String prefix, String identifier, Set<String> takenNames) {
+        var name = Casing.to(CAPITALIZED_SNAKE_CASE, Stream.concat(Stream.of(prefix), Stream.of(wordsOf(identifier))).toArray(String[]::new));
+        var uniqueName = name;
+        for (int i = 2; !takenNames.add(uniqueName); i++) {
+            uniqueName = name + "_" + i;
+        }
+        return uniqueName;
     }
 
-    static CodeBlock isAnythingMatcher(RecordComponent component) {
-        return CodeBlock.of("new $T<>(\"any $L\")", IsAnything.class, component.getName());
+    static CodeBlock isAnythingMatcher(RecordDefinition.Component component) {
+        return CodeBlock.of("new $T<>(\"any $L\")", IsAnything.class, component.name());
+    }
+
+    /**
+     * A class nested in the generated matcher can not have the same simple name as the matcher
+     * itself, e.g. the matcher of a record named after the nested class, and the nested class
+     * is then named with the prefix {@code Nested}.
+     */
+    static ClassName nestedClass(ClassName matcherClass, String simpleName) {
+        return matcherClass.nestedClass(simpleName.equals(matcherClass.simpleName()) ? "Nested" + simpleName : simpleName);
+    }
+
+    /**
+     * As the generated matchers are immutable, the matchers of components which are not
+     * constrained, and the matcher of any record, are shared constants.
+     *
+     * @return the constants of the matchers matching any value of each component, followed
+     *         by the constant of the matcher matching any record.
+     */
+    Stream<FieldSpec> anyMatcherConstants() {
+        var anyComponentMatchers = anyComponentMatcherConstants.entrySet().stream()
+                .map(e -> FieldSpec.builder(ParameterizedTypeName.get(HAMCREST_MATCHER_CLASSNAME, ClassName.OBJECT), e.getValue(), PRIVATE, STATIC, FINAL)
+                        .initializer(isAnythingMatcher(e.getKey()))
+                        .build());
+        var anyRecordMatcher = FieldSpec.builder(matcherClass, anyRecordMatcherConstant, PRIVATE, STATIC, FINAL)
+                .initializer(constructorInvocation(emptyMap()))
+                .build();
+        return Stream.concat(anyComponentMatchers, Stream.of(anyRecordMatcher));
+    }
+
+    CodeBlock anyRecordMatcher() {
+        return CodeBlock.of("$N", anyRecordMatcherConstant);
     }
 
     TypeSpec.Builder newMatcherClass() {
         return TypeSpec.classBuilder(matcherClass)
                 .addModifiers(PUBLIC, FINAL)
-                .superclass(ParameterizedTypeName.get(TypeSafeDiagnosingMatcher.class, record));
+                .superclass(ParameterizedTypeName.get(ClassName.get(TypeSafeDiagnosingMatcher.class), record.name()));
     }
 
     MethodSpec.Builder newBuilderLikeMethod(String methodName) {
@@ -110,22 +219,57 @@ final class CodeFactory {
     }
 
     Stream<RecordComponentCodeFactory> components() {
-        return defaultComponentMatchers.keySet().stream().map(RecordComponentCodeFactory::new);
+        return components.stream();
     }
 
-    Stream<CodeBlock> constructorArgs(Map<RecordComponent, CodeBlock> componentMatchers) {
-        return defaultComponentMatchers.entrySet().stream().map(e -> componentMatchers.getOrDefault(e.getKey(), defaultComponentMatchers.get(e.getKey())));
+    /**
+     * @return the primitive types of the components which are matched without boxing their values
+     */
+    Stream<PrimitiveComponentMatching> primitiveMatchings() {
+        return components().flatMap(c -> c.primitiveMatching().stream()).distinct();
+    }
+
+    /**
+     * The components which are constrained, i.e. not matching anything, are flagged by one
+     * bit each in {@code long} fields, of which there are as many as needed for the number
+     * of components of the record.
+     *
+     * @return the number of fields flagging constrained components
+     */
+    int constrainedComponentsWords() {
+        return (defaultComponentMatchers.size() + Long.SIZE - 1) / Long.SIZE;
+    }
+
+    /**
+     * @see #constrainedComponentsWords()
+     */
+    static String constrainedComponentsFieldName(int word) {
+        return word == 0 ? "constrainedComponents" : "constrainedComponents" + word;
+    }
+
+    /**
+     * The components which do not match a record are flagged in the same way as the
+     * {@link #constrainedComponentsWords() constrained components}, in local variables
+     * of the generated {@code matchesSafely(..)}, and the mismatches are only described
+     * if a description of them is requested.
+     */
+    static String mismatchedComponentsVariableName(int word) {
+        return word == 0 ? "mismatchedComponents" : "mismatchedComponents" + word;
     }
 
-    CodeBlock defaultConstructorInvocation() {
-        return constructorInvocation(emptyMap());
+    Stream<CodeBlock> constructorArgs(Map<RecordDefinition.Component, CodeBlock> componentMatchers) {
+        return defaultComponentMatchers.entrySet().stream().map(e -> componentMatchers.getOrDefault(e.getKey(), defaultComponentMatchers.get(e.getKey())));
     }
 
-    CodeBlock constructorInvocation(Map<RecordComponent, CodeBlock> componentMatchers) {
+    CodeBlock constructorInvocation(Map<RecordDefinition.Component, CodeBlock> componentMatchers) {
         return CodeBlock.of("new $T($L)", matcherClass, constructorArgs(componentMatchers).collect(CodeBlock.joining(", ")));
     }
 
-    CodeBlock incrementalConstructorInvocation(RecordComponent component, CodeBlock componentMatcher) {
+    CodeBlock linkedConstructorInvocation(RecordComponentCodeFactory component, CodeBlock componentMatcher) {
+        return CodeBlock.of("new $T(this, $L, $L)", matcherClass, component.index, componentMatcher);
+    }
+
+    CodeBlock incrementalConstructorInvocation(RecordDefinition.Component component, CodeBlock componentMatcher) {
         return constructorInvocation(components().collect(toMap(c -> c.recordComponent, c -> c.isFor(component) ? componentMatcher : CodeBlock.of("this." + c.matcherFieldName()))));
     }
 
@@ -0,0 +1,79 @@
+package no.rune.record.matcher;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.Files.isDirectory;
+
+/**
+ * A fingerprint of the code a class is loaded from, i.e. the content of its jar file or class
+ * directory. Used for the generator, the fingerprint changes whenever the generator may generate
+ * different matchers, even if its version does not, e.g. a snapshot or a locally built generator.
+ */
+final class CodeSourceFingerprint {
+
+    /**
+     * The code source of each class is only read once, as the loaded code of the class
+     * does not change, even if the jar file it was loaded from does.
+     */
+    private static final ClassValue<String> FINGERPRINTS = new ClassValue<>() {
+        @Override
+        protected String computeValue(Class<?> cls) {
+            var codeSource = cls.getProtectionDomain().getCodeSource();
+            if (codeSource == null || codeSource.getLocation() == null) {
+                throw new IllegalStateException("Unable to locate the code source of " + cls.getName() + " to compute its fingerprint");
+            }
+            try {
+                return of(Path.of(codeSource.getLocation().toURI()));
+            } catch (URISyntaxException e) {
+                throw new IllegalStateException(
+                        "Unable to resolve the code source of " + cls.getName() + " from " + codeSource.getLocation() + ", " +
+                        "because " + e.getClass().getSimpleName() + ": " + e.getMessage(), e);
+            }
+        }
+    };
+
+    static String of(Class<?> cls) {
+        return FINGERPRINTS.get(cls);
+    }
+
+    /**
+     * @param codeSource a jar file, or a directory, of which the relative path and
+     *                   content of every file is included in the fingerprint
+     */
+    static String of(Path codeSource) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+        try {
+            if (isDirectory(codeSource)) {
+                try (var files = Files.walk(codeSource)) {
+                    for (var file : files.filter(Files::isRegularFile).sorted().toList()) {
+                        digest.update(codeSource.relativize(file).toString().replace('\\', '/').getBytes(UTF_8));
+                        digest.update(Files.readAllBytes(file));
+                    }
+                }
+            } else {
+                digest.update(Files.readAllBytes(codeSource));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(
+                    "Unable to read " + codeSource + " to compute its fingerprint, " +
+                    "because " + e.getClass().getSimpleName() + ": " + e.getMessage(), e);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private CodeSourceFingerprint() {
+    }
+}
@@ -0,0 +1,139 @@
+package no.rune.record.matcher;
+
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+import com.squareup.javapoet.TypeVariableName;
+import no.rune.record.matcher.CodeFactory.RecordComponentCodeFactory;
+import org.hamcrest.BaseMatcher;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.Matchers;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.toUnmodifiableSet;
+import static javax.lang.model.element.Modifier.FINAL;
+import static javax.lang.model.element.Modifier.PRIVATE;
+import static javax.lang.model.element.Modifier.PUBLIC;
+import static javax.lang.model.element.Modifier.STATIC;
+
+/**
+ * Components which are not primitive, and are constrained to be equal to a value, are matched
+ * by a nested {@code ExpectedValue} matcher if the generated matcher needs to know the expected
+ * value, or that the matcher is immutable. The nested matcher delegates to the equivalent
+ * Hamcrest matcher, so that the descriptions are exactly the same as if the Hamcrest matcher
+ * was used.
+ * <p>
+ * This applies to components of {@link #isImmutableValueType(TypeName) immutable value types},
+ * which allows the {@link CachedSelfDescription description of the generated matcher to be cached},
+ * and with the {@link RecordMatcherGenerator.Option#containsInAnyOrder containsInAnyOrder} option,
+ * to components which may {@link IndexedContainsInAnyOrder#isIndexable(RecordComponentCodeFactory)
+ * index records}.
+ */
+final class ExpectedValueMatching {
+
+    private static final Set<TypeName> IMMUTABLE_VALUE_TYPES = Stream.of(
+                String.class, Boolean.class, Byte.class, Short.class, Character.class,
+                Integer.class, Long.class, Float.class, Double.class)
+            .map(ClassName::get)
+            .collect(toUnmodifiableSet());
+
+    /**
+     * @return if values of the type are immutable, and so is the description of a
+     *         matcher of a value of the type
+     */
+    static boolean isImmutableValueType(TypeName type) {
+        return IMMUTABLE_VALUE_TYPES.contains(type);
+    }
+
+    /**
+     * @return the nested {@code ExpectedValue} matcher, unless no component is matched by it
+     */
+    static Optional<ExpectedValueMatching> of(CodeFactory codeFactory, boolean containsInAnyOrder) {
+        return codeFactory.components().anyMatch(component -> isMatchedByExpectedValue(component, containsInAnyOrder))
+                ? Optional.of(new ExpectedValueMatching(CodeFactory.nestedClass(codeFactory.matcherClass, "ExpectedValue"), containsInAnyOrder))
+                : Optional.empty();
+    }
+
+    private static boolean isMatchedByExpectedValue(RecordComponentCodeFactory component, boolean containsInAnyOrder) {
+        return component.primitiveMatching().isEmpty()
+                && (isImmutableValueType(component.componentType())
+                    || containsInAnyOrder && IndexedContainsInAnyOrder.isIndexable(component));
+    }
+
+    final ClassName nestedMatcherClass;
+    private final boolean containsInAnyOrder;
+
+    private ExpectedValueMatching(ClassName nestedMatcherClass, boolean containsInAnyOrder) {
+        this.nestedMatcherClass = nestedMatcherClass;
+        this.containsInAnyOrder = containsInAnyOrder;
+    }
+
+    boolean matches(RecordComponentCodeFactory component) {
+        return isMatchedByExpectedValue(component, containsInAnyOrder);
+    }
+
+    /**
+     * @return the expression creating the matcher of a component which must be equal
+     *         to the value of the parameter with the same name as the component
+     */
+    CodeBlock newExpectedValue(RecordComponentCodeFactory component) {
+        return containsInAnyOrder
+                ? CodeBlock.of("new $T<>($N, $T.is($N))", nestedMatcherClass, component.componentName(), Matchers.class, component.componentName())
+                : CodeBlock.of("new $T<>($T.is($N))", nestedMatcherClass, Matchers.class, component.componentName());
+    }
+
+    /**
+     * @return the nested matcher, which only keeps the expected value with the
+     *         {@link RecordMatcherGenerator.Option#containsInAnyOrder containsInAnyOrder} option
+     */
+    TypeSpec nestedMatcherClassSpec() {
+        var valueType = TypeVariableName.get("T");
+        var equivalentMatcherType = ParameterizedTypeName.get(ClassName.get(Matcher.class), valueType);
+        var nestedMatcherClassBuilder = TypeSpec.classBuilder(nestedMatcherClass)
+                .addModifiers(PRIVATE, STATIC, FINAL)
+                .addTypeVariable(valueType)
+                .superclass(ParameterizedTypeName.get(ClassName.get(BaseMatcher.class), valueType));
+        var constructorBuilder = MethodSpec.constructorBuilder().addModifiers(PRIVATE);
+        if (containsInAnyOrder) {
+            nestedMatcherClassBuilder.addField(valueType, "value", PRIVATE, FINAL);
+            constructorBuilder
+                .addParameter(valueType, "value")
+                .addStatement("this.value = value");
+        }
+        return nestedMatcherClassBuilder
+                .addField(equivalentMatcherType, PrimitiveComponentMatching.EQUIVALENT_MATCHER_FIELD, PRIVATE, FINAL)
+                .addMethod(constructorBuilder
+                        .addParameter(equivalentMatcherType, PrimitiveComponentMatching.EQUIVALENT_MATCHER_FIELD)
+                        .addStatement("this.$N = $N", PrimitiveComponentMatching.EQUIVALENT_MATCHER_FIELD, PrimitiveComponentMatching.EQUIVALENT_MATCHER_FIELD)
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("matches")
+                        .addModifiers(PUBLIC)
+                        .addAnnotation(Override.class)
+                        .addParameter(Object.class, "actual")
+                        .returns(TypeName.BOOLEAN)
+                        .addStatement("return $N.matches(actual)", PrimitiveComponentMatching.EQUIVALENT_MATCHER_FIELD)
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("describeTo")
+                        .addModifiers(PUBLIC)
+                        .addAnnotation(Override.class)
+                        .addParameter(Description.class, "description")
+                        .addStatement("$N.describeTo(description)", PrimitiveComponentMatching.EQUIVALENT_MATCHER_FIELD)
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("describeMismatch")
+                        .addModifiers(PUBLIC)
+                        .addAnnotation(Override.class)
+                        .addParameter(Object.class, "actual")
+                        .addParameter(Description.class, "mismatchDescription")
+                        .addStatement("$N.describeMismatch(actual, mismatchDescription)", PrimitiveComponentMatching.EQUIVALENT_MATCHER_FIELD)
+                        .build())
+                .build();
+    }
+
+}
@@ -0,0 +1,237 @@
+package no.rune.record.matcher;
+
+import com.squareup.javapoet.ArrayTypeName;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.FieldSpec;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+import no.rune.record.matcher.CodeFactory.RecordComponentCodeFactory;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+import static com.squareup.javapoet.CodeBlock.joining;
+import static com.squareup.javapoet.WildcardTypeName.subtypeOf;
+import static javax.lang.model.element.Modifier.FINAL;
+import static javax.lang.model.element.Modifier.PRIVATE;
+import static javax.lang.model.element.Modifier.PROTECTED;
+import static javax.lang.model.element.Modifier.PUBLIC;
+import static javax.lang.model.element.Modifier.STATIC;
+
+/**
+ * The parts of a generated matcher which are specific to the
+ * {@link RecordMatcherGenerator.Option#containsInAnyOrder containsInAnyOrder} option.
+ * <p>
+ * Components constrained to be equal to a value are matched by the {@link ExpectedValueMatching
+ * nested matcher of an expected value}, or by the {@link PrimitiveComponentMatching nested
+ * matcher of a primitive value}, which then keeps the expected value as well. The nested
+ * {@code ContainsInAnyOrder} matcher groups the expected matchers by which of their components
+ * are constrained to expected values, and for each group indexes the expected matchers by
+ * their expected values. The candidates for each actual record are then found by a hash
+ * lookup of the values of the same components, and only the candidates are evaluated.
+ * <p>
+ * The records are matched in the same order as by Hamcrest's {@code containsInAnyOrder(..)}:
+ * each record is matched by the first of the expected matchers, in the given order, which
+ * matches the record and has not matched any previous record. Consequently, the outcome and
+ * the description of any mismatch are the same as with Hamcrest, only faster.
+ */
+final class IndexedContainsInAnyOrder {
+
+    private final CodeFactory codeFactory;
+    private final Optional<ExpectedValueMatching> expectedValue;
+    private final ClassName containsInAnyOrderClass;
+
+    /**
+     * @param expectedValue the nested matcher of expected values, which is generated
+     *                      unless all indexable components are primitives
+     */
+    IndexedContainsInAnyOrder(CodeFactory codeFactory, Optional<ExpectedValueMatching> expectedValue) {
+        this.codeFactory = codeFactory;
+        this.expectedValue = expectedValue;
+        this.containsInAnyOrderClass = CodeFactory.nestedClass(codeFactory.matcherClass, "ContainsInAnyOrder");
+    }
+
+    /**
+     * A component may be used to index records if its type is known to have
+     * {@link RecordDefinition.Component#hasValueEquality() value equality}, so that a value is
+     * equal to an expected value exactly when it is found by its hash code (which is not the
+     * case for an array, or any type which may hold an array at run time), and is within the
+     * first 64 components, so that the indexed components of a matcher can be flagged in a
+     * single {@code long}. Booleans are not indexed, as they are poor at distinguishing records,
+     * and they are instead matched without boxing. Records are matched by evaluating every
+     * expected matcher if none of their components are indexed.
+     */
+    static boolean isIndexable(RecordComponentCodeFactory component) {
+        return component.index < Long.SIZE
+                && component.recordComponent.hasValueEquality()
+                && !component.componentType().equals(TypeName.BOOLEAN);
+    }
+
+    void addTo(TypeSpec.Builder matcherClassBuilder, boolean linkedBuilder) {
+        var recordType = codeFactory.record.name();
+        var iterableType = ParameterizedTypeName.get(ClassName.get(Iterable.class), subtypeOf(recordType));
+        var expectedMatchersType = ParameterizedTypeName.get(ClassName.get(Collection.class), codeFactory.matcherClass);
+        var valuesType = ParameterizedTypeName.get(List.class, Object.class);
+        var indexType = ParameterizedTypeName.get(ClassName.get(Map.class), valuesType, ParameterizedTypeName.get(List.class, Integer.class));
+        var indexedComponents = codeFactory.components().filter(IndexedContainsInAnyOrder::isIndexable).toList();
+
+        matcherClassBuilder
+            .addMethod(MethodSpec.methodBuilder("containsInAnyOrder")
+                    .addModifiers(PUBLIC, STATIC)
+                    .addParameter(ArrayTypeName.of(codeFactory.matcherClass), "expected")
+                    .varargs()
+                    .returns(ParameterizedTypeName.get(ClassName.get(Matcher.class), iterableType))
+                    .addStatement("return containsInAnyOrder($T.of(expected))", List.class)
+                    .build())
+            .addMethod(MethodSpec.methodBuilder("containsInAnyOrder")
+                    .addModifiers(PUBLIC, STATIC)
+                    .addParameter(expectedMatchersType, "expected")
+                    .returns(ParameterizedTypeName.get(ClassName.get(Matcher.class), iterableType))
+                    .addStatement("return new $T(expected)", containsInAnyOrderClass)
+                    .build())
+            .addMethod(MethodSpec.methodBuilder("expectedValueComponents")
+                    .addModifiers(PRIVATE)
+                    .returns(TypeName.LONG)
+                    .addStatement("return $L", indexedComponents.isEmpty() ? CodeBlock.of("0") : indexedComponents.stream()
+                            .map(c -> c.primitiveMatching()
+                                    .map(matching -> CodeBlock.of("($N instanceof $T && (($T) $N).$N != null ? 1L << $L : 0)",
+                                            c.matcherFieldName(), matching.nestedMatcherClass(codeFactory.matcherClass),
+                                            matching.nestedMatcherClass(codeFactory.matcherClass), c.matcherFieldName(), PrimitiveComponentMatching.EXPECTED_VALUE_FIELD, c.index))
+                                    .orElseGet(() -> CodeBlock.of("($N instanceof $T ? 1L << $L : 0)", c.matcherFieldName(), expectedValue.orElseThrow().nestedMatcherClass, c.index)))
+                            .collect(joining("\n| ")))
+                    .build())
+            .addMethod(valuesMethod(MethodSpec.methodBuilder("expectedValues").addModifiers(PRIVATE), indexedComponents, valuesType,
+                    c -> c.primitiveMatching()
+                            .map(matching -> CodeBlock.of("(($T) $N).$N", matching.nestedMatcherClass(codeFactory.matcherClass), c.matcherFieldName(), PrimitiveComponentMatching.EXPECTED_VALUE_FIELD))
+                            .orElseGet(() -> CodeBlock.of("(($T<?>) $N).value", expectedValue.orElseThrow().nestedMatcherClass, c.matcherFieldName()))))
+            .addMethod(valuesMethod(MethodSpec.methodBuilder("valuesOf").addModifiers(PRIVATE, STATIC).addParameter(recordType, "element"), indexedComponents, valuesType,
+                    c -> CodeBlock.of("element.$N()", c.componentName())));
+
+        matcherClassBuilder.addType(containsInAnyOrderClassSpec(recordType, iterableType, expectedMatchersType, indexType, linkedBuilder));
+    }
+
+    /**
+     * @return the method resolving the values of the given indexed components, in the same order
+     *         regardless if the values are resolved from an expected matcher or an actual record
+     */
+    private static MethodSpec valuesMethod(
+            MethodSpec.Builder method, List<RecordComponentCodeFactory> indexedComponents, TypeName valuesType,
+            Function<RecordComponentCodeFactory, CodeBlock> value) {
+
+        method
+            .returns(valuesType)
+            .addParameter(TypeName.LONG, "components")
+            .addStatement("$T values = new $T<>($T.bitCount(components))", valuesType, ArrayList.class, Long.class);
+        indexedComponents.forEach(c -> method
+                .addStatement("if ((components & (1L << $L)) != 0) values.add($L)", c.index, value.apply(c)));
+        return method.addStatement("return values").build();
+    }
+
+    private TypeSpec containsInAnyOrderClassSpec(
+            ClassName recordType, TypeName iterableType, TypeName expectedMatchersType, TypeName indexType, boolean linkedBuilder) {
+
+        var matcherClass = codeFactory.matcherClass;
+        var expectedListType = ParameterizedTypeName.get(ClassName.get(List.class), matcherClass);
+        var indexesType = ParameterizedTypeName.get(ClassName.get(Map.class), ClassName.get(Long.class), indexType);
+        var candidatesType = ParameterizedTypeName.get(List.class, Integer.class);
+
+        var constructor = MethodSpec.constructorBuilder()
+                .addModifiers(PRIVATE)
+                .addParameter(expectedMatchersType, "expected")
+                .addStatement("this.expected = $T.copyOf(expected)", List.class)
+                .beginControlFlow("for (int i = 0; i < this.expected.size(); i++)")
+                .addStatement(linkedBuilder ? "$T matcher = this.expected.get(i).resolved()" : "$T matcher = this.expected.get(i)", matcherClass)
+                .addStatement("long components = matcher.expectedValueComponents()")
+                .addStatement("indexes.computeIfAbsent(components, c -> new $T<>()).computeIfAbsent(matcher.expectedValues(components), values -> new $T<>()).add(i)",
+                        HashMap.class, ArrayList.class)
+                .endControlFlow()
+                .build();
+
+        var matchesSafely = MethodSpec.methodBuilder("matchesSafely")
+                .addModifiers(PROTECTED)
+                .addAnnotation(Override.class)
+                .addParameter(iterableType, "items")
+                .addParameter(Description.class, "mismatchDescription")
+                .returns(TypeName.BOOLEAN)
+                .addStatement("boolean[] matched = new boolean[expected.size()]")
+                .addStatement("int unmatched = expected.size()")
+                .beginControlFlow("for ($T item : items)", recordType)
+                .beginControlFlow("if (unmatched == 0)")
+                .addStatement("mismatchDescription.appendText(\"no match for: \").appendValue(item)")
+                .addStatement("return false")
+                .endControlFlow()
+                .addStatement("int matching = firstMatching(item, matched)")
+                .beginControlFlow("if (matching < 0)")
+                .addStatement("mismatchDescription.appendText(\"not matched: \").appendValue(item)")
+                .addStatement("return false")
+                .endControlFlow()
+                .addStatement("matched[matching] = true")
+                .addStatement("unmatched--")
+                .endControlFlow()
+                .beginControlFlow("if (unmatched == 0)")
+                .addStatement("return true")
+                .endControlFlow()
+                .addStatement("$T unmatchedMatchers = new $T<>(unmatched)", expectedListType, ArrayList.class)
+                .beginControlFlow("for (int i = 0; i < matched.length; i++)")
+                .beginControlFlow("if (!matched[i])")
+                .addStatement("unmatchedMatchers.add(expected.get(i))")
+                .endControlFlow()
+                .endControlFlow()
+                .addStatement("mismatchDescription.appendText(\"no item matches: \").appendList(\"\", \", \", \"\", unmatchedMatchers).appendText(\" in \").appendValueList(\"[\", \", \", \"]\", items)")
+                .addStatement("return false")
+                .build();
+
+        var firstMatching = MethodSpec.methodBuilder("firstMatching")
+                .addModifiers(PRIVATE)
+                .returns(TypeName.INT)
+                .addParameter(recordType, "item")
+                .addParameter(ArrayTypeName.of(TypeName.BOOLEAN), "matched")
+                .beginControlFlow("if (item == null)")
+                .addStatement("return -1")
+                .endControlFlow()
+                .addStatement("$T candidates = new $T<>()", candidatesType, ArrayList.class)
+                .beginControlFlow("for ($T.Entry<$T, $T> index : indexes.entrySet())", Map.class, Long.class, indexType)
+                .addStatement("candidates.addAll(index.getValue().getOrDefault(valuesOf(item, index.getKey()), $T.of()))", List.class)
+                .endControlFlow()
+                .beginControlFlow("if (indexes.size() > 1)")
+                .addStatement("candidates.sort(null)")
+                .endControlFlow()
+                .beginControlFlow("for (int candidate : candidates)")
+                .beginControlFlow("if (!matched[candidate] && expected.get(candidate).matches(item))")
+                .addStatement("return candidate")
+                .endControlFlow()
+                .endControlFlow()
+                .addStatement("return -1")
+                .build();
+
+        return TypeSpec.classBuilder(containsInAnyOrderClass)
+                .addModifiers(PRIVATE, STATIC, FINAL)
+                .superclass(ParameterizedTypeName.get(ClassName.get(TypeSafeDiagnosingMatcher.class), iterableType))
+                .addField(expectedListType, "expected", PRIVATE, FINAL)
+                .addField(FieldSpec.builder(indexesType, "indexes", PRIVATE, FINAL)
+                        .initializer("new $T<>()", HashMap.class)
+                        .build())
+                .addMethod(constructor)
+                .addMethod(MethodSpec.methodBuilder("describeTo")
+                        .addModifiers(PUBLIC)
+                        .addAnnotation(Override.class)
+                        .addParameter(Description.class, "description")
+                        .addStatement("description.appendText(\"iterable with items \").appendList(\"[\", \", \", \"]\", expected).appendText(\" in any order\")")
+                        .build())
+                .addMethod(matchesSafely)
+                .addMethod(firstMatching)
+                .build();
+    }
+
+}
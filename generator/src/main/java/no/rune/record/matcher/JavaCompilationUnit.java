@@ -1,33 +1,128 @@
 package no.rune.record.matcher;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.NotDirectoryException;
 import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.Optional;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.nio.file.Files.isDirectory;
+import static java.nio.file.Files.isRegularFile;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
 
 public record JavaCompilationUnit(String content, String name, Optional<String> packageName) {
 
+    /**
+     * The outcome of {@link JavaCompilationUnit#writeToBaseDirectory(Path) writing}
+     * a compilation unit to a file.
+     *
+     * @param file the file containing the compilation unit
+     * @param written {@code true} if the file was written, or {@code false} if the
+     *                file already had the same content and was left untouched.
+     */
+    public record WriteResult(Path file, boolean written) {
+    }
+
     public JavaCompilationUnit(String content, String name, Package location) {
         this(content, name, Optional.of(location).map(Package::getName));
     }
 
-    Path writeToBaseDirectory(Path baseDirectory) throws NotDirectoryException, IOException {
-        if (!isDirectory(baseDirectory)) {
-            throw new NotDirectoryException(baseDirectory.toString());
-        }
-        var targetDirectory = packageName.map(p -> baseDirectory.resolve(p.replace('.', '/'))).orElse(baseDirectory);
+    /**
+     * Write the compilation unit to a file in the package directory under the
+     * given base directory. If the file already exists with the exact same content,
+     * it is not written, in order to retain its modification time and avoid
+     * needlessly triggering recompilation of it.
+     */
+    WriteResult writeToBaseDirectory(Path baseDirectory) throws NotDirectoryException, IOException {
+        var targetDirectory = targetDirectory(baseDirectory, packageName);
         var targetFile = targetDirectory.resolve(name + ".java");
         try {
+            var bytes = content.getBytes(UTF_8);
+            if (hasContent(targetFile, bytes)) {
+                return new WriteResult(targetFile, false);
+            }
             if (!baseDirectory.equals(targetDirectory)) {
                 Files.createDirectories(targetDirectory);
             }
-            return Files.writeString(targetFile, content);
+            return new WriteResult(Files.write(targetFile, bytes), true);
+        } catch (IOException e) {
+            throw new IOException("Unable to write to " + targetFile + ", " +
+                    "because " + e.getClass().getSimpleName() + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Writes the content of a compilation unit, without first having all of
+     * the content in memory.
+     */
+    @FunctionalInterface
+    interface ContentWriter {
+        void writeTo(Writer writer) throws IOException;
+    }
+
+    /**
+     * Write a compilation unit to a file in the package directory under the given base
+     * directory, in the same manner as {@link #writeToBaseDirectory(Path)}, but streaming
+     * the content to a temporary file instead of having it in memory. The temporary file
+     * is then compared with any existing file, and only replaces it if the content differs.
+     */
+    static WriteResult writeToBaseDirectory(Path baseDirectory, Optional<String> packageName, String name, ContentWriter content) throws NotDirectoryException, IOException {
+        var targetDirectory = targetDirectory(baseDirectory, packageName);
+        var targetFile = targetDirectory.resolve(name + ".java");
+        Path tempFile = null;
+        try {
+            Files.createDirectories(targetDirectory);
+            tempFile = Files.createTempFile(targetDirectory, name, ".java.tmp");
+            try (var writer = Files.newBufferedWriter(tempFile, UTF_8)) {
+                content.writeTo(writer);
+            }
+            if (isRegularFile(targetFile) && Files.mismatch(tempFile, targetFile) == -1) {
+                return new WriteResult(targetFile, false);
+            }
+            try {
+                Files.move(tempFile, targetFile, REPLACE_EXISTING, ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, targetFile, REPLACE_EXISTING);
+            }
+            return new WriteResult(targetFile, true);
         } catch (IOException e) {
             throw new IOException("Unable to write to " + targetFile + ", " +
                     "because " + e.getClass().getSimpleName() + ": " + e.getMessage(), e);
+        } finally {
+            if (tempFile != null) {
+                Files.deleteIfExists(tempFile);
+            }
+        }
+    }
+
+    private static Path targetDirectory(Path baseDirectory, Optional<String> packageName) throws NotDirectoryException {
+        if (!isDirectory(baseDirectory)) {
+            throw new NotDirectoryException(baseDirectory.toString());
+        }
+        return packageName.map(p -> baseDirectory.resolve(p.replace('.', '/'))).orElse(baseDirectory);
+    }
+
+    private static boolean hasContent(Path file, byte[] expectedContent) throws IOException {
+        if (!isRegularFile(file) || Files.size(file) != expectedContent.length) {
+            return false;
+        }
+        try (InputStream existingContent = Files.newInputStream(file)) {
+            var buffer = new byte[8192];
+            int position = 0;
+            for (int read = existingContent.read(buffer); read != -1; read = existingContent.read(buffer)) {
+                if (position + read > expectedContent.length ||
+                        !Arrays.equals(buffer, 0, read, expectedContent, position, position + read)) {
+                    return false;
+                }
+                position += read;
+            }
+            return position == expectedContent.length;
         }
     }
 }
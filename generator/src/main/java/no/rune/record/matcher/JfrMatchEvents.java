@@ -0,0 +1,114 @@
+package no.rune.record.matcher;
+
+import com.squareup.javapoet.AnnotationSpec;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.FieldSpec;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import org.hamcrest.Description;
+
+import java.util.StringJoiner;
+
+import static javax.lang.model.element.Modifier.FINAL;
+import static javax.lang.model.element.Modifier.PRIVATE;
+import static javax.lang.model.element.Modifier.PROTECTED;
+import static javax.lang.model.element.Modifier.STATIC;
+
+/**
+ * The parts of a generated matcher which are specific to the
+ * {@link RecordMatcherGenerator.Option#jfrEvents jfrEvents} option.
+ * <p>
+ * The evaluation of the matcher is moved from {@code matchesSafely(..)} to a private
+ * method, and {@code matchesSafely(..)} instead wraps the evaluation in a nested
+ * {@code MatchEvent}, which is a JDK Flight Recorder event. The event is only begun and
+ * committed if it is enabled in a running recording, otherwise the matcher is evaluated
+ * directly, and the event instance is eliminated by the JIT compiler.
+ * <p>
+ * The nested event class of every generated matcher is given the same {@link #EVENT_NAME name},
+ * so that a recording has one event type for all matchers, and the matched record is
+ * told apart by the {@code recordType} field of the events.
+ */
+final class JfrMatchEvents {
+
+    static final String MATCHES_METHOD = "matchesRecord";
+
+    static final String EVENT_NAME = "no.rune.record.matcher.Match";
+
+    private final CodeFactory codeFactory;
+    private final ClassName matchEventClass;
+
+    JfrMatchEvents(CodeFactory codeFactory) {
+        this.codeFactory = codeFactory;
+        this.matchEventClass = CodeFactory.nestedClass(codeFactory.matcherClass, "MatchEvent");
+    }
+
+    void addTo(TypeSpec.Builder matcherClassBuilder, boolean linkedBuilder) {
+        var recordType = codeFactory.record.name();
+
+        var constrainedComponentNames = MethodSpec.methodBuilder("constrainedComponentNames")
+                .addModifiers(PRIVATE)
+                .returns(String.class);
+        if (linkedBuilder) {
+            constrainedComponentNames
+                .beginControlFlow("if (previous != null)")
+                .addStatement("return resolved().constrainedComponentNames()")
+                .endControlFlow();
+        }
+        constrainedComponentNames.addStatement("$T names = new $T($S)", StringJoiner.class, StringJoiner.class, ", ");
+        codeFactory.components().forEach(c -> constrainedComponentNames
+                .addStatement("if ($L) names.add($S)", c.isConstrained(), c.componentName()));
+        constrainedComponentNames.addStatement("return names.toString()");
+
+        matcherClassBuilder
+            .addMethod(MethodSpec.methodBuilder("matchesSafely")
+                    .addModifiers(PROTECTED)
+                    .addAnnotation(Override.class)
+                    .addParameter(recordType, "element")
+                    .addParameter(Description.class, "mismatchDescription")
+                    .returns(TypeName.BOOLEAN)
+                    .addStatement("$T event = new $T()", matchEventClass, matchEventClass)
+                    .beginControlFlow("if (!event.isEnabled())")
+                    .addStatement("return $N(element, mismatchDescription)", MATCHES_METHOD)
+                    .endControlFlow()
+                    .addStatement("event.begin()")
+                    .addStatement("boolean matches = $N(element, mismatchDescription)", MATCHES_METHOD)
+                    .addStatement("event.end()")
+                    .beginControlFlow("if (event.shouldCommit())")
+                    .addStatement("event.recordType = $T.class.getName()", recordType)
+                    .addStatement("event.constrainedComponents = constrainedComponentNames()")
+                    .addStatement("event.matches = matches")
+                    .addStatement("event.describesMismatch = !(mismatchDescription instanceof $T.NullDescription)", Description.class)
+                    .addStatement("event.commit()")
+                    .endControlFlow()
+                    .addStatement("return matches")
+                    .build())
+            .addMethod(constrainedComponentNames.build())
+            .addType(matchEventClassSpec());
+    }
+
+    private TypeSpec matchEventClassSpec() {
+        return TypeSpec.classBuilder(matchEventClass)
+                .addModifiers(PRIVATE, STATIC, FINAL)
+                .superclass(Event.class)
+                .addAnnotation(AnnotationSpec.builder(Name.class).addMember("value", "$S", EVENT_NAME).build())
+                .addAnnotation(AnnotationSpec.builder(Label.class).addMember("value", "$S", "Record Matcher Evaluation").build())
+                .addAnnotation(AnnotationSpec.builder(Category.class).addMember("value", "$S", "Record Matcher").build())
+                .addField(labelled(String.class, "recordType", "Record Type"))
+                .addField(labelled(String.class, "constrainedComponents", "Constrained Components"))
+                .addField(labelled(boolean.class, "matches", "Matches"))
+                .addField(labelled(boolean.class, "describesMismatch", "Describes Mismatch"))
+                .build();
+    }
+
+    private static FieldSpec labelled(Class<?> type, String name, String label) {
+        return FieldSpec.builder(type, name)
+                .addAnnotation(AnnotationSpec.builder(Label.class).addMember("value", "$S", label).build())
+                .build();
+    }
+
+}
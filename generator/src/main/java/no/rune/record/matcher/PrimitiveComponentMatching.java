@@ -0,0 +1,202 @@
+package no.rune.record.matcher;
+
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+import org.hamcrest.BaseMatcher;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.Matchers;
+
+import java.util.Optional;
+import java.util.function.DoublePredicate;
+import java.util.function.IntPredicate;
+import java.util.function.LongPredicate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static com.squareup.javapoet.WildcardTypeName.supertypeOf;
+import static javax.lang.model.element.Modifier.FINAL;
+import static javax.lang.model.element.Modifier.PRIVATE;
+import static javax.lang.model.element.Modifier.PUBLIC;
+import static javax.lang.model.element.Modifier.STATIC;
+
+/**
+ * Components of these primitive types are matched by a matcher nested in the generated
+ * matcher, which evaluates the value of the component without boxing it. The nested
+ * matcher is created with a supplier of a Hamcrest matcher which is equivalent, and which
+ * is only created to describe the nested matcher and any mismatch, so that the descriptions
+ * are exactly the same as if the Hamcrest matcher was used, without boxing the values
+ * the matcher is created with. The nested matcher of {@code boolean} values only matches
+ * an expected value, and describes itself as {@code Matchers.is(..)} of that value.
+ * <p>
+ * With the {@link RecordMatcherGenerator.Option#containsInAnyOrder containsInAnyOrder} option,
+ * the nested matchers of values which may index records also keep the expected value of a
+ * component constrained to be equal to a value, which is {@code null} for any other constraint.
+ */
+enum PrimitiveComponentMatching {
+
+    INT(TypeName.INT, IntPredicate.class),
+    LONG(TypeName.LONG, LongPredicate.class),
+    DOUBLE(TypeName.DOUBLE, DoublePredicate.class),
+    BOOLEAN(TypeName.BOOLEAN, null);
+
+    static Optional<PrimitiveComponentMatching> of(TypeName componentType) {
+        return Stream.of(values()).filter(matching -> matching.primitiveType.equals(componentType)).findFirst();
+    }
+
+    static final String EQUIVALENT_MATCHER_FIELD = "hamcrestEquivalent";
+
+    static final String EXPECTED_VALUE_FIELD = "expectedValue";
+
+    final TypeName primitiveType;
+    private final ClassName predicateType;
+
+    PrimitiveComponentMatching(TypeName primitiveType, Class<?> predicateType) {
+        this.primitiveType = primitiveType;
+        this.predicateType = predicateType != null ? ClassName.get(predicateType) : null;
+    }
+
+    ClassName nestedMatcherClass(ClassName enclosingMatcherClass) {
+        var primitiveName = primitiveType.toString();
+        return CodeFactory.nestedClass(enclosingMatcherClass,
+                "Primitive" + Character.toUpperCase(primitiveName.charAt(0)) + primitiveName.substring(1) + "Matcher");
+    }
+
+    /**
+     * @return if the nested matcher may keep an expected value, i.e. if the values
+     *         of components of the primitive type may be used to index records
+     */
+    boolean mayKeepExpectedValue() {
+        return this != BOOLEAN;
+    }
+
+    boolean isIntegral() {
+        return this == INT || this == LONG;
+    }
+
+    /**
+     * @return the expression evaluating if a value is equal to the given {@code expected} value,
+     *         in the same way as {@code Object.equals(..)} of the boxed type.
+     */
+    CodeBlock isEqual(String actual, String expected) {
+        return this == DOUBLE
+                ? CodeBlock.of("$T.compare($N, $N) == 0", Double.class, actual, expected)
+                : CodeBlock.of("$N == $N", actual, expected);
+    }
+
+    /**
+     * Create a new instance of the nested matcher.
+     *
+     * @param enclosingMatcherClass the generated matcher class the nested matcher resides in
+     * @param actual the name of the parameter with the value to match
+     * @param matches the expression evaluating if the {@code actual} value matches
+     * @param hamcrestEquivalent the expression creating the equivalent Hamcrest matcher, which
+     *                           is not used for {@code boolean} values, as the nested matcher
+     *                           can only match a value equal to the expected value
+     */
+    CodeBlock newNestedMatcher(ClassName enclosingMatcherClass, String actual, CodeBlock matches, CodeBlock hamcrestEquivalent) {
+        var nestedMatcherClass = nestedMatcherClass(enclosingMatcherClass);
+        return this == BOOLEAN
+                ? CodeBlock.of("new $T($L)", nestedMatcherClass, matches)
+                : CodeBlock.of("new $T($N -> $L, () -> $L)", nestedMatcherClass, actual, matches, hamcrestEquivalent);
+    }
+
+    /**
+     * Create a new instance of the nested matcher keeping the value it is expected to be equal to.
+     *
+     * @param expectedValue the name of the parameter with the expected value
+     * @see #newNestedMatcher(ClassName, String, CodeBlock, CodeBlock)
+     * @see #mayKeepExpectedValue()
+     */
+    CodeBlock newNestedMatcher(ClassName enclosingMatcherClass, String actual, CodeBlock matches, CodeBlock hamcrestEquivalent, String expectedValue) {
+        return CodeBlock.of("new $T($N -> $L, () -> $L, $N)", nestedMatcherClass(enclosingMatcherClass), actual, matches, hamcrestEquivalent, expectedValue);
+    }
+
+    /**
+     * @param keepsExpectedValue if the nested matcher should {@link #mayKeepExpectedValue() keep any expected value}
+     */
+    TypeSpec nestedMatcherClassSpec(ClassName enclosingMatcherClass, boolean keepsExpectedValue) {
+        var boxedType = primitiveType.box();
+        var equivalentMatcherType = ParameterizedTypeName.get(ClassName.get(Supplier.class),
+                ParameterizedTypeName.get(ClassName.get(Matcher.class), supertypeOf(boxedType)));
+        var evaluationType = this == BOOLEAN ? TypeName.BOOLEAN : predicateType;
+        var evaluationField = this == BOOLEAN ? "expected" : "predicate";
+        var evaluation = this == BOOLEAN ? CodeBlock.of("actual == $N", evaluationField) : CodeBlock.of("$N.test(actual)", evaluationField);
+        var hamcrestEquivalent = this == BOOLEAN
+                ? CodeBlock.of("$T.is($N)", Matchers.class, evaluationField)
+                : CodeBlock.of("$N.get()", EQUIVALENT_MATCHER_FIELD);
+        var nestedMatcherClass = TypeSpec.classBuilder(nestedMatcherClass(enclosingMatcherClass))
+                .addModifiers(PRIVATE, STATIC, FINAL)
+                .superclass(ParameterizedTypeName.get(ClassName.get(BaseMatcher.class), boxedType))
+                .addField(evaluationType, evaluationField, PRIVATE, FINAL);
+        if (this == BOOLEAN) {
+            nestedMatcherClass
+                .addMethod(MethodSpec.constructorBuilder()
+                        .addModifiers(PRIVATE)
+                        .addParameter(evaluationType, evaluationField)
+                        .addStatement("this.$N = $N", evaluationField, evaluationField)
+                        .build());
+        } else if (keepsExpectedValue && mayKeepExpectedValue()) {
+            nestedMatcherClass
+                .addField(equivalentMatcherType, EQUIVALENT_MATCHER_FIELD, PRIVATE, FINAL)
+                .addField(boxedType, EXPECTED_VALUE_FIELD, PRIVATE, FINAL)
+                .addMethod(MethodSpec.constructorBuilder()
+                        .addModifiers(PRIVATE)
+                        .addParameter(evaluationType, evaluationField)
+                        .addParameter(equivalentMatcherType, EQUIVALENT_MATCHER_FIELD)
+                        .addStatement("this($N, $N, null)", evaluationField, EQUIVALENT_MATCHER_FIELD)
+                        .build())
+                .addMethod(MethodSpec.constructorBuilder()
+                        .addModifiers(PRIVATE)
+                        .addParameter(evaluationType, evaluationField)
+                        .addParameter(equivalentMatcherType, EQUIVALENT_MATCHER_FIELD)
+                        .addParameter(boxedType, EXPECTED_VALUE_FIELD)
+                        .addStatement("this.$N = $N", evaluationField, evaluationField)
+                        .addStatement("this.$N = $N", EQUIVALENT_MATCHER_FIELD, EQUIVALENT_MATCHER_FIELD)
+                        .addStatement("this.$N = $N", EXPECTED_VALUE_FIELD, EXPECTED_VALUE_FIELD)
+                        .build());
+        } else {
+            nestedMatcherClass
+                .addField(equivalentMatcherType, EQUIVALENT_MATCHER_FIELD, PRIVATE, FINAL)
+                .addMethod(MethodSpec.constructorBuilder()
+                        .addModifiers(PRIVATE)
+                        .addParameter(evaluationType, evaluationField)
+                        .addParameter(equivalentMatcherType, EQUIVALENT_MATCHER_FIELD)
+                        .addStatement("this.$N = $N", evaluationField, evaluationField)
+                        .addStatement("this.$N = $N", EQUIVALENT_MATCHER_FIELD, EQUIVALENT_MATCHER_FIELD)
+                        .build());
+        }
+        return nestedMatcherClass
+                .addMethod(MethodSpec.methodBuilder("matches")
+                        .addParameter(primitiveType, "actual")
+                        .returns(TypeName.BOOLEAN)
+                        .addStatement("return $L", evaluation)
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("matches")
+                        .addModifiers(PUBLIC)
+                        .addAnnotation(Override.class)
+                        .addParameter(Object.class, "actual")
+                        .returns(TypeName.BOOLEAN)
+                        .addStatement("return actual instanceof $T value && matches(value.$NValue())", boxedType, primitiveType.toString())
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("describeTo")
+                        .addModifiers(PUBLIC)
+                        .addAnnotation(Override.class)
+                        .addParameter(Description.class, "description")
+                        .addStatement("$L.describeTo(description)", hamcrestEquivalent)
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("describeMismatch")
+                        .addModifiers(PUBLIC)
+                        .addAnnotation(Override.class)
+                        .addParameter(Object.class, "actual")
+                        .addParameter(Description.class, "mismatchDescription")
+                        .addStatement("$L.describeMismatch(actual, mismatchDescription)", hamcrestEquivalent)
+                        .build())
+                .build();
+    }
+
+}
@@ -0,0 +1,139 @@
+package no.rune.record.matcher;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+import static java.lang.reflect.Modifier.isPrivate;
+
+/**
+ * The parts of a class file needed to decide if it contains a record which
+ * matchers can be generated for, read directly from the class file format
+ * without loading the class.
+ *
+ * @see <a href="https://docs.oracle.com/javase/specs/jvms/se17/html/jvms-4.html">The class File Format</a>
+ */
+final class RecordClassFile {
+
+    private static final String RECORD_SUPERCLASS = "java/lang/Record";
+
+    private record InnerClass(String outerClassName, int accessFlags) {}
+
+    /**
+     * Read the class file from the given stream. The stream is not closed, and if the
+     * class does not extend {@code java.lang.Record}, nothing is read after the name of
+     * its superclass.
+     */
+    static RecordClassFile read(InputStream classFile) throws IOException {
+        var in = new DataInputStream(new BufferedInputStream(classFile));
+        if (in.readInt() != 0xCAFEBABE) {
+            throw new IOException("Not a class file");
+        }
+        in.readUnsignedShort(); // minor_version
+        in.readUnsignedShort(); // major_version
+
+        int constantPoolCount = in.readUnsignedShort();
+        var utf8Constants = new String[constantPoolCount];
+        var classNameIndexes = new int[constantPoolCount];
+        for (int i = 1; i < constantPoolCount; i++) {
+            int tag = in.readUnsignedByte();
+            switch (tag) {
+                case 1 -> utf8Constants[i] = in.readUTF();
+                case 7 -> classNameIndexes[i] = in.readUnsignedShort();
+                case 8, 16, 19, 20 -> in.skipNBytes(2);
+                case 15 -> in.skipNBytes(3);
+                case 3, 4, 9, 10, 11, 12, 17, 18 -> in.skipNBytes(4);
+                case 5, 6 -> { in.skipNBytes(8); i++; }
+                default -> throw new IOException("Unknown constant pool tag " + tag + " at index " + i);
+            }
+        }
+
+        in.readUnsignedShort(); // access_flags
+        var className = utf8Constants[classNameIndexes[in.readUnsignedShort()]];
+        int superClassIndex = in.readUnsignedShort();
+        var superClassName = superClassIndex == 0 ? null : utf8Constants[classNameIndexes[superClassIndex]];
+        if (!RECORD_SUPERCLASS.equals(superClassName)) {
+            return new RecordClassFile(className, superClassName, false, Map.of());
+        }
+
+        in.skipNBytes(2L * in.readUnsignedShort()); // interfaces
+        skipMembers(in); // fields
+        skipMembers(in); // methods
+
+        boolean hasRecordAttribute = false;
+        var innerClasses = new HashMap<String, InnerClass>();
+        for (int attributesCount = in.readUnsignedShort(); attributesCount > 0; attributesCount--) {
+            var attributeName = utf8Constants[in.readUnsignedShort()];
+            long attributeLength = Integer.toUnsignedLong(in.readInt());
+            if ("Record".equals(attributeName)) {
+                hasRecordAttribute = true;
+                in.skipNBytes(attributeLength);
+            } else if ("InnerClasses".equals(attributeName)) {
+                for (int classesCount = in.readUnsignedShort(); classesCount > 0; classesCount--) {
+                    int innerClassIndex = in.readUnsignedShort();
+                    int outerClassIndex = in.readUnsignedShort();
+                    in.readUnsignedShort(); // inner_name_index
+                    int innerClassAccessFlags = in.readUnsignedShort();
+                    innerClasses.put(
+                            utf8Constants[classNameIndexes[innerClassIndex]],
+                            new InnerClass(outerClassIndex == 0 ? null : utf8Constants[classNameIndexes[outerClassIndex]], innerClassAccessFlags));
+                }
+            } else {
+                in.skipNBytes(attributeLength);
+            }
+        }
+        return new RecordClassFile(className, superClassName, hasRecordAttribute, innerClasses);
+    }
+
+    private static void skipMembers(DataInputStream in) throws IOException {
+        for (int membersCount = in.readUnsignedShort(); membersCount > 0; membersCount--) {
+            in.skipNBytes(6); // access_flags, name_index, descriptor_index
+            for (int attributesCount = in.readUnsignedShort(); attributesCount > 0; attributesCount--) {
+                in.skipNBytes(2);
+                in.skipNBytes(Integer.toUnsignedLong(in.readInt()));
+            }
+        }
+    }
+
+
+    private final String internalName;
+    private final String superClassName;
+    private final boolean hasRecordAttribute;
+    private final Map<String, InnerClass> innerClasses;
+
+    private RecordClassFile(String internalName, String superClassName, boolean hasRecordAttribute, Map<String, InnerClass> innerClasses) {
+        this.internalName = internalName;
+        this.superClassName = superClassName;
+        this.hasRecordAttribute = hasRecordAttribute;
+        this.innerClasses = innerClasses;
+    }
+
+    /**
+     * @return the binary name of the class, as accepted by {@link ClassLoader#loadClass(String)}
+     */
+    String className() {
+        return internalName.replace('/', '.');
+    }
+
+    boolean isRecord() {
+        return hasRecordAttribute && RECORD_SUPERCLASS.equals(superClassName);
+    }
+
+    /**
+     * The class file equivalent of {@link ScanHelper#isAccessibleFromSamePackage(java.lang.reflect.Type)}
+     * for the class itself, i.e. it is not a local or anonymous class, and neither it nor any of its
+     * enclosing classes are private.
+     */
+    boolean isAccessibleFromSamePackage() {
+        for (var innerClass = innerClasses.get(internalName); innerClass != null; innerClass = innerClasses.get(innerClass.outerClassName())) {
+            if (innerClass.outerClassName() == null || isPrivate(innerClass.accessFlags())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
@@ -0,0 +1,52 @@
+package no.rune.record.matcher;
+
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.TypeName;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static no.rune.record.matcher.ScanHelper.hasValueEquality;
+import static no.rune.record.matcher.ScanHelper.isAccessibleFromSamePackage;
+
+/**
+ * The parts of a record which are needed to generate a matcher for it, regardless
+ * if they are resolved from a loaded {@link Class} or from some other source, e.g.
+ * the elements available to an annotation processor.
+ *
+ * @param name the name of the record
+ * @param components the components of the record which are accessible from the
+ *                   package of the record, i.e. the components which a matcher
+ *                   can be generated for.
+ */
+record RecordDefinition(ClassName name, List<Component> components) {
+
+    /**
+     * @param hasValueEquality if values of the component are known to be equal exactly when
+     *                         their hash codes are equal, as {@link ScanHelper#hasValueEquality(Type)
+     *                         resolved from its type}
+     */
+    record Component(String name, TypeName type, boolean hasValueEquality) {}
+
+    /**
+     * @param typeNames resolves the {@link TypeName} of the type of each component,
+     *                  e.g. from a cache of previously resolved types
+     */
+    static RecordDefinition of(Class<? extends Record> record, Function<Type, TypeName> typeNames) {
+        return new RecordDefinition(ClassName.get(record), Stream.of(record.getRecordComponents())
+                .filter(component -> isAccessibleFromSamePackage(component.getGenericType()))
+                .map(component -> new Component(component.getName(), typeNames.apply(component.getGenericType()), hasValueEquality(component.getGenericType())))
+                .toList());
+    }
+
+    RecordDefinition {
+        components = List.copyOf(components);
+    }
+
+    String simpleName() {
+        return name.simpleName();
+    }
+
+}
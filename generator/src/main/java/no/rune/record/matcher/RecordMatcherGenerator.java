@@ -1,19 +1,38 @@
 package no.rune.record.matcher;
 
+import com.squareup.javapoet.AnnotationSpec;
 import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.CodeBlock;
 import com.squareup.javapoet.FieldSpec;
 import com.squareup.javapoet.JavaFile;
 import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.ParameterSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+import com.squareup.javapoet.WildcardTypeName;
 import org.hamcrest.Description;
+import org.hamcrest.Matcher;
 import org.hamcrest.Matchers;
 import org.hamcrest.core.IsAnything;
 
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
 
 import static com.squareup.javapoet.CodeBlock.joining;
 import static com.squareup.javapoet.TypeName.BOOLEAN;
+import static com.squareup.javapoet.TypeName.INT;
+import static com.squareup.javapoet.TypeName.LONG;
+import static javax.lang.model.element.Modifier.FINAL;
 import static javax.lang.model.element.Modifier.PRIVATE;
 import static javax.lang.model.element.Modifier.PROTECTED;
 import static javax.lang.model.element.Modifier.PUBLIC;
@@ -25,22 +44,132 @@ public class RecordMatcherGenerator {
 
     public static final RecordMatcherClassNameResolver DEFAULT_MATCHER_NAME_RESOLVER = new DefaultRecordMatcherClassNameResolver();
 
+    /**
+     * Options which alter the generated matchers. None of the options are enabled by default.
+     */
+    public enum Option {
+
+        /**
+         * When a matcher is only evaluated to decide if a record matches, and not to
+         * describe any mismatch, e.g. from {@link org.hamcrest.Matcher#matches(Object) matches(..)}
+         * or matchers like {@code hasItem(..)} and {@code everyItem(..)}, the generated
+         * matcher returns at the first component which does not match, instead of
+         * evaluating the matchers of all components.
+         */
+        failFast,
+
+        /**
+         * Constraining a component of a generated matcher, e.g. with {@code withName(..)},
+         * creates a new matcher which only refers to the previous matcher and the one
+         * component it constrains, instead of copying the matchers of all the components.
+         * The matchers of all the components are resolved when the matcher is first
+         * evaluated or described. This makes constraining a few components of records with
+         * many components considerably cheaper.
+         */
+        linkedBuilder,
+
+        /**
+         * Generate a static {@code containsInAnyOrder(..)} method in each matcher, which
+         * creates a matcher for an {@link Iterable} of records, equivalent to Hamcrest's
+         * {@link Matchers#containsInAnyOrder(Matcher[]) containsInAnyOrder(..)}. The expected
+         * matchers are indexed by the values of the components they constrain to be equal to
+         * a value, e.g. with {@code withName(String)}, so that each record is only evaluated by
+         * the expected matchers with the same values, instead of by every expected matcher.
+         * This makes matching large collections considerably faster.
+         */
+        containsInAnyOrder,
+
+        /**
+         * Each evaluation of a generated matcher is recorded as a JDK Flight Recorder event,
+         * with the record type, the constrained components, if the record matched, and if a
+         * mismatch was described, in addition to the duration and stack trace recorded by
+         * JFR itself. This attributes the time spent matching records to the assertions in
+         * the tests, instead of to Hamcrest internals. When the event is not enabled in a
+         * running recording, the matcher is evaluated directly.
+         */
+        jfrEvents,
+
+    }
+
+    private final Set<Option> options;
+
+    /**
+     * The type names of the component types of the records generated from, as the
+     * same types are typically used by the components of many records. The generator
+     * may be used to generate matchers concurrently.
+     */
+    private final Map<Type, TypeName> typeNames = new ConcurrentHashMap<>();
+
+    public RecordMatcherGenerator() {
+        this(List.of());
+    }
+
+    public RecordMatcherGenerator(Option ... options) {
+        this(List.of(options));
+    }
+
+    public RecordMatcherGenerator(Collection<Option> options) {
+        this.options = options.isEmpty() ? EnumSet.noneOf(Option.class) : EnumSet.copyOf(options);
+    }
+
     public JavaCompilationUnit generateFromRecord(Class<? extends Record> record) {
         return generateFromRecord(record, record.getPackage(), DEFAULT_MATCHER_NAME_RESOLVER.resolve(record));
     }
 
     public JavaCompilationUnit generateFromRecord(Class<? extends Record> record, Package target, String matcherSimpleClassName) {
+        return generateFromRecord(definitionOf(record), target.getName(), matcherSimpleClassName);
+    }
+
+    /**
+     * Generate a matcher for a record, and write it to a file in the package directory of the
+     * record under the given base directory, if the file does not already have the same content.
+     * The generated source code is written to the file as it is rendered, instead of first
+     * being held in memory as a {@link JavaCompilationUnit}.
+     */
+    public JavaCompilationUnit.WriteResult writeFromRecord(Class<? extends Record> record, Path baseDirectory) throws IOException {
+        var matcherSimpleClassName = DEFAULT_MATCHER_NAME_RESOLVER.resolve(record);
+        var targetPackage = record.getPackage().getName();
+        var javaFile = javaFileOf(definitionOf(record), targetPackage, matcherSimpleClassName);
+        return JavaCompilationUnit.writeToBaseDirectory(baseDirectory, Optional.of(targetPackage), matcherSimpleClassName, javaFile::writeTo);
+    }
+
+    private RecordDefinition definitionOf(Class<? extends Record> record) {
+        return RecordDefinition.of(record, type -> typeNames.computeIfAbsent(type, TypeName::get));
+    }
+
+    JavaCompilationUnit generateFromRecord(RecordDefinition record, String targetPackage, String matcherSimpleClassName) {
+        return new JavaCompilationUnit(javaFileOf(record, targetPackage, matcherSimpleClassName).toString(), matcherSimpleClassName, Optional.of(targetPackage));
+    }
+
+    /**
+     * Generate a matcher for a record, and write the source code directly to the given output.
+     */
+    void generateFromRecord(RecordDefinition record, String targetPackage, String matcherSimpleClassName, Appendable output) throws IOException {
+        javaFileOf(record, targetPackage, matcherSimpleClassName).writeTo(output);
+    }
+
+    private JavaFile javaFileOf(RecordDefinition record, String targetPackage, String matcherSimpleClassName) {
 
-        var codeFactory = new CodeFactory(record, ClassName.get(target.getName(), matcherSimpleClassName));
+        var codeFactory = new CodeFactory(record, ClassName.get(targetPackage, matcherSimpleClassName));
 
         var anyRecordFactoryMethodBuilder = codeFactory
-                .newStaticFactoryMethod(withIndefArticle(record.getSimpleName(), camelCase))
-                .addStatement("return $L", codeFactory.defaultConstructorInvocation());
+                .newStaticFactoryMethod(withIndefArticle(record.simpleName(), camelCase))
+                .addStatement("return $L", codeFactory.anyRecordMatcher());
 
         var matcherClassBuilder = codeFactory.newMatcherClass()
                 .addMethod(anyRecordFactoryMethodBuilder.build());
+        codeFactory.anyMatcherConstants().forEach(matcherClassBuilder::addField);
 
         var privateConstructorBuilder = MethodSpec.constructorBuilder().addModifiers(PRIVATE);
+        var linkedBuilder = options.contains(Option.linkedBuilder) && !codeFactory.isEmptyRecord();
+        var expectedValue = ExpectedValueMatching.of(codeFactory, options.contains(Option.containsInAnyOrder));
+        var containsInAnyOrder = options.contains(Option.containsInAnyOrder) && !codeFactory.isEmptyRecord()
+                ? Optional.of(new IndexedContainsInAnyOrder(codeFactory, expectedValue))
+                : Optional.<IndexedContainsInAnyOrder>empty();
+        var jfrEvents = options.contains(Option.jfrEvents) && !codeFactory.isEmptyRecord()
+                ? Optional.of(new JfrMatchEvents(codeFactory))
+                : Optional.<JfrMatchEvents>empty();
+        var cachedSelfDescription = CachedSelfDescription.of(codeFactory, expectedValue);
 
         codeFactory.components().forEach(component -> {
             FieldSpec matcherField = component.newMatcherField();
@@ -53,26 +182,76 @@ public class RecordMatcherGenerator {
             MethodSpec withComponentMatchingMethod = codeFactory
                     .newBuilderLikeMethod("with" + mapCharAt(0, component.componentName(), Character::toUpperCase))
                     .addParameter(constructorMatcherParam)
-                    .addStatement("return $L", codeFactory.incrementalConstructorInvocation(component.recordComponent, CodeBlock.of(constructorMatcherParam.name)))
+                    .addStatement("return $L", linkedBuilder
+                            ? codeFactory.linkedConstructorInvocation(component, CodeBlock.of("$N", constructorMatcherParam))
+                            : codeFactory.incrementalConstructorInvocation(component.recordComponent, CodeBlock.of("$N", constructorMatcherParam)))
                     .build();
+            var primitiveMatching = component.primitiveMatching();
+            var actual = component.componentName().equals("actual") ? "actualValue" : "actual";
+            var indexedBy = containsInAnyOrder.filter(indexed -> IndexedContainsInAnyOrder.isIndexable(component));
+            var equalToMatcher = primitiveMatching.map(matching -> {
+                        var matches = matching == PrimitiveComponentMatching.BOOLEAN ? CodeBlock.of("$N", component.componentName()) : matching.isEqual(actual, component.componentName());
+                        var hamcrestEquivalent = CodeBlock.of("$T.is($N)", Matchers.class, component.componentName());
+                        return indexedBy.isPresent()
+                                ? matching.newNestedMatcher(codeFactory.matcherClass, actual, matches, hamcrestEquivalent, component.componentName())
+                                : matching.newNestedMatcher(codeFactory.matcherClass, actual, matches, hamcrestEquivalent);
+                    })
+                    .or(() -> expectedValue.filter(matching -> matching.matches(component)).map(matching -> matching.newExpectedValue(component)))
+                    .orElseGet(() -> CodeBlock.of("$T.is($N)", Matchers.class, component.componentName()));
             MethodSpec withComponentEqualToMethod = codeFactory
                     .newBuilderLikeMethod("with" + mapCharAt(0, component.componentName(), Character::toUpperCase))
                     .addParameter(component.componentType(), component.componentName())
-                    .addCode("return " + withComponentMatchingMethod.name + "($T.is(" + component.componentName() + "));", Matchers.class)
+                    .addStatement("return $N($L)", withComponentMatchingMethod, equalToMatcher)
                     .build();
             matcherClassBuilder
                 .addMethod(withComponentEqualToMethod)
                 .addMethod(withComponentMatchingMethod);
+
+            primitiveMatching.filter(PrimitiveComponentMatching::isIntegral).ifPresent(matching -> matcherClassBuilder.addMethod(codeFactory
+                    .newBuilderLikeMethod(withComponentMatchingMethod.name + "Between")
+                    .addParameter(component.componentType(), "min")
+                    .addParameter(component.componentType(), "max")
+                    .addStatement("return $N($L)", withComponentMatchingMethod, matching.newNestedMatcher(codeFactory.matcherClass, "actual",
+                            CodeBlock.of("actual >= min && actual <= max"),
+                            CodeBlock.of("$T.allOf($T.greaterThanOrEqualTo(min), $T.lessThanOrEqualTo(max))", Matchers.class, Matchers.class, Matchers.class)))
+                    .build()));
+            primitiveMatching.filter(PrimitiveComponentMatching.DOUBLE::equals).ifPresent(matching -> matcherClassBuilder.addMethod(codeFactory
+                    .newBuilderLikeMethod(withComponentMatchingMethod.name + "CloseTo")
+                    .addParameter(component.componentType(), "operand")
+                    .addParameter(component.componentType(), "error")
+                    .addStatement("return $N($L)", withComponentMatchingMethod, matching.newNestedMatcher(codeFactory.matcherClass, "actual",
+                            CodeBlock.of("$T.abs(actual - operand) - error <= 0.0", Math.class),
+                            CodeBlock.of("$T.closeTo(operand, error)", Matchers.class)))
+                    .build()));
         });
+        codeFactory.primitiveMatchings().forEach(matching -> matcherClassBuilder.addType(matching.nestedMatcherClassSpec(codeFactory.matcherClass, containsInAnyOrder.isPresent())));
 
-        matcherClassBuilder
-            .addMethod(privateConstructorBuilder.build());
+        for (int word = 0; word < codeFactory.constrainedComponentsWords(); word++) {
+            var constrainedComponentsField = CodeFactory.constrainedComponentsFieldName(word);
+            matcherClassBuilder.addField(LONG, constrainedComponentsField, PRIVATE, FINAL);
+            int currentWord = word;
+            privateConstructorBuilder.addStatement("this.$N = $L", constrainedComponentsField, codeFactory.components()
+                    .filter(c -> c.constrainedComponentsWord() == currentWord)
+                    .map(c -> CodeBlock.of("($N instanceof $T ? 0 : $L)", c.matcherFieldName(), IsAnything.class, c.constrainedComponentBit()))
+                    .collect(joining("\n| ")));
+        }
+        cachedSelfDescription.ifPresent(cached -> {
+            cached.addFieldsTo(matcherClassBuilder);
+            privateConstructorBuilder.addCode(cached.initImmutableDescription());
+        });
+
+        if (linkedBuilder) {
+            addLinkedBuilder(codeFactory, matcherClassBuilder, privateConstructorBuilder, cachedSelfDescription.isPresent());
+        } else {
+            matcherClassBuilder
+                .addMethod(privateConstructorBuilder.build());
+        }
 
 
-        var anyRecordDescription = CodeBlock.builder().addStatement("description.appendText(\"any \").appendText($T.class.getSimpleName()).appendText(\" record\")", record).build();
+        var anyRecordDescription = CodeBlock.builder().addStatement("description.appendText($S)", "any " + record.simpleName() + " record").build();
         if (!codeFactory.isEmptyRecord()) {
-            var allMatchesAnything = codeFactory.components().map(c -> c.componentName() + "Matcher instanceof $T")
-                    .map(matcherTypeConstraing -> CodeBlock.of(matcherTypeConstraing, IsAnything.class))
+            var allMatchesAnything = IntStream.range(0, codeFactory.constrainedComponentsWords())
+                    .mapToObj(word -> CodeBlock.of("$N == 0", CodeFactory.constrainedComponentsFieldName(word)))
                     .collect(joining(" && "));
             anyRecordDescription = CodeBlock.builder()
                     .beginControlFlow("if ($L)", allMatchesAnything)
@@ -85,70 +264,188 @@ public class RecordMatcherGenerator {
                 .map(c -> CodeBlock.builder()
                         .addNamed(
                             """
-                            if (!($componentMatcher:N instanceof $isAnythingMatcherType:T))
+                            if ($isConstrained:L)
                                 description.appendText(" $componentName:N ").appendDescriptionOf($componentMatcher:N);
                             """,
-                            Map.of("componentName", c.componentName(), "componentMatcher", c.componentName() + "Matcher", "isAnythingMatcherType", IsAnything.class))
+                            Map.of("componentName", c.componentName(), "componentMatcher", c.matcherFieldName(), "isConstrained", c.isConstrained()))
                         .build());
 
 
         var describeToMethodBuilder = MethodSpec.methodBuilder("describeTo")
                 .addModifiers(PUBLIC)
                 .addParameter(Description.class, "description")
-                .addAnnotation(Override.class)
-                .addCode(anyRecordDescription);
+                .addAnnotation(Override.class);
+        if (linkedBuilder) {
+            describeToMethodBuilder
+                .beginControlFlow("if (previous != null)")
+                .addStatement("resolved().describeTo(description)")
+                .addStatement("return")
+                .endControlFlow();
+        }
+        var describeSelfMethodBuilder = cachedSelfDescription.map(CachedSelfDescription::newDescribeMethod).orElse(describeToMethodBuilder);
+        describeSelfMethodBuilder.addCode(anyRecordDescription);
 
         if (!codeFactory.isEmptyRecord()) {
             var constrainedRecordDescription = CodeBlock.builder()
                     .beginControlFlow("else")
-                    .addStatement(CodeBlock.of("""
-                        description
-                            .appendText($T.class.getSimpleName()).appendText(" record where")""",
-                            record))
+                    .addStatement("description.appendText($S)", record.simpleName() + " record where")
                     .add(componentMatchingDescriptions.collect(joining("\n")))
                     .endControlFlow()
                     .build();
-            describeToMethodBuilder.addCode(constrainedRecordDescription);
+            describeSelfMethodBuilder.addCode(constrainedRecordDescription);
         }
+        cachedSelfDescription.ifPresent(cached -> describeToMethodBuilder.addCode(cached.describeTo()));
         var describeToMethod = describeToMethodBuilder.build();
 
-        MethodSpec.Builder matchesSafelyMethodBuilder = MethodSpec.methodBuilder("matchesSafely")
-                .addModifiers(PROTECTED)
-                .addParameter(record, "element")
+        MethodSpec.Builder matchesSafelyMethodBuilder = jfrEvents.isPresent()
+                ? MethodSpec.methodBuilder(JfrMatchEvents.MATCHES_METHOD).addModifiers(PRIVATE)
+                : MethodSpec.methodBuilder("matchesSafely").addModifiers(PROTECTED).addAnnotation(Override.class);
+        matchesSafelyMethodBuilder
+                .addParameter(record.name(), "element")
                 .addParameter(Description.class, "mismatchDescription")
-                .addAnnotation(Override.class)
                 .returns(BOOLEAN);
 
-        matchesSafelyMethodBuilder.addStatement("boolean matches = true");
-        codeFactory
-            .components()
-            .map(component -> CodeBlock.builder().addNamed(
+        if (linkedBuilder) {
+            matchesSafelyMethodBuilder
+                .beginControlFlow("if (previous != null)")
+                .addStatement("return resolved().$N(element, mismatchDescription)", matchesSafelyMethodBuilder.build().name)
+                .endControlFlow();
+        }
+        if (options.contains(Option.failFast) && !codeFactory.isEmptyRecord()) {
+            matchesSafelyMethodBuilder
+                .beginControlFlow("if (mismatchDescription instanceof $T.NullDescription)", Description.class)
+                .addStatement("return $L", codeFactory.components()
+                        .map(component -> CodeBlock.of("($L || $L)", component.isNotConstrained(), component.matches("element")))
+                        .collect(joining("\n&& ")))
+                .endControlFlow();
+        }
+        var describeMismatchesMethodBuilder = MethodSpec.methodBuilder("describeMismatchedComponents")
+                .addModifiers(PRIVATE)
+                .addParameter(record.name(), "element");
+        var mismatchedComponentsWords = IntStream.range(0, codeFactory.constrainedComponentsWords()).mapToObj(CodeFactory::mismatchedComponentsVariableName).toList();
+        mismatchedComponentsWords.forEach(mismatchedComponents -> {
+            matchesSafelyMethodBuilder.addStatement("long $N = 0", mismatchedComponents);
+            describeMismatchesMethodBuilder.addParameter(LONG, mismatchedComponents);
+        });
+        describeMismatchesMethodBuilder.addParameter(Description.class, "mismatchDescription");
+        codeFactory.components().forEach(component -> {
+            var mismatchedComponents = CodeFactory.mismatchedComponentsVariableName(component.constrainedComponentsWord());
+            matchesSafelyMethodBuilder.addStatement("if ($L && !$L) $N |= $L",
+                    component.isConstrained(), component.matches("element"), mismatchedComponents, component.constrainedComponentBit());
+            describeMismatchesMethodBuilder.addCode(CodeBlock.builder().addNamed(
                     """
-                    if (!$matcherReference:N.matches(element.$componentName:N())) {
+                    if (($mismatchedComponents:N & ($bit:L)) != 0) {
                         mismatchDescription.appendText(" $componentName:N ");
                         $matcherReference:N.describeMismatch(element.$componentName:N(), mismatchDescription);
-                        matches = false;
                     }
                     """,
-                    Map.of("componentName", component.componentName(), "matcherReference", component.componentName() + "Matcher")))
-            .map(CodeBlock.Builder::build)
-            .forEach(matchesSafelyMethodBuilder::addCode);
-        matchesSafelyMethodBuilder.addStatement("return matches");
+                    Map.of("componentName", component.componentName(), "matcherReference", component.matcherFieldName(),
+                           "mismatchedComponents", mismatchedComponents, "bit", component.constrainedComponentBit()))
+                    .build());
+        });
+        if (codeFactory.isEmptyRecord()) {
+            matchesSafelyMethodBuilder.addStatement("return true");
+        } else {
+            matchesSafelyMethodBuilder
+                .beginControlFlow("if ($L)", mismatchedComponentsWords.stream().map(word -> CodeBlock.of("$N == 0", word)).collect(joining(" && ")))
+                .addStatement("return true")
+                .endControlFlow()
+                .beginControlFlow("if (!(mismatchDescription instanceof $T.NullDescription))", Description.class)
+                .addStatement("$N(element, $L, mismatchDescription)", describeMismatchesMethodBuilder.build(),
+                        mismatchedComponentsWords.stream().map(word -> CodeBlock.of("$N", word)).collect(joining(", ")))
+                .endControlFlow()
+                .addStatement("return false");
+        }
 
-        matcherClassBuilder
-            .addMethod(describeToMethod)
-            .addMethod(matchesSafelyMethodBuilder.build());
+        matcherClassBuilder.addMethod(describeToMethod);
+        cachedSelfDescription.ifPresent(cached -> matcherClassBuilder.addMethod(describeSelfMethodBuilder.build()));
+        jfrEvents.ifPresent(events -> events.addTo(matcherClassBuilder, linkedBuilder));
+        matcherClassBuilder.addMethod(matchesSafelyMethodBuilder.build());
+        if (!codeFactory.isEmptyRecord()) {
+            matcherClassBuilder.addMethod(describeMismatchesMethodBuilder.build());
+        }
+        expectedValue.ifPresent(matching -> matcherClassBuilder.addType(matching.nestedMatcherClassSpec()));
+        containsInAnyOrder.ifPresent(indexed -> indexed.addTo(matcherClassBuilder, linkedBuilder));
 
 
-        String compilationUnitContent = JavaFile.builder(target.getName(), matcherClassBuilder.build())
+        return JavaFile.builder(targetPackage, matcherClassBuilder.build())
                 .indent("    ")
                 .skipJavaLangImports(true)
-                .build().toString();
-        return new JavaCompilationUnit(compilationUnitContent, matcherSimpleClassName, target);
+                .build();
     }
 
+    /**
+     * Add the parts of a generated matcher which are specific to the
+     * {@link Option#linkedBuilder linkedBuilder} option.
+     */
+    private static void addLinkedBuilder(
+            CodeFactory codeFactory, TypeSpec.Builder matcherClassBuilder, MethodSpec.Builder privateConstructorBuilder, boolean cachedSelfDescription) {
+        var anyMatcherType = ParameterizedTypeName.get(ClassName.get(Matcher.class), WildcardTypeName.subtypeOf(Object.class));
+        matcherClassBuilder
+            .addField(codeFactory.matcherClass, "previous", PRIVATE, FINAL)
+            .addField(INT, "constrainedComponent", PRIVATE, FINAL)
+            .addField(anyMatcherType, "constraint", PRIVATE, FINAL)
+            .addField(codeFactory.matcherClass, "resolved", PRIVATE);
+
+        privateConstructorBuilder
+            .addStatement("this.previous = null")
+            .addStatement("this.constrainedComponent = -1")
+            .addStatement("this.constraint = null");
 
+        var linkingConstructorBuilder = MethodSpec.constructorBuilder()
+                .addModifiers(PRIVATE)
+                .addParameter(codeFactory.matcherClass, "previous")
+                .addParameter(INT, "constrainedComponent")
+                .addParameter(anyMatcherType, "constraint");
+        codeFactory.components().forEach(component -> linkingConstructorBuilder.addStatement("this.$N = null", component.matcherFieldName()));
+        for (int word = 0; word < codeFactory.constrainedComponentsWords(); word++) {
+            linkingConstructorBuilder.addStatement("this.$N = 0", CodeFactory.constrainedComponentsFieldName(word));
+        }
+        if (cachedSelfDescription) {
+            linkingConstructorBuilder.addStatement("this.immutableDescription = false");
+        }
+        linkingConstructorBuilder
+            .addStatement("this.previous = previous")
+            .addStatement("this.constrainedComponent = constrainedComponent")
+            .addStatement("this.constraint = constraint");
 
+        var componentCount = codeFactory.record.components().size();
+        var resolvedMethod = MethodSpec.methodBuilder("resolved")
+                .addModifiers(PRIVATE)
+                .addAnnotation(AnnotationSpec.builder(SuppressWarnings.class).addMember("value", "$S", "unchecked").build())
+                .returns(codeFactory.matcherClass)
+                .beginControlFlow("if (previous == null)")
+                .addStatement("return this")
+                .endControlFlow()
+                .addStatement("$T resolved = this.resolved", codeFactory.matcherClass)
+                .beginControlFlow("if (resolved == null)")
+                .addStatement("$T[] constraints = new $T[$L]", anyMatcherType, Matcher.class, componentCount)
+                .addStatement("boolean[] constrained = new boolean[$L]", componentCount)
+                .addStatement("$T base = this", codeFactory.matcherClass)
+                .beginControlFlow("while (base.previous != null)")
+                .addStatement("$T resolvedBase = base.resolved", codeFactory.matcherClass)
+                .beginControlFlow("if (resolvedBase != null)")
+                .addStatement("base = resolvedBase")
+                .addStatement("break")
+                .endControlFlow()
+                .beginControlFlow("if (!constrained[base.constrainedComponent])")
+                .addStatement("constraints[base.constrainedComponent] = base.constraint")
+                .addStatement("constrained[base.constrainedComponent] = true")
+                .endControlFlow()
+                .addStatement("base = base.previous")
+                .endControlFlow()
+                .addStatement("resolved = new $T(\n$L)", codeFactory.matcherClass, codeFactory.components()
+                        .map(c -> CodeBlock.of("constrained[$L] ? ($T) constraints[$L] : base.$N", c.index, c.matcherType(), c.index, c.matcherFieldName()))
+                        .collect(joining(",\n")))
+                .addStatement("this.resolved = resolved")
+                .endControlFlow()
+                .addStatement("return resolved")
+                .build();
 
-}
+        matcherClassBuilder
+            .addMethod(privateConstructorBuilder.build())
+            .addMethod(linkingConstructorBuilder.build())
+            .addMethod(resolvedMethod);
+    }
 
+}
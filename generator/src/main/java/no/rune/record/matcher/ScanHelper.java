@@ -3,13 +3,22 @@ package no.rune.record.matcher;
 import java.lang.reflect.GenericArrayType;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import static java.lang.reflect.Modifier.isPrivate;
 
 final class ScanHelper {
 
-    static boolean isAccessibleFromSamePackage(Type type) {
-        if (type instanceof Class<?> cls) {
+    /**
+     * The accessibility of each class is resolved once, as the same types are typically used
+     * by the components of many records. Being a {@link ClassValue}, the cached values do
+     * not prevent any class from being unloaded.
+     */
+    private static final ClassValue<Boolean> ACCESSIBLE_FROM_SAME_PACKAGE = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> cls) {
             if (cls.isLocalClass()) {
                 return false;
             }
@@ -22,6 +31,12 @@ final class ScanHelper {
                 }
             }
             return true;
+        }
+    };
+
+    static boolean isAccessibleFromSamePackage(Type type) {
+        if (type instanceof Class<?> cls) {
+            return ACCESSIBLE_FROM_SAME_PACKAGE.get(cls);
         } else if (type instanceof ParameterizedType parameterizedType) {
             if (!isAccessibleFromSamePackage(parameterizedType.getRawType())) {
                 return false;
@@ -39,6 +54,32 @@ final class ScanHelper {
         }
     }
 
+    private static final Set<Class<?>> VALUE_EQUALITY_TYPES = Set.of(
+            String.class, Boolean.class, Byte.class, Short.class, Character.class,
+            Integer.class, Long.class, Float.class, Double.class);
+
+    /**
+     * If values of the type are known to be equal exactly when they have equal hash codes
+     * computed from their values, i.e. primitives, their boxed types, strings, enums, and
+     * records of only such types. A value of any other type may be an array at run time,
+     * which {@code Matchers.is(..)} compares by its elements, while the hash code of an
+     * array is its identity.
+     */
+    static boolean hasValueEquality(Type type) {
+        return type instanceof Class<?> cls && hasValueEquality(cls, new HashSet<>());
+    }
+
+    private static boolean hasValueEquality(Class<?> cls, Set<Class<?>> visitedRecords) {
+        if (cls.isPrimitive() || cls.isEnum() || VALUE_EQUALITY_TYPES.contains(cls)) {
+            return true;
+        } else if (cls.isRecord()) {
+            return !visitedRecords.add(cls) || Stream.of(cls.getRecordComponents())
+                    .allMatch(component -> component.getGenericType() instanceof Class<?> componentType && hasValueEquality(componentType, visitedRecords));
+        } else {
+            return false;
+        }
+    }
+
     private ScanHelper() {
     }
 }
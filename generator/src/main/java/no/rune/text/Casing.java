@@ -2,6 +2,8 @@ package no.rune.text;
 
 import java.util.StringJoiner;
 import java.util.function.IntUnaryOperator;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 public final class Casing {
 
@@ -38,6 +40,17 @@ public final class Casing {
         return joiner.toString();
     }
 
+    private static final Pattern WORD_BOUNDARY = Pattern.compile("_+|(?<=[\\p{Ll}\\d])(?=\\p{Lu})|(?<=\\p{Lu})(?=\\p{Lu}\\p{Ll})");
+
+    /**
+     * Split an identifier into the words it consists of, e.g. {@code "primaryEmailAddress"}
+     * to {@code "primary", "Email", "Address"}, which can be given to {@link #to(Style, String...)}
+     * to convert the identifier to another style.
+     */
+    public static String[] wordsOf(String identifier) {
+        return Stream.of(WORD_BOUNDARY.split(identifier)).filter(word -> !word.isEmpty()).toArray(String[]::new);
+    }
+
     public static String mapCharAt(int index, String source, IntUnaryOperator fn) {
         char originalChar = source.charAt(index);
         char mappedChar = (char) fn.applyAsInt(originalChar);
@@ -0,0 +1,49 @@
+package no.rune.record.matcher;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+class CodeSourceFingerprintTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void changesWhenOnlyTheGeneratorChanges() throws IOException {
+        var generatorJar = Files.write(tempDir.resolve("generator-1.0-SNAPSHOT.jar"), new byte[] {1, 2, 3});
+        var fingerprint = CodeSourceFingerprint.of(generatorJar);
+        assertThat(CodeSourceFingerprint.of(generatorJar), is(fingerprint));
+
+        Files.write(generatorJar, new byte[] {1, 2, 4});
+        assertThat(CodeSourceFingerprint.of(generatorJar), not(fingerprint));
+    }
+
+    @Test
+    void changesWhenAnyFileOfAClassDirectoryChanges() throws IOException {
+        var classes = Files.createDirectories(tempDir.resolve("classes"));
+        var classFile = Files.write(Files.createDirectories(classes.resolve("a")).resolve("Generator.class"), new byte[] {1});
+        var fingerprint = CodeSourceFingerprint.of(classes);
+
+        Files.write(classFile, new byte[] {2});
+        var changedFingerprint = CodeSourceFingerprint.of(classes);
+        assertThat(changedFingerprint, not(fingerprint));
+
+        Files.move(classFile, classFile.resolveSibling("Renamed.class"));
+        assertThat(CodeSourceFingerprint.of(classes), not(changedFingerprint));
+    }
+
+    @Test
+    void fingerprintOfGeneratorIsItsCodeSource() throws Exception {
+        var codeSource = Path.of(RecordMatcherGenerator.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        assertThat(CodeSourceFingerprint.of(RecordMatcherGenerator.class), is(CodeSourceFingerprint.of(codeSource)));
+    }
+
+}
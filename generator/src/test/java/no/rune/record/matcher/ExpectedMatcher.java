@@ -17,13 +17,13 @@ import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static uk.co.probablyfine.matchers.Java8Matchers.where;
 
-public record ExpectedMatcher(String fullyQualifiedClassName, String sourceCode, Class<? extends Record> record) {
+public record ExpectedMatcher(String fullyQualifiedClassName, String sourceCode, Class<? extends Record> record, RecordMatcherGenerator generator) {
 
-    public static ExpectedMatcher expectedMatcherFor(Class<? extends Record> record) {
+    public static ExpectedMatcher expectedMatcherFor(Class<? extends Record> record, RecordMatcherGenerator.Option ... options) {
         String fullyQualifiedMatcherClassName = record.getPackageName() + "." + RecordMatcherGenerator.DEFAULT_MATCHER_NAME_RESOLVER.resolve(record);
         Path expectedMatcherSourceFile = javaTestSourceFiles.resolve(fullyQualifiedMatcherClassName.replaceAll("\\.", "/") + ".java");
         try {
-            return new ExpectedMatcher(fullyQualifiedMatcherClassName, readString(expectedMatcherSourceFile), record);
+            return new ExpectedMatcher(fullyQualifiedMatcherClassName, readString(expectedMatcherSourceFile), record, new RecordMatcherGenerator(options));
         } catch (IOException e) {
             throw new IllegalStateException(
                     "Error resolving " + expectedMatcherSourceFile + ", " +
@@ -31,10 +31,8 @@ public record ExpectedMatcher(String fullyQualifiedClassName, String sourceCode,
         }
     }
 
-    private static final RecordMatcherGenerator generator = new RecordMatcherGenerator();
-
     public JavaCompilationUnit generatedSourceCode() {
-        return generator.generateFromRecord(record());
+        return generator().generateFromRecord(record());
     }
 
     public void assertEqualToGeneratedMatcherSourceCode() {
@@ -0,0 +1,96 @@
+package no.rune.record.matcher;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.Optional;
+import no.rune.record.matcher.example.twovalues.TwoValuesRecord;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static java.nio.file.Files.getLastModifiedTime;
+import static java.nio.file.Files.readString;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static uk.co.probablyfine.matchers.Java8Matchers.where;
+import static uk.co.probablyfine.matchers.Java8Matchers.whereNot;
+
+class JavaCompilationUnitTest {
+
+    @TempDir
+    Path baseDirectory;
+
+    @Test
+    void writesToPackageDirectory() throws IOException {
+        var result = new JavaCompilationUnit("class A {}", "A", Optional.of("x.y")).writeToBaseDirectory(baseDirectory);
+        assertThat(result, where(JavaCompilationUnit.WriteResult::written));
+        assertThat(result.file(), is(baseDirectory.resolve("x/y/A.java")));
+        assertThat(readString(result.file()), is("class A {}"));
+    }
+
+    @Test
+    void doesNotWriteFileWithSameContent() throws IOException {
+        var compilationUnit = new JavaCompilationUnit("class A {}", "A", Optional.of("x.y"));
+        var file = compilationUnit.writeToBaseDirectory(baseDirectory).file();
+        var lastModified = FileTime.from(Instant.parse("2020-01-01T00:00:00Z"));
+        Files.setLastModifiedTime(file, lastModified);
+
+        var result = compilationUnit.writeToBaseDirectory(baseDirectory);
+        assertThat(result, whereNot(JavaCompilationUnit.WriteResult::written));
+        assertThat(getLastModifiedTime(file), is(lastModified));
+    }
+
+    @Test
+    void writesFileWithChangedContent() throws IOException {
+        new JavaCompilationUnit("class A {}", "A", Optional.empty()).writeToBaseDirectory(baseDirectory);
+
+        var result = new JavaCompilationUnit("class A { }", "A", Optional.empty()).writeToBaseDirectory(baseDirectory);
+        assertThat(result, where(JavaCompilationUnit.WriteResult::written));
+        assertThat(readString(result.file()), is("class A { }"));
+
+        result = new JavaCompilationUnit("class B {}", "A", Optional.empty()).writeToBaseDirectory(baseDirectory);
+        assertThat(result, where(JavaCompilationUnit.WriteResult::written));
+        assertThat(readString(result.file()), is("class B {}"));
+    }
+
+    @Test
+    void streamsContentToPackageDirectory() throws IOException {
+        var result = JavaCompilationUnit.writeToBaseDirectory(baseDirectory, Optional.of("x.y"), "A", writer -> writer.write("class A {}"));
+        assertThat(result, where(JavaCompilationUnit.WriteResult::written));
+        assertThat(result.file(), is(baseDirectory.resolve("x/y/A.java")));
+        assertThat(readString(result.file()), is("class A {}"));
+        try (var files = Files.list(result.file().getParent())) {
+            assertThat(files.toList(), contains(result.file()));
+        }
+    }
+
+    @Test
+    void doesNotReplaceFileWithSameStreamedContent() throws IOException {
+        var file = JavaCompilationUnit.writeToBaseDirectory(baseDirectory, Optional.empty(), "A", writer -> writer.write("class A {}")).file();
+        var lastModified = FileTime.from(Instant.parse("2020-01-01T00:00:00Z"));
+        Files.setLastModifiedTime(file, lastModified);
+
+        var result = JavaCompilationUnit.writeToBaseDirectory(baseDirectory, Optional.empty(), "A", writer -> writer.write("class A {}"));
+        assertThat(result, whereNot(JavaCompilationUnit.WriteResult::written));
+        assertThat(getLastModifiedTime(file), is(lastModified));
+
+        result = JavaCompilationUnit.writeToBaseDirectory(baseDirectory, Optional.empty(), "A", writer -> writer.write("class A { }"));
+        assertThat(result, where(JavaCompilationUnit.WriteResult::written));
+        assertThat(readString(file), is("class A { }"));
+        try (var files = Files.list(baseDirectory)) {
+            assertThat(files.toList(), contains(file));
+        }
+    }
+
+    @Test
+    void writesSameMatcherAsGeneratedCompilationUnit() throws IOException {
+        var generator = new RecordMatcherGenerator();
+        var result = generator.writeFromRecord(TwoValuesRecord.class, baseDirectory);
+        assertThat(result.file(), is(baseDirectory.resolve(TwoValuesRecord.class.getPackageName().replace('.', '/')).resolve("TwoValuesRecordMatcher.java")));
+        assertThat(readString(result.file()), is(generator.generateFromRecord(TwoValuesRecord.class).content()));
+    }
+
+}
@@ -0,0 +1,65 @@
+package no.rune.record.matcher;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.stream.Stream;
+import no.rune.record.matcher.example.twovalues.TwoValuesRecord;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static uk.co.probablyfine.matchers.Java8Matchers.where;
+import static uk.co.probablyfine.matchers.Java8Matchers.whereNot;
+
+class RecordClassFileTest {
+
+    static RecordClassFile classFileOf(Class<?> type) {
+        try (var classFile = type.getResourceAsStream("/" + type.getName().replace('.', '/') + ".class")) {
+            return RecordClassFile.read(classFile);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Test
+    void readsTopLevelRecord() {
+        var classFile = classFileOf(TwoValuesRecord.class);
+        assertThat(classFile, where(RecordClassFile::className, is(TwoValuesRecord.class.getName())));
+        assertThat(classFile, where(RecordClassFile::isRecord));
+        assertThat(classFile, where(RecordClassFile::isAccessibleFromSamePackage));
+    }
+
+    @Test
+    void readsNestedRecords() {
+        assertAll(Stream.of(Foo.class, Foo.Bar.class, Foo.Bar.Baz.class, ScanHelperTest.GenericArray.HorribleButAccessible.class)
+                .map(RecordClassFileTest::classFileOf)
+                .map(classFile -> () -> {
+                    assertThat(classFile.className(), classFile, where(RecordClassFile::isRecord));
+                    assertThat(classFile.className(), classFile, where(RecordClassFile::isAccessibleFromSamePackage));
+                }));
+    }
+
+    @Test
+    void readsClassWhichIsNotARecord() {
+        assertAll(Stream.of(RecordClassFileTest.class, String.class, Record.class, Runnable.class)
+                .map(RecordClassFileTest::classFileOf)
+                .map(classFile -> () -> assertThat(classFile.className(), classFile, whereNot(RecordClassFile::isRecord))));
+    }
+
+    private record Private() {
+        record NestedInPrivate() {}
+    }
+
+    @Test
+    void recordsWhichAreNotAccessible() {
+        record Local() {}
+        assertAll(Stream.of(Local.class, Private.class, Private.NestedInPrivate.class)
+                .map(RecordClassFileTest::classFileOf)
+                .map(classFile -> () -> {
+                    assertThat(classFile.className(), classFile, where(RecordClassFile::isRecord));
+                    assertThat(classFile.className(), classFile, whereNot(RecordClassFile::isAccessibleFromSamePackage));
+                }));
+    }
+
+}
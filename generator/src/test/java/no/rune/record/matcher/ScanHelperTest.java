@@ -71,4 +71,25 @@ class ScanHelperTest {
                     .map(genericArray -> () -> assertThat(genericArray.getTypeName(), genericArray, whereNot(ScanHelper::isAccessibleFromSamePackage))));
         }
     }
+
+    @Nested
+    class ValueEquality {
+        enum Kind { A, B }
+        record Values(int i, Long l, String s, Kind kind, Values next) {}
+        record HoldingObject(String s, Object o) {}
+        record Generic<T>(T t) {}
+
+        @Test
+        void valuesWhichAreEqualExactlyWhenHashedEqually() {
+            assertAll(Stream.of(int.class, Long.class, String.class, Kind.class, Values.class)
+                    .map(type -> () -> assertThat(type.getTypeName(), type, where(ScanHelper::hasValueEquality))));
+        }
+
+        @Test
+        void valuesWhichMayBeArrays() {
+            assertAll(concat(Stream.of(Object.class, CharSequence.class, int[].class, String[].class, List.class, HoldingObject.class, Generic.class),
+                            Stream.of(Generic.class.getRecordComponents()).map(RecordComponent::getGenericType))
+                    .map(type -> () -> assertThat(type.getTypeName(), type, whereNot(ScanHelper::hasValueEquality))));
+        }
+    }
 }
@@ -0,0 +1,4 @@
+package no.rune.record.matcher.example.containsinanyorder;
+
+public record ContainsInAnyOrderRecord(String text, int number, boolean active, String[] tags) {
+}
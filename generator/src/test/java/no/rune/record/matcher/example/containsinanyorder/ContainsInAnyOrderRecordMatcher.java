@@ -0,0 +1,362 @@
+package no.rune.record.matcher.example.containsinanyorder;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntPredicate;
+import java.util.function.Supplier;
+import org.hamcrest.BaseMatcher;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.Matchers;
+import org.hamcrest.StringDescription;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+import org.hamcrest.core.IsAnything;
+
+public final class ContainsInAnyOrderRecordMatcher extends TypeSafeDiagnosingMatcher<ContainsInAnyOrderRecord> {
+    private static final Matcher<Object> ANY_TEXT = new IsAnything<>("any text");
+
+    private static final Matcher<Object> ANY_NUMBER = new IsAnything<>("any number");
+
+    private static final Matcher<Object> ANY_ACTIVE = new IsAnything<>("any active");
+
+    private static final Matcher<Object> ANY_TAGS = new IsAnything<>("any tags");
+
+    private static final ContainsInAnyOrderRecordMatcher ANY_CONTAINS_IN_ANY_ORDER_RECORD = new ContainsInAnyOrderRecordMatcher(ANY_TEXT, ANY_NUMBER, ANY_ACTIVE, ANY_TAGS);
+
+    private final Matcher<? super String> textMatcher;
+
+    private final Matcher<? super Integer> numberMatcher;
+
+    private final Matcher<? super Boolean> activeMatcher;
+
+    private final Matcher<? super String[]> tagsMatcher;
+
+    private final long constrainedComponents;
+
+    private final boolean immutableDescription;
+
+    private String selfDescription;
+
+    private ContainsInAnyOrderRecordMatcher(Matcher<? super String> textMatcher,
+            Matcher<? super Integer> numberMatcher, Matcher<? super Boolean> activeMatcher,
+            Matcher<? super String[]> tagsMatcher) {
+        this.textMatcher = textMatcher;
+        this.numberMatcher = numberMatcher;
+        this.activeMatcher = activeMatcher;
+        this.tagsMatcher = tagsMatcher;
+        this.constrainedComponents = (textMatcher instanceof IsAnything ? 0 : 1L << 0)
+                | (numberMatcher instanceof IsAnything ? 0 : 1L << 1)
+                | (activeMatcher instanceof IsAnything ? 0 : 1L << 2)
+                | (tagsMatcher instanceof IsAnything ? 0 : 1L << 3);
+        this.immutableDescription = (textMatcher instanceof IsAnything || textMatcher instanceof ExpectedValue)
+                && (numberMatcher instanceof IsAnything || numberMatcher instanceof PrimitiveIntMatcher)
+                && (activeMatcher instanceof IsAnything || activeMatcher instanceof PrimitiveBooleanMatcher)
+                && (tagsMatcher instanceof IsAnything);
+    }
+
+    public static ContainsInAnyOrderRecordMatcher aContainsInAnyOrderRecord() {
+        return ANY_CONTAINS_IN_ANY_ORDER_RECORD;
+    }
+
+    public ContainsInAnyOrderRecordMatcher withText(String text) {
+        return withText(new ExpectedValue<>(text, Matchers.is(text)));
+    }
+
+    public ContainsInAnyOrderRecordMatcher withText(Matcher<? super String> textMatcher) {
+        return new ContainsInAnyOrderRecordMatcher(textMatcher, this.numberMatcher, this.activeMatcher, this.tagsMatcher);
+    }
+
+    public ContainsInAnyOrderRecordMatcher withNumber(int number) {
+        return withNumber(new PrimitiveIntMatcher(actual -> actual == number, () -> Matchers.is(number), number));
+    }
+
+    public ContainsInAnyOrderRecordMatcher withNumber(Matcher<? super Integer> numberMatcher) {
+        return new ContainsInAnyOrderRecordMatcher(this.textMatcher, numberMatcher, this.activeMatcher, this.tagsMatcher);
+    }
+
+    public ContainsInAnyOrderRecordMatcher withNumberBetween(int min, int max) {
+        return withNumber(new PrimitiveIntMatcher(actual -> actual >= min && actual <= max, () -> Matchers.allOf(Matchers.greaterThanOrEqualTo(min), Matchers.lessThanOrEqualTo(max))));
+    }
+
+    public ContainsInAnyOrderRecordMatcher withActive(boolean active) {
+        return withActive(new PrimitiveBooleanMatcher(active));
+    }
+
+    public ContainsInAnyOrderRecordMatcher withActive(Matcher<? super Boolean> activeMatcher) {
+        return new ContainsInAnyOrderRecordMatcher(this.textMatcher, this.numberMatcher, activeMatcher, this.tagsMatcher);
+    }
+
+    public ContainsInAnyOrderRecordMatcher withTags(String[] tags) {
+        return withTags(Matchers.is(tags));
+    }
+
+    public ContainsInAnyOrderRecordMatcher withTags(Matcher<? super String[]> tagsMatcher) {
+        return new ContainsInAnyOrderRecordMatcher(this.textMatcher, this.numberMatcher, this.activeMatcher, tagsMatcher);
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        if (!immutableDescription || !(description instanceof StringDescription)) {
+            describeSelfTo(description);
+            return;
+        }
+        String selfDescription = this.selfDescription;
+        if (selfDescription == null) {
+            StringDescription rendered = new StringDescription();
+            describeSelfTo(rendered);
+            this.selfDescription = selfDescription = rendered.toString();
+        }
+        description.appendText(selfDescription);
+    }
+
+    private void describeSelfTo(Description description) {
+        if (constrainedComponents == 0) {
+            description.appendText("any ContainsInAnyOrderRecord record");
+        }
+        else {
+            description.appendText("ContainsInAnyOrderRecord record where");
+            if ((constrainedComponents & (1L << 0)) != 0)
+                description.appendText(" text ").appendDescriptionOf(textMatcher);
+
+            if ((constrainedComponents & (1L << 1)) != 0)
+                description.appendText(" number ").appendDescriptionOf(numberMatcher);
+
+            if ((constrainedComponents & (1L << 2)) != 0)
+                description.appendText(" active ").appendDescriptionOf(activeMatcher);
+
+            if ((constrainedComponents & (1L << 3)) != 0)
+                description.appendText(" tags ").appendDescriptionOf(tagsMatcher);
+        }
+    }
+
+    @Override
+    protected boolean matchesSafely(ContainsInAnyOrderRecord element,
+            Description mismatchDescription) {
+        long mismatchedComponents = 0;
+        if ((constrainedComponents & (1L << 0)) != 0 && !textMatcher.matches(element.text())) mismatchedComponents |= 1L << 0;
+        if ((constrainedComponents & (1L << 1)) != 0 && !(numberMatcher instanceof PrimitiveIntMatcher primitiveMatcher ? primitiveMatcher.matches(element.number()) : numberMatcher.matches(element.number()))) mismatchedComponents |= 1L << 1;
+        if ((constrainedComponents & (1L << 2)) != 0 && !(activeMatcher instanceof PrimitiveBooleanMatcher primitiveMatcher ? primitiveMatcher.matches(element.active()) : activeMatcher.matches(element.active()))) mismatchedComponents |= 1L << 2;
+        if ((constrainedComponents & (1L << 3)) != 0 && !tagsMatcher.matches(element.tags())) mismatchedComponents |= 1L << 3;
+        if (mismatchedComponents == 0) {
+            return true;
+        }
+        if (!(mismatchDescription instanceof Description.NullDescription)) {
+            describeMismatchedComponents(element, mismatchedComponents, mismatchDescription);
+        }
+        return false;
+    }
+
+    private void describeMismatchedComponents(ContainsInAnyOrderRecord element,
+            long mismatchedComponents, Description mismatchDescription) {
+        if ((mismatchedComponents & (1L << 0)) != 0) {
+            mismatchDescription.appendText(" text ");
+            textMatcher.describeMismatch(element.text(), mismatchDescription);
+        }
+        if ((mismatchedComponents & (1L << 1)) != 0) {
+            mismatchDescription.appendText(" number ");
+            numberMatcher.describeMismatch(element.number(), mismatchDescription);
+        }
+        if ((mismatchedComponents & (1L << 2)) != 0) {
+            mismatchDescription.appendText(" active ");
+            activeMatcher.describeMismatch(element.active(), mismatchDescription);
+        }
+        if ((mismatchedComponents & (1L << 3)) != 0) {
+            mismatchDescription.appendText(" tags ");
+            tagsMatcher.describeMismatch(element.tags(), mismatchDescription);
+        }
+    }
+
+    public static Matcher<Iterable<? extends ContainsInAnyOrderRecord>> containsInAnyOrder(
+            ContainsInAnyOrderRecordMatcher... expected) {
+        return containsInAnyOrder(List.of(expected));
+    }
+
+    public static Matcher<Iterable<? extends ContainsInAnyOrderRecord>> containsInAnyOrder(
+            Collection<ContainsInAnyOrderRecordMatcher> expected) {
+        return new ContainsInAnyOrder(expected);
+    }
+
+    private long expectedValueComponents() {
+        return (textMatcher instanceof ExpectedValue ? 1L << 0 : 0)
+                | (numberMatcher instanceof PrimitiveIntMatcher && ((PrimitiveIntMatcher) numberMatcher).expectedValue != null ? 1L << 1 : 0);
+    }
+
+    private List<Object> expectedValues(long components) {
+        List<Object> values = new ArrayList<>(Long.bitCount(components));
+        if ((components & (1L << 0)) != 0) values.add(((ExpectedValue<?>) textMatcher).value);
+        if ((components & (1L << 1)) != 0) values.add(((PrimitiveIntMatcher) numberMatcher).expectedValue);
+        return values;
+    }
+
+    private static List<Object> valuesOf(ContainsInAnyOrderRecord element, long components) {
+        List<Object> values = new ArrayList<>(Long.bitCount(components));
+        if ((components & (1L << 0)) != 0) values.add(element.text());
+        if ((components & (1L << 1)) != 0) values.add(element.number());
+        return values;
+    }
+
+    private static final class PrimitiveIntMatcher extends BaseMatcher<Integer> {
+        private final IntPredicate predicate;
+
+        private final Supplier<Matcher<? super Integer>> hamcrestEquivalent;
+
+        private final Integer expectedValue;
+
+        private PrimitiveIntMatcher(IntPredicate predicate,
+                Supplier<Matcher<? super Integer>> hamcrestEquivalent) {
+            this(predicate, hamcrestEquivalent, null);
+        }
+
+        private PrimitiveIntMatcher(IntPredicate predicate,
+                Supplier<Matcher<? super Integer>> hamcrestEquivalent, Integer expectedValue) {
+            this.predicate = predicate;
+            this.hamcrestEquivalent = hamcrestEquivalent;
+            this.expectedValue = expectedValue;
+        }
+
+        boolean matches(int actual) {
+            return predicate.test(actual);
+        }
+
+        @Override
+        public boolean matches(Object actual) {
+            return actual instanceof Integer value && matches(value.intValue());
+        }
+
+        @Override
+        public void describeTo(Description description) {
+            hamcrestEquivalent.get().describeTo(description);
+        }
+
+        @Override
+        public void describeMismatch(Object actual, Description mismatchDescription) {
+            hamcrestEquivalent.get().describeMismatch(actual, mismatchDescription);
+        }
+    }
+
+    private static final class PrimitiveBooleanMatcher extends BaseMatcher<Boolean> {
+        private final boolean expected;
+
+        private PrimitiveBooleanMatcher(boolean expected) {
+            this.expected = expected;
+        }
+
+        boolean matches(boolean actual) {
+            return actual == expected;
+        }
+
+        @Override
+        public boolean matches(Object actual) {
+            return actual instanceof Boolean value && matches(value.booleanValue());
+        }
+
+        @Override
+        public void describeTo(Description description) {
+            Matchers.is(expected).describeTo(description);
+        }
+
+        @Override
+        public void describeMismatch(Object actual, Description mismatchDescription) {
+            Matchers.is(expected).describeMismatch(actual, mismatchDescription);
+        }
+    }
+
+    private static final class ExpectedValue<T> extends BaseMatcher<T> {
+        private final T value;
+
+        private final Matcher<T> hamcrestEquivalent;
+
+        private ExpectedValue(T value, Matcher<T> hamcrestEquivalent) {
+            this.value = value;
+            this.hamcrestEquivalent = hamcrestEquivalent;
+        }
+
+        @Override
+        public boolean matches(Object actual) {
+            return hamcrestEquivalent.matches(actual);
+        }
+
+        @Override
+        public void describeTo(Description description) {
+            hamcrestEquivalent.describeTo(description);
+        }
+
+        @Override
+        public void describeMismatch(Object actual, Description mismatchDescription) {
+            hamcrestEquivalent.describeMismatch(actual, mismatchDescription);
+        }
+    }
+
+    private static final class ContainsInAnyOrder extends TypeSafeDiagnosingMatcher<Iterable<? extends ContainsInAnyOrderRecord>> {
+        private final List<ContainsInAnyOrderRecordMatcher> expected;
+
+        private final Map<Long, Map<List<Object>, List<Integer>>> indexes = new HashMap<>();
+
+        private ContainsInAnyOrder(Collection<ContainsInAnyOrderRecordMatcher> expected) {
+            this.expected = List.copyOf(expected);
+            for (int i = 0; i < this.expected.size(); i++) {
+                ContainsInAnyOrderRecordMatcher matcher = this.expected.get(i);
+                long components = matcher.expectedValueComponents();
+                indexes.computeIfAbsent(components, c -> new HashMap<>()).computeIfAbsent(matcher.expectedValues(components), values -> new ArrayList<>()).add(i);
+            }
+        }
+
+        @Override
+        public void describeTo(Description description) {
+            description.appendText("iterable with items ").appendList("[", ", ", "]", expected).appendText(" in any order");
+        }
+
+        @Override
+        protected boolean matchesSafely(Iterable<? extends ContainsInAnyOrderRecord> items,
+                Description mismatchDescription) {
+            boolean[] matched = new boolean[expected.size()];
+            int unmatched = expected.size();
+            for (ContainsInAnyOrderRecord item : items) {
+                if (unmatched == 0) {
+                    mismatchDescription.appendText("no match for: ").appendValue(item);
+                    return false;
+                }
+                int matching = firstMatching(item, matched);
+                if (matching < 0) {
+                    mismatchDescription.appendText("not matched: ").appendValue(item);
+                    return false;
+                }
+                matched[matching] = true;
+                unmatched--;
+            }
+            if (unmatched == 0) {
+                return true;
+            }
+            List<ContainsInAnyOrderRecordMatcher> unmatchedMatchers = new ArrayList<>(unmatched);
+            for (int i = 0; i < matched.length; i++) {
+                if (!matched[i]) {
+                    unmatchedMatchers.add(expected.get(i));
+                }
+            }
+            mismatchDescription.appendText("no item matches: ").appendList("", ", ", "", unmatchedMatchers).appendText(" in ").appendValueList("[", ", ", "]", items);
+            return false;
+        }
+
+        private int firstMatching(ContainsInAnyOrderRecord item, boolean[] matched) {
+            if (item == null) {
+                return -1;
+            }
+            List<Integer> candidates = new ArrayList<>();
+            for (Map.Entry<Long, Map<List<Object>, List<Integer>>> index : indexes.entrySet()) {
+                candidates.addAll(index.getValue().getOrDefault(valuesOf(item, index.getKey()), List.of()));
+            }
+            if (indexes.size() > 1) {
+                candidates.sort(null);
+            }
+            for (int candidate : candidates) {
+                if (!matched[candidate] && expected.get(candidate).matches(item)) {
+                    return candidate;
+                }
+            }
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package no.rune.record.matcher.example.containsinanyorder;
+
+import org.hamcrest.Matcher;
+import org.hamcrest.Matchers;
+import org.hamcrest.StringDescription;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static no.rune.record.matcher.ExpectedMatcher.expectedMatcherFor;
+import static no.rune.record.matcher.RecordMatcherGenerator.Option.containsInAnyOrder;
+import static no.rune.record.matcher.example.containsinanyorder.ContainsInAnyOrderRecordMatcher.aContainsInAnyOrderRecord;
+import static no.rune.record.matcher.example.containsinanyorder.ContainsInAnyOrderRecordMatcher.containsInAnyOrder;
+import static no.rune.record.matcher.example.containsinanyorder.ObjectValueRecordMatcher.anObjectValueRecord;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static uk.co.probablyfine.matchers.Java8Matchers.where;
+
+class ContainsInAnyOrderRecordMatcherTest {
+
+    private static final ContainsInAnyOrderRecord x1 = new ContainsInAnyOrderRecord("x", 1, true, new String[] {"a"});
+    private static final ContainsInAnyOrderRecord y2 = new ContainsInAnyOrderRecord("y", 2, false, new String[] {"b"});
+    private static final ContainsInAnyOrderRecord x3 = new ContainsInAnyOrderRecord("x", 3, true, new String[0]);
+
+    @Test
+    void matchesRecordsInAnyOrder() {
+        assertThat(List.of(x1, y2, x3), containsInAnyOrder(
+                aContainsInAnyOrderRecord().withText("x").withNumber(3),
+                aContainsInAnyOrderRecord().withNumber(1),
+                aContainsInAnyOrderRecord().withText(startsWith("y"))));
+        assertThat(List.of(), containsInAnyOrder());
+    }
+
+    @Test
+    void matchesEachRecordOnlyOnce() {
+        assertThat(List.of(x1, x3), containsInAnyOrder(aContainsInAnyOrderRecord().withText("x"), aContainsInAnyOrderRecord().withText("x")));
+        assertThat(List.of(x1, y2), not(containsInAnyOrder(aContainsInAnyOrderRecord().withText("x"), aContainsInAnyOrderRecord().withText("x"))));
+    }
+
+    @Test
+    void matchesComponentsWhichAreNotIndexed() {
+        assertThat(List.of(x1, y2), containsInAnyOrder(
+                aContainsInAnyOrderRecord().withActive(false).withTags(new String[] {"b"}),
+                aContainsInAnyOrderRecord().withActive(true).withTags(new String[] {"a"})));
+    }
+
+    @Test
+    void matchesLargeCollections() {
+        var records = IntStream.range(0, 50_000).mapToObj(i -> new ContainsInAnyOrderRecord("text" + i, i, i % 2 == 0, null)).toList();
+        var expected = IntStream.range(0, 50_000).map(i -> 49_999 - i).mapToObj(i -> aContainsInAnyOrderRecord().withText("text" + i).withNumber(i)).toList();
+        assertThat(records, containsInAnyOrder(expected));
+    }
+
+    @Test
+    void indexesPrimitiveComponentsMatchedWithoutBoxing() {
+        var records = IntStream.range(0, 50_000).mapToObj(i -> new ContainsInAnyOrderRecord("text", i, true, null)).toList();
+        var expected = IntStream.range(0, 50_000).map(i -> 49_999 - i).mapToObj(i -> aContainsInAnyOrderRecord().withNumber(i)).toList();
+        assertThat(records, containsInAnyOrder(expected));
+        assertThat(records.subList(1, 50_000), not(containsInAnyOrder(expected)));
+    }
+
+    @Test
+    void describesFirstItemNotMatchedByAnyRemainingExpectation() {
+        var matcher = containsInAnyOrder(aContainsInAnyOrderRecord().withText("x").withNumber(1), aContainsInAnyOrderRecord().withNumber(4));
+        var assertionError = assertThrows(AssertionError.class, () -> assertThat(List.of(x1, y2), matcher));
+        assertThat(assertionError, where(AssertionError::getMessage, containsString(
+                "Expected: iterable with items [ContainsInAnyOrderRecord record where text is \"x\" number is <1>, ContainsInAnyOrderRecord record where number is <4>] in any order\n" +
+                "     but: not matched: <" + y2 + ">")));
+    }
+
+    @Test
+    void describesExpectationsNotMatchedByAnyItem() {
+        var matcher = containsInAnyOrder(aContainsInAnyOrderRecord().withText("x"), aContainsInAnyOrderRecord().withNumber(4));
+        var assertionError = assertThrows(AssertionError.class, () -> assertThat(List.of(x1), matcher));
+        assertThat(assertionError, where(AssertionError::getMessage, containsString(
+                "     but: no item matches: ContainsInAnyOrderRecord record where number is <4> in [<" + x1 + ">]")));
+    }
+
+    @Test
+    void matchesEachItemByFirstRemainingExpectationLikeHamcrest() {
+        var anyRecord = aContainsInAnyOrderRecord();
+        var withTextX = aContainsInAnyOrderRecord().withText("x");
+        assertThat(List.of(x1, x3), not(containsInAnyOrder(anyRecord, withTextX.withNumber(1))));
+        assertThat(List.of(x1, x3), not(Matchers.containsInAnyOrder(List.<Matcher<? super ContainsInAnyOrderRecord>>of(anyRecord, withTextX.withNumber(1)))));
+        assertThat(List.of(x3, x1), containsInAnyOrder(anyRecord, withTextX.withNumber(1)));
+        assertThat(List.of(x3, x1), Matchers.containsInAnyOrder(List.<Matcher<? super ContainsInAnyOrderRecord>>of(anyRecord, withTextX.withNumber(1))));
+    }
+
+    @Test
+    void yieldsSameOutcomeAndMismatchDescriptionAsHamcrest() {
+        var records = List.of(x1, y2, x3, new ContainsInAnyOrderRecord("y", 1, true, null));
+        var matchers = List.of(
+                aContainsInAnyOrderRecord(),
+                aContainsInAnyOrderRecord().withText("x"),
+                aContainsInAnyOrderRecord().withText("y"),
+                aContainsInAnyOrderRecord().withNumber(1),
+                aContainsInAnyOrderRecord().withNumberBetween(2, 3),
+                aContainsInAnyOrderRecord().withText("x").withNumber(3),
+                aContainsInAnyOrderRecord().withActive(true),
+                aContainsInAnyOrderRecord().withText(startsWith("y")));
+        var random = new Random(42);
+        for (int i = 0; i < 2_000; i++) {
+            var items = random.ints(random.nextInt(5), 0, records.size()).mapToObj(records::get).toList();
+            var expected = random.ints(random.nextInt(5), 0, matchers.size()).mapToObj(matchers::get).toList();
+            var hamcrestMatcher = Matchers.containsInAnyOrder(List.<Matcher<? super ContainsInAnyOrderRecord>>copyOf(expected));
+            var indexedMatcher = containsInAnyOrder(expected);
+            assertThat("matching " + items + " with " + expected, indexedMatcher.matches(items), is(hamcrestMatcher.matches(items)));
+            if (!hamcrestMatcher.matches(items)) {
+                var hamcrestMismatch = new StringDescription();
+                hamcrestMatcher.describeMismatch(items, hamcrestMismatch);
+                var indexedMismatch = new StringDescription();
+                indexedMatcher.describeMismatch(items, indexedMismatch);
+                assertThat(indexedMismatch.toString(), is(hamcrestMismatch.toString()));
+            }
+        }
+    }
+
+    @Test
+    void doesNotMatchNullItems() {
+        assertThat(Arrays.asList(x1, null), not(containsInAnyOrder(aContainsInAnyOrderRecord().withNumber(1))));
+        assertThat(containsInAnyOrder(aContainsInAnyOrderRecord()).matches(Arrays.asList((ContainsInAnyOrderRecord) null)), is(false));
+    }
+
+    @Test
+    void matchesArrayValuesOfComponentsWhichAreNotIndexedLikeHamcrest() {
+        var records = List.of(new ObjectValueRecord(new int[] {1, 2}, "x"), new ObjectValueRecord("y", "y"));
+        var expected = List.of(
+                anObjectValueRecord().withValue(new int[] {1, 2}).withText("x"),
+                anObjectValueRecord().withValue("y"));
+        assertThat(records, ObjectValueRecordMatcher.containsInAnyOrder(expected));
+        assertThat(records, Matchers.containsInAnyOrder(List.<Matcher<? super ObjectValueRecord>>copyOf(expected)));
+        assertThat(records, not(ObjectValueRecordMatcher.containsInAnyOrder(
+                anObjectValueRecord().withValue(new int[] {2, 1}), anObjectValueRecord().withValue("y"))));
+    }
+
+    @Test
+    void generatesExpectedMatcher() {
+        expectedMatcherFor(ContainsInAnyOrderRecord.class, containsInAnyOrder).assertEqualToGeneratedMatcherSourceCode();
+    }
+
+    @Test
+    void generatesExpectedMatcherWithoutIndexingComponentsWhichMayHoldArrays() {
+        expectedMatcherFor(ObjectValueRecord.class, containsInAnyOrder).assertEqualToGeneratedMatcherSourceCode();
+    }
+
+}
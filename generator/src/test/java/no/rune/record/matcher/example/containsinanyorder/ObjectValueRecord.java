@@ -0,0 +1,4 @@
+package no.rune.record.matcher.example.containsinanyorder;
+
+public record ObjectValueRecord(Object value, String text) {
+}
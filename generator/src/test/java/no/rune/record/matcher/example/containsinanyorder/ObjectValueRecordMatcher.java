@@ -0,0 +1,239 @@
+package no.rune.record.matcher.example.containsinanyorder;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.hamcrest.BaseMatcher;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.Matchers;
+import org.hamcrest.StringDescription;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+import org.hamcrest.core.IsAnything;
+
+public final class ObjectValueRecordMatcher extends TypeSafeDiagnosingMatcher<ObjectValueRecord> {
+    private static final Matcher<Object> ANY_VALUE = new IsAnything<>("any value");
+
+    private static final Matcher<Object> ANY_TEXT = new IsAnything<>("any text");
+
+    private static final ObjectValueRecordMatcher ANY_OBJECT_VALUE_RECORD = new ObjectValueRecordMatcher(ANY_VALUE, ANY_TEXT);
+
+    private final Matcher<? super Object> valueMatcher;
+
+    private final Matcher<? super String> textMatcher;
+
+    private final long constrainedComponents;
+
+    private final boolean immutableDescription;
+
+    private String selfDescription;
+
+    private ObjectValueRecordMatcher(Matcher<? super Object> valueMatcher,
+            Matcher<? super String> textMatcher) {
+        this.valueMatcher = valueMatcher;
+        this.textMatcher = textMatcher;
+        this.constrainedComponents = (valueMatcher instanceof IsAnything ? 0 : 1L << 0)
+                | (textMatcher instanceof IsAnything ? 0 : 1L << 1);
+        this.immutableDescription = (valueMatcher instanceof IsAnything)
+                && (textMatcher instanceof IsAnything || textMatcher instanceof ExpectedValue);
+    }
+
+    public static ObjectValueRecordMatcher anObjectValueRecord() {
+        return ANY_OBJECT_VALUE_RECORD;
+    }
+
+    public ObjectValueRecordMatcher withValue(Object value) {
+        return withValue(Matchers.is(value));
+    }
+
+    public ObjectValueRecordMatcher withValue(Matcher<? super Object> valueMatcher) {
+        return new ObjectValueRecordMatcher(valueMatcher, this.textMatcher);
+    }
+
+    public ObjectValueRecordMatcher withText(String text) {
+        return withText(new ExpectedValue<>(text, Matchers.is(text)));
+    }
+
+    public ObjectValueRecordMatcher withText(Matcher<? super String> textMatcher) {
+        return new ObjectValueRecordMatcher(this.valueMatcher, textMatcher);
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        if (!immutableDescription || !(description instanceof StringDescription)) {
+            describeSelfTo(description);
+            return;
+        }
+        String selfDescription = this.selfDescription;
+        if (selfDescription == null) {
+            StringDescription rendered = new StringDescription();
+            describeSelfTo(rendered);
+            this.selfDescription = selfDescription = rendered.toString();
+        }
+        description.appendText(selfDescription);
+    }
+
+    private void describeSelfTo(Description description) {
+        if (constrainedComponents == 0) {
+            description.appendText("any ObjectValueRecord record");
+        }
+        else {
+            description.appendText("ObjectValueRecord record where");
+            if ((constrainedComponents & (1L << 0)) != 0)
+                description.appendText(" value ").appendDescriptionOf(valueMatcher);
+
+            if ((constrainedComponents & (1L << 1)) != 0)
+                description.appendText(" text ").appendDescriptionOf(textMatcher);
+        }
+    }
+
+    @Override
+    protected boolean matchesSafely(ObjectValueRecord element, Description mismatchDescription) {
+        long mismatchedComponents = 0;
+        if ((constrainedComponents & (1L << 0)) != 0 && !valueMatcher.matches(element.value())) mismatchedComponents |= 1L << 0;
+        if ((constrainedComponents & (1L << 1)) != 0 && !textMatcher.matches(element.text())) mismatchedComponents |= 1L << 1;
+        if (mismatchedComponents == 0) {
+            return true;
+        }
+        if (!(mismatchDescription instanceof Description.NullDescription)) {
+            describeMismatchedComponents(element, mismatchedComponents, mismatchDescription);
+        }
+        return false;
+    }
+
+    private void describeMismatchedComponents(ObjectValueRecord element, long mismatchedComponents,
+            Description mismatchDescription) {
+        if ((mismatchedComponents & (1L << 0)) != 0) {
+            mismatchDescription.appendText(" value ");
+            valueMatcher.describeMismatch(element.value(), mismatchDescription);
+        }
+        if ((mismatchedComponents & (1L << 1)) != 0) {
+            mismatchDescription.appendText(" text ");
+            textMatcher.describeMismatch(element.text(), mismatchDescription);
+        }
+    }
+
+    public static Matcher<Iterable<? extends ObjectValueRecord>> containsInAnyOrder(
+            ObjectValueRecordMatcher... expected) {
+        return containsInAnyOrder(List.of(expected));
+    }
+
+    public static Matcher<Iterable<? extends ObjectValueRecord>> containsInAnyOrder(
+            Collection<ObjectValueRecordMatcher> expected) {
+        return new ContainsInAnyOrder(expected);
+    }
+
+    private long expectedValueComponents() {
+        return (textMatcher instanceof ExpectedValue ? 1L << 1 : 0);
+    }
+
+    private List<Object> expectedValues(long components) {
+        List<Object> values = new ArrayList<>(Long.bitCount(components));
+        if ((components & (1L << 1)) != 0) values.add(((ExpectedValue<?>) textMatcher).value);
+        return values;
+    }
+
+    private static List<Object> valuesOf(ObjectValueRecord element, long components) {
+        List<Object> values = new ArrayList<>(Long.bitCount(components));
+        if ((components & (1L << 1)) != 0) values.add(element.text());
+        return values;
+    }
+
+    private static final class ExpectedValue<T> extends BaseMatcher<T> {
+        private final T value;
+
+        private final Matcher<T> hamcrestEquivalent;
+
+        private ExpectedValue(T value, Matcher<T> hamcrestEquivalent) {
+            this.value = value;
+            this.hamcrestEquivalent = hamcrestEquivalent;
+        }
+
+        @Override
+        public boolean matches(Object actual) {
+            return hamcrestEquivalent.matches(actual);
+        }
+
+        @Override
+        public void describeTo(Description description) {
+            hamcrestEquivalent.describeTo(description);
+        }
+
+        @Override
+        public void describeMismatch(Object actual, Description mismatchDescription) {
+            hamcrestEquivalent.describeMismatch(actual, mismatchDescription);
+        }
+    }
+
+    private static final class ContainsInAnyOrder extends TypeSafeDiagnosingMatcher<Iterable<? extends ObjectValueRecord>> {
+        private final List<ObjectValueRecordMatcher> expected;
+
+        private final Map<Long, Map<List<Object>, List<Integer>>> indexes = new HashMap<>();
+
+        private ContainsInAnyOrder(Collection<ObjectValueRecordMatcher> expected) {
+            this.expected = List.copyOf(expected);
+            for (int i = 0; i < this.expected.size(); i++) {
+                ObjectValueRecordMatcher matcher = this.expected.get(i);
+                long components = matcher.expectedValueComponents();
+                indexes.computeIfAbsent(components, c -> new HashMap<>()).computeIfAbsent(matcher.expectedValues(components), values -> new ArrayList<>()).add(i);
+            }
+        }
+
+        @Override
+        public void describeTo(Description description) {
+            description.appendText("iterable with items ").appendList("[", ", ", "]", expected).appendText(" in any order");
+        }
+
+        @Override
+        protected boolean matchesSafely(Iterable<? extends ObjectValueRecord> items,
+                Description mismatchDescription) {
+            boolean[] matched = new boolean[expected.size()];
+            int unmatched = expected.size();
+            for (ObjectValueRecord item : items) {
+                if (unmatched == 0) {
+                    mismatchDescription.appendText("no match for: ").appendValue(item);
+                    return false;
+                }
+                int matching = firstMatching(item, matched);
+                if (matching < 0) {
+                    mismatchDescription.appendText("not matched: ").appendValue(item);
+                    return false;
+                }
+                matched[matching] = true;
+                unmatched--;
+            }
+            if (unmatched == 0) {
+                return true;
+            }
+            List<ObjectValueRecordMatcher> unmatchedMatchers = new ArrayList<>(unmatched);
+            for (int i = 0; i < matched.length; i++) {
+                if (!matched[i]) {
+                    unmatchedMatchers.add(expected.get(i));
+                }
+            }
+            mismatchDescription.appendText("no item matches: ").appendList("", ", ", "", unmatchedMatchers).appendText(" in ").appendValueList("[", ", ", "]", items);
+            return false;
+        }
+
+        private int firstMatching(ObjectValueRecord item, boolean[] matched) {
+            if (item == null) {
+                return -1;
+            }
+            List<Integer> candidates = new ArrayList<>();
+            for (Map.Entry<Long, Map<List<Object>, List<Integer>>> index : indexes.entrySet()) {
+                candidates.addAll(index.getValue().getOrDefault(valuesOf(item, index.getKey()), List.of()));
+            }
+            if (indexes.size() > 1) {
+                candidates.sort(null);
+            }
+            for (int candidate : candidates) {
+                if (!matched[candidate] && expected.get(candidate).matches(item)) {
+                    return candidate;
+                }
+            }
+            return -1;
+        }
+    }
+}
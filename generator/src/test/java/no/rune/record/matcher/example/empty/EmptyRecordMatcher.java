@@ -4,21 +4,22 @@ import org.hamcrest.Description;
 import org.hamcrest.TypeSafeDiagnosingMatcher;
 
 public final class EmptyRecordMatcher extends TypeSafeDiagnosingMatcher<EmptyRecord> {
+    private static final EmptyRecordMatcher ANY_EMPTY_RECORD = new EmptyRecordMatcher();
+
     private EmptyRecordMatcher() {
     }
 
     public static EmptyRecordMatcher anEmptyRecord() {
-        return new EmptyRecordMatcher();
+        return ANY_EMPTY_RECORD;
     }
 
     @Override
     public void describeTo(Description description) {
-        description.appendText("any ").appendText(EmptyRecord.class.getSimpleName()).appendText(" record");
+        description.appendText("any EmptyRecord record");
     }
 
     @Override
     protected boolean matchesSafely(EmptyRecord element, Description mismatchDescription) {
-        boolean matches = true;
-        return matches;
+        return true;
     }
 }
@@ -0,0 +1,4 @@
+package no.rune.record.matcher.example.failfast;
+
+public record FailFastRecord(String text, int number) {
+}
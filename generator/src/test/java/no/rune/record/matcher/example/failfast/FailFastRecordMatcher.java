@@ -0,0 +1,176 @@
+package no.rune.record.matcher.example.failfast;
+
+import java.util.function.IntPredicate;
+import java.util.function.Supplier;
+import org.hamcrest.BaseMatcher;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.Matchers;
+import org.hamcrest.StringDescription;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+import org.hamcrest.core.IsAnything;
+
+public final class FailFastRecordMatcher extends TypeSafeDiagnosingMatcher<FailFastRecord> {
+    private static final Matcher<Object> ANY_TEXT = new IsAnything<>("any text");
+
+    private static final Matcher<Object> ANY_NUMBER = new IsAnything<>("any number");
+
+    private static final FailFastRecordMatcher ANY_FAIL_FAST_RECORD = new FailFastRecordMatcher(ANY_TEXT, ANY_NUMBER);
+
+    private final Matcher<? super String> textMatcher;
+
+    private final Matcher<? super Integer> numberMatcher;
+
+    private final long constrainedComponents;
+
+    private final boolean immutableDescription;
+
+    private String selfDescription;
+
+    private FailFastRecordMatcher(Matcher<? super String> textMatcher,
+            Matcher<? super Integer> numberMatcher) {
+        this.textMatcher = textMatcher;
+        this.numberMatcher = numberMatcher;
+        this.constrainedComponents = (textMatcher instanceof IsAnything ? 0 : 1L << 0)
+                | (numberMatcher instanceof IsAnything ? 0 : 1L << 1);
+        this.immutableDescription = (textMatcher instanceof IsAnything || textMatcher instanceof ExpectedValue)
+                && (numberMatcher instanceof IsAnything || numberMatcher instanceof PrimitiveIntMatcher);
+    }
+
+    public static FailFastRecordMatcher aFailFastRecord() {
+        return ANY_FAIL_FAST_RECORD;
+    }
+
+    public FailFastRecordMatcher withText(String text) {
+        return withText(new ExpectedValue<>(Matchers.is(text)));
+    }
+
+    public FailFastRecordMatcher withText(Matcher<? super String> textMatcher) {
+        return new FailFastRecordMatcher(textMatcher, this.numberMatcher);
+    }
+
+    public FailFastRecordMatcher withNumber(int number) {
+        return withNumber(new PrimitiveIntMatcher(actual -> actual == number, () -> Matchers.is(number)));
+    }
+
+    public FailFastRecordMatcher withNumber(Matcher<? super Integer> numberMatcher) {
+        return new FailFastRecordMatcher(this.textMatcher, numberMatcher);
+    }
+
+    public FailFastRecordMatcher withNumberBetween(int min, int max) {
+        return withNumber(new PrimitiveIntMatcher(actual -> actual >= min && actual <= max, () -> Matchers.allOf(Matchers.greaterThanOrEqualTo(min), Matchers.lessThanOrEqualTo(max))));
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        if (!immutableDescription || !(description instanceof StringDescription)) {
+            describeSelfTo(description);
+            return;
+        }
+        String selfDescription = this.selfDescription;
+        if (selfDescription == null) {
+            StringDescription rendered = new StringDescription();
+            describeSelfTo(rendered);
+            this.selfDescription = selfDescription = rendered.toString();
+        }
+        description.appendText(selfDescription);
+    }
+
+    private void describeSelfTo(Description description) {
+        if (constrainedComponents == 0) {
+            description.appendText("any FailFastRecord record");
+        }
+        else {
+            description.appendText("FailFastRecord record where");
+            if ((constrainedComponents & (1L << 0)) != 0)
+                description.appendText(" text ").appendDescriptionOf(textMatcher);
+
+            if ((constrainedComponents & (1L << 1)) != 0)
+                description.appendText(" number ").appendDescriptionOf(numberMatcher);
+        }
+    }
+
+    @Override
+    protected boolean matchesSafely(FailFastRecord element, Description mismatchDescription) {
+        if (mismatchDescription instanceof Description.NullDescription) {
+            return ((constrainedComponents & (1L << 0)) == 0 || textMatcher.matches(element.text()))
+                    && ((constrainedComponents & (1L << 1)) == 0 || (numberMatcher instanceof PrimitiveIntMatcher primitiveMatcher ? primitiveMatcher.matches(element.number()) : numberMatcher.matches(element.number())));
+        }
+        long mismatchedComponents = 0;
+        if ((constrainedComponents & (1L << 0)) != 0 && !textMatcher.matches(element.text())) mismatchedComponents |= 1L << 0;
+        if ((constrainedComponents & (1L << 1)) != 0 && !(numberMatcher instanceof PrimitiveIntMatcher primitiveMatcher ? primitiveMatcher.matches(element.number()) : numberMatcher.matches(element.number()))) mismatchedComponents |= 1L << 1;
+        if (mismatchedComponents == 0) {
+            return true;
+        }
+        if (!(mismatchDescription instanceof Description.NullDescription)) {
+            describeMismatchedComponents(element, mismatchedComponents, mismatchDescription);
+        }
+        return false;
+    }
+
+    private void describeMismatchedComponents(FailFastRecord element, long mismatchedComponents,
+            Description mismatchDescription) {
+        if ((mismatchedComponents & (1L << 0)) != 0) {
+            mismatchDescription.appendText(" text ");
+            textMatcher.describeMismatch(element.text(), mismatchDescription);
+        }
+        if ((mismatchedComponents & (1L << 1)) != 0) {
+            mismatchDescription.appendText(" number ");
+            numberMatcher.describeMismatch(element.number(), mismatchDescription);
+        }
+    }
+
+    private static final class PrimitiveIntMatcher extends BaseMatcher<Integer> {
+        private final IntPredicate predicate;
+
+        private final Supplier<Matcher<? super Integer>> hamcrestEquivalent;
+
+        private PrimitiveIntMatcher(IntPredicate predicate,
+                Supplier<Matcher<? super Integer>> hamcrestEquivalent) {
+            this.predicate = predicate;
+            this.hamcrestEquivalent = hamcrestEquivalent;
+        }
+
+        boolean matches(int actual) {
+            return predicate.test(actual);
+        }
+
+        @Override
+        public boolean matches(Object actual) {
+            return actual instanceof Integer value && matches(value.intValue());
+        }
+
+        @Override
+        public void describeTo(Description description) {
+            hamcrestEquivalent.get().describeTo(description);
+        }
+
+        @Override
+        public void describeMismatch(Object actual, Description mismatchDescription) {
+            hamcrestEquivalent.get().describeMismatch(actual, mismatchDescription);
+        }
+    }
+
+    private static final class ExpectedValue<T> extends BaseMatcher<T> {
+        private final Matcher<T> hamcrestEquivalent;
+
+        private ExpectedValue(Matcher<T> hamcrestEquivalent) {
+            this.hamcrestEquivalent = hamcrestEquivalent;
+        }
+
+        @Override
+        public boolean matches(Object actual) {
+            return hamcrestEquivalent.matches(actual);
+        }
+
+        @Override
+        public void describeTo(Description description) {
+            hamcrestEquivalent.describeTo(description);
+        }
+
+        @Override
+        public void describeMismatch(Object actual, Description mismatchDescription) {
+            hamcrestEquivalent.describeMismatch(actual, mismatchDescription);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package no.rune.record.matcher.example.failfast;
+
+import org.hamcrest.CustomTypeSafeMatcher;
+import org.hamcrest.Matcher;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static no.rune.record.matcher.ExpectedMatcher.expectedMatcherFor;
+import static no.rune.record.matcher.RecordMatcherGenerator.Option.failFast;
+import static no.rune.record.matcher.example.failfast.FailFastRecordMatcher.aFailFastRecord;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static uk.co.probablyfine.matchers.Java8Matchers.where;
+
+class FailFastRecordMatcherTest {
+
+    static final class CountingMatcher extends CustomTypeSafeMatcher<Integer> {
+        final AtomicInteger evaluations = new AtomicInteger();
+
+        CountingMatcher() {
+            super("counted");
+        }
+
+        @Override
+        protected boolean matchesSafely(Integer item) {
+            evaluations.incrementAndGet();
+            return true;
+        }
+    }
+
+    @Test
+    void doesNotEvaluateRemainingComponentsAfterFirstMismatch() {
+        var numberMatcher = new CountingMatcher();
+        Matcher<FailFastRecord> matcher = aFailFastRecord().withText("y").withNumber(numberMatcher);
+
+        assertThat(matcher.matches(new FailFastRecord("x", 0)), is(false));
+        assertThat(numberMatcher.evaluations.get(), is(0));
+
+        assertThat(matcher.matches(new FailFastRecord("y", 0)), is(true));
+        assertThat(numberMatcher.evaluations.get(), is(1));
+    }
+
+    @Test
+    void matchesRecordsInCollection() {
+        var records = List.of(new FailFastRecord("x", 1), new FailFastRecord("y", 2));
+        assertThat(records, hasItem(aFailFastRecord().withText("y").withNumber(2)));
+        assertThat(records, not(hasItem(aFailFastRecord().withText("y").withNumber(1))));
+    }
+
+    @Test
+    void describesAllMismatchingComponents() {
+        var assertionError = assertThrows(AssertionError.class, () -> assertThat(new FailFastRecord("x", 0), aFailFastRecord().withText("y").withNumber(2)));
+        assertThat(assertionError, where(AssertionError::getMessage,
+                containsString(FailFastRecord.class.getSimpleName() + " record where text is \"y\" number is <2>\n     but:  text was \"x\" number was <0>")));
+    }
+
+    @Test
+    void generatesExpectedMatcher() {
+        expectedMatcherFor(FailFastRecord.class, failFast).assertEqualToGeneratedMatcherSourceCode();
+    }
+
+}
@@ -0,0 +1,4 @@
+package no.rune.record.matcher.example.jfrevents;
+
+public record JfrEventsRecord(String text, int number) {
+}
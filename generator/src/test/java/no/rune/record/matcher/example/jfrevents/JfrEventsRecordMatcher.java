@@ -0,0 +1,219 @@
+package no.rune.record.matcher.example.jfrevents;
+
+import java.util.StringJoiner;
+import java.util.function.IntPredicate;
+import java.util.function.Supplier;
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import org.hamcrest.BaseMatcher;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.Matchers;
+import org.hamcrest.StringDescription;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+import org.hamcrest.core.IsAnything;
+
+public final class JfrEventsRecordMatcher extends TypeSafeDiagnosingMatcher<JfrEventsRecord> {
+    private static final Matcher<Object> ANY_TEXT = new IsAnything<>("any text");
+
+    private static final Matcher<Object> ANY_NUMBER = new IsAnything<>("any number");
+
+    private static final JfrEventsRecordMatcher ANY_JFR_EVENTS_RECORD = new JfrEventsRecordMatcher(ANY_TEXT, ANY_NUMBER);
+
+    private final Matcher<? super String> textMatcher;
+
+    private final Matcher<? super Integer> numberMatcher;
+
+    private final long constrainedComponents;
+
+    private final boolean immutableDescription;
+
+    private String selfDescription;
+
+    private JfrEventsRecordMatcher(Matcher<? super String> textMatcher,
+            Matcher<? super Integer> numberMatcher) {
+        this.textMatcher = textMatcher;
+        this.numberMatcher = numberMatcher;
+        this.constrainedComponents = (textMatcher instanceof IsAnything ? 0 : 1L << 0)
+                | (numberMatcher instanceof IsAnything ? 0 : 1L << 1);
+        this.immutableDescription = (textMatcher instanceof IsAnything || textMatcher instanceof ExpectedValue)
+                && (numberMatcher instanceof IsAnything || numberMatcher instanceof PrimitiveIntMatcher);
+    }
+
+    public static JfrEventsRecordMatcher aJfrEventsRecord() {
+        return ANY_JFR_EVENTS_RECORD;
+    }
+
+    public JfrEventsRecordMatcher withText(String text) {
+        return withText(new ExpectedValue<>(Matchers.is(text)));
+    }
+
+    public JfrEventsRecordMatcher withText(Matcher<? super String> textMatcher) {
+        return new JfrEventsRecordMatcher(textMatcher, this.numberMatcher);
+    }
+
+    public JfrEventsRecordMatcher withNumber(int number) {
+        return withNumber(new PrimitiveIntMatcher(actual -> actual == number, () -> Matchers.is(number)));
+    }
+
+    public JfrEventsRecordMatcher withNumber(Matcher<? super Integer> numberMatcher) {
+        return new JfrEventsRecordMatcher(this.textMatcher, numberMatcher);
+    }
+
+    public JfrEventsRecordMatcher withNumberBetween(int min, int max) {
+        return withNumber(new PrimitiveIntMatcher(actual -> actual >= min && actual <= max, () -> Matchers.allOf(Matchers.greaterThanOrEqualTo(min), Matchers.lessThanOrEqualTo(max))));
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        if (!immutableDescription || !(description instanceof StringDescription)) {
+            describeSelfTo(description);
+            return;
+        }
+        String selfDescription = this.selfDescription;
+        if (selfDescription == null) {
+            StringDescription rendered = new StringDescription();
+            describeSelfTo(rendered);
+            this.selfDescription = selfDescription = rendered.toString();
+        }
+        description.appendText(selfDescription);
+    }
+
+    private void describeSelfTo(Description description) {
+        if (constrainedComponents == 0) {
+            description.appendText("any JfrEventsRecord record");
+        }
+        else {
+            description.appendText("JfrEventsRecord record where");
+            if ((constrainedComponents & (1L << 0)) != 0)
+                description.appendText(" text ").appendDescriptionOf(textMatcher);
+
+            if ((constrainedComponents & (1L << 1)) != 0)
+                description.appendText(" number ").appendDescriptionOf(numberMatcher);
+        }
+    }
+
+    @Override
+    protected boolean matchesSafely(JfrEventsRecord element, Description mismatchDescription) {
+        MatchEvent event = new MatchEvent();
+        if (!event.isEnabled()) {
+            return matchesRecord(element, mismatchDescription);
+        }
+        event.begin();
+        boolean matches = matchesRecord(element, mismatchDescription);
+        event.end();
+        if (event.shouldCommit()) {
+            event.recordType = JfrEventsRecord.class.getName();
+            event.constrainedComponents = constrainedComponentNames();
+            event.matches = matches;
+            event.describesMismatch = !(mismatchDescription instanceof Description.NullDescription);
+            event.commit();
+        }
+        return matches;
+    }
+
+    private String constrainedComponentNames() {
+        StringJoiner names = new StringJoiner(", ");
+        if ((constrainedComponents & (1L << 0)) != 0) names.add("text");
+        if ((constrainedComponents & (1L << 1)) != 0) names.add("number");
+        return names.toString();
+    }
+
+    private boolean matchesRecord(JfrEventsRecord element, Description mismatchDescription) {
+        long mismatchedComponents = 0;
+        if ((constrainedComponents & (1L << 0)) != 0 && !textMatcher.matches(element.text())) mismatchedComponents |= 1L << 0;
+        if ((constrainedComponents & (1L << 1)) != 0 && !(numberMatcher instanceof PrimitiveIntMatcher primitiveMatcher ? primitiveMatcher.matches(element.number()) : numberMatcher.matches(element.number()))) mismatchedComponents |= 1L << 1;
+        if (mismatchedComponents == 0) {
+            return true;
+        }
+        if (!(mismatchDescription instanceof Description.NullDescription)) {
+            describeMismatchedComponents(element, mismatchedComponents, mismatchDescription);
+        }
+        return false;
+    }
+
+    private void describeMismatchedComponents(JfrEventsRecord element, long mismatchedComponents,
+            Description mismatchDescription) {
+        if ((mismatchedComponents & (1L << 0)) != 0) {
+            mismatchDescription.appendText(" text ");
+            textMatcher.describeMismatch(element.text(), mismatchDescription);
+        }
+        if ((mismatchedComponents & (1L << 1)) != 0) {
+            mismatchDescription.appendText(" number ");
+            numberMatcher.describeMismatch(element.number(), mismatchDescription);
+        }
+    }
+
+    private static final class PrimitiveIntMatcher extends BaseMatcher<Integer> {
+        private final IntPredicate predicate;
+
+        private final Supplier<Matcher<? super Integer>> hamcrestEquivalent;
+
+        private PrimitiveIntMatcher(IntPredicate predicate,
+                Supplier<Matcher<? super Integer>> hamcrestEquivalent) {
+            this.predicate = predicate;
+            this.hamcrestEquivalent = hamcrestEquivalent;
+        }
+
+        boolean matches(int actual) {
+            return predicate.test(actual);
+        }
+
+        @Override
+        public boolean matches(Object actual) {
+            return actual instanceof Integer value && matches(value.intValue());
+        }
+
+        @Override
+        public void describeTo(Description description) {
+            hamcrestEquivalent.get().describeTo(description);
+        }
+
+        @Override
+        public void describeMismatch(Object actual, Description mismatchDescription) {
+            hamcrestEquivalent.get().describeMismatch(actual, mismatchDescription);
+        }
+    }
+
+    @Name("no.rune.record.matcher.Match")
+    @Label("Record Matcher Evaluation")
+    @Category("Record Matcher")
+    private static final class MatchEvent extends Event {
+        @Label("Record Type")
+        String recordType;
+
+        @Label("Constrained Components")
+        String constrainedComponents;
+
+        @Label("Matches")
+        boolean matches;
+
+        @Label("Describes Mismatch")
+        boolean describesMismatch;
+    }
+
+    private static final class ExpectedValue<T> extends BaseMatcher<T> {
+        private final Matcher<T> hamcrestEquivalent;
+
+        private ExpectedValue(Matcher<T> hamcrestEquivalent) {
+            this.hamcrestEquivalent = hamcrestEquivalent;
+        }
+
+        @Override
+        public boolean matches(Object actual) {
+            return hamcrestEquivalent.matches(actual);
+        }
+
+        @Override
+        public void describeTo(Description description) {
+            hamcrestEquivalent.describeTo(description);
+        }
+
+        @Override
+        public void describeMismatch(Object actual, Description mismatchDescription) {
+            hamcrestEquivalent.describeMismatch(actual, mismatchDescription);
+        }
+    }
+}
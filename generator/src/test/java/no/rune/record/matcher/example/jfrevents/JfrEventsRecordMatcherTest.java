@@ -0,0 +1,100 @@
+package no.rune.record.matcher.example.jfrevents;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static no.rune.record.matcher.ExpectedMatcher.expectedMatcherFor;
+import static no.rune.record.matcher.RecordMatcherGenerator.Option.jfrEvents;
+import static no.rune.record.matcher.example.jfrevents.JfrEventsRecordMatcher.aJfrEventsRecord;
+import static no.rune.record.matcher.example.jfrevents.OtherJfrEventsRecordMatcher.anOtherJfrEventsRecord;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static uk.co.probablyfine.matchers.Java8Matchers.where;
+
+class JfrEventsRecordMatcherTest {
+
+    private static final String MATCH_EVENT = "no.rune.record.matcher.Match";
+
+    @TempDir
+    Path recordingDirectory;
+
+    private List<RecordedEvent> recordMatchEvents(Runnable assertions) throws IOException {
+        var recordingFile = recordingDirectory.resolve("recording.jfr");
+        try (var recording = new Recording()) {
+            recording.enable(MATCH_EVENT);
+            recording.start();
+            assertions.run();
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+        return RecordingFile.readAllEvents(recordingFile).stream()
+                .filter(event -> event.getEventType().getName().equals(MATCH_EVENT))
+                .toList();
+    }
+
+    @Test
+    void recordsEachEvaluation() throws IOException {
+        var events = recordMatchEvents(() -> {
+            assertThat(new JfrEventsRecord("x", 1), aJfrEventsRecord().withText("x"));
+            assertThat(new JfrEventsRecord("x", 1), not(aJfrEventsRecord().withText("x").withNumber(2)));
+        });
+        assertThat(events.stream().map(event -> event.getString("constrainedComponents") + " " + event.getBoolean("matches")).toList(),
+                contains("text true", "text, number false"));
+        assertThat(events.stream().map(event -> event.getString("recordType")).distinct().toList(), contains(JfrEventsRecord.class.getName()));
+    }
+
+    @Test
+    void recordsEvaluationsOfAllMatchersAsOneEventType() throws IOException {
+        var events = recordMatchEvents(() -> {
+            assertThat(new JfrEventsRecord("x", 1), aJfrEventsRecord().withText("x"));
+            assertThat(new OtherJfrEventsRecord(true), anOtherJfrEventsRecord().withFlag(true));
+        });
+        assertThat(events.stream().map(event -> event.getString("recordType")).toList(),
+                contains(JfrEventsRecord.class.getName(), OtherJfrEventsRecord.class.getName()));
+    }
+
+    @Test
+    void recordsEvaluationDescribingMismatch() throws IOException {
+        var events = recordMatchEvents(() -> assertThrows(AssertionError.class, () -> assertThat(new JfrEventsRecord("x", 1), aJfrEventsRecord().withNumber(2))));
+        assertThat(events.stream().map(event -> event.getBoolean("describesMismatch")).toList(), contains(false, true));
+    }
+
+    @Test
+    void doesNotRecordWhenEventIsNotEnabled() throws IOException {
+        var recordingFile = recordingDirectory.resolve("recording.jfr");
+        try (var recording = new Recording()) {
+            recording.disable(MATCH_EVENT);
+            recording.start();
+            assertThat(new JfrEventsRecord("x", 1), aJfrEventsRecord().withText("x"));
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+        assertThat(RecordingFile.readAllEvents(recordingFile), where(events -> events.stream().filter(event -> event.getEventType().getName().equals(MATCH_EVENT)).toList(), empty()));
+    }
+
+    @Test
+    void describesMismatchAsWithoutEvents() {
+        var assertionError = assertThrows(AssertionError.class, () -> assertThat(new JfrEventsRecord("x", 1), aJfrEventsRecord().withText("y")));
+        assertThat(assertionError, where(AssertionError::getMessage, containsString("JfrEventsRecord record where text is \"y\"\n     but:  text was \"x\"")));
+        assertThat(aJfrEventsRecord().withNumber(1).matches(new JfrEventsRecord("y", 1)), is(true));
+    }
+
+    @Test
+    void generatesExpectedMatcher() {
+        expectedMatcherFor(JfrEventsRecord.class, jfrEvents).assertEqualToGeneratedMatcherSourceCode();
+        expectedMatcherFor(OtherJfrEventsRecord.class, jfrEvents).assertEqualToGeneratedMatcherSourceCode();
+    }
+
+}
@@ -0,0 +1,4 @@
+package no.rune.record.matcher.example.jfrevents;
+
+public record OtherJfrEventsRecord(boolean flag) {
+}
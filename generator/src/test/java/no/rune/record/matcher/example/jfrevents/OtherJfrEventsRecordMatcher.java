@@ -0,0 +1,161 @@
+package no.rune.record.matcher.example.jfrevents;
+
+import java.util.StringJoiner;
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import org.hamcrest.BaseMatcher;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.Matchers;
+import org.hamcrest.StringDescription;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+import org.hamcrest.core.IsAnything;
+
+public final class OtherJfrEventsRecordMatcher extends TypeSafeDiagnosingMatcher<OtherJfrEventsRecord> {
+    private static final Matcher<Object> ANY_FLAG = new IsAnything<>("any flag");
+
+    private static final OtherJfrEventsRecordMatcher ANY_OTHER_JFR_EVENTS_RECORD = new OtherJfrEventsRecordMatcher(ANY_FLAG);
+
+    private final Matcher<? super Boolean> flagMatcher;
+
+    private final long constrainedComponents;
+
+    private final boolean immutableDescription;
+
+    private String selfDescription;
+
+    private OtherJfrEventsRecordMatcher(Matcher<? super Boolean> flagMatcher) {
+        this.flagMatcher = flagMatcher;
+        this.constrainedComponents = (flagMatcher instanceof IsAnything ? 0 : 1L << 0);
+        this.immutableDescription = (flagMatcher instanceof IsAnything || flagMatcher instanceof PrimitiveBooleanMatcher);
+    }
+
+    public static OtherJfrEventsRecordMatcher anOtherJfrEventsRecord() {
+        return ANY_OTHER_JFR_EVENTS_RECORD;
+    }
+
+    public OtherJfrEventsRecordMatcher withFlag(boolean flag) {
+        return withFlag(new PrimitiveBooleanMatcher(flag));
+    }
+
+    public OtherJfrEventsRecordMatcher withFlag(Matcher<? super Boolean> flagMatcher) {
+        return new OtherJfrEventsRecordMatcher(flagMatcher);
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        if (!immutableDescription || !(description instanceof StringDescription)) {
+            describeSelfTo(description);
+            return;
+        }
+        String selfDescription = this.selfDescription;
+        if (selfDescription == null) {
+            StringDescription rendered = new StringDescription();
+            describeSelfTo(rendered);
+            this.selfDescription = selfDescription = rendered.toString();
+        }
+        description.appendText(selfDescription);
+    }
+
+    private void describeSelfTo(Description description) {
+        if (constrainedComponents == 0) {
+            description.appendText("any OtherJfrEventsRecord record");
+        }
+        else {
+            description.appendText("OtherJfrEventsRecord record where");
+            if ((constrainedComponents & (1L << 0)) != 0)
+                description.appendText(" flag ").appendDescriptionOf(flagMatcher);
+        }
+    }
+
+    @Override
+    protected boolean matchesSafely(OtherJfrEventsRecord element, Description mismatchDescription) {
+        MatchEvent event = new MatchEvent();
+        if (!event.isEnabled()) {
+            return matchesRecord(element, mismatchDescription);
+        }
+        event.begin();
+        boolean matches = matchesRecord(element, mismatchDescription);
+        event.end();
+        if (event.shouldCommit()) {
+            event.recordType = OtherJfrEventsRecord.class.getName();
+            event.constrainedComponents = constrainedComponentNames();
+            event.matches = matches;
+            event.describesMismatch = !(mismatchDescription instanceof Description.NullDescription);
+            event.commit();
+        }
+        return matches;
+    }
+
+    private String constrainedComponentNames() {
+        StringJoiner names = new StringJoiner(", ");
+        if ((constrainedComponents & (1L << 0)) != 0) names.add("flag");
+        return names.toString();
+    }
+
+    private boolean matchesRecord(OtherJfrEventsRecord element, Description mismatchDescription) {
+        long mismatchedComponents = 0;
+        if ((constrainedComponents & (1L << 0)) != 0 && !(flagMatcher instanceof PrimitiveBooleanMatcher primitiveMatcher ? primitiveMatcher.matches(element.flag()) : flagMatcher.matches(element.flag()))) mismatchedComponents |= 1L << 0;
+        if (mismatchedComponents == 0) {
+            return true;
+        }
+        if (!(mismatchDescription instanceof Description.NullDescription)) {
+            describeMismatchedComponents(element, mismatchedComponents, mismatchDescription);
+        }
+        return false;
+    }
+
+    private void describeMismatchedComponents(OtherJfrEventsRecord element,
+            long mismatchedComponents, Description mismatchDescription) {
+        if ((mismatchedComponents & (1L << 0)) != 0) {
+            mismatchDescription.appendText(" flag ");
+            flagMatcher.describeMismatch(element.flag(), mismatchDescription);
+        }
+    }
+
+    private static final class PrimitiveBooleanMatcher extends BaseMatcher<Boolean> {
+        private final boolean expected;
+
+        private PrimitiveBooleanMatcher(boolean expected) {
+            this.expected = expected;
+        }
+
+        boolean matches(boolean actual) {
+            return actual == expected;
+        }
+
+        @Override
+        public boolean matches(Object actual) {
+            return actual instanceof Boolean value && matches(value.booleanValue());
+        }
+
+        @Override
+        public void describeTo(Description description) {
+            Matchers.is(expected).describeTo(description);
+        }
+
+        @Override
+        public void describeMismatch(Object actual, Description mismatchDescription) {
+            Matchers.is(expected).describeMismatch(actual, mismatchDescription);
+        }
+    }
+
+    @Name("no.rune.record.matcher.Match")
+    @Label("Record Matcher Evaluation")
+    @Category("Record Matcher")
+    private static final class MatchEvent extends Event {
+        @Label("Record Type")
+        String recordType;
+
+        @Label("Constrained Components")
+        String constrainedComponents;
+
+        @Label("Matches")
+        boolean matches;
+
+        @Label("Describes Mismatch")
+        boolean describesMismatch;
+    }
+}
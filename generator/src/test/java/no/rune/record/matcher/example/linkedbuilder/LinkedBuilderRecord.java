@@ -0,0 +1,6 @@
+package no.rune.record.matcher.example.linkedbuilder;
+
+import java.util.List;
+
+public record LinkedBuilderRecord(String text, int number, List<String> items) {
+}
@@ -0,0 +1,257 @@
+package no.rune.record.matcher.example.linkedbuilder;
+
+import java.util.List;
+import java.util.function.IntPredicate;
+import java.util.function.Supplier;
+import org.hamcrest.BaseMatcher;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.Matchers;
+import org.hamcrest.StringDescription;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+import org.hamcrest.core.IsAnything;
+
+public final class LinkedBuilderRecordMatcher extends TypeSafeDiagnosingMatcher<LinkedBuilderRecord> {
+    private static final Matcher<Object> ANY_TEXT = new IsAnything<>("any text");
+
+    private static final Matcher<Object> ANY_NUMBER = new IsAnything<>("any number");
+
+    private static final Matcher<Object> ANY_ITEMS = new IsAnything<>("any items");
+
+    private static final LinkedBuilderRecordMatcher ANY_LINKED_BUILDER_RECORD = new LinkedBuilderRecordMatcher(ANY_TEXT, ANY_NUMBER, ANY_ITEMS);
+
+    private final Matcher<? super String> textMatcher;
+
+    private final Matcher<? super Integer> numberMatcher;
+
+    private final Matcher<? super List<String>> itemsMatcher;
+
+    private final long constrainedComponents;
+
+    private final boolean immutableDescription;
+
+    private String selfDescription;
+
+    private final LinkedBuilderRecordMatcher previous;
+
+    private final int constrainedComponent;
+
+    private final Matcher<?> constraint;
+
+    private LinkedBuilderRecordMatcher resolved;
+
+    private LinkedBuilderRecordMatcher(Matcher<? super String> textMatcher,
+            Matcher<? super Integer> numberMatcher, Matcher<? super List<String>> itemsMatcher) {
+        this.textMatcher = textMatcher;
+        this.numberMatcher = numberMatcher;
+        this.itemsMatcher = itemsMatcher;
+        this.constrainedComponents = (textMatcher instanceof IsAnything ? 0 : 1L << 0)
+                | (numberMatcher instanceof IsAnything ? 0 : 1L << 1)
+                | (itemsMatcher instanceof IsAnything ? 0 : 1L << 2);
+        this.immutableDescription = (textMatcher instanceof IsAnything || textMatcher instanceof ExpectedValue)
+                && (numberMatcher instanceof IsAnything || numberMatcher instanceof PrimitiveIntMatcher)
+                && (itemsMatcher instanceof IsAnything);
+        this.previous = null;
+        this.constrainedComponent = -1;
+        this.constraint = null;
+    }
+
+    private LinkedBuilderRecordMatcher(LinkedBuilderRecordMatcher previous,
+            int constrainedComponent, Matcher<?> constraint) {
+        this.textMatcher = null;
+        this.numberMatcher = null;
+        this.itemsMatcher = null;
+        this.constrainedComponents = 0;
+        this.immutableDescription = false;
+        this.previous = previous;
+        this.constrainedComponent = constrainedComponent;
+        this.constraint = constraint;
+    }
+
+    public static LinkedBuilderRecordMatcher aLinkedBuilderRecord() {
+        return ANY_LINKED_BUILDER_RECORD;
+    }
+
+    public LinkedBuilderRecordMatcher withText(String text) {
+        return withText(new ExpectedValue<>(Matchers.is(text)));
+    }
+
+    public LinkedBuilderRecordMatcher withText(Matcher<? super String> textMatcher) {
+        return new LinkedBuilderRecordMatcher(this, 0, textMatcher);
+    }
+
+    public LinkedBuilderRecordMatcher withNumber(int number) {
+        return withNumber(new PrimitiveIntMatcher(actual -> actual == number, () -> Matchers.is(number)));
+    }
+
+    public LinkedBuilderRecordMatcher withNumber(Matcher<? super Integer> numberMatcher) {
+        return new LinkedBuilderRecordMatcher(this, 1, numberMatcher);
+    }
+
+    public LinkedBuilderRecordMatcher withNumberBetween(int min, int max) {
+        return withNumber(new PrimitiveIntMatcher(actual -> actual >= min && actual <= max, () -> Matchers.allOf(Matchers.greaterThanOrEqualTo(min), Matchers.lessThanOrEqualTo(max))));
+    }
+
+    public LinkedBuilderRecordMatcher withItems(List<String> items) {
+        return withItems(Matchers.is(items));
+    }
+
+    public LinkedBuilderRecordMatcher withItems(Matcher<? super List<String>> itemsMatcher) {
+        return new LinkedBuilderRecordMatcher(this, 2, itemsMatcher);
+    }
+
+    @SuppressWarnings("unchecked")
+    private LinkedBuilderRecordMatcher resolved() {
+        if (previous == null) {
+            return this;
+        }
+        LinkedBuilderRecordMatcher resolved = this.resolved;
+        if (resolved == null) {
+            Matcher<?>[] constraints = new Matcher[3];
+            boolean[] constrained = new boolean[3];
+            LinkedBuilderRecordMatcher base = this;
+            while (base.previous != null) {
+                LinkedBuilderRecordMatcher resolvedBase = base.resolved;
+                if (resolvedBase != null) {
+                    base = resolvedBase;
+                    break;
+                }
+                if (!constrained[base.constrainedComponent]) {
+                    constraints[base.constrainedComponent] = base.constraint;
+                    constrained[base.constrainedComponent] = true;
+                }
+                base = base.previous;
+            }
+            resolved = new LinkedBuilderRecordMatcher(
+                    constrained[0] ? (Matcher<? super String>) constraints[0] : base.textMatcher,
+                    constrained[1] ? (Matcher<? super Integer>) constraints[1] : base.numberMatcher,
+                    constrained[2] ? (Matcher<? super List<String>>) constraints[2] : base.itemsMatcher);
+            this.resolved = resolved;
+        }
+        return resolved;
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        if (previous != null) {
+            resolved().describeTo(description);
+            return;
+        }
+        if (!immutableDescription || !(description instanceof StringDescription)) {
+            describeSelfTo(description);
+            return;
+        }
+        String selfDescription = this.selfDescription;
+        if (selfDescription == null) {
+            StringDescription rendered = new StringDescription();
+            describeSelfTo(rendered);
+            this.selfDescription = selfDescription = rendered.toString();
+        }
+        description.appendText(selfDescription);
+    }
+
+    private void describeSelfTo(Description description) {
+        if (constrainedComponents == 0) {
+            description.appendText("any LinkedBuilderRecord record");
+        }
+        else {
+            description.appendText("LinkedBuilderRecord record where");
+            if ((constrainedComponents & (1L << 0)) != 0)
+                description.appendText(" text ").appendDescriptionOf(textMatcher);
+
+            if ((constrainedComponents & (1L << 1)) != 0)
+                description.appendText(" number ").appendDescriptionOf(numberMatcher);
+
+            if ((constrainedComponents & (1L << 2)) != 0)
+                description.appendText(" items ").appendDescriptionOf(itemsMatcher);
+        }
+    }
+
+    @Override
+    protected boolean matchesSafely(LinkedBuilderRecord element, Description mismatchDescription) {
+        if (previous != null) {
+            return resolved().matchesSafely(element, mismatchDescription);
+        }
+        long mismatchedComponents = 0;
+        if ((constrainedComponents & (1L << 0)) != 0 && !textMatcher.matches(element.text())) mismatchedComponents |= 1L << 0;
+        if ((constrainedComponents & (1L << 1)) != 0 && !(numberMatcher instanceof PrimitiveIntMatcher primitiveMatcher ? primitiveMatcher.matches(element.number()) : numberMatcher.matches(element.number()))) mismatchedComponents |= 1L << 1;
+        if ((constrainedComponents & (1L << 2)) != 0 && !itemsMatcher.matches(element.items())) mismatchedComponents |= 1L << 2;
+        if (mismatchedComponents == 0) {
+            return true;
+        }
+        if (!(mismatchDescription instanceof Description.NullDescription)) {
+            describeMismatchedComponents(element, mismatchedComponents, mismatchDescription);
+        }
+        return false;
+    }
+
+    private void describeMismatchedComponents(LinkedBuilderRecord element,
+            long mismatchedComponents, Description mismatchDescription) {
+        if ((mismatchedComponents & (1L << 0)) != 0) {
+            mismatchDescription.appendText(" text ");
+            textMatcher.describeMismatch(element.text(), mismatchDescription);
+        }
+        if ((mismatchedComponents & (1L << 1)) != 0) {
+            mismatchDescription.appendText(" number ");
+            numberMatcher.describeMismatch(element.number(), mismatchDescription);
+        }
+        if ((mismatchedComponents & (1L << 2)) != 0) {
+            mismatchDescription.appendText(" items ");
+            itemsMatcher.describeMismatch(element.items(), mismatchDescription);
+        }
+    }
+
+    private static final class PrimitiveIntMatcher extends BaseMatcher<Integer> {
+        private final IntPredicate predicate;
+
+        private final Supplier<Matcher<? super Integer>> hamcrestEquivalent;
+
+        private PrimitiveIntMatcher(IntPredicate predicate,
+                Supplier<Matcher<? super Integer>> hamcrestEquivalent) {
+            this.predicate = predicate;
+            this.hamcrestEquivalent = hamcrestEquivalent;
+        }
+
+        boolean matches(int actual) {
+            return predicate.test(actual);
+        }
+
+        @Override
+        public boolean matches(Object actual) {
+            return actual instanceof Integer value && matches(value.intValue());
+        }
+
+        @Override
+        public void describeTo(Description description) {
+            hamcrestEquivalent.get().describeTo(description);
+        }
+
+        @Override
+        public void describeMismatch(Object actual, Description mismatchDescription) {
+            hamcrestEquivalent.get().describeMismatch(actual, mismatchDescription);
+        }
+    }
+
+    private static final class ExpectedValue<T> extends BaseMatcher<T> {
+        private final Matcher<T> hamcrestEquivalent;
+
+        private ExpectedValue(Matcher<T> hamcrestEquivalent) {
+            this.hamcrestEquivalent = hamcrestEquivalent;
+        }
+
+        @Override
+        public boolean matches(Object actual) {
+            return hamcrestEquivalent.matches(actual);
+        }
+
+        @Override
+        public void describeTo(Description description) {
+            hamcrestEquivalent.describeTo(description);
+        }
+
+        @Override
+        public void describeMismatch(Object actual, Description mismatchDescription) {
+            hamcrestEquivalent.describeMismatch(actual, mismatchDescription);
+        }
+    }
+}
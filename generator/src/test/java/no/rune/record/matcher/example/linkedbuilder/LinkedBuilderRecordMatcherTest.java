@@ -0,0 +1,63 @@
+package no.rune.record.matcher.example.linkedbuilder;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static no.rune.record.matcher.ExpectedMatcher.expectedMatcherFor;
+import static no.rune.record.matcher.RecordMatcherGenerator.Option.linkedBuilder;
+import static no.rune.record.matcher.example.linkedbuilder.LinkedBuilderRecordMatcher.aLinkedBuilderRecord;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static uk.co.probablyfine.matchers.Java8Matchers.where;
+
+class LinkedBuilderRecordMatcherTest {
+
+    private static final LinkedBuilderRecord record = new LinkedBuilderRecord("x", 1, List.of("a", "b"));
+
+    @Test
+    void matchesAnyRecord() {
+        assertThat(record, aLinkedBuilderRecord());
+    }
+
+    @Test
+    void matchesConstrainedComponents() {
+        assertThat(record, aLinkedBuilderRecord().withText("x").withNumber(1).withItems(hasItem("b")));
+        assertThat(record, not(aLinkedBuilderRecord().withText("x").withNumber(2).withItems(hasItem("b"))));
+        assertThat(new LinkedBuilderRecord(null, 1, List.of()), aLinkedBuilderRecord().withText(nullValue()));
+    }
+
+    @Test
+    void lastConstraintOfComponentApplies() {
+        assertThat(record, aLinkedBuilderRecord().withText("y").withNumber(1).withText("x"));
+        assertThat(record, not(aLinkedBuilderRecord().withText("x").withNumber(1).withText("y")));
+    }
+
+    @Test
+    void constrainsFurtherFromMatcherWhichIsAlreadyEvaluated() {
+        var withText = aLinkedBuilderRecord().withText("x");
+        assertThat(record, withText);
+
+        assertThat(record, withText.withNumber(1));
+        assertThat(record, not(withText.withNumber(2)));
+        assertThat(record, not(withText.withNumber(1).withText("y")));
+        assertThat(record, withText);
+    }
+
+    @Test
+    void describesConstrainedComponents() {
+        var assertionError = assertThrows(AssertionError.class, () -> assertThat(record, aLinkedBuilderRecord().withText("y").withNumber(2).withText("z")));
+        assertThat(assertionError, where(AssertionError::getMessage,
+                containsString(LinkedBuilderRecord.class.getSimpleName() + " record where text is \"z\" number is <2>\n     but:  text was \"x\" number was <1>")));
+    }
+
+    @Test
+    void generatesExpectedMatcher() {
+        expectedMatcherFor(LinkedBuilderRecord.class, linkedBuilder).assertEqualToGeneratedMatcherSourceCode();
+    }
+
+}
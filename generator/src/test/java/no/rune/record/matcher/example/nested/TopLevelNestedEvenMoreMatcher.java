@@ -4,22 +4,23 @@ import org.hamcrest.Description;
 import org.hamcrest.TypeSafeDiagnosingMatcher;
 
 public final class TopLevelNestedEvenMoreMatcher extends TypeSafeDiagnosingMatcher<TopLevel.Nested.EvenMore> {
+    private static final TopLevelNestedEvenMoreMatcher ANY_EVEN_MORE = new TopLevelNestedEvenMoreMatcher();
+
     private TopLevelNestedEvenMoreMatcher() {
     }
 
     public static TopLevelNestedEvenMoreMatcher anEvenMore() {
-        return new TopLevelNestedEvenMoreMatcher();
+        return ANY_EVEN_MORE;
     }
 
     @Override
     public void describeTo(Description description) {
-        description.appendText("any ").appendText(TopLevel.Nested.EvenMore.class.getSimpleName()).appendText(" record");
+        description.appendText("any EvenMore record");
     }
 
     @Override
     protected boolean matchesSafely(TopLevel.Nested.EvenMore element,
             Description mismatchDescription) {
-        boolean matches = true;
-        return matches;
+        return true;
     }
 }
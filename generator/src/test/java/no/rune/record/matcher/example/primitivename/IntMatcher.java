@@ -0,0 +1,184 @@
+package no.rune.record.matcher.example.primitivename;
+
+import java.util.function.IntPredicate;
+import java.util.function.LongPredicate;
+import java.util.function.Supplier;
+import org.hamcrest.BaseMatcher;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.Matchers;
+import org.hamcrest.StringDescription;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+import org.hamcrest.core.IsAnything;
+
+public final class IntMatcher extends TypeSafeDiagnosingMatcher<Int> {
+    private static final Matcher<Object> ANY_VALUE = new IsAnything<>("any value");
+
+    private static final Matcher<Object> ANY_WIDE = new IsAnything<>("any wide");
+
+    private static final IntMatcher ANY_INT = new IntMatcher(ANY_VALUE, ANY_WIDE);
+
+    private final Matcher<? super Integer> valueMatcher;
+
+    private final Matcher<? super Long> wideMatcher;
+
+    private final long constrainedComponents;
+
+    private final boolean immutableDescription;
+
+    private String selfDescription;
+
+    private IntMatcher(Matcher<? super Integer> valueMatcher, Matcher<? super Long> wideMatcher) {
+        this.valueMatcher = valueMatcher;
+        this.wideMatcher = wideMatcher;
+        this.constrainedComponents = (valueMatcher instanceof IsAnything ? 0 : 1L << 0)
+                | (wideMatcher instanceof IsAnything ? 0 : 1L << 1);
+        this.immutableDescription = (valueMatcher instanceof IsAnything || valueMatcher instanceof PrimitiveIntMatcher)
+                && (wideMatcher instanceof IsAnything || wideMatcher instanceof PrimitiveLongMatcher);
+    }
+
+    public static IntMatcher anInt() {
+        return ANY_INT;
+    }
+
+    public IntMatcher withValue(int value) {
+        return withValue(new PrimitiveIntMatcher(actual -> actual == value, () -> Matchers.is(value)));
+    }
+
+    public IntMatcher withValue(Matcher<? super Integer> valueMatcher) {
+        return new IntMatcher(valueMatcher, this.wideMatcher);
+    }
+
+    public IntMatcher withValueBetween(int min, int max) {
+        return withValue(new PrimitiveIntMatcher(actual -> actual >= min && actual <= max, () -> Matchers.allOf(Matchers.greaterThanOrEqualTo(min), Matchers.lessThanOrEqualTo(max))));
+    }
+
+    public IntMatcher withWide(long wide) {
+        return withWide(new PrimitiveLongMatcher(actual -> actual == wide, () -> Matchers.is(wide)));
+    }
+
+    public IntMatcher withWide(Matcher<? super Long> wideMatcher) {
+        return new IntMatcher(this.valueMatcher, wideMatcher);
+    }
+
+    public IntMatcher withWideBetween(long min, long max) {
+        return withWide(new PrimitiveLongMatcher(actual -> actual >= min && actual <= max, () -> Matchers.allOf(Matchers.greaterThanOrEqualTo(min), Matchers.lessThanOrEqualTo(max))));
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        if (!immutableDescription || !(description instanceof StringDescription)) {
+            describeSelfTo(description);
+            return;
+        }
+        String selfDescription = this.selfDescription;
+        if (selfDescription == null) {
+            StringDescription rendered = new StringDescription();
+            describeSelfTo(rendered);
+            this.selfDescription = selfDescription = rendered.toString();
+        }
+        description.appendText(selfDescription);
+    }
+
+    private void describeSelfTo(Description description) {
+        if (constrainedComponents == 0) {
+            description.appendText("any Int record");
+        }
+        else {
+            description.appendText("Int record where");
+            if ((constrainedComponents & (1L << 0)) != 0)
+                description.appendText(" value ").appendDescriptionOf(valueMatcher);
+
+            if ((constrainedComponents & (1L << 1)) != 0)
+                description.appendText(" wide ").appendDescriptionOf(wideMatcher);
+        }
+    }
+
+    @Override
+    protected boolean matchesSafely(Int element, Description mismatchDescription) {
+        long mismatchedComponents = 0;
+        if ((constrainedComponents & (1L << 0)) != 0 && !(valueMatcher instanceof PrimitiveIntMatcher primitiveMatcher ? primitiveMatcher.matches(element.value()) : valueMatcher.matches(element.value()))) mismatchedComponents |= 1L << 0;
+        if ((constrainedComponents & (1L << 1)) != 0 && !(wideMatcher instanceof PrimitiveLongMatcher primitiveMatcher ? primitiveMatcher.matches(element.wide()) : wideMatcher.matches(element.wide()))) mismatchedComponents |= 1L << 1;
+        if (mismatchedComponents == 0) {
+            return true;
+        }
+        if (!(mismatchDescription instanceof Description.NullDescription)) {
+            describeMismatchedComponents(element, mismatchedComponents, mismatchDescription);
+        }
+        return false;
+    }
+
+    private void describeMismatchedComponents(Int element, long mismatchedComponents,
+            Description mismatchDescription) {
+        if ((mismatchedComponents & (1L << 0)) != 0) {
+            mismatchDescription.appendText(" value ");
+            valueMatcher.describeMismatch(element.value(), mismatchDescription);
+        }
+        if ((mismatchedComponents & (1L << 1)) != 0) {
+            mismatchDescription.appendText(" wide ");
+            wideMatcher.describeMismatch(element.wide(), mismatchDescription);
+        }
+    }
+
+    private static final class PrimitiveIntMatcher extends BaseMatcher<Integer> {
+        private final IntPredicate predicate;
+
+        private final Supplier<Matcher<? super Integer>> hamcrestEquivalent;
+
+        private PrimitiveIntMatcher(IntPredicate predicate,
+                Supplier<Matcher<? super Integer>> hamcrestEquivalent) {
+            this.predicate = predicate;
+            this.hamcrestEquivalent = hamcrestEquivalent;
+        }
+
+        boolean matches(int actual) {
+            return predicate.test(actual);
+        }
+
+        @Override
+        public boolean matches(Object actual) {
+            return actual instanceof Integer value && matches(value.intValue());
+        }
+
+        @Override
+        public void describeTo(Description description) {
+            hamcrestEquivalent.get().describeTo(description);
+        }
+
+        @Override
+        public void describeMismatch(Object actual, Description mismatchDescription) {
+            hamcrestEquivalent.get().describeMismatch(actual, mismatchDescription);
+        }
+    }
+
+    private static final class PrimitiveLongMatcher extends BaseMatcher<Long> {
+        private final LongPredicate predicate;
+
+        private final Supplier<Matcher<? super Long>> hamcrestEquivalent;
+
+        private PrimitiveLongMatcher(LongPredicate predicate,
+                Supplier<Matcher<? super Long>> hamcrestEquivalent) {
+            this.predicate = predicate;
+            this.hamcrestEquivalent = hamcrestEquivalent;
+        }
+
+        boolean matches(long actual) {
+            return predicate.test(actual);
+        }
+
+        @Override
+        public boolean matches(Object actual) {
+            return actual instanceof Long value && matches(value.longValue());
+        }
+
+        @Override
+        public void describeTo(Description description) {
+            hamcrestEquivalent.get().describeTo(description);
+        }
+
+        @Override
+        public void describeMismatch(Object actual, Description mismatchDescription) {
+            hamcrestEquivalent.get().describeMismatch(actual, mismatchDescription);
+        }
+    }
+}
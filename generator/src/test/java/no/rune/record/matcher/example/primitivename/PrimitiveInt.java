@@ -0,0 +1,4 @@
+package no.rune.record.matcher.example.primitivename;
+
+public record PrimitiveInt(int value) {
+}
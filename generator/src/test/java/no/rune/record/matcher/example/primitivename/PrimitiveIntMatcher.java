@@ -0,0 +1,125 @@
+package no.rune.record.matcher.example.primitivename;
+
+import java.util.function.IntPredicate;
+import java.util.function.Supplier;
+import org.hamcrest.BaseMatcher;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.Matchers;
+import org.hamcrest.StringDescription;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+import org.hamcrest.core.IsAnything;
+
+public final class PrimitiveIntMatcher extends TypeSafeDiagnosingMatcher<PrimitiveInt> {
+    private static final Matcher<Object> ANY_VALUE = new IsAnything<>("any value");
+
+    private static final PrimitiveIntMatcher ANY_PRIMITIVE_INT = new PrimitiveIntMatcher(ANY_VALUE);
+
+    private final Matcher<? super Integer> valueMatcher;
+
+    private final long constrainedComponents;
+
+    private final boolean immutableDescription;
+
+    private String selfDescription;
+
+    private PrimitiveIntMatcher(Matcher<? super Integer> valueMatcher) {
+        this.valueMatcher = valueMatcher;
+        this.constrainedComponents = (valueMatcher instanceof IsAnything ? 0 : 1L << 0);
+        this.immutableDescription = (valueMatcher instanceof IsAnything || valueMatcher instanceof NestedPrimitiveIntMatcher);
+    }
+
+    public static PrimitiveIntMatcher aPrimitiveInt() {
+        return ANY_PRIMITIVE_INT;
+    }
+
+    public PrimitiveIntMatcher withValue(int value) {
+        return withValue(new NestedPrimitiveIntMatcher(actual -> actual == value, () -> Matchers.is(value)));
+    }
+
+    public PrimitiveIntMatcher withValue(Matcher<? super Integer> valueMatcher) {
+        return new PrimitiveIntMatcher(valueMatcher);
+    }
+
+    public PrimitiveIntMatcher withValueBetween(int min, int max) {
+        return withValue(new NestedPrimitiveIntMatcher(actual -> actual >= min && actual <= max, () -> Matchers.allOf(Matchers.greaterThanOrEqualTo(min), Matchers.lessThanOrEqualTo(max))));
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        if (!immutableDescription || !(description instanceof StringDescription)) {
+            describeSelfTo(description);
+            return;
+        }
+        String selfDescription = this.selfDescription;
+        if (selfDescription == null) {
+            StringDescription rendered = new StringDescription();
+            describeSelfTo(rendered);
+            this.selfDescription = selfDescription = rendered.toString();
+        }
+        description.appendText(selfDescription);
+    }
+
+    private void describeSelfTo(Description description) {
+        if (constrainedComponents == 0) {
+            description.appendText("any PrimitiveInt record");
+        }
+        else {
+            description.appendText("PrimitiveInt record where");
+            if ((constrainedComponents & (1L << 0)) != 0)
+                description.appendText(" value ").appendDescriptionOf(valueMatcher);
+        }
+    }
+
+    @Override
+    protected boolean matchesSafely(PrimitiveInt element, Description mismatchDescription) {
+        long mismatchedComponents = 0;
+        if ((constrainedComponents & (1L << 0)) != 0 && !(valueMatcher instanceof NestedPrimitiveIntMatcher primitiveMatcher ? primitiveMatcher.matches(element.value()) : valueMatcher.matches(element.value()))) mismatchedComponents |= 1L << 0;
+        if (mismatchedComponents == 0) {
+            return true;
+        }
+        if (!(mismatchDescription instanceof Description.NullDescription)) {
+            describeMismatchedComponents(element, mismatchedComponents, mismatchDescription);
+        }
+        return false;
+    }
+
+    private void describeMismatchedComponents(PrimitiveInt element, long mismatchedComponents,
+            Description mismatchDescription) {
+        if ((mismatchedComponents & (1L << 0)) != 0) {
+            mismatchDescription.appendText(" value ");
+            valueMatcher.describeMismatch(element.value(), mismatchDescription);
+        }
+    }
+
+    private static final class NestedPrimitiveIntMatcher extends BaseMatcher<Integer> {
+        private final IntPredicate predicate;
+
+        private final Supplier<Matcher<? super Integer>> hamcrestEquivalent;
+
+        private NestedPrimitiveIntMatcher(IntPredicate predicate,
+                Supplier<Matcher<? super Integer>> hamcrestEquivalent) {
+            this.predicate = predicate;
+            this.hamcrestEquivalent = hamcrestEquivalent;
+        }
+
+        boolean matches(int actual) {
+            return predicate.test(actual);
+        }
+
+        @Override
+        public boolean matches(Object actual) {
+            return actual instanceof Integer value && matches(value.intValue());
+        }
+
+        @Override
+        public void describeTo(Description description) {
+            hamcrestEquivalent.get().describeTo(description);
+        }
+
+        @Override
+        public void describeMismatch(Object actual, Description mismatchDescription) {
+            hamcrestEquivalent.get().describeMismatch(actual, mismatchDescription);
+        }
+    }
+}
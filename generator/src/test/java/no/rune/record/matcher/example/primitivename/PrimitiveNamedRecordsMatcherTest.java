@@ -0,0 +1,35 @@
+package no.rune.record.matcher.example.primitivename;
+
+import org.junit.jupiter.api.Test;
+
+import static no.rune.record.matcher.ExpectedMatcher.expectedMatcherFor;
+import static no.rune.record.matcher.example.primitivename.IntMatcher.anInt;
+import static no.rune.record.matcher.example.primitivename.PrimitiveIntMatcher.aPrimitiveInt;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.not;
+
+class PrimitiveNamedRecordsMatcherTest {
+
+    @Test
+    void matchesRecordNamedAfterPrimitive() {
+        assertThat(new Int(1, 2L), anInt().withValue(1).withWide(2L));
+        assertThat(new Int(1, 2L), not(anInt().withValueBetween(2, 3)));
+    }
+
+    @Test
+    void matchesRecordNamedAfterNestedMatcher() {
+        assertThat(new PrimitiveInt(1), aPrimitiveInt().withValue(1));
+        assertThat(new PrimitiveInt(1), not(aPrimitiveInt().withValue(2)));
+    }
+
+    @Test
+    void generatesExpectedMatcherForRecordNamedAfterPrimitive() {
+        expectedMatcherFor(Int.class).assertEqualToGeneratedMatcherSourceCode();
+    }
+
+    @Test
+    void generatesExpectedMatcherForRecordNamedAfterNestedMatcher() {
+        expectedMatcherFor(PrimitiveInt.class).assertEqualToGeneratedMatcherSourceCode();
+    }
+
+}
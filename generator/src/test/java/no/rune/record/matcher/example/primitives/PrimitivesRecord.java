@@ -0,0 +1,4 @@
+package no.rune.record.matcher.example.primitives;
+
+public record PrimitivesRecord(int count, long amount, double ratio, boolean active, char initial) {
+}
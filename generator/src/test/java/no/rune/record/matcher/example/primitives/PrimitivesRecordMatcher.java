@@ -0,0 +1,318 @@
+package no.rune.record.matcher.example.primitives;
+
+import java.util.function.DoublePredicate;
+import java.util.function.IntPredicate;
+import java.util.function.LongPredicate;
+import java.util.function.Supplier;
+import org.hamcrest.BaseMatcher;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.Matchers;
+import org.hamcrest.StringDescription;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+import org.hamcrest.core.IsAnything;
+
+public final class PrimitivesRecordMatcher extends TypeSafeDiagnosingMatcher<PrimitivesRecord> {
+    private static final Matcher<Object> ANY_COUNT = new IsAnything<>("any count");
+
+    private static final Matcher<Object> ANY_AMOUNT = new IsAnything<>("any amount");
+
+    private static final Matcher<Object> ANY_RATIO = new IsAnything<>("any ratio");
+
+    private static final Matcher<Object> ANY_ACTIVE = new IsAnything<>("any active");
+
+    private static final Matcher<Object> ANY_INITIAL = new IsAnything<>("any initial");
+
+    private static final PrimitivesRecordMatcher ANY_PRIMITIVES_RECORD = new PrimitivesRecordMatcher(ANY_COUNT, ANY_AMOUNT, ANY_RATIO, ANY_ACTIVE, ANY_INITIAL);
+
+    private final Matcher<? super Integer> countMatcher;
+
+    private final Matcher<? super Long> amountMatcher;
+
+    private final Matcher<? super Double> ratioMatcher;
+
+    private final Matcher<? super Boolean> activeMatcher;
+
+    private final Matcher<? super Character> initialMatcher;
+
+    private final long constrainedComponents;
+
+    private final boolean immutableDescription;
+
+    private String selfDescription;
+
+    private PrimitivesRecordMatcher(Matcher<? super Integer> countMatcher,
+            Matcher<? super Long> amountMatcher, Matcher<? super Double> ratioMatcher,
+            Matcher<? super Boolean> activeMatcher, Matcher<? super Character> initialMatcher) {
+        this.countMatcher = countMatcher;
+        this.amountMatcher = amountMatcher;
+        this.ratioMatcher = ratioMatcher;
+        this.activeMatcher = activeMatcher;
+        this.initialMatcher = initialMatcher;
+        this.constrainedComponents = (countMatcher instanceof IsAnything ? 0 : 1L << 0)
+                | (amountMatcher instanceof IsAnything ? 0 : 1L << 1)
+                | (ratioMatcher instanceof IsAnything ? 0 : 1L << 2)
+                | (activeMatcher instanceof IsAnything ? 0 : 1L << 3)
+                | (initialMatcher instanceof IsAnything ? 0 : 1L << 4);
+        this.immutableDescription = (countMatcher instanceof IsAnything || countMatcher instanceof PrimitiveIntMatcher)
+                && (amountMatcher instanceof IsAnything || amountMatcher instanceof PrimitiveLongMatcher)
+                && (ratioMatcher instanceof IsAnything || ratioMatcher instanceof PrimitiveDoubleMatcher)
+                && (activeMatcher instanceof IsAnything || activeMatcher instanceof PrimitiveBooleanMatcher)
+                && (initialMatcher instanceof IsAnything);
+    }
+
+    public static PrimitivesRecordMatcher aPrimitivesRecord() {
+        return ANY_PRIMITIVES_RECORD;
+    }
+
+    public PrimitivesRecordMatcher withCount(int count) {
+        return withCount(new PrimitiveIntMatcher(actual -> actual == count, () -> Matchers.is(count)));
+    }
+
+    public PrimitivesRecordMatcher withCount(Matcher<? super Integer> countMatcher) {
+        return new PrimitivesRecordMatcher(countMatcher, this.amountMatcher, this.ratioMatcher, this.activeMatcher, this.initialMatcher);
+    }
+
+    public PrimitivesRecordMatcher withCountBetween(int min, int max) {
+        return withCount(new PrimitiveIntMatcher(actual -> actual >= min && actual <= max, () -> Matchers.allOf(Matchers.greaterThanOrEqualTo(min), Matchers.lessThanOrEqualTo(max))));
+    }
+
+    public PrimitivesRecordMatcher withAmount(long amount) {
+        return withAmount(new PrimitiveLongMatcher(actual -> actual == amount, () -> Matchers.is(amount)));
+    }
+
+    public PrimitivesRecordMatcher withAmount(Matcher<? super Long> amountMatcher) {
+        return new PrimitivesRecordMatcher(this.countMatcher, amountMatcher, this.ratioMatcher, this.activeMatcher, this.initialMatcher);
+    }
+
+    public PrimitivesRecordMatcher withAmountBetween(long min, long max) {
+        return withAmount(new PrimitiveLongMatcher(actual -> actual >= min && actual <= max, () -> Matchers.allOf(Matchers.greaterThanOrEqualTo(min), Matchers.lessThanOrEqualTo(max))));
+    }
+
+    public PrimitivesRecordMatcher withRatio(double ratio) {
+        return withRatio(new PrimitiveDoubleMatcher(actual -> Double.compare(actual, ratio) == 0, () -> Matchers.is(ratio)));
+    }
+
+    public PrimitivesRecordMatcher withRatio(Matcher<? super Double> ratioMatcher) {
+        return new PrimitivesRecordMatcher(this.countMatcher, this.amountMatcher, ratioMatcher, this.activeMatcher, this.initialMatcher);
+    }
+
+    public PrimitivesRecordMatcher withRatioCloseTo(double operand, double error) {
+        return withRatio(new PrimitiveDoubleMatcher(actual -> Math.abs(actual - operand) - error <= 0.0, () -> Matchers.closeTo(operand, error)));
+    }
+
+    public PrimitivesRecordMatcher withActive(boolean active) {
+        return withActive(new PrimitiveBooleanMatcher(active));
+    }
+
+    public PrimitivesRecordMatcher withActive(Matcher<? super Boolean> activeMatcher) {
+        return new PrimitivesRecordMatcher(this.countMatcher, this.amountMatcher, this.ratioMatcher, activeMatcher, this.initialMatcher);
+    }
+
+    public PrimitivesRecordMatcher withInitial(char initial) {
+        return withInitial(Matchers.is(initial));
+    }
+
+    public PrimitivesRecordMatcher withInitial(Matcher<? super Character> initialMatcher) {
+        return new PrimitivesRecordMatcher(this.countMatcher, this.amountMatcher, this.ratioMatcher, this.activeMatcher, initialMatcher);
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        if (!immutableDescription || !(description instanceof StringDescription)) {
+            describeSelfTo(description);
+            return;
+        }
+        String selfDescription = this.selfDescription;
+        if (selfDescription == null) {
+            StringDescription rendered = new StringDescription();
+            describeSelfTo(rendered);
+            this.selfDescription = selfDescription = rendered.toString();
+        }
+        description.appendText(selfDescription);
+    }
+
+    private void describeSelfTo(Description description) {
+        if (constrainedComponents == 0) {
+            description.appendText("any PrimitivesRecord record");
+        }
+        else {
+            description.appendText("PrimitivesRecord record where");
+            if ((constrainedComponents & (1L << 0)) != 0)
+                description.appendText(" count ").appendDescriptionOf(countMatcher);
+
+            if ((constrainedComponents & (1L << 1)) != 0)
+                description.appendText(" amount ").appendDescriptionOf(amountMatcher);
+
+            if ((constrainedComponents & (1L << 2)) != 0)
+                description.appendText(" ratio ").appendDescriptionOf(ratioMatcher);
+
+            if ((constrainedComponents & (1L << 3)) != 0)
+                description.appendText(" active ").appendDescriptionOf(activeMatcher);
+
+            if ((constrainedComponents & (1L << 4)) != 0)
+                description.appendText(" initial ").appendDescriptionOf(initialMatcher);
+        }
+    }
+
+    @Override
+    protected boolean matchesSafely(PrimitivesRecord element, Description mismatchDescription) {
+        long mismatchedComponents = 0;
+        if ((constrainedComponents & (1L << 0)) != 0 && !(countMatcher instanceof PrimitiveIntMatcher primitiveMatcher ? primitiveMatcher.matches(element.count()) : countMatcher.matches(element.count()))) mismatchedComponents |= 1L << 0;
+        if ((constrainedComponents & (1L << 1)) != 0 && !(amountMatcher instanceof PrimitiveLongMatcher primitiveMatcher ? primitiveMatcher.matches(element.amount()) : amountMatcher.matches(element.amount()))) mismatchedComponents |= 1L << 1;
+        if ((constrainedComponents & (1L << 2)) != 0 && !(ratioMatcher instanceof PrimitiveDoubleMatcher primitiveMatcher ? primitiveMatcher.matches(element.ratio()) : ratioMatcher.matches(element.ratio()))) mismatchedComponents |= 1L << 2;
+        if ((constrainedComponents & (1L << 3)) != 0 && !(activeMatcher instanceof PrimitiveBooleanMatcher primitiveMatcher ? primitiveMatcher.matches(element.active()) : activeMatcher.matches(element.active()))) mismatchedComponents |= 1L << 3;
+        if ((constrainedComponents & (1L << 4)) != 0 && !initialMatcher.matches(element.initial())) mismatchedComponents |= 1L << 4;
+        if (mismatchedComponents == 0) {
+            return true;
+        }
+        if (!(mismatchDescription instanceof Description.NullDescription)) {
+            describeMismatchedComponents(element, mismatchedComponents, mismatchDescription);
+        }
+        return false;
+    }
+
+    private void describeMismatchedComponents(PrimitivesRecord element, long mismatchedComponents,
+            Description mismatchDescription) {
+        if ((mismatchedComponents & (1L << 0)) != 0) {
+            mismatchDescription.appendText(" count ");
+            countMatcher.describeMismatch(element.count(), mismatchDescription);
+        }
+        if ((mismatchedComponents & (1L << 1)) != 0) {
+            mismatchDescription.appendText(" amount ");
+            amountMatcher.describeMismatch(element.amount(), mismatchDescription);
+        }
+        if ((mismatchedComponents & (1L << 2)) != 0) {
+            mismatchDescription.appendText(" ratio ");
+            ratioMatcher.describeMismatch(element.ratio(), mismatchDescription);
+        }
+        if ((mismatchedComponents & (1L << 3)) != 0) {
+            mismatchDescription.appendText(" active ");
+            activeMatcher.describeMismatch(element.active(), mismatchDescription);
+        }
+        if ((mismatchedComponents & (1L << 4)) != 0) {
+            mismatchDescription.appendText(" initial ");
+            initialMatcher.describeMismatch(element.initial(), mismatchDescription);
+        }
+    }
+
+    private static final class PrimitiveIntMatcher extends BaseMatcher<Integer> {
+        private final IntPredicate predicate;
+
+        private final Supplier<Matcher<? super Integer>> hamcrestEquivalent;
+
+        private PrimitiveIntMatcher(IntPredicate predicate,
+                Supplier<Matcher<? super Integer>> hamcrestEquivalent) {
+            this.predicate = predicate;
+            this.hamcrestEquivalent = hamcrestEquivalent;
+        }
+
+        boolean matches(int actual) {
+            return predicate.test(actual);
+        }
+
+        @Override
+        public boolean matches(Object actual) {
+            return actual instanceof Integer value && matches(value.intValue());
+        }
+
+        @Override
+        public void describeTo(Description description) {
+            hamcrestEquivalent.get().describeTo(description);
+        }
+
+        @Override
+        public void describeMismatch(Object actual, Description mismatchDescription) {
+            hamcrestEquivalent.get().describeMismatch(actual, mismatchDescription);
+        }
+    }
+
+    private static final class PrimitiveLongMatcher extends BaseMatcher<Long> {
+        private final LongPredicate predicate;
+
+        private final Supplier<Matcher<? super Long>> hamcrestEquivalent;
+
+        private PrimitiveLongMatcher(LongPredicate predicate,
+                Supplier<Matcher<? super Long>> hamcrestEquivalent) {
+            this.predicate = predicate;
+            this.hamcrestEquivalent = hamcrestEquivalent;
+        }
+
+        boolean matches(long actual) {
+            return predicate.test(actual);
+        }
+
+        @Override
+        public boolean matches(Object actual) {
+            return actual instanceof Long value && matches(value.longValue());
+        }
+
+        @Override
+        public void describeTo(Description description) {
+            hamcrestEquivalent.get().describeTo(description);
+        }
+
+        @Override
+        public void describeMismatch(Object actual, Description mismatchDescription) {
+            hamcrestEquivalent.get().describeMismatch(actual, mismatchDescription);
+        }
+    }
+
+    private static final class PrimitiveDoubleMatcher extends BaseMatcher<Double> {
+        private final DoublePredicate predicate;
+
+        private final Supplier<Matcher<? super Double>> hamcrestEquivalent;
+
+        private PrimitiveDoubleMatcher(DoublePredicate predicate,
+                Supplier<Matcher<? super Double>> hamcrestEquivalent) {
+            this.predicate = predicate;
+            this.hamcrestEquivalent = hamcrestEquivalent;
+        }
+
+        boolean matches(double actual) {
+            return predicate.test(actual);
+        }
+
+        @Override
+        public boolean matches(Object actual) {
+            return actual instanceof Double value && matches(value.doubleValue());
+        }
+
+        @Override
+        public void describeTo(Description description) {
+            hamcrestEquivalent.get().describeTo(description);
+        }
+
+        @Override
+        public void describeMismatch(Object actual, Description mismatchDescription) {
+            hamcrestEquivalent.get().describeMismatch(actual, mismatchDescription);
+        }
+    }
+
+    private static final class PrimitiveBooleanMatcher extends BaseMatcher<Boolean> {
+        private final boolean expected;
+
+        private PrimitiveBooleanMatcher(boolean expected) {
+            this.expected = expected;
+        }
+
+        boolean matches(boolean actual) {
+            return actual == expected;
+        }
+
+        @Override
+        public boolean matches(Object actual) {
+            return actual instanceof Boolean value && matches(value.booleanValue());
+        }
+
+        @Override
+        public void describeTo(Description description) {
+            Matchers.is(expected).describeTo(description);
+        }
+
+        @Override
+        public void describeMismatch(Object actual, Description mismatchDescription) {
+            Matchers.is(expected).describeMismatch(actual, mismatchDescription);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package no.rune.record.matcher.example.primitives;
+
+import org.hamcrest.BaseMatcher;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static no.rune.record.matcher.ExpectedMatcher.expectedMatcherFor;
+import static no.rune.record.matcher.example.primitives.PrimitivesRecordMatcher.aPrimitivesRecord;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PrimitivesRecordMatcherTest {
+
+    private static final PrimitivesRecord record = new PrimitivesRecord(3, 3000L, 0.5, true, 'x');
+
+    private static void assertSameDescriptions(Matcher<PrimitivesRecord> matcher, Matcher<PrimitivesRecord> hamcrestEquivalent) {
+        var mismatch = new StringDescription();
+        matcher.describeMismatch(record, mismatch);
+        var equivalentMismatch = new StringDescription();
+        hamcrestEquivalent.describeMismatch(record, equivalentMismatch);
+        assertAll(
+                () -> assertEquals(StringDescription.toString(hamcrestEquivalent), StringDescription.toString(matcher)),
+                () -> assertEquals(equivalentMismatch.toString(), mismatch.toString()));
+    }
+
+    @Test
+    void matchesPrimitiveValues() {
+        assertThat(record, aPrimitivesRecord().withCount(3).withAmount(3000L).withRatio(0.5).withActive(true).withInitial('x'));
+        assertThat(record, not(aPrimitivesRecord().withCount(4)));
+        assertThat(record, not(aPrimitivesRecord().withAmount(3001L)));
+        assertThat(record, not(aPrimitivesRecord().withRatio(0.25)));
+        assertThat(record, not(aPrimitivesRecord().withActive(false)));
+    }
+
+    @Test
+    void matchesDoubleValuesInSameWayAsEquals() {
+        assertThat(new PrimitivesRecord(0, 0, Double.NaN, false, 'x'), aPrimitivesRecord().withRatio(Double.NaN));
+        assertThat(new PrimitivesRecord(0, 0, -0.0, false, 'x'), not(aPrimitivesRecord().withRatio(0.0)));
+    }
+
+    @Test
+    void matchesRanges() {
+        assertThat(record, aPrimitivesRecord().withCountBetween(3, 4).withAmountBetween(0, 3000L).withRatioCloseTo(0.4, 0.1));
+        assertThat(record, not(aPrimitivesRecord().withCountBetween(4, 5)));
+        assertThat(record, not(aPrimitivesRecord().withAmountBetween(0, 2999L)));
+        assertThat(record, not(aPrimitivesRecord().withRatioCloseTo(0.4, 0.05)));
+    }
+
+    @Test
+    void describesSameAsHamcrestMatchers() {
+        assertAll(
+                () -> assertSameDescriptions(aPrimitivesRecord().withCount(4), aPrimitivesRecord().withCount(is(4))),
+                () -> assertSameDescriptions(aPrimitivesRecord().withAmount(3001L), aPrimitivesRecord().withAmount(is(3001L))),
+                () -> assertSameDescriptions(aPrimitivesRecord().withRatio(0.25), aPrimitivesRecord().withRatio(is(0.25))),
+                () -> assertSameDescriptions(aPrimitivesRecord().withActive(false), aPrimitivesRecord().withActive(is(false))),
+                () -> assertSameDescriptions(aPrimitivesRecord().withCountBetween(4, 5),
+                        aPrimitivesRecord().withCount(allOf(greaterThanOrEqualTo(4), lessThanOrEqualTo(5)))),
+                () -> assertSameDescriptions(aPrimitivesRecord().withAmountBetween(0, 2999L),
+                        aPrimitivesRecord().withAmount(allOf(greaterThanOrEqualTo(0L), lessThanOrEqualTo(2999L)))),
+                () -> assertSameDescriptions(aPrimitivesRecord().withRatioCloseTo(0.4, 0.05),
+                        aPrimitivesRecord().withRatio(closeTo(0.4, 0.05))));
+    }
+
+    @Test
+    void describesSameWhenDescribedRepeatedly() {
+        var matcher = aPrimitivesRecord().withCount(4).withRatioCloseTo(0.4, 0.05).withActive(true);
+        var description = StringDescription.toString(matcher);
+        assertAll(
+                () -> assertEquals("PrimitivesRecord record where count is <4> ratio a numeric value within <0.05> of <0.4> active is <true>", description),
+                () -> assertEquals(description, StringDescription.toString(matcher)),
+                () -> assertEquals("a " + description, new StringDescription().appendText("a ").appendDescriptionOf(matcher).toString()));
+    }
+
+    @Test
+    void describesMatchersNotKnownToBeImmutableEachTime() {
+        var describedInitial = new AtomicInteger();
+        var matcher = aPrimitivesRecord().withCount(4).withInitial(new BaseMatcher<>() {
+            @Override
+            public boolean matches(Object item) {
+                return true;
+            }
+
+            @Override
+            public void describeTo(Description description) {
+                description.appendText("initial described " + describedInitial.incrementAndGet() + " time(s)");
+            }
+        });
+        assertAll(
+                () -> assertEquals("PrimitivesRecord record where count is <4> initial initial described 1 time(s)", StringDescription.toString(matcher)),
+                () -> assertEquals("PrimitivesRecord record where count is <4> initial initial described 2 time(s)", StringDescription.toString(matcher)));
+    }
+
+    @Test
+    void generatesExpectedMatcher() {
+        expectedMatcherFor(PrimitivesRecord.class).assertEqualToGeneratedMatcherSourceCode();
+    }
+
+}
@@ -1,51 +1,125 @@
 package no.rune.record.matcher.example.privateparts;
 
+import java.util.function.IntPredicate;
+import java.util.function.Supplier;
+import org.hamcrest.BaseMatcher;
 import org.hamcrest.Description;
 import org.hamcrest.Matcher;
 import org.hamcrest.Matchers;
+import org.hamcrest.StringDescription;
 import org.hamcrest.TypeSafeDiagnosingMatcher;
 import org.hamcrest.core.IsAnything;
 
 public final class PrivatePartsRecordMatcher extends TypeSafeDiagnosingMatcher<PrivatePartsRecord> {
+    private static final Matcher<Object> ANY_NUMBER = new IsAnything<>("any number");
+
+    private static final PrivatePartsRecordMatcher ANY_PRIVATE_PARTS_RECORD = new PrivatePartsRecordMatcher(ANY_NUMBER);
+
     private final Matcher<? super Integer> numberMatcher;
 
+    private final long constrainedComponents;
+
+    private final boolean immutableDescription;
+
+    private String selfDescription;
+
     private PrivatePartsRecordMatcher(Matcher<? super Integer> numberMatcher) {
         this.numberMatcher = numberMatcher;
+        this.constrainedComponents = (numberMatcher instanceof IsAnything ? 0 : 1L << 0);
+        this.immutableDescription = (numberMatcher instanceof IsAnything || numberMatcher instanceof PrimitiveIntMatcher);
     }
 
     public static PrivatePartsRecordMatcher aPrivatePartsRecord() {
-        return new PrivatePartsRecordMatcher(new IsAnything<>("any number"));
+        return ANY_PRIVATE_PARTS_RECORD;
     }
 
     public PrivatePartsRecordMatcher withNumber(int number) {
-        return withNumber(Matchers.is(number));
+        return withNumber(new PrimitiveIntMatcher(actual -> actual == number, () -> Matchers.is(number)));
     }
 
     public PrivatePartsRecordMatcher withNumber(Matcher<? super Integer> numberMatcher) {
         return new PrivatePartsRecordMatcher(numberMatcher);
     }
 
+    public PrivatePartsRecordMatcher withNumberBetween(int min, int max) {
+        return withNumber(new PrimitiveIntMatcher(actual -> actual >= min && actual <= max, () -> Matchers.allOf(Matchers.greaterThanOrEqualTo(min), Matchers.lessThanOrEqualTo(max))));
+    }
+
     @Override
     public void describeTo(Description description) {
-        if (numberMatcher instanceof IsAnything) {
-            description.appendText("any ").appendText(PrivatePartsRecord.class.getSimpleName()).appendText(" record");
+        if (!immutableDescription || !(description instanceof StringDescription)) {
+            describeSelfTo(description);
+            return;
+        }
+        String selfDescription = this.selfDescription;
+        if (selfDescription == null) {
+            StringDescription rendered = new StringDescription();
+            describeSelfTo(rendered);
+            this.selfDescription = selfDescription = rendered.toString();
+        }
+        description.appendText(selfDescription);
+    }
+
+    private void describeSelfTo(Description description) {
+        if (constrainedComponents == 0) {
+            description.appendText("any PrivatePartsRecord record");
         }
         else {
-            description
-                        .appendText(PrivatePartsRecord.class.getSimpleName()).appendText(" record where");
-            if (!(numberMatcher instanceof IsAnything))
+            description.appendText("PrivatePartsRecord record where");
+            if ((constrainedComponents & (1L << 0)) != 0)
                 description.appendText(" number ").appendDescriptionOf(numberMatcher);
         }
     }
 
     @Override
     protected boolean matchesSafely(PrivatePartsRecord element, Description mismatchDescription) {
-        boolean matches = true;
-        if (!numberMatcher.matches(element.number())) {
+        long mismatchedComponents = 0;
+        if ((constrainedComponents & (1L << 0)) != 0 && !(numberMatcher instanceof PrimitiveIntMatcher primitiveMatcher ? primitiveMatcher.matches(element.number()) : numberMatcher.matches(element.number()))) mismatchedComponents |= 1L << 0;
+        if (mismatchedComponents == 0) {
+            return true;
+        }
+        if (!(mismatchDescription instanceof Description.NullDescription)) {
+            describeMismatchedComponents(element, mismatchedComponents, mismatchDescription);
+        }
+        return false;
+    }
+
+    private void describeMismatchedComponents(PrivatePartsRecord element, long mismatchedComponents,
+            Description mismatchDescription) {
+        if ((mismatchedComponents & (1L << 0)) != 0) {
             mismatchDescription.appendText(" number ");
             numberMatcher.describeMismatch(element.number(), mismatchDescription);
-            matches = false;
         }
-        return matches;
+    }
+
+    private static final class PrimitiveIntMatcher extends BaseMatcher<Integer> {
+        private final IntPredicate predicate;
+
+        private final Supplier<Matcher<? super Integer>> hamcrestEquivalent;
+
+        private PrimitiveIntMatcher(IntPredicate predicate,
+                Supplier<Matcher<? super Integer>> hamcrestEquivalent) {
+            this.predicate = predicate;
+            this.hamcrestEquivalent = hamcrestEquivalent;
+        }
+
+        boolean matches(int actual) {
+            return predicate.test(actual);
+        }
+
+        @Override
+        public boolean matches(Object actual) {
+            return actual instanceof Integer value && matches(value.intValue());
+        }
+
+        @Override
+        public void describeTo(Description description) {
+            hamcrestEquivalent.get().describeTo(description);
+        }
+
+        @Override
+        public void describeMismatch(Object actual, Description mismatchDescription) {
+            hamcrestEquivalent.get().describeMismatch(actual, mismatchDescription);
+        }
     }
 }
@@ -1,24 +1,38 @@
 package no.rune.record.matcher.example.singlestring;
 
+import org.hamcrest.BaseMatcher;
 import org.hamcrest.Description;
 import org.hamcrest.Matcher;
 import org.hamcrest.Matchers;
+import org.hamcrest.StringDescription;
 import org.hamcrest.TypeSafeDiagnosingMatcher;
 import org.hamcrest.core.IsAnything;
 
 public final class SingleStringRecordMatcher extends TypeSafeDiagnosingMatcher<SingleStringRecord> {
+    private static final Matcher<Object> ANY_VALUE = new IsAnything<>("any value");
+
+    private static final SingleStringRecordMatcher ANY_SINGLE_STRING_RECORD = new SingleStringRecordMatcher(ANY_VALUE);
+
     private final Matcher<? super String> valueMatcher;
 
+    private final long constrainedComponents;
+
+    private final boolean immutableDescription;
+
+    private String selfDescription;
+
     private SingleStringRecordMatcher(Matcher<? super String> valueMatcher) {
         this.valueMatcher = valueMatcher;
+        this.constrainedComponents = (valueMatcher instanceof IsAnything ? 0 : 1L << 0);
+        this.immutableDescription = (valueMatcher instanceof IsAnything || valueMatcher instanceof ExpectedValue);
     }
 
     public static SingleStringRecordMatcher aSingleStringRecord() {
-        return new SingleStringRecordMatcher(new IsAnything<>("any value"));
+        return ANY_SINGLE_STRING_RECORD;
     }
 
     public SingleStringRecordMatcher withValue(String value) {
-        return withValue(Matchers.is(value));
+        return withValue(new ExpectedValue<>(Matchers.is(value)));
     }
 
     public SingleStringRecordMatcher withValue(Matcher<? super String> valueMatcher) {
@@ -27,25 +41,71 @@ public final class SingleStringRecordMatcher extends TypeSafeDiagnosingMatcher<S
 
     @Override
     public void describeTo(Description description) {
-        if (valueMatcher instanceof IsAnything) {
-            description.appendText("any ").appendText(SingleStringRecord.class.getSimpleName()).appendText(" record");
+        if (!immutableDescription || !(description instanceof StringDescription)) {
+            describeSelfTo(description);
+            return;
+        }
+        String selfDescription = this.selfDescription;
+        if (selfDescription == null) {
+            StringDescription rendered = new StringDescription();
+            describeSelfTo(rendered);
+            this.selfDescription = selfDescription = rendered.toString();
+        }
+        description.appendText(selfDescription);
+    }
+
+    private void describeSelfTo(Description description) {
+        if (constrainedComponents == 0) {
+            description.appendText("any SingleStringRecord record");
         }
         else {
-            description
-                        .appendText(SingleStringRecord.class.getSimpleName()).appendText(" record where");
-            if (!(valueMatcher instanceof IsAnything))
+            description.appendText("SingleStringRecord record where");
+            if ((constrainedComponents & (1L << 0)) != 0)
                 description.appendText(" value ").appendDescriptionOf(valueMatcher);
         }
     }
 
     @Override
     protected boolean matchesSafely(SingleStringRecord element, Description mismatchDescription) {
-        boolean matches = true;
-        if (!valueMatcher.matches(element.value())) {
+        long mismatchedComponents = 0;
+        if ((constrainedComponents & (1L << 0)) != 0 && !valueMatcher.matches(element.value())) mismatchedComponents |= 1L << 0;
+        if (mismatchedComponents == 0) {
+            return true;
+        }
+        if (!(mismatchDescription instanceof Description.NullDescription)) {
+            describeMismatchedComponents(element, mismatchedComponents, mismatchDescription);
+        }
+        return false;
+    }
+
+    private void describeMismatchedComponents(SingleStringRecord element, long mismatchedComponents,
+            Description mismatchDescription) {
+        if ((mismatchedComponents & (1L << 0)) != 0) {
             mismatchDescription.appendText(" value ");
             valueMatcher.describeMismatch(element.value(), mismatchDescription);
-            matches = false;
         }
-        return matches;
+    }
+
+    private static final class ExpectedValue<T> extends BaseMatcher<T> {
+        private final Matcher<T> hamcrestEquivalent;
+
+        private ExpectedValue(Matcher<T> hamcrestEquivalent) {
+            this.hamcrestEquivalent = hamcrestEquivalent;
+        }
+
+        @Override
+        public boolean matches(Object actual) {
+            return hamcrestEquivalent.matches(actual);
+        }
+
+        @Override
+        public void describeTo(Description description) {
+            hamcrestEquivalent.describeTo(description);
+        }
+
+        @Override
+        public void describeMismatch(Object actual, Description mismatchDescription) {
+            hamcrestEquivalent.describeMismatch(actual, mismatchDescription);
+        }
     }
 }
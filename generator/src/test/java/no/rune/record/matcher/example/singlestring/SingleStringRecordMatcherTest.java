@@ -1,12 +1,18 @@
 package no.rune.record.matcher.example.singlestring;
 
+import org.hamcrest.BaseDescription;
+import org.hamcrest.Description;
+import org.hamcrest.StringDescription;
 import org.junit.jupiter.api.Test;
 
 import static no.rune.record.matcher.ExpectedMatcher.expectedMatcherFor;
 import static no.rune.record.matcher.example.singlestring.SingleStringRecordMatcher.aSingleStringRecord;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static uk.co.probablyfine.matchers.Java8Matchers.where;
 
@@ -39,6 +45,37 @@ class SingleStringRecordMatcherTest {
                 containsString(SingleStringRecord.class.getSimpleName() + " record where value is \"y\"\n     but:  value was \"x\"")));
     }
 
+    @Test
+    void describesValueSameAsHamcrestWhenDescribedRepeatedly() {
+        var matcher = aSingleStringRecord().withValue("y");
+        var description = StringDescription.toString(aSingleStringRecord().withValue(is("y")));
+        assertAll(
+                () -> assertEquals("SingleStringRecord record where value is \"y\"", description),
+                () -> assertEquals(description, StringDescription.toString(matcher)),
+                () -> assertEquals(description, StringDescription.toString(matcher)));
+    }
+
+    @Test
+    void describesValueToOtherKindsOfDescriptionsEachTime() {
+        var matcher = aSingleStringRecord().withValue("y");
+        StringDescription.toString(matcher);
+        var description = new BaseDescription() {
+            final StringBuilder text = new StringBuilder();
+
+            @Override
+            protected void append(char c) {
+                text.append(c);
+            }
+
+            @Override
+            public Description appendValue(Object value) {
+                return appendText("<<" + value + ">>");
+            }
+        };
+        matcher.describeTo(description);
+        assertEquals("SingleStringRecord record where value is <<y>>", description.text.toString());
+    }
+
     @Test
     void generatesExpectedMatcher() {
         expectedMatcherFor(SingleStringRecord.class).assertEqualToGeneratedMatcherSourceCode();
@@ -7,7 +7,9 @@ import static no.rune.record.matcher.example.twovalues.TwoValuesRecordMatcher.aT
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static uk.co.probablyfine.matchers.Java8Matchers.where;
 
@@ -26,6 +28,12 @@ class TwoValuesRecordMatcherTest {
         assertThat(new TwoValuesRecord(null, 0), aTwoValuesRecord());
     }
 
+    @Test
+    void sharesMatcherOfAnyRecord() {
+        assertThat(aTwoValuesRecord(), sameInstance(aTwoValuesRecord()));
+        assertThat(aTwoValuesRecord().withText("x"), not(sameInstance(aTwoValuesRecord().withText("x"))));
+    }
+
     @Test
     void matchesRecordWithText() {
         assertThat(new TwoValuesRecord("x", 0), aTwoValuesRecord().withText("x"));
@@ -0,0 +1,72 @@
+package no.rune.record.matcher.example.wide;
+
+/**
+ * A record with more components than can be flagged by the bits of a single {@code long}.
+ */
+public record WideRecord(
+        String text1,
+        int number2,
+        String text3,
+        int number4,
+        String text5,
+        int number6,
+        String text7,
+        int number8,
+        String text9,
+        int number10,
+        String text11,
+        int number12,
+        String text13,
+        int number14,
+        String text15,
+        int number16,
+        String text17,
+        int number18,
+        String text19,
+        int number20,
+        String text21,
+        int number22,
+        String text23,
+        int number24,
+        String text25,
+        int number26,
+        String text27,
+        int number28,
+        String text29,
+        int number30,
+        String text31,
+        int number32,
+        String text33,
+        int number34,
+        String text35,
+        int number36,
+        String text37,
+        int number38,
+        String text39,
+        int number40,
+        String text41,
+        int number42,
+        String text43,
+        int number44,
+        String text45,
+        int number46,
+        String text47,
+        int number48,
+        String text49,
+        int number50,
+        String text51,
+        int number52,
+        String text53,
+        int number54,
+        String text55,
+        int number56,
+        String text57,
+        int number58,
+        String text59,
+        int number60,
+        String text61,
+        int number62,
+        String text63,
+        int number64,
+        String text65) {
+}
@@ -0,0 +1,1779 @@
+package no.rune.record.matcher.example.wide;
+
+import java.util.function.IntPredicate;
+import java.util.function.Supplier;
+import org.hamcrest.BaseMatcher;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.Matchers;
+import org.hamcrest.StringDescription;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+import org.hamcrest.core.IsAnything;
+
+public final class WideRecordMatcher extends TypeSafeDiagnosingMatcher<WideRecord> {
+    private static final Matcher<Object> ANY_TEXT1 = new IsAnything<>("any text1");
+
+    private static final Matcher<Object> ANY_NUMBER2 = new IsAnything<>("any number2");
+
+    private static final Matcher<Object> ANY_TEXT3 = new IsAnything<>("any text3");
+
+    private static final Matcher<Object> ANY_NUMBER4 = new IsAnything<>("any number4");
+
+    private static final Matcher<Object> ANY_TEXT5 = new IsAnything<>("any text5");
+
+    private static final Matcher<Object> ANY_NUMBER6 = new IsAnything<>("any number6");
+
+    private static final Matcher<Object> ANY_TEXT7 = new IsAnything<>("any text7");
+
+    private static final Matcher<Object> ANY_NUMBER8 = new IsAnything<>("any number8");
+
+    private static final Matcher<Object> ANY_TEXT9 = new IsAnything<>("any text9");
+
+    private static final Matcher<Object> ANY_NUMBER10 = new IsAnything<>("any number10");
+
+    private static final Matcher<Object> ANY_TEXT11 = new IsAnything<>("any text11");
+
+    private static final Matcher<Object> ANY_NUMBER12 = new IsAnything<>("any number12");
+
+    private static final Matcher<Object> ANY_TEXT13 = new IsAnything<>("any text13");
+
+    private static final Matcher<Object> ANY_NUMBER14 = new IsAnything<>("any number14");
+
+    private static final Matcher<Object> ANY_TEXT15 = new IsAnything<>("any text15");
+
+    private static final Matcher<Object> ANY_NUMBER16 = new IsAnything<>("any number16");
+
+    private static final Matcher<Object> ANY_TEXT17 = new IsAnything<>("any text17");
+
+    private static final Matcher<Object> ANY_NUMBER18 = new IsAnything<>("any number18");
+
+    private static final Matcher<Object> ANY_TEXT19 = new IsAnything<>("any text19");
+
+    private static final Matcher<Object> ANY_NUMBER20 = new IsAnything<>("any number20");
+
+    private static final Matcher<Object> ANY_TEXT21 = new IsAnything<>("any text21");
+
+    private static final Matcher<Object> ANY_NUMBER22 = new IsAnything<>("any number22");
+
+    private static final Matcher<Object> ANY_TEXT23 = new IsAnything<>("any text23");
+
+    private static final Matcher<Object> ANY_NUMBER24 = new IsAnything<>("any number24");
+
+    private static final Matcher<Object> ANY_TEXT25 = new IsAnything<>("any text25");
+
+    private static final Matcher<Object> ANY_NUMBER26 = new IsAnything<>("any number26");
+
+    private static final Matcher<Object> ANY_TEXT27 = new IsAnything<>("any text27");
+
+    private static final Matcher<Object> ANY_NUMBER28 = new IsAnything<>("any number28");
+
+    private static final Matcher<Object> ANY_TEXT29 = new IsAnything<>("any text29");
+
+    private static final Matcher<Object> ANY_NUMBER30 = new IsAnything<>("any number30");
+
+    private static final Matcher<Object> ANY_TEXT31 = new IsAnything<>("any text31");
+
+    private static final Matcher<Object> ANY_NUMBER32 = new IsAnything<>("any number32");
+
+    private static final Matcher<Object> ANY_TEXT33 = new IsAnything<>("any text33");
+
+    private static final Matcher<Object> ANY_NUMBER34 = new IsAnything<>("any number34");
+
+    private static final Matcher<Object> ANY_TEXT35 = new IsAnything<>("any text35");
+
+    private static final Matcher<Object> ANY_NUMBER36 = new IsAnything<>("any number36");
+
+    private static final Matcher<Object> ANY_TEXT37 = new IsAnything<>("any text37");
+
+    private static final Matcher<Object> ANY_NUMBER38 = new IsAnything<>("any number38");
+
+    private static final Matcher<Object> ANY_TEXT39 = new IsAnything<>("any text39");
+
+    private static final Matcher<Object> ANY_NUMBER40 = new IsAnything<>("any number40");
+
+    private static final Matcher<Object> ANY_TEXT41 = new IsAnything<>("any text41");
+
+    private static final Matcher<Object> ANY_NUMBER42 = new IsAnything<>("any number42");
+
+    private static final Matcher<Object> ANY_TEXT43 = new IsAnything<>("any text43");
+
+    private static final Matcher<Object> ANY_NUMBER44 = new IsAnything<>("any number44");
+
+    private static final Matcher<Object> ANY_TEXT45 = new IsAnything<>("any text45");
+
+    private static final Matcher<Object> ANY_NUMBER46 = new IsAnything<>("any number46");
+
+    private static final Matcher<Object> ANY_TEXT47 = new IsAnything<>("any text47");
+
+    private static final Matcher<Object> ANY_NUMBER48 = new IsAnything<>("any number48");
+
+    private static final Matcher<Object> ANY_TEXT49 = new IsAnything<>("any text49");
+
+    private static final Matcher<Object> ANY_NUMBER50 = new IsAnything<>("any number50");
+
+    private static final Matcher<Object> ANY_TEXT51 = new IsAnything<>("any text51");
+
+    private static final Matcher<Object> ANY_NUMBER52 = new IsAnything<>("any number52");
+
+    private static final Matcher<Object> ANY_TEXT53 = new IsAnything<>("any text53");
+
+    private static final Matcher<Object> ANY_NUMBER54 = new IsAnything<>("any number54");
+
+    private static final Matcher<Object> ANY_TEXT55 = new IsAnything<>("any text55");
+
+    private static final Matcher<Object> ANY_NUMBER56 = new IsAnything<>("any number56");
+
+    private static final Matcher<Object> ANY_TEXT57 = new IsAnything<>("any text57");
+
+    private static final Matcher<Object> ANY_NUMBER58 = new IsAnything<>("any number58");
+
+    private static final Matcher<Object> ANY_TEXT59 = new IsAnything<>("any text59");
+
+    private static final Matcher<Object> ANY_NUMBER60 = new IsAnything<>("any number60");
+
+    private static final Matcher<Object> ANY_TEXT61 = new IsAnything<>("any text61");
+
+    private static final Matcher<Object> ANY_NUMBER62 = new IsAnything<>("any number62");
+
+    private static final Matcher<Object> ANY_TEXT63 = new IsAnything<>("any text63");
+
+    private static final Matcher<Object> ANY_NUMBER64 = new IsAnything<>("any number64");
+
+    private static final Matcher<Object> ANY_TEXT65 = new IsAnything<>("any text65");
+
+    private static final WideRecordMatcher ANY_WIDE_RECORD = new WideRecordMatcher(ANY_TEXT1, ANY_NUMBER2, ANY_TEXT3, ANY_NUMBER4, ANY_TEXT5, ANY_NUMBER6, ANY_TEXT7, ANY_NUMBER8, ANY_TEXT9, ANY_NUMBER10, ANY_TEXT11, ANY_NUMBER12, ANY_TEXT13, ANY_NUMBER14, ANY_TEXT15, ANY_NUMBER16, ANY_TEXT17, ANY_NUMBER18, ANY_TEXT19, ANY_NUMBER20, ANY_TEXT21, ANY_NUMBER22, ANY_TEXT23, ANY_NUMBER24, ANY_TEXT25, ANY_NUMBER26, ANY_TEXT27, ANY_NUMBER28, ANY_TEXT29, ANY_NUMBER30, ANY_TEXT31, ANY_NUMBER32, ANY_TEXT33, ANY_NUMBER34, ANY_TEXT35, ANY_NUMBER36, ANY_TEXT37, ANY_NUMBER38, ANY_TEXT39, ANY_NUMBER40, ANY_TEXT41, ANY_NUMBER42, ANY_TEXT43, ANY_NUMBER44, ANY_TEXT45, ANY_NUMBER46, ANY_TEXT47, ANY_NUMBER48, ANY_TEXT49, ANY_NUMBER50, ANY_TEXT51, ANY_NUMBER52, ANY_TEXT53, ANY_NUMBER54, ANY_TEXT55, ANY_NUMBER56, ANY_TEXT57, ANY_NUMBER58, ANY_TEXT59, ANY_NUMBER60, ANY_TEXT61, ANY_NUMBER62, ANY_TEXT63, ANY_NUMBER64, ANY_TEXT65);
+
+    private final Matcher<? super String> text1Matcher;
+
+    private final Matcher<? super Integer> number2Matcher;
+
+    private final Matcher<? super String> text3Matcher;
+
+    private final Matcher<? super Integer> number4Matcher;
+
+    private final Matcher<? super String> text5Matcher;
+
+    private final Matcher<? super Integer> number6Matcher;
+
+    private final Matcher<? super String> text7Matcher;
+
+    private final Matcher<? super Integer> number8Matcher;
+
+    private final Matcher<? super String> text9Matcher;
+
+    private final Matcher<? super Integer> number10Matcher;
+
+    private final Matcher<? super String> text11Matcher;
+
+    private final Matcher<? super Integer> number12Matcher;
+
+    private final Matcher<? super String> text13Matcher;
+
+    private final Matcher<? super Integer> number14Matcher;
+
+    private final Matcher<? super String> text15Matcher;
+
+    private final Matcher<? super Integer> number16Matcher;
+
+    private final Matcher<? super String> text17Matcher;
+
+    private final Matcher<? super Integer> number18Matcher;
+
+    private final Matcher<? super String> text19Matcher;
+
+    private final Matcher<? super Integer> number20Matcher;
+
+    private final Matcher<? super String> text21Matcher;
+
+    private final Matcher<? super Integer> number22Matcher;
+
+    private final Matcher<? super String> text23Matcher;
+
+    private final Matcher<? super Integer> number24Matcher;
+
+    private final Matcher<? super String> text25Matcher;
+
+    private final Matcher<? super Integer> number26Matcher;
+
+    private final Matcher<? super String> text27Matcher;
+
+    private final Matcher<? super Integer> number28Matcher;
+
+    private final Matcher<? super String> text29Matcher;
+
+    private final Matcher<? super Integer> number30Matcher;
+
+    private final Matcher<? super String> text31Matcher;
+
+    private final Matcher<? super Integer> number32Matcher;
+
+    private final Matcher<? super String> text33Matcher;
+
+    private final Matcher<? super Integer> number34Matcher;
+
+    private final Matcher<? super String> text35Matcher;
+
+    private final Matcher<? super Integer> number36Matcher;
+
+    private final Matcher<? super String> text37Matcher;
+
+    private final Matcher<? super Integer> number38Matcher;
+
+    private final Matcher<? super String> text39Matcher;
+
+    private final Matcher<? super Integer> number40Matcher;
+
+    private final Matcher<? super String> text41Matcher;
+
+    private final Matcher<? super Integer> number42Matcher;
+
+    private final Matcher<? super String> text43Matcher;
+
+    private final Matcher<? super Integer> number44Matcher;
+
+    private final Matcher<? super String> text45Matcher;
+
+    private final Matcher<? super Integer> number46Matcher;
+
+    private final Matcher<? super String> text47Matcher;
+
+    private final Matcher<? super Integer> number48Matcher;
+
+    private final Matcher<? super String> text49Matcher;
+
+    private final Matcher<? super Integer> number50Matcher;
+
+    private final Matcher<? super String> text51Matcher;
+
+    private final Matcher<? super Integer> number52Matcher;
+
+    private final Matcher<? super String> text53Matcher;
+
+    private final Matcher<? super Integer> number54Matcher;
+
+    private final Matcher<? super String> text55Matcher;
+
+    private final Matcher<? super Integer> number56Matcher;
+
+    private final Matcher<? super String> text57Matcher;
+
+    private final Matcher<? super Integer> number58Matcher;
+
+    private final Matcher<? super String> text59Matcher;
+
+    private final Matcher<? super Integer> number60Matcher;
+
+    private final Matcher<? super String> text61Matcher;
+
+    private final Matcher<? super Integer> number62Matcher;
+
+    private final Matcher<? super String> text63Matcher;
+
+    private final Matcher<? super Integer> number64Matcher;
+
+    private final Matcher<? super String> text65Matcher;
+
+    private final long constrainedComponents;
+
+    private final long constrainedComponents1;
+
+    private final boolean immutableDescription;
+
+    private String selfDescription;
+
+    private WideRecordMatcher(Matcher<? super String> text1Matcher,
+            Matcher<? super Integer> number2Matcher, Matcher<? super String> text3Matcher,
+            Matcher<? super Integer> number4Matcher, Matcher<? super String> text5Matcher,
+            Matcher<? super Integer> number6Matcher, Matcher<? super String> text7Matcher,
+            Matcher<? super Integer> number8Matcher, Matcher<? super String> text9Matcher,
+            Matcher<? super Integer> number10Matcher, Matcher<? super String> text11Matcher,
+            Matcher<? super Integer> number12Matcher, Matcher<? super String> text13Matcher,
+            Matcher<? super Integer> number14Matcher, Matcher<? super String> text15Matcher,
+            Matcher<? super Integer> number16Matcher, Matcher<? super String> text17Matcher,
+            Matcher<? super Integer> number18Matcher, Matcher<? super String> text19Matcher,
+            Matcher<? super Integer> number20Matcher, Matcher<? super String> text21Matcher,
+            Matcher<? super Integer> number22Matcher, Matcher<? super String> text23Matcher,
+            Matcher<? super Integer> number24Matcher, Matcher<? super String> text25Matcher,
+            Matcher<? super Integer> number26Matcher, Matcher<? super String> text27Matcher,
+            Matcher<? super Integer> number28Matcher, Matcher<? super String> text29Matcher,
+            Matcher<? super Integer> number30Matcher, Matcher<? super String> text31Matcher,
+            Matcher<? super Integer> number32Matcher, Matcher<? super String> text33Matcher,
+            Matcher<? super Integer> number34Matcher, Matcher<? super String> text35Matcher,
+            Matcher<? super Integer> number36Matcher, Matcher<? super String> text37Matcher,
+            Matcher<? super Integer> number38Matcher, Matcher<? super String> text39Matcher,
+            Matcher<? super Integer> number40Matcher, Matcher<? super String> text41Matcher,
+            Matcher<? super Integer> number42Matcher, Matcher<? super String> text43Matcher,
+            Matcher<? super Integer> number44Matcher, Matcher<? super String> text45Matcher,
+            Matcher<? super Integer> number46Matcher, Matcher<? super String> text47Matcher,
+            Matcher<? super Integer> number48Matcher, Matcher<? super String> text49Matcher,
+            Matcher<? super Integer> number50Matcher, Matcher<? super String> text51Matcher,
+            Matcher<? super Integer> number52Matcher, Matcher<? super String> text53Matcher,
+            Matcher<? super Integer> number54Matcher, Matcher<? super String> text55Matcher,
+            Matcher<? super Integer> number56Matcher, Matcher<? super String> text57Matcher,
+            Matcher<? super Integer> number58Matcher, Matcher<? super String> text59Matcher,
+            Matcher<? super Integer> number60Matcher, Matcher<? super String> text61Matcher,
+            Matcher<? super Integer> number62Matcher, Matcher<? super String> text63Matcher,
+            Matcher<? super Integer> number64Matcher, Matcher<? super String> text65Matcher) {
+        this.text1Matcher = text1Matcher;
+        this.number2Matcher = number2Matcher;
+        this.text3Matcher = text3Matcher;
+        this.number4Matcher = number4Matcher;
+        this.text5Matcher = text5Matcher;
+        this.number6Matcher = number6Matcher;
+        this.text7Matcher = text7Matcher;
+        this.number8Matcher = number8Matcher;
+        this.text9Matcher = text9Matcher;
+        this.number10Matcher = number10Matcher;
+        this.text11Matcher = text11Matcher;
+        this.number12Matcher = number12Matcher;
+        this.text13Matcher = text13Matcher;
+        this.number14Matcher = number14Matcher;
+        this.text15Matcher = text15Matcher;
+        this.number16Matcher = number16Matcher;
+        this.text17Matcher = text17Matcher;
+        this.number18Matcher = number18Matcher;
+        this.text19Matcher = text19Matcher;
+        this.number20Matcher = number20Matcher;
+        this.text21Matcher = text21Matcher;
+        this.number22Matcher = number22Matcher;
+        this.text23Matcher = text23Matcher;
+        this.number24Matcher = number24Matcher;
+        this.text25Matcher = text25Matcher;
+        this.number26Matcher = number26Matcher;
+        this.text27Matcher = text27Matcher;
+        this.number28Matcher = number28Matcher;
+        this.text29Matcher = text29Matcher;
+        this.number30Matcher = number30Matcher;
+        this.text31Matcher = text31Matcher;
+        this.number32Matcher = number32Matcher;
+        this.text33Matcher = text33Matcher;
+        this.number34Matcher = number34Matcher;
+        this.text35Matcher = text35Matcher;
+        this.number36Matcher = number36Matcher;
+        this.text37Matcher = text37Matcher;
+        this.number38Matcher = number38Matcher;
+        this.text39Matcher = text39Matcher;
+        this.number40Matcher = number40Matcher;
+        this.text41Matcher = text41Matcher;
+        this.number42Matcher = number42Matcher;
+        this.text43Matcher = text43Matcher;
+        this.number44Matcher = number44Matcher;
+        this.text45Matcher = text45Matcher;
+        this.number46Matcher = number46Matcher;
+        this.text47Matcher = text47Matcher;
+        this.number48Matcher = number48Matcher;
+        this.text49Matcher = text49Matcher;
+        this.number50Matcher = number50Matcher;
+        this.text51Matcher = text51Matcher;
+        this.number52Matcher = number52Matcher;
+        this.text53Matcher = text53Matcher;
+        this.number54Matcher = number54Matcher;
+        this.text55Matcher = text55Matcher;
+        this.number56Matcher = number56Matcher;
+        this.text57Matcher = text57Matcher;
+        this.number58Matcher = number58Matcher;
+        this.text59Matcher = text59Matcher;
+        this.number60Matcher = number60Matcher;
+        this.text61Matcher = text61Matcher;
+        this.number62Matcher = number62Matcher;
+        this.text63Matcher = text63Matcher;
+        this.number64Matcher = number64Matcher;
+        this.text65Matcher = text65Matcher;
+        this.constrainedComponents = (text1Matcher instanceof IsAnything ? 0 : 1L << 0)
+                | (number2Matcher instanceof IsAnything ? 0 : 1L << 1)
+                | (text3Matcher instanceof IsAnything ? 0 : 1L << 2)
+                | (number4Matcher instanceof IsAnything ? 0 : 1L << 3)
+                | (text5Matcher instanceof IsAnything ? 0 : 1L << 4)
+                | (number6Matcher instanceof IsAnything ? 0 : 1L << 5)
+                | (text7Matcher instanceof IsAnything ? 0 : 1L << 6)
+                | (number8Matcher instanceof IsAnything ? 0 : 1L << 7)
+                | (text9Matcher instanceof IsAnything ? 0 : 1L << 8)
+                | (number10Matcher instanceof IsAnything ? 0 : 1L << 9)
+                | (text11Matcher instanceof IsAnything ? 0 : 1L << 10)
+                | (number12Matcher instanceof IsAnything ? 0 : 1L << 11)
+                | (text13Matcher instanceof IsAnything ? 0 : 1L << 12)
+                | (number14Matcher instanceof IsAnything ? 0 : 1L << 13)
+                | (text15Matcher instanceof IsAnything ? 0 : 1L << 14)
+                | (number16Matcher instanceof IsAnything ? 0 : 1L << 15)
+                | (text17Matcher instanceof IsAnything ? 0 : 1L << 16)
+                | (number18Matcher instanceof IsAnything ? 0 : 1L << 17)
+                | (text19Matcher instanceof IsAnything ? 0 : 1L << 18)
+                | (number20Matcher instanceof IsAnything ? 0 : 1L << 19)
+                | (text21Matcher instanceof IsAnything ? 0 : 1L << 20)
+                | (number22Matcher instanceof IsAnything ? 0 : 1L << 21)
+                | (text23Matcher instanceof IsAnything ? 0 : 1L << 22)
+                | (number24Matcher instanceof IsAnything ? 0 : 1L << 23)
+                | (text25Matcher instanceof IsAnything ? 0 : 1L << 24)
+                | (number26Matcher instanceof IsAnything ? 0 : 1L << 25)
+                | (text27Matcher instanceof IsAnything ? 0 : 1L << 26)
+                | (number28Matcher instanceof IsAnything ? 0 : 1L << 27)
+                | (text29Matcher instanceof IsAnything ? 0 : 1L << 28)
+                | (number30Matcher instanceof IsAnything ? 0 : 1L << 29)
+                | (text31Matcher instanceof IsAnything ? 0 : 1L << 30)
+                | (number32Matcher instanceof IsAnything ? 0 : 1L << 31)
+                | (text33Matcher instanceof IsAnything ? 0 : 1L << 32)
+                | (number34Matcher instanceof IsAnything ? 0 : 1L << 33)
+                | (text35Matcher instanceof IsAnything ? 0 : 1L << 34)
+                | (number36Matcher instanceof IsAnything ? 0 : 1L << 35)
+                | (text37Matcher instanceof IsAnything ? 0 : 1L << 36)
+                | (number38Matcher instanceof IsAnything ? 0 : 1L << 37)
+                | (text39Matcher instanceof IsAnything ? 0 : 1L << 38)
+                | (number40Matcher instanceof IsAnything ? 0 : 1L << 39)
+                | (text41Matcher instanceof IsAnything ? 0 : 1L << 40)
+                | (number42Matcher instanceof IsAnything ? 0 : 1L << 41)
+                | (text43Matcher instanceof IsAnything ? 0 : 1L << 42)
+                | (number44Matcher instanceof IsAnything ? 0 : 1L << 43)
+                | (text45Matcher instanceof IsAnything ? 0 : 1L << 44)
+                | (number46Matcher instanceof IsAnything ? 0 : 1L << 45)
+                | (text47Matcher instanceof IsAnything ? 0 : 1L << 46)
+                | (number48Matcher instanceof IsAnything ? 0 : 1L << 47)
+                | (text49Matcher instanceof IsAnything ? 0 : 1L << 48)
+                | (number50Matcher instanceof IsAnything ? 0 : 1L << 49)
+                | (text51Matcher instanceof IsAnything ? 0 : 1L << 50)
+                | (number52Matcher instanceof IsAnything ? 0 : 1L << 51)
+                | (text53Matcher instanceof IsAnything ? 0 : 1L << 52)
+                | (number54Matcher instanceof IsAnything ? 0 : 1L << 53)
+                | (text55Matcher instanceof IsAnything ? 0 : 1L << 54)
+                | (number56Matcher instanceof IsAnything ? 0 : 1L << 55)
+                | (text57Matcher instanceof IsAnything ? 0 : 1L << 56)
+                | (number58Matcher instanceof IsAnything ? 0 : 1L << 57)
+                | (text59Matcher instanceof IsAnything ? 0 : 1L << 58)
+                | (number60Matcher instanceof IsAnything ? 0 : 1L << 59)
+                | (text61Matcher instanceof IsAnything ? 0 : 1L << 60)
+                | (number62Matcher instanceof IsAnything ? 0 : 1L << 61)
+                | (text63Matcher instanceof IsAnything ? 0 : 1L << 62)
+                | (number64Matcher instanceof IsAnything ? 0 : 1L << 63);
+        this.constrainedComponents1 = (text65Matcher instanceof IsAnything ? 0 : 1L << 0);
+        this.immutableDescription = (text1Matcher instanceof IsAnything || text1Matcher instanceof ExpectedValue)
+                && (number2Matcher instanceof IsAnything || number2Matcher instanceof PrimitiveIntMatcher)
+                && (text3Matcher instanceof IsAnything || text3Matcher instanceof ExpectedValue)
+                && (number4Matcher instanceof IsAnything || number4Matcher instanceof PrimitiveIntMatcher)
+                && (text5Matcher instanceof IsAnything || text5Matcher instanceof ExpectedValue)
+                && (number6Matcher instanceof IsAnything || number6Matcher instanceof PrimitiveIntMatcher)
+                && (text7Matcher instanceof IsAnything || text7Matcher instanceof ExpectedValue)
+                && (number8Matcher instanceof IsAnything || number8Matcher instanceof PrimitiveIntMatcher)
+                && (text9Matcher instanceof IsAnything || text9Matcher instanceof ExpectedValue)
+                && (number10Matcher instanceof IsAnything || number10Matcher instanceof PrimitiveIntMatcher)
+                && (text11Matcher instanceof IsAnything || text11Matcher instanceof ExpectedValue)
+                && (number12Matcher instanceof IsAnything || number12Matcher instanceof PrimitiveIntMatcher)
+                && (text13Matcher instanceof IsAnything || text13Matcher instanceof ExpectedValue)
+                && (number14Matcher instanceof IsAnything || number14Matcher instanceof PrimitiveIntMatcher)
+                && (text15Matcher instanceof IsAnything || text15Matcher instanceof ExpectedValue)
+                && (number16Matcher instanceof IsAnything || number16Matcher instanceof PrimitiveIntMatcher)
+                && (text17Matcher instanceof IsAnything || text17Matcher instanceof ExpectedValue)
+                && (number18Matcher instanceof IsAnything || number18Matcher instanceof PrimitiveIntMatcher)
+                && (text19Matcher instanceof IsAnything || text19Matcher instanceof ExpectedValue)
+                && (number20Matcher instanceof IsAnything || number20Matcher instanceof PrimitiveIntMatcher)
+                && (text21Matcher instanceof IsAnything || text21Matcher instanceof ExpectedValue)
+                && (number22Matcher instanceof IsAnything || number22Matcher instanceof PrimitiveIntMatcher)
+                && (text23Matcher instanceof IsAnything || text23Matcher instanceof ExpectedValue)
+                && (number24Matcher instanceof IsAnything || number24Matcher instanceof PrimitiveIntMatcher)
+                && (text25Matcher instanceof IsAnything || text25Matcher instanceof ExpectedValue)
+                && (number26Matcher instanceof IsAnything || number26Matcher instanceof PrimitiveIntMatcher)
+                && (text27Matcher instanceof IsAnything || text27Matcher instanceof ExpectedValue)
+                && (number28Matcher instanceof IsAnything || number28Matcher instanceof PrimitiveIntMatcher)
+                && (text29Matcher instanceof IsAnything || text29Matcher instanceof ExpectedValue)
+                && (number30Matcher instanceof IsAnything || number30Matcher instanceof PrimitiveIntMatcher)
+                && (text31Matcher instanceof IsAnything || text31Matcher instanceof ExpectedValue)
+                && (number32Matcher instanceof IsAnything || number32Matcher instanceof PrimitiveIntMatcher)
+                && (text33Matcher instanceof IsAnything || text33Matcher instanceof ExpectedValue)
+                && (number34Matcher instanceof IsAnything || number34Matcher instanceof PrimitiveIntMatcher)
+                && (text35Matcher instanceof IsAnything || text35Matcher instanceof ExpectedValue)
+                && (number36Matcher instanceof IsAnything || number36Matcher instanceof PrimitiveIntMatcher)
+                && (text37Matcher instanceof IsAnything || text37Matcher instanceof ExpectedValue)
+                && (number38Matcher instanceof IsAnything || number38Matcher instanceof PrimitiveIntMatcher)
+                && (text39Matcher instanceof IsAnything || text39Matcher instanceof ExpectedValue)
+                && (number40Matcher instanceof IsAnything || number40Matcher instanceof PrimitiveIntMatcher)
+                && (text41Matcher instanceof IsAnything || text41Matcher instanceof ExpectedValue)
+                && (number42Matcher instanceof IsAnything || number42Matcher instanceof PrimitiveIntMatcher)
+                && (text43Matcher instanceof IsAnything || text43Matcher instanceof ExpectedValue)
+                && (number44Matcher instanceof IsAnything || number44Matcher instanceof PrimitiveIntMatcher)
+                && (text45Matcher instanceof IsAnything || text45Matcher instanceof ExpectedValue)
+                && (number46Matcher instanceof IsAnything || number46Matcher instanceof PrimitiveIntMatcher)
+                && (text47Matcher instanceof IsAnything || text47Matcher instanceof ExpectedValue)
+                && (number48Matcher instanceof IsAnything || number48Matcher instanceof PrimitiveIntMatcher)
+                && (text49Matcher instanceof IsAnything || text49Matcher instanceof ExpectedValue)
+                && (number50Matcher instanceof IsAnything || number50Matcher instanceof PrimitiveIntMatcher)
+                && (text51Matcher instanceof IsAnything || text51Matcher instanceof ExpectedValue)
+                && (number52Matcher instanceof IsAnything || number52Matcher instanceof PrimitiveIntMatcher)
+                && (text53Matcher instanceof IsAnything || text53Matcher instanceof ExpectedValue)
+                && (number54Matcher instanceof IsAnything || number54Matcher instanceof PrimitiveIntMatcher)
+                && (text55Matcher instanceof IsAnything || text55Matcher instanceof ExpectedValue)
+                && (number56Matcher instanceof IsAnything || number56Matcher instanceof PrimitiveIntMatcher)
+                && (text57Matcher instanceof IsAnything || text57Matcher instanceof ExpectedValue)
+                && (number58Matcher instanceof IsAnything || number58Matcher instanceof PrimitiveIntMatcher)
+                && (text59Matcher instanceof IsAnything || text59Matcher instanceof ExpectedValue)
+                && (number60Matcher instanceof IsAnything || number60Matcher instanceof PrimitiveIntMatcher)
+                && (text61Matcher instanceof IsAnything || text61Matcher instanceof ExpectedValue)
+                && (number62Matcher instanceof IsAnything || number62Matcher instanceof PrimitiveIntMatcher)
+                && (text63Matcher instanceof IsAnything || text63Matcher instanceof ExpectedValue)
+                && (number64Matcher instanceof IsAnything || number64Matcher instanceof PrimitiveIntMatcher)
+                && (text65Matcher instanceof IsAnything || text65Matcher instanceof ExpectedValue);
+    }
+
+    public static WideRecordMatcher aWideRecord() {
+        return ANY_WIDE_RECORD;
+    }
+
+    public WideRecordMatcher withText1(String text1) {
+        return withText1(new ExpectedValue<>(Matchers.is(text1)));
+    }
+
+    public WideRecordMatcher withText1(Matcher<? super String> text1Matcher) {
+        return new WideRecordMatcher(text1Matcher, this.number2Matcher, this.text3Matcher, this.number4Matcher, this.text5Matcher, this.number6Matcher, this.text7Matcher, this.number8Matcher, this.text9Matcher, this.number10Matcher, this.text11Matcher, this.number12Matcher, this.text13Matcher, this.number14Matcher, this.text15Matcher, this.number16Matcher, this.text17Matcher, this.number18Matcher, this.text19Matcher, this.number20Matcher, this.text21Matcher, this.number22Matcher, this.text23Matcher, this.number24Matcher, this.text25Matcher, this.number26Matcher, this.text27Matcher, this.number28Matcher, this.text29Matcher, this.number30Matcher, this.text31Matcher, this.number32Matcher, this.text33Matcher, this.number34Matcher, this.text35Matcher, this.number36Matcher, this.text37Matcher, this.number38Matcher, this.text39Matcher, this.number40Matcher, this.text41Matcher, this.number42Matcher, this.text43Matcher, this.number44Matcher, this.text45Matcher, this.number46Matcher, this.text47Matcher, this.number48Matcher, this.text49Matcher, this.number50Matcher, this.text51Matcher, this.number52Matcher, this.text53Matcher, this.number54Matcher, this.text55Matcher, this.number56Matcher, this.text57Matcher, this.number58Matcher, this.text59Matcher, this.number60Matcher, this.text61Matcher, this.number62Matcher, this.text63Matcher, this.number64Matcher, this.text65Matcher);
+    }
+
+    public WideRecordMatcher withNumber2(int number2) {
+        return withNumber2(new PrimitiveIntMatcher(actual -> actual == number2, () -> Matchers.is(number2)));
+    }
+
+    public WideRecordMatcher withNumber2(Matcher<? super Integer> number2Matcher) {
+        return new WideRecordMatcher(this.text1Matcher, number2Matcher, this.text3Matcher, this.number4Matcher, this.text5Matcher, this.number6Matcher, this.text7Matcher, this.number8Matcher, this.text9Matcher, this.number10Matcher, this.text11Matcher, this.number12Matcher, this.text13Matcher, this.number14Matcher, this.text15Matcher, this.number16Matcher, this.text17Matcher, this.number18Matcher, this.text19Matcher, this.number20Matcher, this.text21Matcher, this.number22Matcher, this.text23Matcher, this.number24Matcher, this.text25Matcher, this.number26Matcher, this.text27Matcher, this.number28Matcher, this.text29Matcher, this.number30Matcher, this.text31Matcher, this.number32Matcher, this.text33Matcher, this.number34Matcher, this.text35Matcher, this.number36Matcher, this.text37Matcher, this.number38Matcher, this.text39Matcher, this.number40Matcher, this.text41Matcher, this.number42Matcher, this.text43Matcher, this.number44Matcher, this.text45Matcher, this.number46Matcher, this.text47Matcher, this.number48Matcher, this.text49Matcher, this.number50Matcher, this.text51Matcher, this.number52Matcher, this.text53Matcher, this.number54Matcher, this.text55Matcher, this.number56Matcher, this.text57Matcher, this.number58Matcher, this.text59Matcher, this.number60Matcher, this.text61Matcher, this.number62Matcher, this.text63Matcher, this.number64Matcher, this.text65Matcher);
+    }
+
+    public WideRecordMatcher withNumber2Between(int min, int max) {
+        return withNumber2(new PrimitiveIntMatcher(actual -> actual >= min && actual <= max, () -> Matchers.allOf(Matchers.greaterThanOrEqualTo(min), Matchers.lessThanOrEqualTo(max))));
+    }
+
+    public WideRecordMatcher withText3(String text3) {
+        return withText3(new ExpectedValue<>(Matchers.is(text3)));
+    }
+
+    public WideRecordMatcher withText3(Matcher<? super String> text3Matcher) {
+        return new WideRecordMatcher(this.text1Matcher, this.number2Matcher, text3Matcher, this.number4Matcher, this.text5Matcher, this.number6Matcher, this.text7Matcher, this.number8Matcher, this.text9Matcher, this.number10Matcher, this.text11Matcher, this.number12Matcher, this.text13Matcher, this.number14Matcher, this.text15Matcher, this.number16Matcher, this.text17Matcher, this.number18Matcher, this.text19Matcher, this.number20Matcher, this.text21Matcher, this.number22Matcher, this.text23Matcher, this.number24Matcher, this.text25Matcher, this.number26Matcher, this.text27Matcher, this.number28Matcher, this.text29Matcher, this.number30Matcher, this.text31Matcher, this.number32Matcher, this.text33Matcher, this.number34Matcher, this.text35Matcher, this.number36Matcher, this.text37Matcher, this.number38Matcher, this.text39Matcher, this.number40Matcher, this.text41Matcher, this.number42Matcher, this.text43Matcher, this.number44Matcher, this.text45Matcher, this.number46Matcher, this.text47Matcher, this.number48Matcher, this.text49Matcher, this.number50Matcher, this.text51Matcher, this.number52Matcher, this.text53Matcher, this.number54Matcher, this.text55Matcher, this.number56Matcher, this.text57Matcher, this.number58Matcher, this.text59Matcher, this.number60Matcher, this.text61Matcher, this.number62Matcher, this.text63Matcher, this.number64Matcher, this.text65Matcher);
+    }
+
+    public WideRecordMatcher withNumber4(int number4) {
+        return withNumber4(new PrimitiveIntMatcher(actual -> actual == number4, () -> Matchers.is(number4)));
+    }
+
+    public WideRecordMatcher withNumber4(Matcher<? super Integer> number4Matcher) {
+        return new WideRecordMatcher(this.text1Matcher, this.number2Matcher, this.text3Matcher, number4Matcher, this.text5Matcher, this.number6Matcher, this.text7Matcher, this.number8Matcher, this.text9Matcher, this.number10Matcher, this.text11Matcher, this.number12Matcher, this.text13Matcher, this.number14Matcher, this.text15Matcher, this.number16Matcher, this.text17Matcher, this.number18Matcher, this.text19Matcher, this.number20Matcher, this.text21Matcher, this.number22Matcher, this.text23Matcher, this.number24Matcher, this.text25Matcher, this.number26Matcher, this.text27Matcher, this.number28Matcher, this.text29Matcher, this.number30Matcher, this.text31Matcher, this.number32Matcher, this.text33Matcher, this.number34Matcher, this.text35Matcher, this.number36Matcher, this.text37Matcher, this.number38Matcher, this.text39Matcher, this.number40Matcher, this.text41Matcher, this.number42Matcher, this.text43Matcher, this.number44Matcher, this.text45Matcher, this.number46Matcher, this.text47Matcher, this.number48Matcher, this.text49Matcher, this.number50Matcher, this.text51Matcher, this.number52Matcher, this.text53Matcher, this.number54Matcher, this.text55Matcher, this.number56Matcher, this.text57Matcher, this.number58Matcher, this.text59Matcher, this.number60Matcher, this.text61Matcher, this.number62Matcher, this.text63Matcher, this.number64Matcher, this.text65Matcher);
+    }
+
+    public WideRecordMatcher withNumber4Between(int min, int max) {
+        return withNumber4(new PrimitiveIntMatcher(actual -> actual >= min && actual <= max, () -> Matchers.allOf(Matchers.greaterThanOrEqualTo(min), Matchers.lessThanOrEqualTo(max))));
+    }
+
+    public WideRecordMatcher withText5(String text5) {
+        return withText5(new ExpectedValue<>(Matchers.is(text5)));
+    }
+
+    public WideRecordMatcher withText5(Matcher<? super String> text5Matcher) {
+        return new WideRecordMatcher(this.text1Matcher, this.number2Matcher, this.text3Matcher, this.number4Matcher, text5Matcher, this.number6Matcher, this.text7Matcher, this.number8Matcher, this.text9Matcher, this.number10Matcher, this.text11Matcher, this.number12Matcher, this.text13Matcher, this.number14Matcher, this.text15Matcher, this.number16Matcher, this.text17Matcher, this.number18Matcher, this.text19Matcher, this.number20Matcher, this.text21Matcher, this.number22Matcher, this.text23Matcher, this.number24Matcher, this.text25Matcher, this.number26Matcher, this.text27Matcher, this.number28Matcher, this.text29Matcher, this.number30Matcher, this.text31Matcher, this.number32Matcher, this.text33Matcher, this.number34Matcher, this.text35Matcher, this.number36Matcher, this.text37Matcher, this.number38Matcher, this.text39Matcher, this.number40Matcher, this.text41Matcher, this.number42Matcher, this.text43Matcher, this.number44Matcher, this.text45Matcher, this.number46Matcher, this.text47Matcher, this.number48Matcher, this.text49Matcher, this.number50Matcher, this.text51Matcher, this.number52Matcher, this.text53Matcher, this.number54Matcher, this.text55Matcher, this.number56Matcher, this.text57Matcher, this.number58Matcher, this.text59Matcher, this.number60Matcher, this.text61Matcher, this.number62Matcher, this.text63Matcher, this.number64Matcher, this.text65Matcher);
+    }
+
+    public WideRecordMatcher withNumber6(int number6) {
+        return withNumber6(new PrimitiveIntMatcher(actual -> actual == number6, () -> Matchers.is(number6)));
+    }
+
+    public WideRecordMatcher withNumber6(Matcher<? super Integer> number6Matcher) {
+        return new WideRecordMatcher(this.text1Matcher, this.number2Matcher, this.text3Matcher, this.number4Matcher, this.text5Matcher, number6Matcher, this.text7Matcher, this.number8Matcher, this.text9Matcher, this.number10Matcher, this.text11Matcher, this.number12Matcher, this.text13Matcher, this.number14Matcher, this.text15Matcher, this.number16Matcher, this.text17Matcher, this.number18Matcher, this.text19Matcher, this.number20Matcher, this.text21Matcher, this.number22Matcher, this.text23Matcher, this.number24Matcher, this.text25Matcher, this.number26Matcher, this.text27Matcher, this.number28Matcher, this.text29Matcher, this.number30Matcher, this.text31Matcher, this.number32Matcher, this.text33Matcher, this.number34Matcher, this.text35Matcher, this.number36Matcher, this.text37Matcher, this.number38Matcher, this.text39Matcher, this.number40Matcher, this.text41Matcher, this.number42Matcher, this.text43Matcher, this.number44Matcher, this.text45Matcher, this.number46Matcher, this.text47Matcher, this.number48Matcher, this.text49Matcher, this.number50Matcher, this.text51Matcher, this.number52Matcher, this.text53Matcher, this.number54Matcher, this.text55Matcher, this.number56Matcher, this.text57Matcher, this.number58Matcher, this.text59Matcher, this.number60Matcher, this.text61Matcher, this.number62Matcher, this.text63Matcher, this.number64Matcher, this.text65Matcher);
+    }
+
+    public WideRecordMatcher withNumber6Between(int min, int max) {
+        return withNumber6(new PrimitiveIntMatcher(actual -> actual >= min && actual <= max, () -> Matchers.allOf(Matchers.greaterThanOrEqualTo(min), Matchers.lessThanOrEqualTo(max))));
+    }
+
+    public WideRecordMatcher withText7(String text7) {
+        return withText7(new ExpectedValue<>(Matchers.is(text7)));
+    }
+
+    public WideRecordMatcher withText7(Matcher<? super String> text7Matcher) {
+        return new WideRecordMatcher(this.text1Matcher, this.number2Matcher, this.text3Matcher, this.number4Matcher, this.text5Matcher, this.number6Matcher, text7Matcher, this.number8Matcher, this.text9Matcher, this.number10Matcher, this.text11Matcher, this.number12Matcher, this.text13Matcher, this.number14Matcher, this.text15Matcher, this.number16Matcher, this.text17Matcher, this.number18Matcher, this.text19Matcher, this.number20Matcher, this.text21Matcher, this.number22Matcher, this.text23Matcher, this.number24Matcher, this.text25Matcher, this.number26Matcher, this.text27Matcher, this.number28Matcher, this.text29Matcher, this.number30Matcher, this.text31Matcher, this.number32Matcher, this.text33Matcher, this.number34Matcher, this.text35Matcher, this.number36Matcher, this.text37Matcher, this.number38Matcher, this.text39Matcher, this.number40Matcher, this.text41Matcher, this.number42Matcher, this.text43Matcher, this.number44Matcher, this.text45Matcher, this.number46Matcher, this.text47Matcher, this.number48Matcher, this.text49Matcher, this.number50Matcher, this.text51Matcher, this.number52Matcher, this.text53Matcher, this.number54Matcher, this.text55Matcher, this.number56Matcher, this.text57Matcher, this.number58Matcher, this.text59Matcher, this.number60Matcher, this.text61Matcher, this.number62Matcher, this.text63Matcher, this.number64Matcher, this.text65Matcher);
+    }
+
+    public WideRecordMatcher withNumber8(int number8) {
+        return withNumber8(new PrimitiveIntMatcher(actual -> actual == number8, () -> Matchers.is(number8)));
+    }
+
+    public WideRecordMatcher withNumber8(Matcher<? super Integer> number8Matcher) {
+        return new WideRecordMatcher(this.text1Matcher, this.number2Matcher, this.text3Matcher, this.number4Matcher, this.text5Matcher, this.number6Matcher, this.text7Matcher, number8Matcher, this.text9Matcher, this.number10Matcher, this.text11Matcher, this.number12Matcher, this.text13Matcher, this.number14Matcher, this.text15Matcher, this.number16Matcher, this.text17Matcher, this.number18Matcher, this.text19Matcher, this.number20Matcher, this.text21Matcher, this.number22Matcher, this.text23Matcher, this.number24Matcher, this.text25Matcher, this.number26Matcher, this.text27Matcher, this.number28Matcher, this.text29Matcher, this.number30Matcher, this.text31Matcher, this.number32Matcher, this.text33Matcher, this.number34Matcher, this.text35Matcher, this.number36Matcher, this.text37Matcher, this.number38Matcher, this.text39Matcher, this.number40Matcher, this.text41Matcher, this.number42Matcher, this.text43Matcher, this.number44Matcher, this.text45Matcher, this.number46Matcher, this.text47Matcher, this.number48Matcher, this.text49Matcher, this.number50Matcher, this.text51Matcher, this.number52Matcher, this.text53Matcher, this.number54Matcher, this.text55Matcher, this.number56Matcher, this.text57Matcher, this.number58Matcher, this.text59Matcher, this.number60Matcher, this.text61Matcher, this.number62Matcher, this.text63Matcher, this.number64Matcher, this.text65Matcher);
+    }
+
+    public WideRecordMatcher withNumber8Between(int min, int max) {
+        return withNumber8(new PrimitiveIntMatcher(actual -> actual >= min && actual <= max, () -> Matchers.allOf(Matchers.greaterThanOrEqualTo(min), Matchers.lessThanOrEqualTo(max))));
+    }
+
+    public WideRecordMatcher withText9(String text9) {
+        return withText9(new ExpectedValue<>(Matchers.is(text9)));
+    }
+
+    public WideRecordMatcher withText9(Matcher<? super String> text9Matcher) {
+        return new WideRecordMatcher(this.text1Matcher, this.number2Matcher, this.text3Matcher, this.number4Matcher, this.text5Matcher, this.number6Matcher, this.text7Matcher, this.number8Matcher, text9Matcher, this.number10Matcher, this.text11Matcher, this.number12Matcher, this.text13Matcher, this.number14Matcher, this.text15Matcher, this.number16Matcher, this.text17Matcher, this.number18Matcher, this.text19Matcher, this.number20Matcher, this.text21Matcher, this.number22Matcher, this.text23Matcher, this.number24Matcher, this.text25Matcher, this.number26Matcher, this.text27Matcher, this.number28Matcher, this.text29Matcher, this.number30Matcher, this.text31Matcher, this.number32Matcher, this.text33Matcher, this.number34Matcher, this.text35Matcher, this.number36Matcher, this.text37Matcher, this.number38Matcher, this.text39Matcher, this.number40Matcher, this.text41Matcher, this.number42Matcher, this.text43Matcher, this.number44Matcher, this.text45Matcher, this.number46Matcher, this.text47Matcher, this.number48Matcher, this.text49Matcher, this.number50Matcher, this.text51Matcher, this.number52Matcher, this.text53Matcher, this.number54Matcher, this.text55Matcher, this.number56Matcher, this.text57Matcher, this.number58Matcher, this.text59Matcher, this.number60Matcher, this.text61Matcher, this.number62Matcher, this.text63Matcher, this.number64Matcher, this.text65Matcher);
+    }
+
+    public WideRecordMatcher withNumber10(int number10) {
+        return withNumber10(new PrimitiveIntMatcher(actual -> actual == number10, () -> Matchers.is(number10)));
+    }
+
+    public WideRecordMatcher withNumber10(Matcher<? super Integer> number10Matcher) {
+        return new WideRecordMatcher(this.text1Matcher, this.number2Matcher, this.text3Matcher, this.number4Matcher, this.text5Matcher, this.number6Matcher, this.text7Matcher, this.number8Matcher, this.text9Matcher, number10Matcher, this.text11Matcher, this.number12Matcher, this.text13Matcher, this.number14Matcher, this.text15Matcher, this.number16Matcher, this.text17Matcher, this.number18Matcher, this.text19Matcher, this.number20Matcher, this.text21Matcher, this.number22Matcher, this.text23Matcher, this.number24Matcher, this.text25Matcher, this.number26Matcher, this.text27Matcher, this.number28Matcher, this.text29Matcher, this.number30Matcher, this.text31Matcher, this.number32Matcher, this.text33Matcher, this.number34Matcher, this.text35Matcher, this.number36Matcher, this.text37Matcher, this.number38Matcher, this.text39Matcher, this.number40Matcher, this.text41Matcher, this.number42Matcher, this.text43Matcher, this.number44Matcher, this.text45Matcher, this.number46Matcher, this.text47Matcher, this.number48Matcher, this.text49Matcher, this.number50Matcher, this.text51Matcher, this.number52Matcher, this.text53Matcher, this.number54Matcher, this.text55Matcher, this.number56Matcher, this.text57Matcher, this.number58Matcher, this.text59Matcher, this.number60Matcher, this.text61Matcher, this.number62Matcher, this.text63Matcher, this.number64Matcher, this.text65Matcher);
+    }
+
+    public WideRecordMatcher withNumber10Between(int min, int max) {
+        return withNumber10(new PrimitiveIntMatcher(actual -> actual >= min && actual <= max, () -> Matchers.allOf(Matchers.greaterThanOrEqualTo(min), Matchers.lessThanOrEqualTo(max))));
+    }
+
+    public WideRecordMatcher withText11(String text11) {
+        return withText11(new ExpectedValue<>(Matchers.is(text11)));
+    }
+
+    public WideRecordMatcher withText11(Matcher<? super String> text11Matcher) {
+        return new WideRecordMatcher(this.text1Matcher, this.number2Matcher, this.text3Matcher, this.number4Matcher, this.text5Matcher, this.number6Matcher, this.text7Matcher, this.number8Matcher, this.text9Matcher, this.number10Matcher, text11Matcher, this.number12Matcher, this.text13Matcher, this.number14Matcher, this.text15Matcher, this.number16Matcher, this.text17Matcher, this.number18Matcher, this.text19Matcher, this.number20Matcher, this.text21Matcher, this.number22Matcher, this.text23Matcher, this.number24Matcher, this.text25Matcher, this.number26Matcher, this.text27Matcher, this.number28Matcher, this.text29Matcher, this.number30Matcher, this.text31Matcher, this.number32Matcher, this.text33Matcher, this.number34Matcher, this.text35Matcher, this.number36Matcher, this.text37Matcher, this.number38Matcher, this.text39Matcher, this.number40Matcher, this.text41Matcher, this.number42Matcher, this.text43Matcher, this.number44Matcher, this.text45Matcher, this.number46Matcher, this.text47Matcher, this.number48Matcher, this.text49Matcher, this.number50Matcher, this.text51Matcher, this.number52Matcher, this.text53Matcher, this.number54Matcher, this.text55Matcher, this.number56Matcher, this.text57Matcher, this.number58Matcher, this.text59Matcher, this.number60Matcher, this.text61Matcher, this.number62Matcher, this.text63Matcher, this.number64Matcher, this.text65Matcher);
+    }
+
+    public WideRecordMatcher withNumber12(int number12) {
+        return withNumber12(new PrimitiveIntMatcher(actual -> actual == number12, () -> Matchers.is(number12)));
+    }
+
+    public WideRecordMatcher withNumber12(Matcher<? super Integer> number12Matcher) {
+        return new WideRecordMatcher(this.text1Matcher, this.number2Matcher, this.text3Matcher, this.number4Matcher, this.text5Matcher, this.number6Matcher, this.text7Matcher, this.number8Matcher, this.text9Matcher, this.number10Matcher, this.text11Matcher, number12Matcher, this.text13Matcher, this.number14Matcher, this.text15Matcher, this.number16Matcher, this.text17Matcher, this.number18Matcher, this.text19Matcher, this.number20Matcher, this.text21Matcher, this.number22Matcher, this.text23Matcher, this.number24Matcher, this.text25Matcher, this.number26Matcher, this.text27Matcher, this.number28Matcher, this.text29Matcher, this.number30Matcher, this.text31Matcher, this.number32Matcher, this.text33Matcher, this.number34Matcher, this.text35Matcher, this.number36Matcher, this.text37Matcher, this.number38Matcher, this.text39Matcher, this.number40Matcher, this.text41Matcher, this.number42Matcher, this.text43Matcher, this.number44Matcher, this.text45Matcher, this.number46Matcher, this.text47Matcher, this.number48Matcher, this.text49Matcher, this.number50Matcher, this.text51Matcher, this.number52Matcher, this.text53Matcher, this.number54Matcher, this.text55Matcher, this.number56Matcher, this.text57Matcher, this.number58Matcher, this.text59Matcher, this.number60Matcher, this.text61Matcher, this.number62Matcher, this.text63Matcher, this.number64Matcher, this.text65Matcher);
+    }
+
+    public WideRecordMatcher withNumber12Between(int min, int max) {
+        return withNumber12(new PrimitiveIntMatcher(actual -> actual >= min && actual <= max, () -> Matchers.allOf(Matchers.greaterThanOrEqualTo(min), Matchers.lessThanOrEqualTo(max))));
+    }
+
+    public WideRecordMatcher withText13(String text13) {
+        return withText13(new ExpectedValue<>(Matchers.is(text13)));
+    }
+
+    public WideRecordMatcher withText13(Matcher<? super String> text13Matcher) {
+        return new WideRecordMatcher(this.text1Matcher, this.number2Matcher, this.text3Matcher, this.number4Matcher, this.text5Matcher, this.number6Matcher, this.text7Matcher, this.number8Matcher, this.text9Matcher, this.number10Matcher, this.text11Matcher, this.number12Matcher, text13Matcher, this.number14Matcher, this.text15Matcher, this.number16Matcher, this.text17Matcher, this.number18Matcher, this.text19Matcher, this.number20Matcher, this.text21Matcher, this.number22Matcher, this.text23Matcher, this.number24Matcher, this.text25Matcher, this.number26Matcher, this.text27Matcher, this.number28Matcher, this.text29Matcher, this.number30Matcher, this.text31Matcher, this.number32Matcher, this.text33Matcher, this.number34Matcher, this.text35Matcher, this.number36Matcher, this.text37Matcher, this.number38Matcher, this.text39Matcher, this.number40Matcher, this.text41Matcher, this.number42Matcher, this.text43Matcher, this.number44Matcher, this.text45Matcher, this.number46Matcher, this.text47Matcher, this.number48Matcher, this.text49Matcher, this.number50Matcher, this.text51Matcher, this.number52Matcher, this.text53Matcher, this.number54Matcher, this.text55Matcher, this.number56Matcher, this.text57Matcher, this.number58Matcher, this.text59Matcher, this.number60Matcher, this.text61Matcher, this.number62Matcher, this.text63Matcher, this.number64Matcher, this.text65Matcher);
+    }
+
+    public WideRecordMatcher withNumber14(int number14) {
+        return withNumber14(new PrimitiveIntMatcher(actual -> actual == number14, () -> Matchers.is(number14)));
+    }
+
+    public WideRecordMatcher withNumber14(Matcher<? super Integer> number14Matcher) {
+        return new WideRecordMatcher(this.text1Matcher, this.number2Matcher, this.text3Matcher, this.number4Matcher, this.text5Matcher, this.number6Matcher, this.text7Matcher, this.number8Matcher, this.text9Matcher, this.number10Matcher, this.text11Matcher, this.number12Matcher, this.text13Matcher, number14Matcher, this.text15Matcher, this.number16Matcher, this.text17Matcher, this.number18Matcher, this.text19Matcher, this.number20Matcher, this.text21Matcher, this.number22Matcher, this.text23Matcher, this.number24Matcher, this.text25Matcher, this.number26Matcher, this.text27Matcher, this.number28Matcher, this.text29Matcher, this.number30Matcher, this.text31Matcher, this.number32Matcher, this.text33Matcher, this.number34Matcher, this.text35Matcher, this.number36Matcher, this.text37Matcher, this.number38Matcher, this.text39Matcher, this.number40Matcher, this.text41Matcher, this.number42Matcher, this.text43Matcher, this.number44Matcher, this.text45Matcher, this.number46Matcher, this.text47Matcher, this.number48Matcher, this.text49Matcher, this.number50Matcher, this.text51Matcher, this.number52Matcher, this.text53Matcher, this.number54Matcher, this.text55Matcher, this.number56Matcher, this.text57Matcher, this.number58Matcher, this.text59Matcher, this.number60Matcher, this.text61Matcher, this.number62Matcher, this.text63Matcher, this.number64Matcher, this.text65Matcher);
+    }
+
+    public WideRecordMatcher withNumber14Between(int min, int max) {
+        return withNumber14(new PrimitiveIntMatcher(actual -> actual >= min && actual <= max, () -> Matchers.allOf(Matchers.greaterThanOrEqualTo(min), Matchers.lessThanOrEqualTo(max))));
+    }
+
+    public WideRecordMatcher withText15(String text15) {
+        return withText15(new ExpectedValue<>(Matchers.is(text15)));
+    }
+
+    public WideRecordMatcher withText15(Matcher<? super String> text15Matcher) {
+        return new WideRecordMatcher(this.text1Matcher, this.number2Matcher, this.text3Matcher, this.number4Matcher, this.text5Matcher, this.number6Matcher, this.text7Matcher, this.number8Matcher, this.text9Matcher, this.number10Matcher, this.text11Matcher, this.number12Matcher, this.text13Matcher, this.number14Matcher, text15Matcher, this.number16Matcher, this.text17Matcher, this.number18Matcher, this.text19Matcher, this.number20Matcher, this.text21Matcher, this.number22Matcher, this.text23Matcher, this.number24Matcher, this.text25Matcher, this.number26Matcher, this.text27Matcher, this.number28Matcher, this.text29Matcher, this.number30Matcher, this.text31Matcher, this.number32Matcher, this.text33Matcher, this.number34Matcher, this.text35Matcher, this.number36Matcher, this.text37Matcher, this.number38Matcher, this.text39Matcher, this.number40Matcher, this.text41Matcher, this.number42Matcher, this.text43Matcher, this.number44Matcher, this.text45Matcher, this.number46Matcher, this.text47Matcher, this.number48Matcher, this.text49Matcher, this.number50Matcher, this.text51Matcher, this.number52Matcher, this.text53Matcher, this.number54Matcher, this.text55Matcher, this.number56Matcher, this.text57Matcher, this.number58Matcher, this.text59Matcher, this.number60Matcher, this.text61Matcher, this.number62Matcher, this.text63Matcher, this.number64Matcher, this.text65Matcher);
+    }
+
+    public WideRecordMatcher withNumber16(int number16) {
+        return withNumber16(new PrimitiveIntMatcher(actual -> actual == number16, () -> Matchers.is(number16)));
+    }
+
+    public WideRecordMatcher withNumber16(Matcher<? super Integer> number16Matcher) {
+        return new WideRecordMatcher(this.text1Matcher, this.number2Matcher, this.text3Matcher, this.number4Matcher, this.text5Matcher, this.number6Matcher, this.text7Matcher, this.number8Matcher, this.text9Matcher, this.number10Matcher, this.text11Matcher, this.number12Matcher, this.text13Matcher, this.number14Matcher, this.text15Matcher, number16Matcher, this.text17Matcher, this.number18Matcher, this.text19Matcher, this.number20Matcher, this.text21Matcher, this.number22Matcher, this.text23Matcher, this.number24Matcher, this.text25Matcher, this.number26Matcher, this.text27Matcher, this.number28Matcher, this.text29Matcher, this.number30Matcher, this.text31Matcher, this.number32Matcher, this.text33Matcher, this.number34Matcher, this.text35Matcher, this.number36Matcher, this.text37Matcher, this.number38Matcher, this.text39Matcher, this.number40Matcher, this.text41Matcher, this.number42Matcher, this.text43Matcher, this.number44Matcher, this.text45Matcher, this.number46Matcher, this.text47Matcher, this.number48Matcher, this.text49Matcher, this.number50Matcher, this.text51Matcher, this.number52Matcher, this.text53Matcher, this.number54Matcher, this.text55Matcher, this.number56Matcher, this.text57Matcher, this.number58Matcher, this.text59Matcher, this.number60Matcher, this.text61Matcher, this.number62Matcher, this.text63Matcher, this.number64Matcher, this.text65Matcher);
+    }
+
+    public WideRecordMatcher withNumber16Between(int min, int max) {
+        return withNumber16(new PrimitiveIntMatcher(actual -> actual >= min && actual <= max, () -> Matchers.allOf(Matchers.greaterThanOrEqualTo(min), Matchers.lessThanOrEqualTo(max))));
+    }
+
+    public WideRecordMatcher withText17(String text17) {
+        return withText17(new ExpectedValue<>(Matchers.is(text17)));
+    }
+
+    public WideRecordMatcher withText17(Matcher<? super String> text17Matcher) {
+        return new WideRecordMatcher(this.text1Matcher, this.number2Matcher, this.text3Matcher, this.number4Matcher, this.text5Matcher, this.number6Matcher, this.text7Matcher, this.number8Matcher, this.text9Matcher, this.number10Matcher, this.text11Matcher, this.number12Matcher, this.text13Matcher, this.number14Matcher, this.text15Matcher, this.number16Matcher, text17Matcher, this.number18Matcher, this.text19Matcher, this.number20Matcher, this.text21Matcher, this.number22Matcher, this.text23Matcher, this.number24Matcher, this.text25Matcher, this.number26Matcher, this.text27Matcher, this.number28Matcher, this.text29Matcher, this.number30Matcher, this.text31Matcher, this.number32Matcher, this.text33Matcher, this.number34Matcher, this.text35Matcher, this.number36Matcher, this.text37Matcher, this.number38Matcher, this.text39Matcher, this.number40Matcher, this.text41Matcher, this.number42Matcher, this.text43Matcher, this.number44Matcher, this.text45Matcher, this.number46Matcher, this.text47Matcher, this.number48Matcher, this.text49Matcher, this.number50Matcher, this.text51Matcher, this.number52Matcher, this.text53Matcher, this.number54Matcher, this.text55Matcher, this.number56Matcher, this.text57Matcher, this.number58Matcher, this.text59Matcher, this.number60Matcher, this.text61Matcher, this.number62Matcher, this.text63Matcher, this.number64Matcher, this.text65Matcher);
+    }
+
+    public WideRecordMatcher withNumber18(int number18) {
+        return withNumber18(new PrimitiveIntMatcher(actual -> actual == number18, () -> Matchers.is(number18)));
+    }
+
+    public WideRecordMatcher withNumber18(Matcher<? super Integer> number18Matcher) {
+        return new WideRecordMatcher(this.text1Matcher, this.number2Matcher, this.text3Matcher, this.number4Matcher, this.text5Matcher, this.number6Matcher, this.text7Matcher, this.number8Matcher, this.text9Matcher, this.number10Matcher, this.text11Matcher, this.number12Matcher, this.text13Matcher, this.number14Matcher, this.text15Matcher, this.number16Matcher, this.text17Matcher, number18Matcher, this.text19Matcher, this.number20Matcher, this.text21Matcher, this.number22Matcher, this.text23Matcher, this.number24Matcher, this.text25Matcher, this.number26Matcher, this.text27Matcher, this.number28Matcher, this.text29Matcher, this.number30Matcher, this.text31Matcher, this.number32Matcher, this.text33Matcher, this.number34Matcher, this.text35Matcher, this.number36Matcher, this.text37Matcher, this.number38Matcher, this.text39Matcher, this.number40Matcher, this.text41Matcher, this.number42Matcher, this.text43Matcher, this.number44Matcher, this.text45Matcher, this.number46Matcher, this.text47Matcher, this.number48Matcher, this.text49Matcher, this.number50Matcher, this.text51Matcher, this.number52Matcher, this.text53Matcher, this.number54Matcher, this.text55Matcher, this.number56Matcher, this.text57Matcher, this.number58Matcher, this.text59Matcher, this.number60Matcher, this.text61Matcher, this.number62Matcher, this.text63Matcher, this.number64Matcher, this.text65Matcher);
+    }
+
+    public WideRecordMatcher withNumber18Between(int min, int max) {
+        return withNumber18(new PrimitiveIntMatcher(actual -> actual >= min && actual <= max, () -> Matchers.allOf(Matchers.greaterThanOrEqualTo(min), Matchers.lessThanOrEqualTo(max))));
+    }
+
+    public WideRecordMatcher withText19(String text19) {
+        return withText19(new ExpectedValue<>(Matchers.is(text19)));
+    }
+
+    public WideRecordMatcher withText19(Matcher<? super String> text19Matcher) {
+        return new WideRecordMatcher(this.text1Matcher, this.number2Matcher, this.text3Matcher, this.number4Matcher, this.text5Matcher, this.number6Matcher, this.text7Matcher, this.number8Matcher, this.text9Matcher, this.number10Matcher, this.text11Matcher, this.number12Matcher, this.text13Matcher, this.number14Matcher, this.text15Matcher, this.number16Matcher, this.text17Matcher, this.number18Matcher, text19Matcher, this.number20Matcher, this.text21Matcher, this.number22Matcher, this.text23Matcher, this.number24Matcher, this.text25Matcher, this.number26Matcher, this.text27Matcher, this.number28Matcher, this.text29Matcher, this.number30Matcher, this.text31Matcher, this.number32Matcher, this.text33Matcher, this.number34Matcher, this.text35Matcher, this.number36Matcher, this.text37Matcher, this.number38Matcher, this.text39Matcher, this.number40Matcher, this.text41Matcher, this.number42Matcher, this.text43Matcher, this.number44Matcher, this.text45Matcher, this.number46Matcher, this.text47Matcher, this.number48Matcher, this.text49Matcher, this.number50Matcher, this.text51Matcher, this.number52Matcher, this.text53Matcher, this.number54Matcher, this.text55Matcher, this.number56Matcher, this.text57Matcher, this.number58Matcher, this.text59Matcher, this.number60Matcher, this.text61Matcher, this.number62Matcher, this.text63Matcher, this.number64Matcher, this.text65Matcher);
+    }
+
+    public WideRecordMatcher withNumber20(int number20) {
+        return withNumber20(new PrimitiveIntMatcher(actual -> actual == number20, () -> Matchers.is(number20)));
+    }
+
+    public WideRecordMatcher withNumber20(Matcher<? super Integer> number20Matcher) {
+        return new WideRecordMatcher(this.text1Matcher, this.number2Matcher, this.text3Matcher, this.number4Matcher, this.text5Matcher, this.number6Matcher, this.text7Matcher, this.number8Matcher, this.text9Matcher, this.number10Matcher, this.text11Matcher, this.number12Matcher, this.text13Matcher, this.number14Matcher, this.text15Matcher, this.number16Matcher, this.text17Matcher, this.number18Matcher, this.text19Matcher, number20Matcher, this.text21Matcher, this.number22Matcher, this.text23Matcher, this.number24Matcher, this.text25Matcher, this.number26Matcher, this.text27Matcher, this.number28Matcher, this.text29Matcher, this.number30Matcher, this.text31Matcher, this.number32Matcher, this.text33Matcher, this.number34Matcher, this.text35Matcher, this.number36Matcher, this.text37Matcher, this.number38Matcher, this.text39Matcher, this.number40Matcher, this.text41Matcher, this.number42Matcher, this.text43Matcher, this.number44Matcher, this.text45Matcher, this.number46Matcher, this.text47Matcher, this.number48Matcher, this.text49Matcher, this.number50Matcher, this.text51Matcher, this.number52Matcher, this.text53Matcher, this.number54Matcher, this.text55Matcher, this.number56Matcher, this.text57Matcher, this.number58Matcher, this.text59Matcher, this.number60Matcher, this.text61Matcher, this.number62Matcher, this.text63Matcher, this.number64Matcher, this.text65Matcher);
+    }
+
+    public WideRecordMatcher withNumber20Between(int min, int max) {
+        return withNumber20(new PrimitiveIntMatcher(actual -> actual >= min && actual <= max, () -> Matchers.allOf(Matchers.greaterThanOrEqualTo(min), Matchers.lessThanOrEqualTo(max))));
+    }
+
+    public WideRecordMatcher withText21(String text21) {
+        return withText21(new ExpectedValue<>(Matchers.is(text21)));
+    }
+
+    public WideRecordMatcher withText21(Matcher<? super String> text21Matcher) {
+        return new WideRecordMatcher(this.text1Matcher, this.number2Matcher, this.text3Matcher, this.number4Matcher, this.text5Matcher, this.number6Matcher, this.text7Matcher, this.number8Matcher, this.text9Matcher, this.number10Matcher, this.text11Matcher, this.number12Matcher, this.text13Matcher, this.number14Matcher, this.text15Matcher, this.number16Matcher, this.text17Matcher, this.number18Matcher, this.text19Matcher, this.number20Matcher, text21Matcher, this.number22Matcher, this.text23Matcher, this.number24Matcher, this.text25Matcher, this.number26Matcher, this.text27Matcher, this.number28Matcher, this.text29Matcher, this.number30Matcher, this.text31Matcher, this.number32Matcher, this.text33Matcher, this.number34Matcher, this.text35Matcher, this.number36Matcher, this.text37Matcher, this.number38Matcher, this.text39Matcher, this.number40Matcher, this.text41Matcher, this.number42Matcher, this.text43Matcher, this.number44Matcher, this.text45Matcher, this.number46Matcher, this.text47Matcher, this.number48Matcher, this.text49Matcher, this.number50Matcher, this.text51Matcher, this.number52Matcher, this.text53Matcher, this.number54Matcher, this.text55Matcher, this.number56Matcher, this.text57Matcher, this.number58Matcher, this.text59Matcher, this.number60Matcher, this.text61Matcher, this.number62Matcher, this.text63Matcher, this.number64Matcher, this.text65Matcher);
+    }
+
+    public WideRecordMatcher withNumber22(int number22) {
+        return withNumber22(new PrimitiveIntMatcher(actual -> actual == number22, () -> Matchers.is(number22)));
+    }
+
+    public WideRecordMatcher withNumber22(Matcher<? super Integer> number22Matcher) {
+        return new WideRecordMatcher(this.text1Matcher, this.number2Matcher, this.text3Matcher, this.number4Matcher, this.text5Matcher, this.number6Matcher, this.text7Matcher, this.number8Matcher, this.text9Matcher, this.number10Matcher, this.text11Matcher, this.number12Matcher, this.text13Matcher, this.number14Matcher, this.text15Matcher, this.number16Matcher, this.text17Matcher, this.number18Matcher, this.text19Matcher, this.number20Matcher, this.text21Matcher, number22Matcher, this.text23Matcher, this.number24Matcher, this.text25Matcher, this.number26Matcher, this.text27Matcher, this.number28Matcher, this.text29Matcher, this.number30Matcher, this.text31Matcher, this.number32Matcher, this.text33Matcher, this.number34Matcher, this.text35Matcher, this.number36Matcher, this.text37Matcher, this.number38Matcher, this.text39Matcher, this.number40Matcher, this.text41Matcher, this.number42Matcher, this.text43Matcher, this.number44Matcher, this.text45Matcher, this.number46Matcher, this.text47Matcher, this.number48Matcher, this.text49Matcher, this.number50Matcher, this.text51Matcher, this.number52Matcher, this.text53Matcher, this.number54Matcher, this.text55Matcher, this.number56Matcher, this.text57Matcher, this.number58Matcher, this.text59Matcher, this.number60Matcher, this.text61Matcher, this.number62Matcher, this.text63Matcher, this.number64Matcher, this.text65Matcher);
+    }
+
+    public WideRecordMatcher withNumber22Between(int min, int max) {
+        return withNumber22(new PrimitiveIntMatcher(actual -> actual >= min && actual <= max, () -> Matchers.allOf(Matchers.greaterThanOrEqualTo(min), Matchers.lessThanOrEqualTo(max))));
+    }
+
+    public WideRecordMatcher withText23(String text23) {
+        return withText23(new ExpectedValue<>(Matchers.is(text23)));
+    }
+
+    public WideRecordMatcher withText23(Matcher<? super String> text23Matcher) {
+        return new WideRecordMatcher(this.text1Matcher, this.number2Matcher, this.text3Matcher, this.number4Matcher, this.text5Matcher, this.number6Matcher, this.text7Matcher, this.number8Matcher, this.text9Matcher, this.number10Matcher, this.text11Matcher, this.number12Matcher, this.text13Matcher, this.number14Matcher, this.text15Matcher, this.number16Matcher, this.text17Matcher, this.number18Matcher, this.text19Matcher, this.number20Matcher, this.text21Matcher, this.number22Matcher, text23Matcher, this.number24Matcher, this.text25Matcher, this.number26Matcher, this.text27Matcher, this.number28Matcher, this.text29Matcher, this.number30Matcher, this.text31Matcher, this.number32Matcher, this.text33Matcher, this.number34Matcher, this.text35Matcher, this.number36Matcher, this.text37Matcher, this.number38Matcher, this.text39Matcher, this.number40Matcher, this.text41Matcher, this.number42Matcher, this.text43Matcher, this.number44Matcher, this.text45Matcher, this.number46Matcher, this.text47Matcher, this.number48Matcher, this.text49Matcher, this.number50Matcher, this.text51Matcher, this.number52Matcher, this.text53Matcher, this.number54Matcher, this.text55Matcher, this.number56Matcher, this.text57Matcher, this.number58Matcher, this.text59Matcher, this.number60Matcher, this.text61Matcher, this.number62Matcher, this.text63Matcher, this.number64Matcher, this.text65Matcher);
+    }
+
+    public WideRecordMatcher withNumber24(int number24) {
+        return withNumber24(new PrimitiveIntMatcher(actual -> actual == number24, () -> Matchers.is(number24)));
+    }
+
+    public WideRecordMatcher withNumber24(Matcher<? super Integer> number24Matcher) {
+        return new WideRecordMatcher(this.text1Matcher, this.number2Matcher, this.text3Matcher, this.number4Matcher, this.text5Matcher, this.number6Matcher, this.text7Matcher, this.number8Matcher, this.text9Matcher, this.number10Matcher, this.text11Matcher, this.number12Matcher, this.text13Matcher, this.number14Matcher, this.text15Matcher, this.number16Matcher, this.text17Matcher, this.number18Matcher, this.text19Matcher, this.number20Matcher, this.text21Matcher, this.number22Matcher, this.text23Matcher, number24Matcher, this.text25Matcher, this.number26Matcher, this.text27Matcher, this.number28Matcher, this.text29Matcher, this.number30Matcher, this.text31Matcher, this.number32Matcher, this.text33Matcher, this.number34Matcher, this.text35Matcher, this.number36Matcher, this.text37Matcher, this.number38Matcher, this.text39Matcher, this.number40Matcher, this.text41Matcher, this.number42Matcher, this.text43Matcher, this.number44Matcher, this.text45Matcher, this.number46Matcher, this.text47Matcher, this.number48Matcher, this.text49Matcher, this.number50Matcher, this.text51Matcher, this.number52Matcher, this.text53Matcher, this.number54Matcher, this.text55Matcher, this.number56Matcher, this.text57Matcher, this.number58Matcher, this.text59Matcher, this.number60Matcher, this.text61Matcher, this.number62Matcher, this.text63Matcher, this.number64Matcher, this.text65Matcher);
+    }
+
+    public WideRecordMatcher withNumber24Between(int min, int max) {
+        return withNumber24(new PrimitiveIntMatcher(actual -> actual >= min && actual <= max, () -> Matchers.allOf(Matchers.greaterThanOrEqualTo(min), Matchers.lessThanOrEqualTo(max))));
+    }
+
+    public WideRecordMatcher withText25(String text25) {
+        return withText25(new ExpectedValue<>(Matchers.is(text25)));
+    }
+
+    public WideRecordMatcher withText25(Matcher<? super String> text25Matcher) {
+        return new WideRecordMatcher(this.text1Matcher, this.number2Matcher, this.text3Matcher, this.number4Matcher, this.text5Matcher, this.number6Matcher, this.text7Matcher, this.number8Matcher, this.text9Matcher, this.number10Matcher, this.text11Matcher, this.number12Matcher, this.text13Matcher, this.number14Matcher, this.text15Matcher, this.number16Matcher, this.text17Matcher, this.number18Matcher, this.text19Matcher, this.number20Matcher, this.text21Matcher, this.number22Matcher, this.text23Matcher, this.number24Matcher, text25Matcher, this.number26Matcher, this.text27Matcher, this.number28Matcher, this.text29Matcher, this.number30Matcher, this.text31Matcher, this.number32Matcher, this.text33Matcher, this.number34Matcher, this.text35Matcher, this.number36Matcher, this.text37Matcher, this.number38Matcher, this.text39Matcher, this.number40Matcher, this.text41Matcher, this.number42Matcher, this.text43Matcher, this.number44Matcher, this.text45Matcher, this.number46Matcher, this.text47Matcher, this.number48Matcher, this.text49Matcher, this.number50Matcher, this.text51Matcher, this.number52Matcher, this.text53Matcher, this.number54Matcher, this.text55Matcher, this.number56Matcher, this.text57Matcher, this.number58Matcher, this.text59Matcher, this.number60Matcher, this.text61Matcher, this.number62Matcher, this.text63Matcher, this.number64Matcher, this.text65Matcher);
+    }
+
+    public WideRecordMatcher withNumber26(int number26) {
+        return withNumber26(new PrimitiveIntMatcher(actual -> actual == number26, () -> Matchers.is(number26)));
+    }
+
+    public WideRecordMatcher withNumber26(Matcher<? super Integer> number26Matcher) {
+        return new WideRecordMatcher(this.text1Matcher, this.number2Matcher, this.text3Matcher, this.number4Matcher, this.text5Matcher, this.number6Matcher, this.text7Matcher, this.number8Matcher, this.text9Matcher, this.number10Matcher, this.text11Matcher, this.number12Matcher, this.text13Matcher, this.number14Matcher, this.text15Matcher, this.number16Matcher, this.text17Matcher, this.number18Matcher, this.text19Matcher, this.number20Matcher, this.text21Matcher, this.number22Matcher, this.text23Matcher, this.number24Matcher, this.text25Matcher, number26Matcher, this.text27Matcher, this.number28Matcher, this.text29Matcher, this.number30Matcher, this.text31Matcher, this.number32Matcher, this.text33Matcher, this.number34Matcher, this.text35Matcher, this.number36Matcher, this.text37Matcher, this.number38Matcher, this.text39Matcher, this.number40Matcher, this.text41Matcher, this.number42Matcher, this.text43Matcher, this.number44Matcher, this.text45Matcher, this.number46Matcher, this.text47Matcher, this.number48Matcher, this.text49Matcher, this.number50Matcher, this.text51Matcher, this.number52Matcher, this.text53Matcher, this.number54Matcher, this.text55Matcher, this.number56Matcher, this.text57Matcher, this.number58Matcher, this.text59Matcher, this.number60Matcher, this.text61Matcher, this.number62Matcher, this.text63Matcher, this.number64Matcher, this.text65Matcher);
+    }
+
+    public WideRecordMatcher withNumber26Between(int min, int max) {
+        return withNumber26(new PrimitiveIntMatcher(actual -> actual >= min && actual <= max, () -> Matchers.allOf(Matchers.greaterThanOrEqualTo(min), Matchers.lessThanOrEqualTo(max))));
+    }
+
+    public WideRecordMatcher withText27(String text27) {
+        return withText27(new ExpectedValue<>(Matchers.is(text27)));
+    }
+
+    public WideRecordMatcher withText27(Matcher<? super String> text27Matcher) {
+        return new WideRecordMatcher(this.text1Matcher, this.number2Matcher, this.text3Matcher, this.number4Matcher, this.text5Matcher, this.number6Matcher, this.text7Matcher, this.number8Matcher, this.text9Matcher, this.number10Matcher, this.text11Matcher, this.number12Matcher, this.text13Matcher, this.number14Matcher, this.text15Matcher, this.number16Matcher, this.text17Matcher, this.number18Matcher, this.text19Matcher, this.number20Matcher, this.text21Matcher, this.number22Matcher, this.text23Matcher, this.number24Matcher, this.text25Matcher, this.number26Matcher, text27Matcher, this.number28Matcher, this.text29Matcher, this.number30Matcher, this.text31Matcher, this.number32Matcher, this.text33Matcher, this.number34Matcher, this.text35Matcher, this.number36Matcher, this.text37Matcher, this.number38Matcher, this.text39Matcher, this.number40Matcher, this.text41Matcher, this.number42Matcher, this.text43Matcher, this.number44Matcher, this.text45Matcher, this.number46Matcher, this.text47Matcher, this.number48Matcher, this.text49Matcher, this.number50Matcher, this.text51Matcher, this.number52Matcher, this.text53Matcher, this.number54Matcher, this.text55Matcher, this.number56Matcher, this.text57Matcher, this.number58Matcher, this.text59Matcher, this.number60Matcher, this.text61Matcher, this.number62Matcher, this.text63Matcher, this.number64Matcher, this.text65Matcher);
+    }
+
+    public WideRecordMatcher withNumber28(int number28) {
+        return withNumber28(new PrimitiveIntMatcher(actual -> actual == number28, () -> Matchers.is(number28)));
+    }
+
+    public WideRecordMatcher withNumber28(Matcher<? super Integer> number28Matcher) {
+        return new WideRecordMatcher(this.text1Matcher, this.number2Matcher, this.text3Matcher, this.number4Matcher, this.text5Matcher, this.number6Matcher, this.text7Matcher, this.number8Matcher, this.text9Matcher, this.number10Matcher, this.text11Matcher, this.number12Matcher, this.text13Matcher, this.number14Matcher, this.text15Matcher, this.number16Matcher, this.text17Matcher, this.number18Matcher, this.text19Matcher, this.number20Matcher, this.text21Matcher, this.number22Matcher, this.text23Matcher, this.number24Matcher, this.text25Matcher, this.number26Matcher, this.text27Matcher, number28Matcher, this.text29Matcher, this.number30Matcher, this.text31Matcher, this.number32Matcher, this.text33Matcher, this.number34Matcher, this.text35Matcher, this.number36Matcher, this.text37Matcher, this.number38Matcher, this.text39Matcher, this.number40Matcher, this.text41Matcher, this.number42Matcher, this.text43Matcher, this.number44Matcher, this.text45Matcher, this.number46Matcher, this.text47Matcher, this.number48Matcher, this.text49Matcher, this.number50Matcher, this.text51Matcher, this.number52Matcher, this.text53Matcher, this.number54Matcher, this.text55Matcher, this.number56Matcher, this.text57Matcher, this.number58Matcher, this.text59Matcher, this.number60Matcher, this.text61Matcher, this.number62Matcher, this.text63Matcher, this.number64Matcher, this.text65Matcher);
+    }
+
+    public WideRecordMatcher withNumber28Between(int min, int max) {
+        return withNumber28(new PrimitiveIntMatcher(actual -> actual >= min && actual <= max, () -> Matchers.allOf(Matchers.greaterThanOrEqualTo(min), Matchers.lessThanOrEqualTo(max))));
+    }
+
+    public WideRecordMatcher withText29(String text29) {
+        return withText29(new ExpectedValue<>(Matchers.is(text29)));
+    }
+
+    public WideRecordMatcher withText29(Matcher<? super String> text29Matcher) {
+        return new WideRecordMatcher(this.text1Matcher, this.number2Matcher, this.text3Matcher, this.number4Matcher, this.text5Matcher, this.number6Matcher, this.text7Matcher, this.number8Matcher, this.text9Matcher, this.number10Matcher, this.text11Matcher, this.number12Matcher, this.text13Matcher, this.number14Matcher, this.text15Matcher, this.number16Matcher, this.text17Matcher, this.number18Matcher, this.text19Matcher, this.number20Matcher, this.text21Matcher, this.number22Matcher, this.text23Matcher, this.number24Matcher, this.text25Matcher, this.number26Matcher, this.text27Matcher, this.number28Matcher, text29Matcher, this.number30Matcher, this.text31Matcher, this.number32Matcher, this.text33Matcher, this.number34Matcher, this.text35Matcher, this.number36Matcher, this.text37Matcher, this.number38Matcher, this.text39Matcher, this.number40Matcher, this.text41Matcher, this.number42Matcher, this.text43Matcher, this.number44Matcher, this.text45Matcher, this.number46Matcher, this.text47Matcher, this.number48Matcher, this.text49Matcher, this.number50Matcher, this.text51Matcher, this.number52Matcher, this.text53Matcher, this.number54Matcher, this.text55Matcher, this.number56Matcher, this.text57Matcher, this.number58Matcher, this.text59Matcher, this.number60Matcher, this.text61Matcher, this.number62Matcher, this.text63Matcher, this.number64Matcher, this.text65Matcher);
+    }
+
+    public WideRecordMatcher withNumber30(int number30) {
+        return withNumber30(new PrimitiveIntMatcher(actual -> actual == number30, () -> Matchers.is(number30)));
+    }
+
+    public WideRecordMatcher withNumber30(Matcher<? super Integer> number30Matcher) {
+        return new WideRecordMatcher(this.text1Matcher, this.number2Matcher, this.text3Matcher, this.number4Matcher, this.text5Matcher, this.number6Matcher, this.text7Matcher, this.number8Matcher, this.text9Matcher, this.number10Matcher, this.text11Matcher, this.number12Matcher, this.text13Matcher, this.number14Matcher, this.text15Matcher, this.number16Matcher, this.text17Matcher, this.number18Matcher, this.text19Matcher, this.number20Matcher, this.text21Matcher, this.number22Matcher, this.text23Matcher, this.number24Matcher, this.text25Matcher, this.number26Matcher, this.text27Matcher, this.number28Matcher, this.text29Matcher, number30Matcher, this.text31Matcher, this.number32Matcher, this.text33Matcher, this.number34Matcher, this.text35Matcher, this.number36Matcher, this.text37Matcher, this.number38Matcher, this.text39Matcher, this.number40Matcher, this.text41Matcher, this.number42Matcher, this.text43Matcher, this.number44Matcher, this.text45Matcher, this.number46Matcher, this.text47Matcher, this.number48Matcher, this.text49Matcher, this.number50Matcher, this.text51Matcher, this.number52Matcher, this.text53Matcher, this.number54Matcher, this.text55Matcher, this.number56Matcher, this.text57Matcher, this.number58Matcher, this.text59Matcher, this.number60Matcher, this.text61Matcher, this.number62Matcher, this.text63Matcher, this.number64Matcher, this.text65Matcher);
+    }
+
+    public WideRecordMatcher withNumber30Between(int min, int max) {
+        return withNumber30(new PrimitiveIntMatcher(actual -> actual >= min && actual <= max, () -> Matchers.allOf(Matchers.greaterThanOrEqualTo(min), Matchers.lessThanOrEqualTo(max))));
+    }
+
+    public WideRecordMatcher withText31(String text31) {
+        return withText31(new ExpectedValue<>(Matchers.is(text31)));
+    }
+
+    public WideRecordMatcher withText31(Matcher<? super String> text31Matcher) {
+        return new WideRecordMatcher(this.text1Matcher, this.number2Matcher, this.text3Matcher, this.number4Matcher, this.text5Matcher, this.number6Matcher, this.text7Matcher, this.number8Matcher, this.text9Matcher, this.number10Matcher, this.text11Matcher, this.number12Matcher, this.text13Matcher, this.number14Matcher, this.text15Matcher, this.number16Matcher, this.text17Matcher, this.number18Matcher, this.text19Matcher, this.number20Matcher, this.text21Matcher, this.number22Matcher, this.text23Matcher, this.number24Matcher, this.text25Matcher, this.number26Matcher, this.text27Matcher, this.number28Matcher, this.text29Matcher, this.number30Matcher, text31Matcher, this.number32Matcher, this.text33Matcher, this.number34Matcher, this.text35Matcher, this.number36Matcher, this.text37Matcher, this.number38Matcher, this.text39Matcher, this.number40Matcher, this.text41Matcher, this.number42Matcher, this.text43Matcher, this.number44Matcher, this.text45Matcher, this.number46Matcher, this.text47Matcher, this.number48Matcher, this.text49Matcher, this.number50Matcher, this.text51Matcher, this.number52Matcher, this.text53Matcher, this.number54Matcher, this.text55Matcher, this.number56Matcher, this.text57Matcher, this.number58Matcher, this.text59Matcher, this.number60Matcher, this.text61Matcher, this.number62Matcher, this.text63Matcher, this.number64Matcher, this.text65Matcher);
+    }
+
+    public WideRecordMatcher withNumber32(int number32) {
+        return withNumber32(new PrimitiveIntMatcher(actual -> actual == number32, () -> Matchers.is(number32)));
+    }
+
+    public WideRecordMatcher withNumber32(Matcher<? super Integer> number32Matcher) {
+        return new WideRecordMatcher(this.text1Matcher, this.number2Matcher, this.text3Matcher, this.number4Matcher, this.text5Matcher, this.number6Matcher, this.text7Matcher, this.number8Matcher, this.text9Matcher, this.number10Matcher, this.text11Matcher, this.number12Matcher, this.text13Matcher, this.number14Matcher, this.text15Matcher, this.number16Matcher, this.text17Matcher, this.number18Matcher, this.text19Matcher, this.number20Matcher, this.text21Matcher, this.number22Matcher, this.text23Matcher, this.number24Matcher, this.text25Matcher, this.number26Matcher, this.text27Matcher, this.number28Matcher, this.text29Matcher, this.number30Matcher, this.text31Matcher, number32Matcher, this.text33Matcher, this.number34Matcher, this.text35Matcher, this.number36Matcher, this.text37Matcher, this.number38Matcher, this.text39Matcher, this.number40Matcher, this.text41Matcher, this.number42Matcher, this.text43Matcher, this.number44Matcher, this.text45Matcher, this.number46Matcher, this.text47Matcher, this.number48Matcher, this.text49Matcher, this.number50Matcher, this.text51Matcher, this.number52Matcher, this.text53Matcher, this.number54Matcher, this.text55Matcher, this.number56Matcher, this.text57Matcher, this.number58Matcher, this.text59Matcher, this.number60Matcher, this.text61Matcher, this.number62Matcher, this.text63Matcher, this.number64Matcher, this.text65Matcher);
+    }
+
+    public WideRecordMatcher withNumber32Between(int min, int max) {
+        return withNumber32(new PrimitiveIntMatcher(actual -> actual >= min && actual <= max, () -> Matchers.allOf(Matchers.greaterThanOrEqualTo(min), Matchers.lessThanOrEqualTo(max))));
+    }
+
+    public WideRecordMatcher withText33(String text33) {
+        return withText33(new ExpectedValue<>(Matchers.is(text33)));
+    }
+
+    public WideRecordMatcher withText33(Matcher<? super String> text33Matcher) {
+        return new WideRecordMatcher(this.text1Matcher, this.number2Matcher, this.text3Matcher, this.number4Matcher, this.text5Matcher, this.number6Matcher, this.text7Matcher, this.number8Matcher, this.text9Matcher, this.number10Matcher, this.text11Matcher, this.number12Matcher, this.text13Matcher, this.number14Matcher, this.text15Matcher, this.number16Matcher, this.text17Matcher, this.number18Matcher, this.text19Matcher, this.number20Matcher, this.text21Matcher, this.number22Matcher, this.text23Matcher, this.number24Matcher, this.text25Matcher, this.number26Matcher, this.text27Matcher, this.number28Matcher, this.text29Matcher, this.number30Matcher, this.text31Matcher, this.number32Matcher, text33Matcher, this.number34Matcher, this.text35Matcher, this.number36Matcher, this.text37Matcher, this.number38Matcher, this.text39Matcher, this.number40Matcher, this.text41Matcher, this.number42Matcher, this.text43Matcher, this.number44Matcher, this.text45Matcher, this.number46Matcher, this.text47Matcher, this.number48Matcher, this.text49Matcher, this.number50Matcher, this.text51Matcher, this.number52Matcher, this.text53Matcher, this.number54Matcher, this.text55Matcher, this.number56Matcher, this.text57Matcher, this.number58Matcher, this.text59Matcher, this.number60Matcher, this.text61Matcher, this.number62Matcher, this.text63Matcher, this.number64Matcher, this.text65Matcher);
+    }
+
+    public WideRecordMatcher withNumber34(int number34) {
+        return withNumber34(new PrimitiveIntMatcher(actual -> actual == number34, () -> Matchers.is(number34)));
+    }
+
+    public WideRecordMatcher withNumber34(Matcher<? super Integer> number34Matcher) {
+        return new WideRecordMatcher(this.text1Matcher, this.number2Matcher, this.text3Matcher, this.number4Matcher, this.text5Matcher, this.number6Matcher, this.text7Matcher, this.number8Matcher, this.text9Matcher, this.number10Matcher, this.text11Matcher, this.number12Matcher, this.text13Matcher, this.number14Matcher, this.text15Matcher, this.number16Matcher, this.text17Matcher, this.number18Matcher, this.text19Matcher, this.number20Matcher, this.text21Matcher, this.number22Matcher, this.text23Matcher, this.number24Matcher, this.text25Matcher, this.number26Matcher, this.text27Matcher, this.number28Matcher, this.text29Matcher, this.number30Matcher, this.text31Matcher, this.number32Matcher, this.text33Matcher, number34Matcher, this.text35Matcher, this.number36Matcher, this.text37Matcher, this.number38Matcher, this.text39Matcher, this.number40Matcher, this.text41Matcher, this.number42Matcher, this.text43Matcher, this.number44Matcher, this.text45Matcher, this.number46Matcher, this.text47Matcher, this.number48Matcher, this.text49Matcher, this.number50Matcher, this.text51Matcher, this.number52Matcher, this.text53Matcher, this.number54Matcher, this.text55Matcher, this.number56Matcher, this.text57Matcher, this.number58Matcher, this.text59Matcher, this.number60Matcher, this.text61Matcher, this.number62Matcher, this.text63Matcher, this.number64Matcher, this.text65Matcher);
+    }
+
+    public WideRecordMatcher withNumber34Between(int min, int max) {
+        return withNumber34(new PrimitiveIntMatcher(actual -> actual >= min && actual <= max, () -> Matchers.allOf(Matchers.greaterThanOrEqualTo(min), Matchers.lessThanOrEqualTo(max))));
+    }
+
+    public WideRecordMatcher withText35(String text35) {
+        return withText35(new ExpectedValue<>(Matchers.is(text35)));
+    }
+
+    public WideRecordMatcher withText35(Matcher<? super String> text35Matcher) {
+        return new WideRecordMatcher(this.text1Matcher, this.number2Matcher, this.text3Matcher, this.number4Matcher, this.text5Matcher, this.number6Matcher, this.text7Matcher, this.number8Matcher, this.text9Matcher, this.number10Matcher, this.text11Matcher, this.number12Matcher, this.text13Matcher, this.number14Matcher, this.text15Matcher, this.number16Matcher, this.text17Matcher, this.number18Matcher, this.text19Matcher, this.number20Matcher, this.text21Matcher, this.number22Matcher, this.text23Matcher, this.number24Matcher, this.text25Matcher, this.number26Matcher, this.text27Matcher, this.number28Matcher, this.text29Matcher, this.number30Matcher, this.text31Matcher, this.number32Matcher, this.text33Matcher, this.number34Matcher, text35Matcher, this.number36Matcher, this.text37Matcher, this.number38Matcher, this.text39Matcher, this.number40Matcher, this.text41Matcher, this.number42Matcher, this.text43Matcher, this.number44Matcher, this.text45Matcher, this.number46Matcher, this.text47Matcher, this.number48Matcher, this.text49Matcher, this.number50Matcher, this.text51Matcher, this.number52Matcher, this.text53Matcher, this.number54Matcher, this.text55Matcher, this.number56Matcher, this.text57Matcher, this.number58Matcher, this.text59Matcher, this.number60Matcher, this.text61Matcher, this.number62Matcher, this.text63Matcher, this.number64Matcher, this.text65Matcher);
+    }
+
+    public WideRecordMatcher withNumber36(int number36) {
+        return withNumber36(new PrimitiveIntMatcher(actual -> actual == number36, () -> Matchers.is(number36)));
+    }
+
+    public WideRecordMatcher withNumber36(Matcher<? super Integer> number36Matcher) {
+        return new WideRecordMatcher(this.text1Matcher, this.number2Matcher, this.text3Matcher, this.number4Matcher, this.text5Matcher, this.number6Matcher, this.text7Matcher, this.number8Matcher, this.text9Matcher, this.number10Matcher, this.text11Matcher, this.number12Matcher, this.text13Matcher, this.number14Matcher, this.text15Matcher, this.number16Matcher, this.text17Matcher, this.number18Matcher, this.text19Matcher, this.number20Matcher, this.text21Matcher, this.number22Matcher, this.text23Matcher, this.number24Matcher, this.text25Matcher, this.number26Matcher, this.text27Matcher, this.number28Matcher, this.text29Matcher, this.number30Matcher, this.text31Matcher, this.number32Matcher, this.text33Matcher, this.number34Matcher, this.text35Matcher, number36Matcher, this.text37Matcher, this.number38Matcher, this.text39Matcher, this.number40Matcher, this.text41Matcher, this.number42Matcher, this.text43Matcher, this.number44Matcher, this.text45Matcher, this.number46Matcher, this.text47Matcher, this.number48Matcher, this.text49Matcher, this.number50Matcher, this.text51Matcher, this.number52Matcher, this.text53Matcher, this.number54Matcher, this.text55Matcher, this.number56Matcher, this.text57Matcher, this.number58Matcher, this.text59Matcher, this.number60Matcher, this.text61Matcher, this.number62Matcher, this.text63Matcher, this.number64Matcher, this.text65Matcher);
+    }
+
+    public WideRecordMatcher withNumber36Between(int min, int max) {
+        return withNumber36(new PrimitiveIntMatcher(actual -> actual >= min && actual <= max, () -> Matchers.allOf(Matchers.greaterThanOrEqualTo(min), Matchers.lessThanOrEqualTo(max))));
+    }
+
+    public WideRecordMatcher withText37(String text37) {
+        return withText37(new ExpectedValue<>(Matchers.is(text37)));
+    }
+
+    public WideRecordMatcher withText37(Matcher<? super String> text37Matcher) {
+        return new WideRecordMatcher(this.text1Matcher, this.number2Matcher, this.text3Matcher, this.number4Matcher, this.text5Matcher, this.number6Matcher, this.text7Matcher, this.number8Matcher, this.text9Matcher, this.number10Matcher, this.text11Matcher, this.number12Matcher, this.text13Matcher, this.number14Matcher, this.text15Matcher, this.number16Matcher, this.text17Matcher, this.number18Matcher, this.text19Matcher, this.number20Matcher, this.text21Matcher, this.number22Matcher, this.text23Matcher, this.number24Matcher, this.text25Matcher, this.number26Matcher, this.text27Matcher, this.number28Matcher, this.text29Matcher, this.number30Matcher, this.text31Matcher, this.number32Matcher, this.text33Matcher, this.number34Matcher, this.text35Matcher, this.number36Matcher, text37Matcher, this.number38Matcher, this.text39Matcher, this.number40Matcher, this.text41Matcher, this.number42Matcher, this.text43Matcher, this.number44Matcher, this.text45Matcher, this.number46Matcher, this.text47Matcher, this.number48Matcher, this.text49Matcher, this.number50Matcher, this.text51Matcher, this.number52Matcher, this.text53Matcher, this.number54Matcher, this.text55Matcher, this.number56Matcher, this.text57Matcher, this.number58Matcher, this.text59Matcher, this.number60Matcher, this.text61Matcher, this.number62Matcher, this.text63Matcher, this.number64Matcher, this.text65Matcher);
+    }
+
+    public WideRecordMatcher withNumber38(int number38) {
+        return withNumber38(new PrimitiveIntMatcher(actual -> actual == number38, () -> Matchers.is(number38)));
+    }
+
+    public WideRecordMatcher withNumber38(Matcher<? super Integer> number38Matcher) {
+        return new WideRecordMatcher(this.text1Matcher, this.number2Matcher, this.text3Matcher, this.number4Matcher, this.text5Matcher, this.number6Matcher, this.text7Matcher, this.number8Matcher, this.text9Matcher, this.number10Matcher, this.text11Matcher, this.number12Matcher, this.text13Matcher, this.number14Matcher, this.text15Matcher, this.number16Matcher, this.text17Matcher, this.number18Matcher, this.text19Matcher, this.number20Matcher, this.text21Matcher, this.number22Matcher, this.text23Matcher, this.number24Matcher, this.text25Matcher, this.number26Matcher, this.text27Matcher, this.number28Matcher, this.text29Matcher, this.number30Matcher, this.text31Matcher, this.number32Matcher, this.text33Matcher, this.number34Matcher, this.text35Matcher, this.number36Matcher, this.text37Matcher, number38Matcher, this.text39Matcher, this.number40Matcher, this.text41Matcher, this.number42Matcher, this.text43Matcher, this.number44Matcher, this.text45Matcher, this.number46Matcher, this.text47Matcher, this.number48Matcher, this.text49Matcher, this.number50Matcher, this.text51Matcher, this.number52Matcher, this.text53Matcher, this.number54Matcher, this.text55Matcher, this.number56Matcher, this.text57Matcher, this.number58Matcher, this.text59Matcher, this.number60Matcher, this.text61Matcher, this.number62Matcher, this.text63Matcher, this.number64Matcher, this.text65Matcher);
+    }
+
+    public WideRecordMatcher withNumber38Between(int min, int max) {
+        return withNumber38(new PrimitiveIntMatcher(actual -> actual >= min && actual <= max, () -> Matchers.allOf(Matchers.greaterThanOrEqualTo(min), Matchers.lessThanOrEqualTo(max))));
+    }
+
+    public WideRecordMatcher withText39(String text39) {
+        return withText39(new ExpectedValue<>(Matchers.is(text39)));
+    }
+
+    public WideRecordMatcher withText39(Matcher<? super String> text39Matcher) {
+        return new WideRecordMatcher(this.text1Matcher, this.number2Matcher, this.text3Matcher, this.number4Matcher, this.text5Matcher, this.number6Matcher, this.text7Matcher, this.number8Matcher, this.text9Matcher, this.number10Matcher, this.text11Matcher, this.number12Matcher, this.text13Matcher, this.number14Matcher, this.text15Matcher, this.number16Matcher, this.text17Matcher, this.number18Matcher, this.text19Matcher, this.number20Matcher, this.text21Matcher, this.number22Matcher, this.text23Matcher, this.number24Matcher, this.text25Matcher, this.number26Matcher, this.text27Matcher, this.number28Matcher, this.text29Matcher, this.number30Matcher, this.text31Matcher, this.number32Matcher, this.text33Matcher, this.number34Matcher, this.text35Matcher, this.number36Matcher, this.text37Matcher, this.number38Matcher, text39Matcher, this.number40Matcher, this.text41Matcher, this.number42Matcher, this.text43Matcher, this.number44Matcher, this.text45Matcher, this.number46Matcher, this.text47Matcher, this.number48Matcher, this.text49Matcher, this.number50Matcher, this.text51Matcher, this.number52Matcher, this.text53Matcher, this.number54Matcher, this.text55Matcher, this.number56Matcher, this.text57Matcher, this.number58Matcher, this.text59Matcher, this.number60Matcher, this.text61Matcher, this.number62Matcher, this.text63Matcher, this.number64Matcher, this.text65Matcher);
+    }
+
+    public WideRecordMatcher withNumber40(int number40) {
+        return withNumber40(new PrimitiveIntMatcher(actual -> actual == number40, () -> Matchers.is(number40)));
+    }
+
+    public WideRecordMatcher withNumber40(Matcher<? super Integer> number40Matcher) {
+        return new WideRecordMatcher(this.text1Matcher, this.number2Matcher, this.text3Matcher, this.number4Matcher, this.text5Matcher, this.number6Matcher, this.text7Matcher, this.number8Matcher, this.text9Matcher, this.number10Matcher, this.text11Matcher, this.number12Matcher, this.text13Matcher, this.number14Matcher, this.text15Matcher, this.number16Matcher, this.text17Matcher, this.number18Matcher, this.text19Matcher, this.number20Matcher, this.text21Matcher, this.number22Matcher, this.text23Matcher, this.number24Matcher, this.text25Matcher, this.number26Matcher, this.text27Matcher, this.number28Matcher, this.text29Matcher, this.number30Matcher, this.text31Matcher, this.number32Matcher, this.text33Matcher, this.number34Matcher, this.text35Matcher, this.number36Matcher, this.text37Matcher, this.number38Matcher, this.text39Matcher, number40Matcher, this.text41Matcher, this.number42Matcher, this.text43Matcher, this.number44Matcher, this.text45Matcher, this.number46Matcher, this.text47Matcher, this.number48Matcher, this.text49Matcher, this.number50Matcher, this.text51Matcher, this.number52Matcher, this.text53Matcher, this.number54Matcher, this.text55Matcher, this.number56Matcher, this.text57Matcher, this.number58Matcher, this.text59Matcher, this.number60Matcher, this.text61Matcher, this.number62Matcher, this.text63Matcher, this.number64Matcher, this.text65Matcher);
+    }
+
+    public WideRecordMatcher withNumber40Between(int min, int max) {
+        return withNumber40(new PrimitiveIntMatcher(actual -> actual >= min && actual <= max, () -> Matchers.allOf(Matchers.greaterThanOrEqualTo(min), Matchers.lessThanOrEqualTo(max))));
+    }
+
+    public WideRecordMatcher withText41(String text41) {
+        return withText41(new ExpectedValue<>(Matchers.is(text41)));
+    }
+
+    public WideRecordMatcher withText41(Matcher<? super String> text41Matcher) {
+        return new WideRecordMatcher(this.text1Matcher, this.number2Matcher, this.text3Matcher, this.number4Matcher, this.text5Matcher, this.number6Matcher, this.text7Matcher, this.number8Matcher, this.text9Matcher, this.number10Matcher, this.text11Matcher, this.number12Matcher, this.text13Matcher, this.number14Matcher, this.text15Matcher, this.number16Matcher, this.text17Matcher, this.number18Matcher, this.text19Matcher, this.number20Matcher, this.text21Matcher, this.number22Matcher, this.text23Matcher, this.number24Matcher, this.text25Matcher, this.number26Matcher, this.text27Matcher, this.number28Matcher, this.text29Matcher, this.number30Matcher, this.text31Matcher, this.number32Matcher, this.text33Matcher, this.number34Matcher, this.text35Matcher, this.number36Matcher, this.text37Matcher, this.number38Matcher, this.text39Matcher, this.number40Matcher, text41Matcher, this.number42Matcher, this.text43Matcher, this.number44Matcher, this.text45Matcher, this.number46Matcher, this.text47Matcher, this.number48Matcher, this.text49Matcher, this.number50Matcher, this.text51Matcher, this.number52Matcher, this.text53Matcher, this.number54Matcher, this.text55Matcher, this.number56Matcher, this.text57Matcher, this.number58Matcher, this.text59Matcher, this.number60Matcher, this.text61Matcher, this.number62Matcher, this.text63Matcher, this.number64Matcher, this.text65Matcher);
+    }
+
+    public WideRecordMatcher withNumber42(int number42) {
+        return withNumber42(new PrimitiveIntMatcher(actual -> actual == number42, () -> Matchers.is(number42)));
+    }
+
+    public WideRecordMatcher withNumber42(Matcher<? super Integer> number42Matcher) {
+        return new WideRecordMatcher(this.text1Matcher, this.number2Matcher, this.text3Matcher, this.number4Matcher, this.text5Matcher, this.number6Matcher, this.text7Matcher, this.number8Matcher, this.text9Matcher, this.number10Matcher, this.text11Matcher, this.number12Matcher, this.text13Matcher, this.number14Matcher, this.text15Matcher, this.number16Matcher, this.text17Matcher, this.number18Matcher, this.text19Matcher, this.number20Matcher, this.text21Matcher, this.number22Matcher, this.text23Matcher, this.number24Matcher, this.text25Matcher, this.number26Matcher, this.text27Matcher, this.number28Matcher, this.text29Matcher, this.number30Matcher, this.text31Matcher, this.number32Matcher, this.text33Matcher, this.number34Matcher, this.text35Matcher, this.number36Matcher, this.text37Matcher, this.number38Matcher, this.text39Matcher, this.number40Matcher, this.text41Matcher, number42Matcher, this.text43Matcher, this.number44Matcher, this.text45Matcher, this.number46Matcher, this.text47Matcher, this.number48Matcher, this.text49Matcher, this.number50Matcher, this.text51Matcher, this.number52Matcher, this.text53Matcher, this.number54Matcher, this.text55Matcher, this.number56Matcher, this.text57Matcher, this.number58Matcher, this.text59Matcher, this.number60Matcher, this.text61Matcher, this.number62Matcher, this.text63Matcher, this.number64Matcher, this.text65Matcher);
+    }
+
+    public WideRecordMatcher withNumber42Between(int min, int max) {
+        return withNumber42(new PrimitiveIntMatcher(actual -> actual >= min && actual <= max, () -> Matchers.allOf(Matchers.greaterThanOrEqualTo(min), Matchers.lessThanOrEqualTo(max))));
+    }
+
+    public WideRecordMatcher withText43(String text43) {
+        return withText43(new ExpectedValue<>(Matchers.is(text43)));
+    }
+
+    public WideRecordMatcher withText43(Matcher<? super String> text43Matcher) {
+        return new WideRecordMatcher(this.text1Matcher, this.number2Matcher, this.text3Matcher, this.number4Matcher, this.text5Matcher, this.number6Matcher, this.text7Matcher, this.number8Matcher, this.text9Matcher, this.number10Matcher, this.text11Matcher, this.number12Matcher, this.text13Matcher, this.number14Matcher, this.text15Matcher, this.number16Matcher, this.text17Matcher, this.number18Matcher, this.text19Matcher, this.number20Matcher, this.text21Matcher, this.number22Matcher, this.text23Matcher, this.number24Matcher, this.text25Matcher, this.number26Matcher, this.text27Matcher, this.number28Matcher, this.text29Matcher, this.number30Matcher, this.text31Matcher, this.number32Matcher, this.text33Matcher, this.number34Matcher, this.text35Matcher, this.number36Matcher, this.text37Matcher, this.number38Matcher, this.text39Matcher, this.number40Matcher, this.text41Matcher, this.number42Matcher, text43Matcher, this.number44Matcher, this.text45Matcher, this.number46Matcher, this.text47Matcher, this.number48Matcher, this.text49Matcher, this.number50Matcher, this.text51Matcher, this.number52Matcher, this.text53Matcher, this.number54Matcher, this.text55Matcher, this.number56Matcher, this.text57Matcher, this.number58Matcher, this.text59Matcher, this.number60Matcher, this.text61Matcher, this.number62Matcher, this.text63Matcher, this.number64Matcher, this.text65Matcher);
+    }
+
+    public WideRecordMatcher withNumber44(int number44) {
+        return withNumber44(new PrimitiveIntMatcher(actual -> actual == number44, () -> Matchers.is(number44)));
+    }
+
+    public WideRecordMatcher withNumber44(Matcher<? super Integer> number44Matcher) {
+        return new WideRecordMatcher(this.text1Matcher, this.number2Matcher, this.text3Matcher, this.number4Matcher, this.text5Matcher, this.number6Matcher, this.text7Matcher, this.number8Matcher, this.text9Matcher, this.number10Matcher, this.text11Matcher, this.number12Matcher, this.text13Matcher, this.number14Matcher, this.text15Matcher, this.number16Matcher, this.text17Matcher, this.number18Matcher, this.text19Matcher, this.number20Matcher, this.text21Matcher, this.number22Matcher, this.text23Matcher, this.number24Matcher, this.text25Matcher, this.number26Matcher, this.text27Matcher, this.number28Matcher, this.text29Matcher, this.number30Matcher, this.text31Matcher, this.number32Matcher, this.text33Matcher, this.number34Matcher, this.text35Matcher, this.number36Matcher, this.text37Matcher, this.number38Matcher, this.text39Matcher, this.number40Matcher, this.text41Matcher, this.number42Matcher, this.text43Matcher, number44Matcher, this.text45Matcher, this.number46Matcher, this.text47Matcher, this.number48Matcher, this.text49Matcher, this.number50Matcher, this.text51Matcher, this.number52Matcher, this.text53Matcher, this.number54Matcher, this.text55Matcher, this.number56Matcher, this.text57Matcher, this.number58Matcher, this.text59Matcher, this.number60Matcher, this.text61Matcher, this.number62Matcher, this.text63Matcher, this.number64Matcher, this.text65Matcher);
+    }
+
+    public WideRecordMatcher withNumber44Between(int min, int max) {
+        return withNumber44(new PrimitiveIntMatcher(actual -> actual >= min && actual <= max, () -> Matchers.allOf(Matchers.greaterThanOrEqualTo(min), Matchers.lessThanOrEqualTo(max))));
+    }
+
+    public WideRecordMatcher withText45(String text45) {
+        return withText45(new ExpectedValue<>(Matchers.is(text45)));
+    }
+
+    public WideRecordMatcher withText45(Matcher<? super String> text45Matcher) {
+        return new WideRecordMatcher(this.text1Matcher, this.number2Matcher, this.text3Matcher, this.number4Matcher, this.text5Matcher, this.number6Matcher, this.text7Matcher, this.number8Matcher, this.text9Matcher, this.number10Matcher, this.text11Matcher, this.number12Matcher, this.text13Matcher, this.number14Matcher, this.text15Matcher, this.number16Matcher, this.text17Matcher, this.number18Matcher, this.text19Matcher, this.number20Matcher, this.text21Matcher, this.number22Matcher, this.text23Matcher, this.number24Matcher, this.text25Matcher, this.number26Matcher, this.text27Matcher, this.number28Matcher, this.text29Matcher, this.number30Matcher, this.text31Matcher, this.number32Matcher, this.text33Matcher, this.number34Matcher, this.text35Matcher, this.number36Matcher, this.text37Matcher, this.number38Matcher, this.text39Matcher, this.number40Matcher, this.text41Matcher, this.number42Matcher, this.text43Matcher, this.number44Matcher, text45Matcher, this.number46Matcher, this.text47Matcher, this.number48Matcher, this.text49Matcher, this.number50Matcher, this.text51Matcher, this.number52Matcher, this.text53Matcher, this.number54Matcher, this.text55Matcher, this.number56Matcher, this.text57Matcher, this.number58Matcher, this.text59Matcher, this.number60Matcher, this.text61Matcher, this.number62Matcher, this.text63Matcher, this.number64Matcher, this.text65Matcher);
+    }
+
+    public WideRecordMatcher withNumber46(int number46) {
+        return withNumber46(new PrimitiveIntMatcher(actual -> actual == number46, () -> Matchers.is(number46)));
+    }
+
+    public WideRecordMatcher withNumber46(Matcher<? super Integer> number46Matcher) {
+        return new WideRecordMatcher(this.text1Matcher, this.number2Matcher, this.text3Matcher, this.number4Matcher, this.text5Matcher, this.number6Matcher, this.text7Matcher, this.number8Matcher, this.text9Matcher, this.number10Matcher, this.text11Matcher, this.number12Matcher, this.text13Matcher, this.number14Matcher, this.text15Matcher, this.number16Matcher, this.text17Matcher, this.number18Matcher, this.text19Matcher, this.number20Matcher, this.text21Matcher, this.number22Matcher, this.text23Matcher, this.number24Matcher, this.text25Matcher, this.number26Matcher, this.text27Matcher, this.number28Matcher, this.text29Matcher, this.number30Matcher, this.text31Matcher, this.number32Matcher, this.text33Matcher, this.number34Matcher, this.text35Matcher, this.number36Matcher, this.text37Matcher, this.number38Matcher, this.text39Matcher, this.number40Matcher, this.text41Matcher, this.number42Matcher, this.text43Matcher, this.number44Matcher, this.text45Matcher, number46Matcher, this.text47Matcher, this.number48Matcher, this.text49Matcher, this.number50Matcher, this.text51Matcher, this.number52Matcher, this.text53Matcher, this.number54Matcher, this.text55Matcher, this.number56Matcher, this.text57Matcher, this.number58Matcher, this.text59Matcher, this.number60Matcher, this.text61Matcher, this.number62Matcher, this.text63Matcher, this.number64Matcher, this.text65Matcher);
+    }
+
+    public WideRecordMatcher withNumber46Between(int min, int max) {
+        return withNumber46(new PrimitiveIntMatcher(actual -> actual >= min && actual <= max, () -> Matchers.allOf(Matchers.greaterThanOrEqualTo(min), Matchers.lessThanOrEqualTo(max))));
+    }
+
+    public WideRecordMatcher withText47(String text47) {
+        return withText47(new ExpectedValue<>(Matchers.is(text47)));
+    }
+
+    public WideRecordMatcher withText47(Matcher<? super String> text47Matcher) {
+        return new WideRecordMatcher(this.text1Matcher, this.number2Matcher, this.text3Matcher, this.number4Matcher, this.text5Matcher, this.number6Matcher, this.text7Matcher, this.number8Matcher, this.text9Matcher, this.number10Matcher, this.text11Matcher, this.number12Matcher, this.text13Matcher, this.number14Matcher, this.text15Matcher, this.number16Matcher, this.text17Matcher, this.number18Matcher, this.text19Matcher, this.number20Matcher, this.text21Matcher, this.number22Matcher, this.text23Matcher, this.number24Matcher, this.text25Matcher, this.number26Matcher, this.text27Matcher, this.number28Matcher, this.text29Matcher, this.number30Matcher, this.text31Matcher, this.number32Matcher, this.text33Matcher, this.number34Matcher, this.text35Matcher, this.number36Matcher, this.text37Matcher, this.number38Matcher, this.text39Matcher, this.number40Matcher, this.text41Matcher, this.number42Matcher, this.text43Matcher, this.number44Matcher, this.text45Matcher, this.number46Matcher, text47Matcher, this.number48Matcher, this.text49Matcher, this.number50Matcher, this.text51Matcher, this.number52Matcher, this.text53Matcher, this.number54Matcher, this.text55Matcher, this.number56Matcher, this.text57Matcher, this.number58Matcher, this.text59Matcher, this.number60Matcher, this.text61Matcher, this.number62Matcher, this.text63Matcher, this.number64Matcher, this.text65Matcher);
+    }
+
+    public WideRecordMatcher withNumber48(int number48) {
+        return withNumber48(new PrimitiveIntMatcher(actual -> actual == number48, () -> Matchers.is(number48)));
+    }
+
+    public WideRecordMatcher withNumber48(Matcher<? super Integer> number48Matcher) {
+        return new WideRecordMatcher(this.text1Matcher, this.number2Matcher, this.text3Matcher, this.number4Matcher, this.text5Matcher, this.number6Matcher, this.text7Matcher, this.number8Matcher, this.text9Matcher, this.number10Matcher, this.text11Matcher, this.number12Matcher, this.text13Matcher, this.number14Matcher, this.text15Matcher, this.number16Matcher, this.text17Matcher, this.number18Matcher, this.text19Matcher, this.number20Matcher, this.text21Matcher, this.number22Matcher, this.text23Matcher, this.number24Matcher, this.text25Matcher, this.number26Matcher, this.text27Matcher, this.number28Matcher, this.text29Matcher, this.number30Matcher, this.text31Matcher, this.number32Matcher, this.text33Matcher, this.number34Matcher, this.text35Matcher, this.number36Matcher, this.text37Matcher, this.number38Matcher, this.text39Matcher, this.number40Matcher, this.text41Matcher, this.number42Matcher, this.text43Matcher, this.number44Matcher, this.text45Matcher, this.number46Matcher, this.text47Matcher, number48Matcher, this.text49Matcher, this.number50Matcher, this.text51Matcher, this.number52Matcher, this.text53Matcher, this.number54Matcher, this.text55Matcher, this.number56Matcher, this.text57Matcher, this.number58Matcher, this.text59Matcher, this.number60Matcher, this.text61Matcher, this.number62Matcher, this.text63Matcher, this.number64Matcher, this.text65Matcher);
+    }
+
+    public WideRecordMatcher withNumber48Between(int min, int max) {
+        return withNumber48(new PrimitiveIntMatcher(actual -> actual >= min && actual <= max, () -> Matchers.allOf(Matchers.greaterThanOrEqualTo(min), Matchers.lessThanOrEqualTo(max))));
+    }
+
+    public WideRecordMatcher withText49(String text49) {
+        return withText49(new ExpectedValue<>(Matchers.is(text49)));
+    }
+
+    public WideRecordMatcher withText49(Matcher<? super String> text49Matcher) {
+        return new WideRecordMatcher(this.text1Matcher, this.number2Matcher, this.text3Matcher, this.number4Matcher, this.text5Matcher, this.number6Matcher, this.text7Matcher, this.number8Matcher, this.text9Matcher, this.number10Matcher, this.text11Matcher, this.number12Matcher, this.text13Matcher, this.number14Matcher, this.text15Matcher, this.number16Matcher, this.text17Matcher, this.number18Matcher, this.text19Matcher, this.number20Matcher, this.text21Matcher, this.number22Matcher, this.text23Matcher, this.number24Matcher, this.text25Matcher, this.number26Matcher, this.text27Matcher, this.number28Matcher, this.text29Matcher, this.number30Matcher, this.text31Matcher, this.number32Matcher, this.text33Matcher, this.number34Matcher, this.text35Matcher, this.number36Matcher, this.text37Matcher, this.number38Matcher, this.text39Matcher, this.number40Matcher, this.text41Matcher, this.number42Matcher, this.text43Matcher, this.number44Matcher, this.text45Matcher, this.number46Matcher, this.text47Matcher, this.number48Matcher, text49Matcher, this.number50Matcher, this.text51Matcher, this.number52Matcher, this.text53Matcher, this.number54Matcher, this.text55Matcher, this.number56Matcher, this.text57Matcher, this.number58Matcher, this.text59Matcher, this.number60Matcher, this.text61Matcher, this.number62Matcher, this.text63Matcher, this.number64Matcher, this.text65Matcher);
+    }
+
+    public WideRecordMatcher withNumber50(int number50) {
+        return withNumber50(new PrimitiveIntMatcher(actual -> actual == number50, () -> Matchers.is(number50)));
+    }
+
+    public WideRecordMatcher withNumber50(Matcher<? super Integer> number50Matcher) {
+        return new WideRecordMatcher(this.text1Matcher, this.number2Matcher, this.text3Matcher, this.number4Matcher, this.text5Matcher, this.number6Matcher, this.text7Matcher, this.number8Matcher, this.text9Matcher, this.number10Matcher, this.text11Matcher, this.number12Matcher, this.text13Matcher, this.number14Matcher, this.text15Matcher, this.number16Matcher, this.text17Matcher, this.number18Matcher, this.text19Matcher, this.number20Matcher, this.text21Matcher, this.number22Matcher, this.text23Matcher, this.number24Matcher, this.text25Matcher, this.number26Matcher, this.text27Matcher, this.number28Matcher, this.text29Matcher, this.number30Matcher, this.text31Matcher, this.number32Matcher, this.text33Matcher, this.number34Matcher, this.text35Matcher, this.number36Matcher, this.text37Matcher, this.number38Matcher, this.text39Matcher, this.number40Matcher, this.text41Matcher, this.number42Matcher, this.text43Matcher, this.number44Matcher, this.text45Matcher, this.number46Matcher, this.text47Matcher, this.number48Matcher, this.text49Matcher, number50Matcher, this.text51Matcher, this.number52Matcher, this.text53Matcher, this.number54Matcher, this.text55Matcher, this.number56Matcher, this.text57Matcher, this.number58Matcher, this.text59Matcher, this.number60Matcher, this.text61Matcher, this.number62Matcher, this.text63Matcher, this.number64Matcher, this.text65Matcher);
+    }
+
+    public WideRecordMatcher withNumber50Between(int min, int max) {
+        return withNumber50(new PrimitiveIntMatcher(actual -> actual >= min && actual <= max, () -> Matchers.allOf(Matchers.greaterThanOrEqualTo(min), Matchers.lessThanOrEqualTo(max))));
+    }
+
+    public WideRecordMatcher withText51(String text51) {
+        return withText51(new ExpectedValue<>(Matchers.is(text51)));
+    }
+
+    public WideRecordMatcher withText51(Matcher<? super String> text51Matcher) {
+        return new WideRecordMatcher(this.text1Matcher, this.number2Matcher, this.text3Matcher, this.number4Matcher, this.text5Matcher, this.number6Matcher, this.text7Matcher, this.number8Matcher, this.text9Matcher, this.number10Matcher, this.text11Matcher, this.number12Matcher, this.text13Matcher, this.number14Matcher, this.text15Matcher, this.number16Matcher, this.text17Matcher, this.number18Matcher, this.text19Matcher, this.number20Matcher, this.text21Matcher, this.number22Matcher, this.text23Matcher, this.number24Matcher, this.text25Matcher, this.number26Matcher, this.text27Matcher, this.number28Matcher, this.text29Matcher, this.number30Matcher, this.text31Matcher, this.number32Matcher, this.text33Matcher, this.number34Matcher, this.text35Matcher, this.number36Matcher, this.text37Matcher, this.number38Matcher, this.text39Matcher, this.number40Matcher, this.text41Matcher, this.number42Matcher, this.text43Matcher, this.number44Matcher, this.text45Matcher, this.number46Matcher, this.text47Matcher, this.number48Matcher, this.text49Matcher, this.number50Matcher, text51Matcher, this.number52Matcher, this.text53Matcher, this.number54Matcher, this.text55Matcher, this.number56Matcher, this.text57Matcher, this.number58Matcher, this.text59Matcher, this.number60Matcher, this.text61Matcher, this.number62Matcher, this.text63Matcher, this.number64Matcher, this.text65Matcher);
+    }
+
+    public WideRecordMatcher withNumber52(int number52) {
+        return withNumber52(new PrimitiveIntMatcher(actual -> actual == number52, () -> Matchers.is(number52)));
+    }
+
+    public WideRecordMatcher withNumber52(Matcher<? super Integer> number52Matcher) {
+        return new WideRecordMatcher(this.text1Matcher, this.number2Matcher, this.text3Matcher, this.number4Matcher, this.text5Matcher, this.number6Matcher, this.text7Matcher, this.number8Matcher, this.text9Matcher, this.number10Matcher, this.text11Matcher, this.number12Matcher, this.text13Matcher, this.number14Matcher, this.text15Matcher, this.number16Matcher, this.text17Matcher, this.number18Matcher, this.text19Matcher, this.number20Matcher, this.text21Matcher, this.number22Matcher, this.text23Matcher, this.number24Matcher, this.text25Matcher, this.number26Matcher, this.text27Matcher, this.number28Matcher, this.text29Matcher, this.number30Matcher, this.text31Matcher, this.number32Matcher, this.text33Matcher, this.number34Matcher, this.text35Matcher, this.number36Matcher, this.text37Matcher, this.number38Matcher, this.text39Matcher, this.number40Matcher, this.text41Matcher, this.number42Matcher, this.text43Matcher, this.number44Matcher, this.text45Matcher, this.number46Matcher, this.text47Matcher, this.number48Matcher, this.text49Matcher, this.number50Matcher, this.text51Matcher, number52Matcher, this.text53Matcher, this.number54Matcher, this.text55Matcher, this.number56Matcher, this.text57Matcher, this.number58Matcher, this.text59Matcher, this.number60Matcher, this.text61Matcher, this.number62Matcher, this.text63Matcher, this.number64Matcher, this.text65Matcher);
+    }
+
+    public WideRecordMatcher withNumber52Between(int min, int max) {
+        return withNumber52(new PrimitiveIntMatcher(actual -> actual >= min && actual <= max, () -> Matchers.allOf(Matchers.greaterThanOrEqualTo(min), Matchers.lessThanOrEqualTo(max))));
+    }
+
+    public WideRecordMatcher withText53(String text53) {
+        return withText53(new ExpectedValue<>(Matchers.is(text53)));
+    }
+
+    public WideRecordMatcher withText53(Matcher<? super String> text53Matcher) {
+        return new WideRecordMatcher(this.text1Matcher, this.number2Matcher, this.text3Matcher, this.number4Matcher, this.text5Matcher, this.number6Matcher, this.text7Matcher, this.number8Matcher, this.text9Matcher, this.number10Matcher, this.text11Matcher, this.number12Matcher, this.text13Matcher, this.number14Matcher, this.text15Matcher, this.number16Matcher, this.text17Matcher, this.number18Matcher, this.text19Matcher, this.number20Matcher, this.text21Matcher, this.number22Matcher, this.text23Matcher, this.number24Matcher, this.text25Matcher, this.number26Matcher, this.text27Matcher, this.number28Matcher, this.text29Matcher, this.number30Matcher, this.text31Matcher, this.number32Matcher, this.text33Matcher, this.number34Matcher, this.text35Matcher, this.number36Matcher, this.text37Matcher, this.number38Matcher, this.text39Matcher, this.number40Matcher, this.text41Matcher, this.number42Matcher, this.text43Matcher, this.number44Matcher, this.text45Matcher, this.number46Matcher, this.text47Matcher, this.number48Matcher, this.text49Matcher, this.number50Matcher, this.text51Matcher, this.number52Matcher, text53Matcher, this.number54Matcher, this.text55Matcher, this.number56Matcher, this.text57Matcher, this.number58Matcher, this.text59Matcher, this.number60Matcher, this.text61Matcher, this.number62Matcher, this.text63Matcher, this.number64Matcher, this.text65Matcher);
+    }
+
+    public WideRecordMatcher withNumber54(int number54) {
+        return withNumber54(new PrimitiveIntMatcher(actual -> actual == number54, () -> Matchers.is(number54)));
+    }
+
+    public WideRecordMatcher withNumber54(Matcher<? super Integer> number54Matcher) {
+        return new WideRecordMatcher(this.text1Matcher, this.number2Matcher, this.text3Matcher, this.number4Matcher, this.text5Matcher, this.number6Matcher, this.text7Matcher, this.number8Matcher, this.text9Matcher, this.number10Matcher, this.text11Matcher, this.number12Matcher, this.text13Matcher, this.number14Matcher, this.text15Matcher, this.number16Matcher, this.text17Matcher, this.number18Matcher, this.text19Matcher, this.number20Matcher, this.text21Matcher, this.number22Matcher, this.text23Matcher, this.number24Matcher, this.text25Matcher, this.number26Matcher, this.text27Matcher, this.number28Matcher, this.text29Matcher, this.number30Matcher, this.text31Matcher, this.number32Matcher, this.text33Matcher, this.number34Matcher, this.text35Matcher, this.number36Matcher, this.text37Matcher, this.number38Matcher, this.text39Matcher, this.number40Matcher, this.text41Matcher, this.number42Matcher, this.text43Matcher, this.number44Matcher, this.text45Matcher, this.number46Matcher, this.text47Matcher, this.number48Matcher, this.text49Matcher, this.number50Matcher, this.text51Matcher, this.number52Matcher, this.text53Matcher, number54Matcher, this.text55Matcher, this.number56Matcher, this.text57Matcher, this.number58Matcher, this.text59Matcher, this.number60Matcher, this.text61Matcher, this.number62Matcher, this.text63Matcher, this.number64Matcher, this.text65Matcher);
+    }
+
+    public WideRecordMatcher withNumber54Between(int min, int max) {
+        return withNumber54(new PrimitiveIntMatcher(actual -> actual >= min && actual <= max, () -> Matchers.allOf(Matchers.greaterThanOrEqualTo(min), Matchers.lessThanOrEqualTo(max))));
+    }
+
+    public WideRecordMatcher withText55(String text55) {
+        return withText55(new ExpectedValue<>(Matchers.is(text55)));
+    }
+
+    public WideRecordMatcher withText55(Matcher<? super String> text55Matcher) {
+        return new WideRecordMatcher(this.text1Matcher, this.number2Matcher, this.text3Matcher, this.number4Matcher, this.text5Matcher, this.number6Matcher, this.text7Matcher, this.number8Matcher, this.text9Matcher, this.number10Matcher, this.text11Matcher, this.number12Matcher, this.text13Matcher, this.number14Matcher, this.text15Matcher, this.number16Matcher, this.text17Matcher, this.number18Matcher, this.text19Matcher, this.number20Matcher, this.text21Matcher, this.number22Matcher, this.text23Matcher, this.number24Matcher, this.text25Matcher, this.number26Matcher, this.text27Matcher, this.number28Matcher, this.text29Matcher, this.number30Matcher, this.text31Matcher, this.number32Matcher, this.text33Matcher, this.number34Matcher, this.text35Matcher, this.number36Matcher, this.text37Matcher, this.number38Matcher, this.text39Matcher, this.number40Matcher, this.text41Matcher, this.number42Matcher, this.text43Matcher, this.number44Matcher, this.text45Matcher, this.number46Matcher, this.text47Matcher, this.number48Matcher, this.text49Matcher, this.number50Matcher, this.text51Matcher, this.number52Matcher, this.text53Matcher, this.number54Matcher, text55Matcher, this.number56Matcher, this.text57Matcher, this.number58Matcher, this.text59Matcher, this.number60Matcher, this.text61Matcher, this.number62Matcher, this.text63Matcher, this.number64Matcher, this.text65Matcher);
+    }
+
+    public WideRecordMatcher withNumber56(int number56) {
+        return withNumber56(new PrimitiveIntMatcher(actual -> actual == number56, () -> Matchers.is(number56)));
+    }
+
+    public WideRecordMatcher withNumber56(Matcher<? super Integer> number56Matcher) {
+        return new WideRecordMatcher(this.text1Matcher, this.number2Matcher, this.text3Matcher, this.number4Matcher, this.text5Matcher, this.number6Matcher, this.text7Matcher, this.number8Matcher, this.text9Matcher, this.number10Matcher, this.text11Matcher, this.number12Matcher, this.text13Matcher, this.number14Matcher, this.text15Matcher, this.number16Matcher, this.text17Matcher, this.number18Matcher, this.text19Matcher, this.number20Matcher, this.text21Matcher, this.number22Matcher, this.text23Matcher, this.number24Matcher, this.text25Matcher, this.number26Matcher, this.text27Matcher, this.number28Matcher, this.text29Matcher, this.number30Matcher, this.text31Matcher, this.number32Matcher, this.text33Matcher, this.number34Matcher, this.text35Matcher, this.number36Matcher, this.text37Matcher, this.number38Matcher, this.text39Matcher, this.number40Matcher, this.text41Matcher, this.number42Matcher, this.text43Matcher, this.number44Matcher, this.text45Matcher, this.number46Matcher, this.text47Matcher, this.number48Matcher, this.text49Matcher, this.number50Matcher, this.text51Matcher, this.number52Matcher, this.text53Matcher, this.number54Matcher, this.text55Matcher, number56Matcher, this.text57Matcher, this.number58Matcher, this.text59Matcher, this.number60Matcher, this.text61Matcher, this.number62Matcher, this.text63Matcher, this.number64Matcher, this.text65Matcher);
+    }
+
+    public WideRecordMatcher withNumber56Between(int min, int max) {
+        return withNumber56(new PrimitiveIntMatcher(actual -> actual >= min && actual <= max, () -> Matchers.allOf(Matchers.greaterThanOrEqualTo(min), Matchers.lessThanOrEqualTo(max))));
+    }
+
+    public WideRecordMatcher withText57(String text57) {
+        return withText57(new ExpectedValue<>(Matchers.is(text57)));
+    }
+
+    public WideRecordMatcher withText57(Matcher<? super String> text57Matcher) {
+        return new WideRecordMatcher(this.text1Matcher, this.number2Matcher, this.text3Matcher, this.number4Matcher, this.text5Matcher, this.number6Matcher, this.text7Matcher, this.number8Matcher, this.text9Matcher, this.number10Matcher, this.text11Matcher, this.number12Matcher, this.text13Matcher, this.number14Matcher, this.text15Matcher, this.number16Matcher, this.text17Matcher, this.number18Matcher, this.text19Matcher, this.number20Matcher, this.text21Matcher, this.number22Matcher, this.text23Matcher, this.number24Matcher, this.text25Matcher, this.number26Matcher, this.text27Matcher, this.number28Matcher, this.text29Matcher, this.number30Matcher, this.text31Matcher, this.number32Matcher, this.text33Matcher, this.number34Matcher, this.text35Matcher, this.number36Matcher, this.text37Matcher, this.number38Matcher, this.text39Matcher, this.number40Matcher, this.text41Matcher, this.number42Matcher, this.text43Matcher, this.number44Matcher, this.text45Matcher, this.number46Matcher, this.text47Matcher, this.number48Matcher, this.text49Matcher, this.number50Matcher, this.text51Matcher, this.number52Matcher, this.text53Matcher, this.number54Matcher, this.text55Matcher, this.number56Matcher, text57Matcher, this.number58Matcher, this.text59Matcher, this.number60Matcher, this.text61Matcher, this.number62Matcher, this.text63Matcher, this.number64Matcher, this.text65Matcher);
+    }
+
+    public WideRecordMatcher withNumber58(int number58) {
+        return withNumber58(new PrimitiveIntMatcher(actual -> actual == number58, () -> Matchers.is(number58)));
+    }
+
+    public WideRecordMatcher withNumber58(Matcher<? super Integer> number58Matcher) {
+        return new WideRecordMatcher(this.text1Matcher, this.number2Matcher, this.text3Matcher, this.number4Matcher, this.text5Matcher, this.number6Matcher, this.text7Matcher, this.number8Matcher, this.text9Matcher, this.number10Matcher, this.text11Matcher, this.number12Matcher, this.text13Matcher, this.number14Matcher, this.text15Matcher, this.number16Matcher, this.text17Matcher, this.number18Matcher, this.text19Matcher, this.number20Matcher, this.text21Matcher, this.number22Matcher, this.text23Matcher, this.number24Matcher, this.text25Matcher, this.number26Matcher, this.text27Matcher, this.number28Matcher, this.text29Matcher, this.number30Matcher, this.text31Matcher, this.number32Matcher, this.text33Matcher, this.number34Matcher, this.text35Matcher, this.number36Matcher, this.text37Matcher, this.number38Matcher, this.text39Matcher, this.number40Matcher, this.text41Matcher, this.number42Matcher, this.text43Matcher, this.number44Matcher, this.text45Matcher, this.number46Matcher, this.text47Matcher, this.number48Matcher, this.text49Matcher, this.number50Matcher, this.text51Matcher, this.number52Matcher, this.text53Matcher, this.number54Matcher, this.text55Matcher, this.number56Matcher, this.text57Matcher, number58Matcher, this.text59Matcher, this.number60Matcher, this.text61Matcher, this.number62Matcher, this.text63Matcher, this.number64Matcher, this.text65Matcher);
+    }
+
+    public WideRecordMatcher withNumber58Between(int min, int max) {
+        return withNumber58(new PrimitiveIntMatcher(actual -> actual >= min && actual <= max, () -> Matchers.allOf(Matchers.greaterThanOrEqualTo(min), Matchers.lessThanOrEqualTo(max))));
+    }
+
+    public WideRecordMatcher withText59(String text59) {
+        return withText59(new ExpectedValue<>(Matchers.is(text59)));
+    }
+
+    public WideRecordMatcher withText59(Matcher<? super String> text59Matcher) {
+        return new WideRecordMatcher(this.text1Matcher, this.number2Matcher, this.text3Matcher, this.number4Matcher, this.text5Matcher, this.number6Matcher, this.text7Matcher, this.number8Matcher, this.text9Matcher, this.number10Matcher, this.text11Matcher, this.number12Matcher, this.text13Matcher, this.number14Matcher, this.text15Matcher, this.number16Matcher, this.text17Matcher, this.number18Matcher, this.text19Matcher, this.number20Matcher, this.text21Matcher, this.number22Matcher, this.text23Matcher, this.number24Matcher, this.text25Matcher, this.number26Matcher, this.text27Matcher, this.number28Matcher, this.text29Matcher, this.number30Matcher, this.text31Matcher, this.number32Matcher, this.text33Matcher, this.number34Matcher, this.text35Matcher, this.number36Matcher, this.text37Matcher, this.number38Matcher, this.text39Matcher, this.number40Matcher, this.text41Matcher, this.number42Matcher, this.text43Matcher, this.number44Matcher, this.text45Matcher, this.number46Matcher, this.text47Matcher, this.number48Matcher, this.text49Matcher, this.number50Matcher, this.text51Matcher, this.number52Matcher, this.text53Matcher, this.number54Matcher, this.text55Matcher, this.number56Matcher, this.text57Matcher, this.number58Matcher, text59Matcher, this.number60Matcher, this.text61Matcher, this.number62Matcher, this.text63Matcher, this.number64Matcher, this.text65Matcher);
+    }
+
+    public WideRecordMatcher withNumber60(int number60) {
+        return withNumber60(new PrimitiveIntMatcher(actual -> actual == number60, () -> Matchers.is(number60)));
+    }
+
+    public WideRecordMatcher withNumber60(Matcher<? super Integer> number60Matcher) {
+        return new WideRecordMatcher(this.text1Matcher, this.number2Matcher, this.text3Matcher, this.number4Matcher, this.text5Matcher, this.number6Matcher, this.text7Matcher, this.number8Matcher, this.text9Matcher, this.number10Matcher, this.text11Matcher, this.number12Matcher, this.text13Matcher, this.number14Matcher, this.text15Matcher, this.number16Matcher, this.text17Matcher, this.number18Matcher, this.text19Matcher, this.number20Matcher, this.text21Matcher, this.number22Matcher, this.text23Matcher, this.number24Matcher, this.text25Matcher, this.number26Matcher, this.text27Matcher, this.number28Matcher, this.text29Matcher, this.number30Matcher, this.text31Matcher, this.number32Matcher, this.text33Matcher, this.number34Matcher, this.text35Matcher, this.number36Matcher, this.text37Matcher, this.number38Matcher, this.text39Matcher, this.number40Matcher, this.text41Matcher, this.number42Matcher, this.text43Matcher, this.number44Matcher, this.text45Matcher, this.number46Matcher, this.text47Matcher, this.number48Matcher, this.text49Matcher, this.number50Matcher, this.text51Matcher, this.number52Matcher, this.text53Matcher, this.number54Matcher, this.text55Matcher, this.number56Matcher, this.text57Matcher, this.number58Matcher, this.text59Matcher, number60Matcher, this.text61Matcher, this.number62Matcher, this.text63Matcher, this.number64Matcher, this.text65Matcher);
+    }
+
+    public WideRecordMatcher withNumber60Between(int min, int max) {
+        return withNumber60(new PrimitiveIntMatcher(actual -> actual >= min && actual <= max, () -> Matchers.allOf(Matchers.greaterThanOrEqualTo(min), Matchers.lessThanOrEqualTo(max))));
+    }
+
+    public WideRecordMatcher withText61(String text61) {
+        return withText61(new ExpectedValue<>(Matchers.is(text61)));
+    }
+
+    public WideRecordMatcher withText61(Matcher<? super String> text61Matcher) {
+        return new WideRecordMatcher(this.text1Matcher, this.number2Matcher, this.text3Matcher, this.number4Matcher, this.text5Matcher, this.number6Matcher, this.text7Matcher, this.number8Matcher, this.text9Matcher, this.number10Matcher, this.text11Matcher, this.number12Matcher, this.text13Matcher, this.number14Matcher, this.text15Matcher, this.number16Matcher, this.text17Matcher, this.number18Matcher, this.text19Matcher, this.number20Matcher, this.text21Matcher, this.number22Matcher, this.text23Matcher, this.number24Matcher, this.text25Matcher, this.number26Matcher, this.text27Matcher, this.number28Matcher, this.text29Matcher, this.number30Matcher, this.text31Matcher, this.number32Matcher, this.text33Matcher, this.number34Matcher, this.text35Matcher, this.number36Matcher, this.text37Matcher, this.number38Matcher, this.text39Matcher, this.number40Matcher, this.text41Matcher, this.number42Matcher, this.text43Matcher, this.number44Matcher, this.text45Matcher, this.number46Matcher, this.text47Matcher, this.number48Matcher, this.text49Matcher, this.number50Matcher, this.text51Matcher, this.number52Matcher, this.text53Matcher, this.number54Matcher, this.text55Matcher, this.number56Matcher, this.text57Matcher, this.number58Matcher, this.text59Matcher, this.number60Matcher, text61Matcher, this.number62Matcher, this.text63Matcher, this.number64Matcher, this.text65Matcher);
+    }
+
+    public WideRecordMatcher withNumber62(int number62) {
+        return withNumber62(new PrimitiveIntMatcher(actual -> actual == number62, () -> Matchers.is(number62)));
+    }
+
+    public WideRecordMatcher withNumber62(Matcher<? super Integer> number62Matcher) {
+        return new WideRecordMatcher(this.text1Matcher, this.number2Matcher, this.text3Matcher, this.number4Matcher, this.text5Matcher, this.number6Matcher, this.text7Matcher, this.number8Matcher, this.text9Matcher, this.number10Matcher, this.text11Matcher, this.number12Matcher, this.text13Matcher, this.number14Matcher, this.text15Matcher, this.number16Matcher, this.text17Matcher, this.number18Matcher, this.text19Matcher, this.number20Matcher, this.text21Matcher, this.number22Matcher, this.text23Matcher, this.number24Matcher, this.text25Matcher, this.number26Matcher, this.text27Matcher, this.number28Matcher, this.text29Matcher, this.number30Matcher, this.text31Matcher, this.number32Matcher, this.text33Matcher, this.number34Matcher, this.text35Matcher, this.number36Matcher, this.text37Matcher, this.number38Matcher, this.text39Matcher, this.number40Matcher, this.text41Matcher, this.number42Matcher, this.text43Matcher, this.number44Matcher, this.text45Matcher, this.number46Matcher, this.text47Matcher, this.number48Matcher, this.text49Matcher, this.number50Matcher, this.text51Matcher, this.number52Matcher, this.text53Matcher, this.number54Matcher, this.text55Matcher, this.number56Matcher, this.text57Matcher, this.number58Matcher, this.text59Matcher, this.number60Matcher, this.text61Matcher, number62Matcher, this.text63Matcher, this.number64Matcher, this.text65Matcher);
+    }
+
+    public WideRecordMatcher withNumber62Between(int min, int max) {
+        return withNumber62(new PrimitiveIntMatcher(actual -> actual >= min && actual <= max, () -> Matchers.allOf(Matchers.greaterThanOrEqualTo(min), Matchers.lessThanOrEqualTo(max))));
+    }
+
+    public WideRecordMatcher withText63(String text63) {
+        return withText63(new ExpectedValue<>(Matchers.is(text63)));
+    }
+
+    public WideRecordMatcher withText63(Matcher<? super String> text63Matcher) {
+        return new WideRecordMatcher(this.text1Matcher, this.number2Matcher, this.text3Matcher, this.number4Matcher, this.text5Matcher, this.number6Matcher, this.text7Matcher, this.number8Matcher, this.text9Matcher, this.number10Matcher, this.text11Matcher, this.number12Matcher, this.text13Matcher, this.number14Matcher, this.text15Matcher, this.number16Matcher, this.text17Matcher, this.number18Matcher, this.text19Matcher, this.number20Matcher, this.text21Matcher, this.number22Matcher, this.text23Matcher, this.number24Matcher, this.text25Matcher, this.number26Matcher, this.text27Matcher, this.number28Matcher, this.text29Matcher, this.number30Matcher, this.text31Matcher, this.number32Matcher, this.text33Matcher, this.number34Matcher, this.text35Matcher, this.number36Matcher, this.text37Matcher, this.number38Matcher, this.text39Matcher, this.number40Matcher, this.text41Matcher, this.number42Matcher, this.text43Matcher, this.number44Matcher, this.text45Matcher, this.number46Matcher, this.text47Matcher, this.number48Matcher, this.text49Matcher, this.number50Matcher, this.text51Matcher, this.number52Matcher, this.text53Matcher, this.number54Matcher, this.text55Matcher, this.number56Matcher, this.text57Matcher, this.number58Matcher, this.text59Matcher, this.number60Matcher, this.text61Matcher, this.number62Matcher, text63Matcher, this.number64Matcher, this.text65Matcher);
+    }
+
+    public WideRecordMatcher withNumber64(int number64) {
+        return withNumber64(new PrimitiveIntMatcher(actual -> actual == number64, () -> Matchers.is(number64)));
+    }
+
+    public WideRecordMatcher withNumber64(Matcher<? super Integer> number64Matcher) {
+        return new WideRecordMatcher(this.text1Matcher, this.number2Matcher, this.text3Matcher, this.number4Matcher, this.text5Matcher, this.number6Matcher, this.text7Matcher, this.number8Matcher, this.text9Matcher, this.number10Matcher, this.text11Matcher, this.number12Matcher, this.text13Matcher, this.number14Matcher, this.text15Matcher, this.number16Matcher, this.text17Matcher, this.number18Matcher, this.text19Matcher, this.number20Matcher, this.text21Matcher, this.number22Matcher, this.text23Matcher, this.number24Matcher, this.text25Matcher, this.number26Matcher, this.text27Matcher, this.number28Matcher, this.text29Matcher, this.number30Matcher, this.text31Matcher, this.number32Matcher, this.text33Matcher, this.number34Matcher, this.text35Matcher, this.number36Matcher, this.text37Matcher, this.number38Matcher, this.text39Matcher, this.number40Matcher, this.text41Matcher, this.number42Matcher, this.text43Matcher, this.number44Matcher, this.text45Matcher, this.number46Matcher, this.text47Matcher, this.number48Matcher, this.text49Matcher, this.number50Matcher, this.text51Matcher, this.number52Matcher, this.text53Matcher, this.number54Matcher, this.text55Matcher, this.number56Matcher, this.text57Matcher, this.number58Matcher, this.text59Matcher, this.number60Matcher, this.text61Matcher, this.number62Matcher, this.text63Matcher, number64Matcher, this.text65Matcher);
+    }
+
+    public WideRecordMatcher withNumber64Between(int min, int max) {
+        return withNumber64(new PrimitiveIntMatcher(actual -> actual >= min && actual <= max, () -> Matchers.allOf(Matchers.greaterThanOrEqualTo(min), Matchers.lessThanOrEqualTo(max))));
+    }
+
+    public WideRecordMatcher withText65(String text65) {
+        return withText65(new ExpectedValue<>(Matchers.is(text65)));
+    }
+
+    public WideRecordMatcher withText65(Matcher<? super String> text65Matcher) {
+        return new WideRecordMatcher(this.text1Matcher, this.number2Matcher, this.text3Matcher, this.number4Matcher, this.text5Matcher, this.number6Matcher, this.text7Matcher, this.number8Matcher, this.text9Matcher, this.number10Matcher, this.text11Matcher, this.number12Matcher, this.text13Matcher, this.number14Matcher, this.text15Matcher, this.number16Matcher, this.text17Matcher, this.number18Matcher, this.text19Matcher, this.number20Matcher, this.text21Matcher, this.number22Matcher, this.text23Matcher, this.number24Matcher, this.text25Matcher, this.number26Matcher, this.text27Matcher, this.number28Matcher, this.text29Matcher, this.number30Matcher, this.text31Matcher, this.number32Matcher, this.text33Matcher, this.number34Matcher, this.text35Matcher, this.number36Matcher, this.text37Matcher, this.number38Matcher, this.text39Matcher, this.number40Matcher, this.text41Matcher, this.number42Matcher, this.text43Matcher, this.number44Matcher, this.text45Matcher, this.number46Matcher, this.text47Matcher, this.number48Matcher, this.text49Matcher, this.number50Matcher, this.text51Matcher, this.number52Matcher, this.text53Matcher, this.number54Matcher, this.text55Matcher, this.number56Matcher, this.text57Matcher, this.number58Matcher, this.text59Matcher, this.number60Matcher, this.text61Matcher, this.number62Matcher, this.text63Matcher, this.number64Matcher, text65Matcher);
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        if (!immutableDescription || !(description instanceof StringDescription)) {
+            describeSelfTo(description);
+            return;
+        }
+        String selfDescription = this.selfDescription;
+        if (selfDescription == null) {
+            StringDescription rendered = new StringDescription();
+            describeSelfTo(rendered);
+            this.selfDescription = selfDescription = rendered.toString();
+        }
+        description.appendText(selfDescription);
+    }
+
+    private void describeSelfTo(Description description) {
+        if (constrainedComponents == 0 && constrainedComponents1 == 0) {
+            description.appendText("any WideRecord record");
+        }
+        else {
+            description.appendText("WideRecord record where");
+            if ((constrainedComponents & (1L << 0)) != 0)
+                description.appendText(" text1 ").appendDescriptionOf(text1Matcher);
+
+            if ((constrainedComponents & (1L << 1)) != 0)
+                description.appendText(" number2 ").appendDescriptionOf(number2Matcher);
+
+            if ((constrainedComponents & (1L << 2)) != 0)
+                description.appendText(" text3 ").appendDescriptionOf(text3Matcher);
+
+            if ((constrainedComponents & (1L << 3)) != 0)
+                description.appendText(" number4 ").appendDescriptionOf(number4Matcher);
+
+            if ((constrainedComponents & (1L << 4)) != 0)
+                description.appendText(" text5 ").appendDescriptionOf(text5Matcher);
+
+            if ((constrainedComponents & (1L << 5)) != 0)
+                description.appendText(" number6 ").appendDescriptionOf(number6Matcher);
+
+            if ((constrainedComponents & (1L << 6)) != 0)
+                description.appendText(" text7 ").appendDescriptionOf(text7Matcher);
+
+            if ((constrainedComponents & (1L << 7)) != 0)
+                description.appendText(" number8 ").appendDescriptionOf(number8Matcher);
+
+            if ((constrainedComponents & (1L << 8)) != 0)
+                description.appendText(" text9 ").appendDescriptionOf(text9Matcher);
+
+            if ((constrainedComponents & (1L << 9)) != 0)
+                description.appendText(" number10 ").appendDescriptionOf(number10Matcher);
+
+            if ((constrainedComponents & (1L << 10)) != 0)
+                description.appendText(" text11 ").appendDescriptionOf(text11Matcher);
+
+            if ((constrainedComponents & (1L << 11)) != 0)
+                description.appendText(" number12 ").appendDescriptionOf(number12Matcher);
+
+            if ((constrainedComponents & (1L << 12)) != 0)
+                description.appendText(" text13 ").appendDescriptionOf(text13Matcher);
+
+            if ((constrainedComponents & (1L << 13)) != 0)
+                description.appendText(" number14 ").appendDescriptionOf(number14Matcher);
+
+            if ((constrainedComponents & (1L << 14)) != 0)
+                description.appendText(" text15 ").appendDescriptionOf(text15Matcher);
+
+            if ((constrainedComponents & (1L << 15)) != 0)
+                description.appendText(" number16 ").appendDescriptionOf(number16Matcher);
+
+            if ((constrainedComponents & (1L << 16)) != 0)
+                description.appendText(" text17 ").appendDescriptionOf(text17Matcher);
+
+            if ((constrainedComponents & (1L << 17)) != 0)
+                description.appendText(" number18 ").appendDescriptionOf(number18Matcher);
+
+            if ((constrainedComponents & (1L << 18)) != 0)
+                description.appendText(" text19 ").appendDescriptionOf(text19Matcher);
+
+            if ((constrainedComponents & (1L << 19)) != 0)
+                description.appendText(" number20 ").appendDescriptionOf(number20Matcher);
+
+            if ((constrainedComponents & (1L << 20)) != 0)
+                description.appendText(" text21 ").appendDescriptionOf(text21Matcher);
+
+            if ((constrainedComponents & (1L << 21)) != 0)
+                description.appendText(" number22 ").appendDescriptionOf(number22Matcher);
+
+            if ((constrainedComponents & (1L << 22)) != 0)
+                description.appendText(" text23 ").appendDescriptionOf(text23Matcher);
+
+            if ((constrainedComponents & (1L << 23)) != 0)
+                description.appendText(" number24 ").appendDescriptionOf(number24Matcher);
+
+            if ((constrainedComponents & (1L << 24)) != 0)
+                description.appendText(" text25 ").appendDescriptionOf(text25Matcher);
+
+            if ((constrainedComponents & (1L << 25)) != 0)
+                description.appendText(" number26 ").appendDescriptionOf(number26Matcher);
+
+            if ((constrainedComponents & (1L << 26)) != 0)
+                description.appendText(" text27 ").appendDescriptionOf(text27Matcher);
+
+            if ((constrainedComponents & (1L << 27)) != 0)
+                description.appendText(" number28 ").appendDescriptionOf(number28Matcher);
+
+            if ((constrainedComponents & (1L << 28)) != 0)
+                description.appendText(" text29 ").appendDescriptionOf(text29Matcher);
+
+            if ((constrainedComponents & (1L << 29)) != 0)
+                description.appendText(" number30 ").appendDescriptionOf(number30Matcher);
+
+            if ((constrainedComponents & (1L << 30)) != 0)
+                description.appendText(" text31 ").appendDescriptionOf(text31Matcher);
+
+            if ((constrainedComponents & (1L << 31)) != 0)
+                description.appendText(" number32 ").appendDescriptionOf(number32Matcher);
+
+            if ((constrainedComponents & (1L << 32)) != 0)
+                description.appendText(" text33 ").appendDescriptionOf(text33Matcher);
+
+            if ((constrainedComponents & (1L << 33)) != 0)
+                description.appendText(" number34 ").appendDescriptionOf(number34Matcher);
+
+            if ((constrainedComponents & (1L << 34)) != 0)
+                description.appendText(" text35 ").appendDescriptionOf(text35Matcher);
+
+            if ((constrainedComponents & (1L << 35)) != 0)
+                description.appendText(" number36 ").appendDescriptionOf(number36Matcher);
+
+            if ((constrainedComponents & (1L << 36)) != 0)
+                description.appendText(" text37 ").appendDescriptionOf(text37Matcher);
+
+            if ((constrainedComponents & (1L << 37)) != 0)
+                description.appendText(" number38 ").appendDescriptionOf(number38Matcher);
+
+            if ((constrainedComponents & (1L << 38)) != 0)
+                description.appendText(" text39 ").appendDescriptionOf(text39Matcher);
+
+            if ((constrainedComponents & (1L << 39)) != 0)
+                description.appendText(" number40 ").appendDescriptionOf(number40Matcher);
+
+            if ((constrainedComponents & (1L << 40)) != 0)
+                description.appendText(" text41 ").appendDescriptionOf(text41Matcher);
+
+            if ((constrainedComponents & (1L << 41)) != 0)
+                description.appendText(" number42 ").appendDescriptionOf(number42Matcher);
+
+            if ((constrainedComponents & (1L << 42)) != 0)
+                description.appendText(" text43 ").appendDescriptionOf(text43Matcher);
+
+            if ((constrainedComponents & (1L << 43)) != 0)
+                description.appendText(" number44 ").appendDescriptionOf(number44Matcher);
+
+            if ((constrainedComponents & (1L << 44)) != 0)
+                description.appendText(" text45 ").appendDescriptionOf(text45Matcher);
+
+            if ((constrainedComponents & (1L << 45)) != 0)
+                description.appendText(" number46 ").appendDescriptionOf(number46Matcher);
+
+            if ((constrainedComponents & (1L << 46)) != 0)
+                description.appendText(" text47 ").appendDescriptionOf(text47Matcher);
+
+            if ((constrainedComponents & (1L << 47)) != 0)
+                description.appendText(" number48 ").appendDescriptionOf(number48Matcher);
+
+            if ((constrainedComponents & (1L << 48)) != 0)
+                description.appendText(" text49 ").appendDescriptionOf(text49Matcher);
+
+            if ((constrainedComponents & (1L << 49)) != 0)
+                description.appendText(" number50 ").appendDescriptionOf(number50Matcher);
+
+            if ((constrainedComponents & (1L << 50)) != 0)
+                description.appendText(" text51 ").appendDescriptionOf(text51Matcher);
+
+            if ((constrainedComponents & (1L << 51)) != 0)
+                description.appendText(" number52 ").appendDescriptionOf(number52Matcher);
+
+            if ((constrainedComponents & (1L << 52)) != 0)
+                description.appendText(" text53 ").appendDescriptionOf(text53Matcher);
+
+            if ((constrainedComponents & (1L << 53)) != 0)
+                description.appendText(" number54 ").appendDescriptionOf(number54Matcher);
+
+            if ((constrainedComponents & (1L << 54)) != 0)
+                description.appendText(" text55 ").appendDescriptionOf(text55Matcher);
+
+            if ((constrainedComponents & (1L << 55)) != 0)
+                description.appendText(" number56 ").appendDescriptionOf(number56Matcher);
+
+            if ((constrainedComponents & (1L << 56)) != 0)
+                description.appendText(" text57 ").appendDescriptionOf(text57Matcher);
+
+            if ((constrainedComponents & (1L << 57)) != 0)
+                description.appendText(" number58 ").appendDescriptionOf(number58Matcher);
+
+            if ((constrainedComponents & (1L << 58)) != 0)
+                description.appendText(" text59 ").appendDescriptionOf(text59Matcher);
+
+            if ((constrainedComponents & (1L << 59)) != 0)
+                description.appendText(" number60 ").appendDescriptionOf(number60Matcher);
+
+            if ((constrainedComponents & (1L << 60)) != 0)
+                description.appendText(" text61 ").appendDescriptionOf(text61Matcher);
+
+            if ((constrainedComponents & (1L << 61)) != 0)
+                description.appendText(" number62 ").appendDescriptionOf(number62Matcher);
+
+            if ((constrainedComponents & (1L << 62)) != 0)
+                description.appendText(" text63 ").appendDescriptionOf(text63Matcher);
+
+            if ((constrainedComponents & (1L << 63)) != 0)
+                description.appendText(" number64 ").appendDescriptionOf(number64Matcher);
+
+            if ((constrainedComponents1 & (1L << 0)) != 0)
+                description.appendText(" text65 ").appendDescriptionOf(text65Matcher);
+        }
+    }
+
+    @Override
+    protected boolean matchesSafely(WideRecord element, Description mismatchDescription) {
+        long mismatchedComponents = 0;
+        long mismatchedComponents1 = 0;
+        if ((constrainedComponents & (1L << 0)) != 0 && !text1Matcher.matches(element.text1())) mismatchedComponents |= 1L << 0;
+        if ((constrainedComponents & (1L << 1)) != 0 && !(number2Matcher instanceof PrimitiveIntMatcher primitiveMatcher ? primitiveMatcher.matches(element.number2()) : number2Matcher.matches(element.number2()))) mismatchedComponents |= 1L << 1;
+        if ((constrainedComponents & (1L << 2)) != 0 && !text3Matcher.matches(element.text3())) mismatchedComponents |= 1L << 2;
+        if ((constrainedComponents & (1L << 3)) != 0 && !(number4Matcher instanceof PrimitiveIntMatcher primitiveMatcher ? primitiveMatcher.matches(element.number4()) : number4Matcher.matches(element.number4()))) mismatchedComponents |= 1L << 3;
+        if ((constrainedComponents & (1L << 4)) != 0 && !text5Matcher.matches(element.text5())) mismatchedComponents |= 1L << 4;
+        if ((constrainedComponents & (1L << 5)) != 0 && !(number6Matcher instanceof PrimitiveIntMatcher primitiveMatcher ? primitiveMatcher.matches(element.number6()) : number6Matcher.matches(element.number6()))) mismatchedComponents |= 1L << 5;
+        if ((constrainedComponents & (1L << 6)) != 0 && !text7Matcher.matches(element.text7())) mismatchedComponents |= 1L << 6;
+        if ((constrainedComponents & (1L << 7)) != 0 && !(number8Matcher instanceof PrimitiveIntMatcher primitiveMatcher ? primitiveMatcher.matches(element.number8()) : number8Matcher.matches(element.number8()))) mismatchedComponents |= 1L << 7;
+        if ((constrainedComponents & (1L << 8)) != 0 && !text9Matcher.matches(element.text9())) mismatchedComponents |= 1L << 8;
+        if ((constrainedComponents & (1L << 9)) != 0 && !(number10Matcher instanceof PrimitiveIntMatcher primitiveMatcher ? primitiveMatcher.matches(element.number10()) : number10Matcher.matches(element.number10()))) mismatchedComponents |= 1L << 9;
+        if ((constrainedComponents & (1L << 10)) != 0 && !text11Matcher.matches(element.text11())) mismatchedComponents |= 1L << 10;
+        if ((constrainedComponents & (1L << 11)) != 0 && !(number12Matcher instanceof PrimitiveIntMatcher primitiveMatcher ? primitiveMatcher.matches(element.number12()) : number12Matcher.matches(element.number12()))) mismatchedComponents |= 1L << 11;
+        if ((constrainedComponents & (1L << 12)) != 0 && !text13Matcher.matches(element.text13())) mismatchedComponents |= 1L << 12;
+        if ((constrainedComponents & (1L << 13)) != 0 && !(number14Matcher instanceof PrimitiveIntMatcher primitiveMatcher ? primitiveMatcher.matches(element.number14()) : number14Matcher.matches(element.number14()))) mismatchedComponents |= 1L << 13;
+        if ((constrainedComponents & (1L << 14)) != 0 && !text15Matcher.matches(element.text15())) mismatchedComponents |= 1L << 14;
+        if ((constrainedComponents & (1L << 15)) != 0 && !(number16Matcher instanceof PrimitiveIntMatcher primitiveMatcher ? primitiveMatcher.matches(element.number16()) : number16Matcher.matches(element.number16()))) mismatchedComponents |= 1L << 15;
+        if ((constrainedComponents & (1L << 16)) != 0 && !text17Matcher.matches(element.text17())) mismatchedComponents |= 1L << 16;
+        if ((constrainedComponents & (1L << 17)) != 0 && !(number18Matcher instanceof PrimitiveIntMatcher primitiveMatcher ? primitiveMatcher.matches(element.number18()) : number18Matcher.matches(element.number18()))) mismatchedComponents |= 1L << 17;
+        if ((constrainedComponents & (1L << 18)) != 0 && !text19Matcher.matches(element.text19())) mismatchedComponents |= 1L << 18;
+        if ((constrainedComponents & (1L << 19)) != 0 && !(number20Matcher instanceof PrimitiveIntMatcher primitiveMatcher ? primitiveMatcher.matches(element.number20()) : number20Matcher.matches(element.number20()))) mismatchedComponents |= 1L << 19;
+        if ((constrainedComponents & (1L << 20)) != 0 && !text21Matcher.matches(element.text21())) mismatchedComponents |= 1L << 20;
+        if ((constrainedComponents & (1L << 21)) != 0 && !(number22Matcher instanceof PrimitiveIntMatcher primitiveMatcher ? primitiveMatcher.matches(element.number22()) : number22Matcher.matches(element.number22()))) mismatchedComponents |= 1L << 21;
+        if ((constrainedComponents & (1L << 22)) != 0 && !text23Matcher.matches(element.text23())) mismatchedComponents |= 1L << 22;
+        if ((constrainedComponents & (1L << 23)) != 0 && !(number24Matcher instanceof PrimitiveIntMatcher primitiveMatcher ? primitiveMatcher.matches(element.number24()) : number24Matcher.matches(element.number24()))) mismatchedComponents |= 1L << 23;
+        if ((constrainedComponents & (1L << 24)) != 0 && !text25Matcher.matches(element.text25())) mismatchedComponents |= 1L << 24;
+        if ((constrainedComponents & (1L << 25)) != 0 && !(number26Matcher instanceof PrimitiveIntMatcher primitiveMatcher ? primitiveMatcher.matches(element.number26()) : number26Matcher.matches(element.number26()))) mismatchedComponents |= 1L << 25;
+        if ((constrainedComponents & (1L << 26)) != 0 && !text27Matcher.matches(element.text27())) mismatchedComponents |= 1L << 26;
+        if ((constrainedComponents & (1L << 27)) != 0 && !(number28Matcher instanceof PrimitiveIntMatcher primitiveMatcher ? primitiveMatcher.matches(element.number28()) : number28Matcher.matches(element.number28()))) mismatchedComponents |= 1L << 27;
+        if ((constrainedComponents & (1L << 28)) != 0 && !text29Matcher.matches(element.text29())) mismatchedComponents |= 1L << 28;
+        if ((constrainedComponents & (1L << 29)) != 0 && !(number30Matcher instanceof PrimitiveIntMatcher primitiveMatcher ? primitiveMatcher.matches(element.number30()) : number30Matcher.matches(element.number30()))) mismatchedComponents |= 1L << 29;
+        if ((constrainedComponents & (1L << 30)) != 0 && !text31Matcher.matches(element.text31())) mismatchedComponents |= 1L << 30;
+        if ((constrainedComponents & (1L << 31)) != 0 && !(number32Matcher instanceof PrimitiveIntMatcher primitiveMatcher ? primitiveMatcher.matches(element.number32()) : number32Matcher.matches(element.number32()))) mismatchedComponents |= 1L << 31;
+        if ((constrainedComponents & (1L << 32)) != 0 && !text33Matcher.matches(element.text33())) mismatchedComponents |= 1L << 32;
+        if ((constrainedComponents & (1L << 33)) != 0 && !(number34Matcher instanceof PrimitiveIntMatcher primitiveMatcher ? primitiveMatcher.matches(element.number34()) : number34Matcher.matches(element.number34()))) mismatchedComponents |= 1L << 33;
+        if ((constrainedComponents & (1L << 34)) != 0 && !text35Matcher.matches(element.text35())) mismatchedComponents |= 1L << 34;
+        if ((constrainedComponents & (1L << 35)) != 0 && !(number36Matcher instanceof PrimitiveIntMatcher primitiveMatcher ? primitiveMatcher.matches(element.number36()) : number36Matcher.matches(element.number36()))) mismatchedComponents |= 1L << 35;
+        if ((constrainedComponents & (1L << 36)) != 0 && !text37Matcher.matches(element.text37())) mismatchedComponents |= 1L << 36;
+        if ((constrainedComponents & (1L << 37)) != 0 && !(number38Matcher instanceof PrimitiveIntMatcher primitiveMatcher ? primitiveMatcher.matches(element.number38()) : number38Matcher.matches(element.number38()))) mismatchedComponents |= 1L << 37;
+        if ((constrainedComponents & (1L << 38)) != 0 && !text39Matcher.matches(element.text39())) mismatchedComponents |= 1L << 38;
+        if ((constrainedComponents & (1L << 39)) != 0 && !(number40Matcher instanceof PrimitiveIntMatcher primitiveMatcher ? primitiveMatcher.matches(element.number40()) : number40Matcher.matches(element.number40()))) mismatchedComponents |= 1L << 39;
+        if ((constrainedComponents & (1L << 40)) != 0 && !text41Matcher.matches(element.text41())) mismatchedComponents |= 1L << 40;
+        if ((constrainedComponents & (1L << 41)) != 0 && !(number42Matcher instanceof PrimitiveIntMatcher primitiveMatcher ? primitiveMatcher.matches(element.number42()) : number42Matcher.matches(element.number42()))) mismatchedComponents |= 1L << 41;
+        if ((constrainedComponents & (1L << 42)) != 0 && !text43Matcher.matches(element.text43())) mismatchedComponents |= 1L << 42;
+        if ((constrainedComponents & (1L << 43)) != 0 && !(number44Matcher instanceof PrimitiveIntMatcher primitiveMatcher ? primitiveMatcher.matches(element.number44()) : number44Matcher.matches(element.number44()))) mismatchedComponents |= 1L << 43;
+        if ((constrainedComponents & (1L << 44)) != 0 && !text45Matcher.matches(element.text45())) mismatchedComponents |= 1L << 44;
+        if ((constrainedComponents & (1L << 45)) != 0 && !(number46Matcher instanceof PrimitiveIntMatcher primitiveMatcher ? primitiveMatcher.matches(element.number46()) : number46Matcher.matches(element.number46()))) mismatchedComponents |= 1L << 45;
+        if ((constrainedComponents & (1L << 46)) != 0 && !text47Matcher.matches(element.text47())) mismatchedComponents |= 1L << 46;
+        if ((constrainedComponents & (1L << 47)) != 0 && !(number48Matcher instanceof PrimitiveIntMatcher primitiveMatcher ? primitiveMatcher.matches(element.number48()) : number48Matcher.matches(element.number48()))) mismatchedComponents |= 1L << 47;
+        if ((constrainedComponents & (1L << 48)) != 0 && !text49Matcher.matches(element.text49())) mismatchedComponents |= 1L << 48;
+        if ((constrainedComponents & (1L << 49)) != 0 && !(number50Matcher instanceof PrimitiveIntMatcher primitiveMatcher ? primitiveMatcher.matches(element.number50()) : number50Matcher.matches(element.number50()))) mismatchedComponents |= 1L << 49;
+        if ((constrainedComponents & (1L << 50)) != 0 && !text51Matcher.matches(element.text51())) mismatchedComponents |= 1L << 50;
+        if ((constrainedComponents & (1L << 51)) != 0 && !(number52Matcher instanceof PrimitiveIntMatcher primitiveMatcher ? primitiveMatcher.matches(element.number52()) : number52Matcher.matches(element.number52()))) mismatchedComponents |= 1L << 51;
+        if ((constrainedComponents & (1L << 52)) != 0 && !text53Matcher.matches(element.text53())) mismatchedComponents |= 1L << 52;
+        if ((constrainedComponents & (1L << 53)) != 0 && !(number54Matcher instanceof PrimitiveIntMatcher primitiveMatcher ? primitiveMatcher.matches(element.number54()) : number54Matcher.matches(element.number54()))) mismatchedComponents |= 1L << 53;
+        if ((constrainedComponents & (1L << 54)) != 0 && !text55Matcher.matches(element.text55())) mismatchedComponents |= 1L << 54;
+        if ((constrainedComponents & (1L << 55)) != 0 && !(number56Matcher instanceof PrimitiveIntMatcher primitiveMatcher ? primitiveMatcher.matches(element.number56()) : number56Matcher.matches(element.number56()))) mismatchedComponents |= 1L << 55;
+        if ((constrainedComponents & (1L << 56)) != 0 && !text57Matcher.matches(element.text57())) mismatchedComponents |= 1L << 56;
+        if ((constrainedComponents & (1L << 57)) != 0 && !(number58Matcher instanceof PrimitiveIntMatcher primitiveMatcher ? primitiveMatcher.matches(element.number58()) : number58Matcher.matches(element.number58()))) mismatchedComponents |= 1L << 57;
+        if ((constrainedComponents & (1L << 58)) != 0 && !text59Matcher.matches(element.text59())) mismatchedComponents |= 1L << 58;
+        if ((constrainedComponents & (1L << 59)) != 0 && !(number60Matcher instanceof PrimitiveIntMatcher primitiveMatcher ? primitiveMatcher.matches(element.number60()) : number60Matcher.matches(element.number60()))) mismatchedComponents |= 1L << 59;
+        if ((constrainedComponents & (1L << 60)) != 0 && !text61Matcher.matches(element.text61())) mismatchedComponents |= 1L << 60;
+        if ((constrainedComponents & (1L << 61)) != 0 && !(number62Matcher instanceof PrimitiveIntMatcher primitiveMatcher ? primitiveMatcher.matches(element.number62()) : number62Matcher.matches(element.number62()))) mismatchedComponents |= 1L << 61;
+        if ((constrainedComponents & (1L << 62)) != 0 && !text63Matcher.matches(element.text63())) mismatchedComponents |= 1L << 62;
+        if ((constrainedComponents & (1L << 63)) != 0 && !(number64Matcher instanceof PrimitiveIntMatcher primitiveMatcher ? primitiveMatcher.matches(element.number64()) : number64Matcher.matches(element.number64()))) mismatchedComponents |= 1L << 63;
+        if ((constrainedComponents1 & (1L << 0)) != 0 && !text65Matcher.matches(element.text65())) mismatchedComponents1 |= 1L << 0;
+        if (mismatchedComponents == 0 && mismatchedComponents1 == 0) {
+            return true;
+        }
+        if (!(mismatchDescription instanceof Description.NullDescription)) {
+            describeMismatchedComponents(element, mismatchedComponents, mismatchedComponents1, mismatchDescription);
+        }
+        return false;
+    }
+
+    private void describeMismatchedComponents(WideRecord element, long mismatchedComponents,
+            long mismatchedComponents1, Description mismatchDescription) {
+        if ((mismatchedComponents & (1L << 0)) != 0) {
+            mismatchDescription.appendText(" text1 ");
+            text1Matcher.describeMismatch(element.text1(), mismatchDescription);
+        }
+        if ((mismatchedComponents & (1L << 1)) != 0) {
+            mismatchDescription.appendText(" number2 ");
+            number2Matcher.describeMismatch(element.number2(), mismatchDescription);
+        }
+        if ((mismatchedComponents & (1L << 2)) != 0) {
+            mismatchDescription.appendText(" text3 ");
+            text3Matcher.describeMismatch(element.text3(), mismatchDescription);
+        }
+        if ((mismatchedComponents & (1L << 3)) != 0) {
+            mismatchDescription.appendText(" number4 ");
+            number4Matcher.describeMismatch(element.number4(), mismatchDescription);
+        }
+        if ((mismatchedComponents & (1L << 4)) != 0) {
+            mismatchDescription.appendText(" text5 ");
+            text5Matcher.describeMismatch(element.text5(), mismatchDescription);
+        }
+        if ((mismatchedComponents & (1L << 5)) != 0) {
+            mismatchDescription.appendText(" number6 ");
+            number6Matcher.describeMismatch(element.number6(), mismatchDescription);
+        }
+        if ((mismatchedComponents & (1L << 6)) != 0) {
+            mismatchDescription.appendText(" text7 ");
+            text7Matcher.describeMismatch(element.text7(), mismatchDescription);
+        }
+        if ((mismatchedComponents & (1L << 7)) != 0) {
+            mismatchDescription.appendText(" number8 ");
+            number8Matcher.describeMismatch(element.number8(), mismatchDescription);
+        }
+        if ((mismatchedComponents & (1L << 8)) != 0) {
+            mismatchDescription.appendText(" text9 ");
+            text9Matcher.describeMismatch(element.text9(), mismatchDescription);
+        }
+        if ((mismatchedComponents & (1L << 9)) != 0) {
+            mismatchDescription.appendText(" number10 ");
+            number10Matcher.describeMismatch(element.number10(), mismatchDescription);
+        }
+        if ((mismatchedComponents & (1L << 10)) != 0) {
+            mismatchDescription.appendText(" text11 ");
+            text11Matcher.describeMismatch(element.text11(), mismatchDescription);
+        }
+        if ((mismatchedComponents & (1L << 11)) != 0) {
+            mismatchDescription.appendText(" number12 ");
+            number12Matcher.describeMismatch(element.number12(), mismatchDescription);
+        }
+        if ((mismatchedComponents & (1L << 12)) != 0) {
+            mismatchDescription.appendText(" text13 ");
+            text13Matcher.describeMismatch(element.text13(), mismatchDescription);
+        }
+        if ((mismatchedComponents & (1L << 13)) != 0) {
+            mismatchDescription.appendText(" number14 ");
+            number14Matcher.describeMismatch(element.number14(), mismatchDescription);
+        }
+        if ((mismatchedComponents & (1L << 14)) != 0) {
+            mismatchDescription.appendText(" text15 ");
+            text15Matcher.describeMismatch(element.text15(), mismatchDescription);
+        }
+        if ((mismatchedComponents & (1L << 15)) != 0) {
+            mismatchDescription.appendText(" number16 ");
+            number16Matcher.describeMismatch(element.number16(), mismatchDescription);
+        }
+        if ((mismatchedComponents & (1L << 16)) != 0) {
+            mismatchDescription.appendText(" text17 ");
+            text17Matcher.describeMismatch(element.text17(), mismatchDescription);
+        }
+        if ((mismatchedComponents & (1L << 17)) != 0) {
+            mismatchDescription.appendText(" number18 ");
+            number18Matcher.describeMismatch(element.number18(), mismatchDescription);
+        }
+        if ((mismatchedComponents & (1L << 18)) != 0) {
+            mismatchDescription.appendText(" text19 ");
+            text19Matcher.describeMismatch(element.text19(), mismatchDescription);
+        }
+        if ((mismatchedComponents & (1L << 19)) != 0) {
+            mismatchDescription.appendText(" number20 ");
+            number20Matcher.describeMismatch(element.number20(), mismatchDescription);
+        }
+        if ((mismatchedComponents & (1L << 20)) != 0) {
+            mismatchDescription.appendText(" text21 ");
+            text21Matcher.describeMismatch(element.text21(), mismatchDescription);
+        }
+        if ((mismatchedComponents & (1L << 21)) != 0) {
+            mismatchDescription.appendText(" number22 ");
+            number22Matcher.describeMismatch(element.number22(), mismatchDescription);
+        }
+        if ((mismatchedComponents & (1L << 22)) != 0) {
+            mismatchDescription.appendText(" text23 ");
+            text23Matcher.describeMismatch(element.text23(), mismatchDescription);
+        }
+        if ((mismatchedComponents & (1L << 23)) != 0) {
+            mismatchDescription.appendText(" number24 ");
+            number24Matcher.describeMismatch(element.number24(), mismatchDescription);
+        }
+        if ((mismatchedComponents & (1L << 24)) != 0) {
+            mismatchDescription.appendText(" text25 ");
+            text25Matcher.describeMismatch(element.text25(), mismatchDescription);
+        }
+        if ((mismatchedComponents & (1L << 25)) != 0) {
+            mismatchDescription.appendText(" number26 ");
+            number26Matcher.describeMismatch(element.number26(), mismatchDescription);
+        }
+        if ((mismatchedComponents & (1L << 26)) != 0) {
+            mismatchDescription.appendText(" text27 ");
+            text27Matcher.describeMismatch(element.text27(), mismatchDescription);
+        }
+        if ((mismatchedComponents & (1L << 27)) != 0) {
+            mismatchDescription.appendText(" number28 ");
+            number28Matcher.describeMismatch(element.number28(), mismatchDescription);
+        }
+        if ((mismatchedComponents & (1L << 28)) != 0) {
+            mismatchDescription.appendText(" text29 ");
+            text29Matcher.describeMismatch(element.text29(), mismatchDescription);
+        }
+        if ((mismatchedComponents & (1L << 29)) != 0) {
+            mismatchDescription.appendText(" number30 ");
+            number30Matcher.describeMismatch(element.number30(), mismatchDescription);
+        }
+        if ((mismatchedComponents & (1L << 30)) != 0) {
+            mismatchDescription.appendText(" text31 ");
+            text31Matcher.describeMismatch(element.text31(), mismatchDescription);
+        }
+        if ((mismatchedComponents & (1L << 31)) != 0) {
+            mismatchDescription.appendText(" number32 ");
+            number32Matcher.describeMismatch(element.number32(), mismatchDescription);
+        }
+        if ((mismatchedComponents & (1L << 32)) != 0) {
+            mismatchDescription.appendText(" text33 ");
+            text33Matcher.describeMismatch(element.text33(), mismatchDescription);
+        }
+        if ((mismatchedComponents & (1L << 33)) != 0) {
+            mismatchDescription.appendText(" number34 ");
+            number34Matcher.describeMismatch(element.number34(), mismatchDescription);
+        }
+        if ((mismatchedComponents & (1L << 34)) != 0) {
+            mismatchDescription.appendText(" text35 ");
+            text35Matcher.describeMismatch(element.text35(), mismatchDescription);
+        }
+        if ((mismatchedComponents & (1L << 35)) != 0) {
+            mismatchDescription.appendText(" number36 ");
+            number36Matcher.describeMismatch(element.number36(), mismatchDescription);
+        }
+        if ((mismatchedComponents & (1L << 36)) != 0) {
+            mismatchDescription.appendText(" text37 ");
+            text37Matcher.describeMismatch(element.text37(), mismatchDescription);
+        }
+        if ((mismatchedComponents & (1L << 37)) != 0) {
+            mismatchDescription.appendText(" number38 ");
+            number38Matcher.describeMismatch(element.number38(), mismatchDescription);
+        }
+        if ((mismatchedComponents & (1L << 38)) != 0) {
+            mismatchDescription.appendText(" text39 ");
+            text39Matcher.describeMismatch(element.text39(), mismatchDescription);
+        }
+        if ((mismatchedComponents & (1L << 39)) != 0) {
+            mismatchDescription.appendText(" number40 ");
+            number40Matcher.describeMismatch(element.number40(), mismatchDescription);
+        }
+        if ((mismatchedComponents & (1L << 40)) != 0) {
+            mismatchDescription.appendText(" text41 ");
+            text41Matcher.describeMismatch(element.text41(), mismatchDescription);
+        }
+        if ((mismatchedComponents & (1L << 41)) != 0) {
+            mismatchDescription.appendText(" number42 ");
+            number42Matcher.describeMismatch(element.number42(), mismatchDescription);
+        }
+        if ((mismatchedComponents & (1L << 42)) != 0) {
+            mismatchDescription.appendText(" text43 ");
+            text43Matcher.describeMismatch(element.text43(), mismatchDescription);
+        }
+        if ((mismatchedComponents & (1L << 43)) != 0) {
+            mismatchDescription.appendText(" number44 ");
+            number44Matcher.describeMismatch(element.number44(), mismatchDescription);
+        }
+        if ((mismatchedComponents & (1L << 44)) != 0) {
+            mismatchDescription.appendText(" text45 ");
+            text45Matcher.describeMismatch(element.text45(), mismatchDescription);
+        }
+        if ((mismatchedComponents & (1L << 45)) != 0) {
+            mismatchDescription.appendText(" number46 ");
+            number46Matcher.describeMismatch(element.number46(), mismatchDescription);
+        }
+        if ((mismatchedComponents & (1L << 46)) != 0) {
+            mismatchDescription.appendText(" text47 ");
+            text47Matcher.describeMismatch(element.text47(), mismatchDescription);
+        }
+        if ((mismatchedComponents & (1L << 47)) != 0) {
+            mismatchDescription.appendText(" number48 ");
+            number48Matcher.describeMismatch(element.number48(), mismatchDescription);
+        }
+        if ((mismatchedComponents & (1L << 48)) != 0) {
+            mismatchDescription.appendText(" text49 ");
+            text49Matcher.describeMismatch(element.text49(), mismatchDescription);
+        }
+        if ((mismatchedComponents & (1L << 49)) != 0) {
+            mismatchDescription.appendText(" number50 ");
+            number50Matcher.describeMismatch(element.number50(), mismatchDescription);
+        }
+        if ((mismatchedComponents & (1L << 50)) != 0) {
+            mismatchDescription.appendText(" text51 ");
+            text51Matcher.describeMismatch(element.text51(), mismatchDescription);
+        }
+        if ((mismatchedComponents & (1L << 51)) != 0) {
+            mismatchDescription.appendText(" number52 ");
+            number52Matcher.describeMismatch(element.number52(), mismatchDescription);
+        }
+        if ((mismatchedComponents & (1L << 52)) != 0) {
+            mismatchDescription.appendText(" text53 ");
+            text53Matcher.describeMismatch(element.text53(), mismatchDescription);
+        }
+        if ((mismatchedComponents & (1L << 53)) != 0) {
+            mismatchDescription.appendText(" number54 ");
+            number54Matcher.describeMismatch(element.number54(), mismatchDescription);
+        }
+        if ((mismatchedComponents & (1L << 54)) != 0) {
+            mismatchDescription.appendText(" text55 ");
+            text55Matcher.describeMismatch(element.text55(), mismatchDescription);
+        }
+        if ((mismatchedComponents & (1L << 55)) != 0) {
+            mismatchDescription.appendText(" number56 ");
+            number56Matcher.describeMismatch(element.number56(), mismatchDescription);
+        }
+        if ((mismatchedComponents & (1L << 56)) != 0) {
+            mismatchDescription.appendText(" text57 ");
+            text57Matcher.describeMismatch(element.text57(), mismatchDescription);
+        }
+        if ((mismatchedComponents & (1L << 57)) != 0) {
+            mismatchDescription.appendText(" number58 ");
+            number58Matcher.describeMismatch(element.number58(), mismatchDescription);
+        }
+        if ((mismatchedComponents & (1L << 58)) != 0) {
+            mismatchDescription.appendText(" text59 ");
+            text59Matcher.describeMismatch(element.text59(), mismatchDescription);
+        }
+        if ((mismatchedComponents & (1L << 59)) != 0) {
+            mismatchDescription.appendText(" number60 ");
+            number60Matcher.describeMismatch(element.number60(), mismatchDescription);
+        }
+        if ((mismatchedComponents & (1L << 60)) != 0) {
+            mismatchDescription.appendText(" text61 ");
+            text61Matcher.describeMismatch(element.text61(), mismatchDescription);
+        }
+        if ((mismatchedComponents & (1L << 61)) != 0) {
+            mismatchDescription.appendText(" number62 ");
+            number62Matcher.describeMismatch(element.number62(), mismatchDescription);
+        }
+        if ((mismatchedComponents & (1L << 62)) != 0) {
+            mismatchDescription.appendText(" text63 ");
+            text63Matcher.describeMismatch(element.text63(), mismatchDescription);
+        }
+        if ((mismatchedComponents & (1L << 63)) != 0) {
+            mismatchDescription.appendText(" number64 ");
+            number64Matcher.describeMismatch(element.number64(), mismatchDescription);
+        }
+        if ((mismatchedComponents1 & (1L << 0)) != 0) {
+            mismatchDescription.appendText(" text65 ");
+            text65Matcher.describeMismatch(element.text65(), mismatchDescription);
+        }
+    }
+
+    private static final class PrimitiveIntMatcher extends BaseMatcher<Integer> {
+        private final IntPredicate predicate;
+
+        private final Supplier<Matcher<? super Integer>> hamcrestEquivalent;
+
+        private PrimitiveIntMatcher(IntPredicate predicate,
+                Supplier<Matcher<? super Integer>> hamcrestEquivalent) {
+            this.predicate = predicate;
+            this.hamcrestEquivalent = hamcrestEquivalent;
+        }
+
+        boolean matches(int actual) {
+            return predicate.test(actual);
+        }
+
+        @Override
+        public boolean matches(Object actual) {
+            return actual instanceof Integer value && matches(value.intValue());
+        }
+
+        @Override
+        public void describeTo(Description description) {
+            hamcrestEquivalent.get().describeTo(description);
+        }
+
+        @Override
+        public void describeMismatch(Object actual, Description mismatchDescription) {
+            hamcrestEquivalent.get().describeMismatch(actual, mismatchDescription);
+        }
+    }
+
+    private static final class ExpectedValue<T> extends BaseMatcher<T> {
+        private final Matcher<T> hamcrestEquivalent;
+
+        private ExpectedValue(Matcher<T> hamcrestEquivalent) {
+            this.hamcrestEquivalent = hamcrestEquivalent;
+        }
+
+        @Override
+        public boolean matches(Object actual) {
+            return hamcrestEquivalent.matches(actual);
+        }
+
+        @Override
+        public void describeTo(Description description) {
+            hamcrestEquivalent.describeTo(description);
+        }
+
+        @Override
+        public void describeMismatch(Object actual, Description mismatchDescription) {
+            hamcrestEquivalent.describeMismatch(actual, mismatchDescription);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package no.rune.record.matcher.example.wide;
+
+import org.hamcrest.CustomTypeSafeMatcher;
+import org.hamcrest.Description;
+import org.hamcrest.StringDescription;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static no.rune.record.matcher.ExpectedMatcher.expectedMatcherFor;
+import static no.rune.record.matcher.example.wide.WideRecordMatcher.aWideRecord;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static uk.co.probablyfine.matchers.Java8Matchers.where;
+
+class WideRecordMatcherTest {
+
+    static WideRecord wideRecord(String text65) {
+        var components = IntStream.rangeClosed(1, 65).mapToObj(i -> i == 65 ? text65 : i % 2 == 0 ? (Object) i : "text" + i).toArray();
+        try {
+            return (WideRecord) WideRecord.class.getDeclaredConstructors()[0].newInstance(components);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Test
+    void matchesAnyRecord() {
+        assertThat(wideRecord("x"), aWideRecord());
+    }
+
+    @Test
+    void matchesConstrainedComponentsFlaggedInDifferentWords() {
+        assertThat(wideRecord("x"), aWideRecord().withText1("text1").withNumber64(64).withText65("x"));
+        assertThat(wideRecord("x"), not(aWideRecord().withText1("text1").withText65("y")));
+    }
+
+    @Test
+    void describesOnlyConstrainedComponents() {
+        var assertionError = assertThrows(AssertionError.class, () -> assertThat(wideRecord("x"), aWideRecord().withNumber2(2).withText65("y")));
+        assertThat(assertionError, where(AssertionError::getMessage,
+                containsString(WideRecord.class.getSimpleName() + " record where number2 is <2> text65 is \"y\"\n     but:  text65 was \"x\"")));
+    }
+
+    @Test
+    void describesMismatchesOnlyWhenRequested() {
+        var describedMismatches = new AtomicInteger();
+        var text65Matcher = new CustomTypeSafeMatcher<String>("y") {
+            @Override
+            protected boolean matchesSafely(String item) {
+                return item.equals("y");
+            }
+
+            @Override
+            protected void describeMismatchSafely(String item, Description mismatchDescription) {
+                describedMismatches.incrementAndGet();
+                mismatchDescription.appendText("was ").appendValue(item);
+            }
+        };
+        var matcher = aWideRecord().withNumber2(3).withText65(text65Matcher);
+        assertThat(wideRecord("x"), not(matcher));
+        assertThat(describedMismatches.get(), is(0));
+
+        var mismatch = new StringDescription();
+        matcher.describeMismatch(wideRecord("x"), mismatch);
+        assertThat(mismatch.toString(), is(" number2 was <2> text65 was \"x\""));
+        assertThat(describedMismatches.get(), is(1));
+    }
+
+    @Test
+    void describesAnyRecordWhenNoComponentsAreConstrained() {
+        var assertionError = assertThrows(AssertionError.class, () -> assertThat(null, aWideRecord()));
+        assertThat(assertionError, where(AssertionError::getMessage,
+                containsString("any " + WideRecord.class.getSimpleName() + " record\n     but: was null")));
+    }
+
+    @Test
+    void generatesExpectedMatcher() {
+        expectedMatcherFor(WideRecord.class).assertEqualToGeneratedMatcherSourceCode();
+    }
+
+}
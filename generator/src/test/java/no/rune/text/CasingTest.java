@@ -4,6 +4,7 @@ import no.rune.text.Casing.Style;
 import org.junit.jupiter.api.Test;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayContaining;
 import static org.hamcrest.Matchers.is;
 
 class CasingTest {
@@ -20,4 +21,20 @@ class CasingTest {
         assertThat(Casing.to(Style.camelCase, "an", "early", "morning"), is("anEarlyMorning"));
     }
 
+    @Test
+    void convertsToCapitalizedSnakeCase() {
+        assertThat(Casing.to(Style.CAPITALIZED_SNAKE_CASE, "a", "late", "night"), is("A_LATE_NIGHT"));
+    }
+
+    @Test
+    void splitsIdentifierIntoWords() {
+        assertThat(Casing.wordsOf("primaryEmailAddress"), arrayContaining("primary", "Email", "Address"));
+        assertThat(Casing.wordsOf("TwoValuesRecord"), arrayContaining("Two", "Values", "Record"));
+        assertThat(Casing.wordsOf("text1"), arrayContaining("text1"));
+        assertThat(Casing.wordsOf("number20Total"), arrayContaining("number20", "Total"));
+        assertThat(Casing.wordsOf("parsedURLPath"), arrayContaining("parsed", "URL", "Path"));
+        assertThat(Casing.wordsOf("snake_case_name"), arrayContaining("snake", "case", "name"));
+        assertThat(Casing.wordsOf("x"), arrayContaining("x"));
+    }
+
 }
@@ -0,0 +1,226 @@
+package no.rune.record.matcher;
+
+import org.jboss.jandex.ClassInfo.NestingType;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.IndexReader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.ZipFile;
+
+import static java.nio.file.Files.isDirectory;
+import static java.nio.file.Files.isRegularFile;
+import static java.nio.file.StandardOpenOption.READ;
+
+/**
+ * Finds records by reading the class files of a classpath element (i.e. a directory
+ * or a jar file), without loading any classes. Jar files containing a
+ * {@value #JANDEX_INDEX} are not scanned, and their records are instead
+ * resolved from the index.
+ */
+final class ClassFileRecordScanner {
+
+    private static final String JANDEX_INDEX = "META-INF/jandex.idx";
+
+    private static final DotName RECORD_SUPERCLASS = DotName.createSimple(Record.class.getName());
+
+    /**
+     * Find the records in the given packages (including sub-packages) of a classpath
+     * element which are {@link RecordClassFile#isAccessibleFromSamePackage() accessible}
+     * from the package they reside in.
+     *
+     * @param report where the number of class files read is counted
+     * @return the binary class names of the records
+     */
+    static List<String> scan(Path classpathElement, Collection<String> packageNames, GenerationReport report) {
+        if (isDirectory(classpathElement)) {
+            return scanDirectory(classpathElement, packageNames, report);
+        } else if (isRegularFile(classpathElement)) {
+            return scanJar(classpathElement, packageNames, report);
+        } else {
+            return List.of();
+        }
+    }
+
+    /**
+     * Scan a class directory, typically the output directory of the project, by walking
+     * the directories of the scanned packages, and then reading the found class files in
+     * parallel on the common fork-join pool.
+     */
+    private static List<String> scanDirectory(Path directory, Collection<String> packageNames, GenerationReport report) {
+        var classFiles = new LinkedHashSet<Path>();
+        for (var packageDirectory : packageNames.stream().map(p -> directory.resolve(p.replace('.', '/'))).filter(Files::isDirectory).toList()) {
+            try (var files = Files.walk(packageDirectory)) {
+                files.filter(ClassFileRecordScanner::isCandidateClassFile).forEach(classFiles::add);
+            } catch (IOException e) {
+                throw new UncheckedIOException(
+                        "Unable to scan " + packageDirectory + " for records, " +
+                        "because " + e.getClass().getSimpleName() + ": " + e.getMessage(), e);
+            }
+        }
+        return readRecordNames(directory, List.copyOf(classFiles), report);
+    }
+
+    /**
+     * Find the records among some of the class files of a class directory, e.g. the class
+     * files which have changed since the previous build.
+     *
+     * @param classFiles the paths of the class files, relative to the directory
+     * @see #scan(Path, Collection, GenerationReport)
+     */
+    static List<String> scanClassFiles(Path directory, Collection<String> classFiles, Collection<String> packageNames, GenerationReport report) {
+        var packagePrefixes = packageNames.stream().map(p -> p.replace('.', '/') + "/").toList();
+        return readRecordNames(directory, classFiles.stream()
+                .map(classFile -> classFile.replace('\\', '/'))
+                .filter(classFile -> packagePrefixes.stream().anyMatch(classFile::startsWith))
+                .map(directory::resolve)
+                .filter(ClassFileRecordScanner::isCandidateClassFile)
+                .distinct()
+                .toList(), report);
+    }
+
+    private static List<String> readRecordNames(Path directory, List<Path> classFiles, GenerationReport report) {
+        var recordNames = classFiles.parallelStream()
+                .map(classFile -> {
+                    try (var classFileContent = Files.newInputStream(classFile)) {
+                        return readAccessibleRecordName(classFileContent, classFile.toString());
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(
+                                "Unable to scan " + directory + " for records, " +
+                                "because " + e.getClass().getSimpleName() + ": " + e.getMessage(), e);
+                    }
+                })
+                .flatMap(Optional::stream)
+                .toList();
+        report.count("classFilesRead", classFiles.size());
+        return recordNames;
+    }
+
+    /**
+     * Scan a jar file by its {@link JarCentralDirectory central directory}, which is only
+     * read if it contains a {@value #JANDEX_INDEX} or any class files in the scanned packages.
+     */
+    private static List<String> scanJar(Path jar, Collection<String> packageNames, GenerationReport report) {
+        var packagePrefixes = packageNames.stream().map(p -> p.replace('.', '/') + "/").toList();
+        var recordNames = new ArrayList<String>();
+        long classFilesRead = 0;
+        try (var channel = FileChannel.open(jar, READ)) {
+            var centralDirectory = JarCentralDirectory.read(channel);
+            if (centralDirectory.isEmpty()) {
+                return scanZipFile(jar, packagePrefixes, report);
+            }
+            var entries = centralDirectory.get().entries(packagePrefixes, List.of(JANDEX_INDEX));
+            if (entries.isEmpty()) {
+                report.count("jarsSkipped", 1);
+                return List.of();
+            }
+            var jandexIndex = entries.stream().filter(entry -> entry.name().equals(JANDEX_INDEX)).findFirst();
+            if (jandexIndex.isPresent()) {
+                try (var indexContent = centralDirectory.get().open(jandexIndex.get())) {
+                    return recordsInJandexIndex(indexContent, packagePrefixes);
+                } catch (IOException | RuntimeException e) {
+                    throw new IOException("Unable to read " + jar + "!/" + JANDEX_INDEX + ", because " + e.getClass().getSimpleName() + ": " + e.getMessage(), e);
+                }
+            }
+            for (var entry : entries) {
+                if (entry.name().endsWith("/") || !isCandidateClassFile(entry.name())) {
+                    continue;
+                }
+                try (var classFileContent = centralDirectory.get().open(entry)) {
+                    readAccessibleRecordName(classFileContent, jar + "!/" + entry.name()).ifPresent(recordNames::add);
+                }
+                classFilesRead++;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(
+                    "Unable to scan " + jar + " for records, " +
+                    "because " + e.getClass().getSimpleName() + ": " + e.getMessage(), e);
+        }
+        report.count("classFilesRead", classFilesRead);
+        return recordNames;
+    }
+
+    /**
+     * Scan a jar file which is not supported by {@link JarCentralDirectory}, i.e. a
+     * jar file in the ZIP64 format, or where the end of the central directory is not found.
+     */
+    private static List<String> scanZipFile(Path jar, List<String> packagePrefixes, GenerationReport report) {
+        var recordNames = new ArrayList<String>();
+        long classFilesRead = 0;
+        try (var zipFile = new ZipFile(jar.toFile())) {
+            var jandexIndex = zipFile.getEntry(JANDEX_INDEX);
+            if (jandexIndex != null) {
+                try (var indexContent = zipFile.getInputStream(jandexIndex)) {
+                    return recordsInJandexIndex(indexContent, packagePrefixes);
+                } catch (IOException | RuntimeException e) {
+                    throw new IOException("Unable to read " + jar + "!/" + JANDEX_INDEX + ", because " + e.getClass().getSimpleName() + ": " + e.getMessage(), e);
+                }
+            }
+            for (var entries = zipFile.entries(); entries.hasMoreElements(); ) {
+                var entry = entries.nextElement();
+                var entryName = entry.getName();
+                if (entry.isDirectory() || !isCandidateClassFile(entryName) || packagePrefixes.stream().noneMatch(entryName::startsWith)) {
+                    continue;
+                }
+                try (var classFileContent = zipFile.getInputStream(entry)) {
+                    readAccessibleRecordName(classFileContent, jar + "!/" + entryName).ifPresent(recordNames::add);
+                }
+                classFilesRead++;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(
+                    "Unable to scan " + jar + " for records, " +
+                    "because " + e.getClass().getSimpleName() + ": " + e.getMessage(), e);
+        }
+        report.count("classFilesRead", classFilesRead);
+        return recordNames;
+    }
+
+    /**
+     * Resolve records from a <a href="https://smallrye.io/jandex/">Jandex</a> index, which
+     * is used instead of reading the class files of a jar if the jar contains an index.
+     */
+    private static List<String> recordsInJandexIndex(InputStream indexContent, List<String> packagePrefixes) throws IOException {
+        var index = new IndexReader(indexContent).read();
+        var recordNames = new ArrayList<String>();
+        for (var classInfo : index.getKnownClasses()) {
+            var className = classInfo.name().toString();
+            if (RECORD_SUPERCLASS.equals(classInfo.superName())
+                    && (classInfo.nestingType() == NestingType.TOP_LEVEL || classInfo.nestingType() == NestingType.INNER)
+                    && packagePrefixes.stream().anyMatch(className.replace('.', '/')::startsWith)) {
+                recordNames.add(className);
+            }
+        }
+        return recordNames;
+    }
+
+    private static Optional<String> readAccessibleRecordName(InputStream classFileContent, String location) throws IOException {
+        RecordClassFile classFile;
+        try {
+            classFile = RecordClassFile.read(classFileContent);
+        } catch (IOException | RuntimeException e) {
+            throw new IOException("Unable to read class file " + location + ", because " + e.getClass().getSimpleName() + ": " + e.getMessage(), e);
+        }
+        return classFile.isRecord() && classFile.isAccessibleFromSamePackage() ? Optional.of(classFile.className()) : Optional.empty();
+    }
+
+    private static boolean isCandidateClassFile(Path file) {
+        return isCandidateClassFile(file.getFileName().toString()) && isRegularFile(file);
+    }
+
+    private static boolean isCandidateClassFile(String fileName) {
+        return fileName.endsWith(".class") && !fileName.endsWith("module-info.class") && !fileName.endsWith("package-info.class");
+    }
+
+    private ClassFileRecordScanner() {
+    }
+}
@@ -0,0 +1,255 @@
+package no.rune.record.matcher;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.Files.isRegularFile;
+
+/**
+ * Keeps track of which matchers have been generated from which records, and a
+ * fingerprint of each record at the time its matcher was generated. This enables
+ * skipping the generation of matchers for records which have not changed since the
+ * previous run, and to remove matchers of records which are no longer included.
+ * <p>
+ * The manifest is persisted in the output directory, and is discarded entirely if
+ * the generator signature (i.e. the version and configuration of the generator)
+ * differs from the one which produced the existing manifest.
+ * <p>
+ * The manifest also keeps a fingerprint of the other inputs of the previous run, e.g. the
+ * configuration of which records to include, and the dependencies of the project, so that
+ * an incremental build can tell if anything but the classes of the project has changed.
+ */
+final class FingerprintManifest {
+
+    static final String FILE_NAME = ".record-matcher-fingerprints";
+
+    private static final String GENERATOR_SIGNATURE_KEY = "generator";
+
+    private static final String INPUTS_KEY = "inputs";
+
+    record Entry(String fingerprint, Path matcherFile) {}
+
+    static FingerprintManifest read(Path outputDirectory, String generatorSignature) {
+        var manifestFile = outputDirectory.resolve(FILE_NAME);
+        var entries = new TreeMap<String, Entry>();
+        String inputs = null;
+        if (isRegularFile(manifestFile)) {
+            List<String> lines;
+            try {
+                lines = Files.readAllLines(manifestFile, UTF_8);
+            } catch (IOException e) {
+                throw new UncheckedIOException(
+                        "Unable to read " + manifestFile + ", " +
+                        "because " + e.getClass().getSimpleName() + ": " + e.getMessage(), e);
+            }
+            var expectedHeader = GENERATOR_SIGNATURE_KEY + " " + generatorSignature;
+            if (!lines.isEmpty() && lines.get(0).equals(expectedHeader)) {
+                for (var line : lines.subList(1, lines.size())) {
+                    var fields = line.split(" ", 3);
+                    if (fields.length == 3) {
+                        entries.put(fields[0], new Entry(fields[1], Path.of(fields[2])));
+                    } else if (fields.length == 2 && fields[0].equals(INPUTS_KEY)) {
+                        inputs = fields[1];
+                    }
+                }
+            }
+        }
+        return new FingerprintManifest(outputDirectory, generatorSignature, inputs, entries);
+    }
+
+    static String fingerprintOf(String content) {
+        return HexFormat.of().formatHex(newDigest().digest(content.getBytes(UTF_8)));
+    }
+
+    /**
+     * The fingerprint of a record is computed from its class file, and the class files of the
+     * types its components refer to, e.g. the type of a component which is another record, or
+     * the type arguments of a generic component type, as the generated matcher may depend on
+     * how these types are declared. The types of the components of those types are not
+     * included, and neither are the types loaded by the bootstrap class loader, i.e. the JDK.
+     */
+    static String fingerprintOf(Class<? extends Record> record) {
+        var digest = newDigest();
+        digest.update(classFileOf(record, record));
+        var componentTypes = new TreeMap<String, Class<?>>();
+        for (var component : record.getRecordComponents()) {
+            addReferredClasses(component.getGenericType(), componentTypes);
+        }
+        componentTypes.remove(record.getName());
+        for (var componentType : componentTypes.values()) {
+            digest.update(componentType.getName().getBytes(UTF_8));
+            digest.update(classFileOf(componentType, record));
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static void addReferredClasses(Type type, Map<String, Class<?>> classes) {
+        if (type instanceof Class<?> cls) {
+            while (cls.isArray()) {
+                cls = cls.getComponentType();
+            }
+            if (!cls.isPrimitive() && cls.getClassLoader() != null) {
+                classes.put(cls.getName(), cls);
+            }
+        } else if (type instanceof ParameterizedType parameterizedType) {
+            addReferredClasses(parameterizedType.getRawType(), classes);
+            for (var typeArgument : parameterizedType.getActualTypeArguments()) {
+                addReferredClasses(typeArgument, classes);
+            }
+        } else if (type instanceof GenericArrayType genericArrayType) {
+            addReferredClasses(genericArrayType.getGenericComponentType(), classes);
+        } else if (type instanceof WildcardType wildcardType) {
+            Stream.concat(Stream.of(wildcardType.getUpperBounds()), Stream.of(wildcardType.getLowerBounds()))
+                .forEach(bound -> addReferredClasses(bound, classes));
+        }
+    }
+
+    private static byte[] classFileOf(Class<?> type, Class<? extends Record> record) {
+        var classFileResource = type.getName().replace('.', '/') + ".class";
+        try (InputStream classFile = type.getClassLoader().getResourceAsStream(classFileResource)) {
+            if (classFile == null) {
+                throw new IllegalStateException("Unable to locate " + classFileResource + " to compute fingerprint of " + record.getName());
+            }
+            return classFile.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(
+                    "Unable to read " + classFileResource + " to compute fingerprint of " + record.getName() + ", " +
+                    "because " + e.getClass().getSimpleName() + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+
+    private final Path outputDirectory;
+    private final String generatorSignature;
+    private final String previousInputs;
+    private final SortedMap<String, Entry> previousEntries;
+    private final SortedMap<String, Entry> currentEntries = new TreeMap<>();
+    private String currentInputs;
+
+    private FingerprintManifest(Path outputDirectory, String generatorSignature, String previousInputs, SortedMap<String, Entry> previousEntries) {
+        this.outputDirectory = outputDirectory;
+        this.generatorSignature = generatorSignature;
+        this.previousInputs = previousInputs;
+        this.previousEntries = previousEntries;
+    }
+
+    /**
+     * @param inputs the fingerprint of the inputs of the current run
+     * @return if the previous run had the same inputs, and the same generator signature
+     */
+    boolean isGeneratedFrom(String inputs) {
+        return inputs.equals(previousInputs);
+    }
+
+    /**
+     * Set the fingerprint of the inputs of the current run, which is written with the manifest.
+     */
+    void generatedFrom(String inputs) {
+        this.currentInputs = inputs;
+    }
+
+    /**
+     * @return the names of the records which matchers were generated for in the previous run
+     */
+    Set<String> previousRecordNames() {
+        return previousEntries.keySet();
+    }
+
+    /**
+     * Resolve the previously generated matcher of a record, if it was generated from
+     * a record with the given fingerprint, and the matcher file still exists.
+     */
+    Optional<Path> upToDateMatcherFile(String recordName, String fingerprint) {
+        return Optional.ofNullable(previousEntries.get(recordName))
+                .filter(entry -> entry.fingerprint().equals(fingerprint))
+                .map(entry -> outputDirectory.resolve(entry.matcherFile()))
+                .filter(Files::isRegularFile);
+    }
+
+    void put(String recordName, String fingerprint, Path matcherFile) {
+        currentEntries.put(recordName, new Entry(fingerprint, outputDirectory.relativize(matcherFile)));
+    }
+
+    /**
+     * Delete any matcher files from the previous manifest which have not been
+     * {@link #put(String, String, Path) put} in this manifest.
+     *
+     * @return the deleted files
+     */
+    List<Path> deleteOrphanedMatchers() {
+        var currentMatcherFiles = currentEntries.values().stream().map(Entry::matcherFile).toList();
+        var deleted = new ArrayList<Path>();
+        for (Map.Entry<String, Entry> previous : previousEntries.entrySet()) {
+            var matcherFile = previous.getValue().matcherFile();
+            if (currentEntries.containsKey(previous.getKey()) || currentMatcherFiles.contains(matcherFile)) {
+                continue;
+            }
+            var orphan = outputDirectory.resolve(matcherFile);
+            try {
+                if (Files.deleteIfExists(orphan)) {
+                    deleted.add(orphan);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(
+                        "Unable to delete orphaned matcher " + orphan + ", " +
+                        "because " + e.getClass().getSimpleName() + ": " + e.getMessage(), e);
+            }
+        }
+        return deleted;
+    }
+
+    /**
+     * Write the manifest, unless the existing manifest file already has the same content.
+     *
+     * @return {@code true} if the manifest file was written
+     */
+    boolean write() {
+        var manifestFile = outputDirectory.resolve(FILE_NAME);
+        var lines = new ArrayList<String>();
+        lines.add(GENERATOR_SIGNATURE_KEY + " " + generatorSignature);
+        if (currentInputs != null) {
+            lines.add(INPUTS_KEY + " " + currentInputs);
+        }
+        currentEntries.forEach((recordName, entry) ->
+            lines.add(recordName + " " + entry.fingerprint() + " " + entry.matcherFile().toString().replace('\\', '/')));
+        try {
+            if (isRegularFile(manifestFile) && Files.readAllLines(manifestFile, UTF_8).equals(lines)) {
+                return false;
+            }
+            Files.write(manifestFile, lines, UTF_8);
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException(
+                    "Unable to write " + manifestFile + ", " +
+                    "because " + e.getClass().getSimpleName() + ": " + e.getMessage(), e);
+        }
+    }
+
+}
@@ -1,33 +1,44 @@
 package no.rune.record.matcher;
 
+import org.apache.maven.execution.MavenSession;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.Component;
 import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.project.MavenProject;
-import org.burningwave.core.assembler.ComponentSupplier;
-import org.burningwave.core.classes.ClassCriteria;
-import org.burningwave.core.classes.SearchConfig;
+import org.codehaus.plexus.util.Scanner;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.sonatype.plexus.build.incremental.BuildContext;
 
 import java.io.File;
 import java.io.IOException;
 import java.io.UncheckedIOException;
-import java.net.URL;
-import java.net.URLClassLoader;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
+import static java.util.Comparator.comparing;
 import static java.util.Objects.requireNonNullElseGet;
 import static java.util.function.Predicate.not;
 import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toCollection;
 import static java.util.stream.Collectors.toUnmodifiableSet;
 import static java.util.stream.Stream.concat;
-import static no.rune.record.matcher.ScanHelper.isAccessibleFromSamePackage;
+import static no.rune.record.matcher.FingerprintManifest.fingerprintOf;
 import static org.apache.maven.plugins.annotations.LifecyclePhase.GENERATE_TEST_SOURCES;
 import static org.apache.maven.plugins.annotations.ResolutionScope.COMPILE;
 
@@ -67,6 +78,30 @@ public class GenerateRecordMatcherMojo extends CodeGeneratorBaseMojo {
     private boolean scanEnabled;
 
 
+    /**
+     * The method used for scanning for records: {@code burningwave} loads every class
+     * in the scanned packages to find the records, while {@code classfile} reads the
+     * class files directly, and only loads the classes which are records.
+     */
+    @Parameter(required = true,
+            defaultValue = "burningwave",
+            property = PLUGIN_CONF_PROP_PREFIX + "scanner")
+    private RecordScanner scanner;
+
+
+    /**
+     * The parts of the classpath which are scanned for records: {@code classpath} scans
+     * the project's own classes and its dependencies, while {@code project} scans only the
+     * project's own classes, i.e. {@code target/classes}, and skips the dependencies entirely.
+     * The {@code burningwave} scanner can not skip the dependencies, and only excludes the
+     * records found in them, so {@code project} should be used with the {@code classfile} scanner.
+     */
+    @Parameter(required = true,
+            defaultValue = "classpath",
+            property = PLUGIN_CONF_PROP_PREFIX + "scanScope")
+    private ScanScope scanScope;
+
+
     /**
      * Specifies fully qualified class names of records to
      * exclude from the Matcher generator.
@@ -75,6 +110,84 @@ public class GenerateRecordMatcherMojo extends CodeGeneratorBaseMojo {
     private Set<String> excludes;
 
 
+    /**
+     * The number of threads used to generate matchers. If set to zero or less, the
+     * number of available processors is used.
+     */
+    @Parameter(required = true,
+            defaultValue = "0",
+            property = PLUGIN_CONF_PROP_PREFIX + "threads")
+    private int threads;
+
+
+    /**
+     * Options altering the generated matchers, none of which are enabled by default:
+     * <ul>
+     * <li>{@code failFast}: when a matcher is only evaluated to decide if a record matches,
+     * and not to describe a mismatch, it returns at the first component which does not match.</li>
+     * <li>{@code linkedBuilder}: constraining a component links the new matcher to the previous one
+     * instead of copying the matchers of all the components, and the chain is resolved when the
+     * matcher is first used. Useful for records with many components.</li>
+     * <li>{@code containsInAnyOrder}: generates a {@code containsInAnyOrder(..)} method in each matcher,
+     * for matching a collection of records in any order. The candidate expected matchers for each record
+     * are found by a hash lookup on the components constrained to be equal to a value, instead of
+     * evaluating every expected matcher against every record, with the same outcome and mismatch
+     * description as Hamcrest's {@code containsInAnyOrder(..)}.</li>
+     * <li>{@code jfrEvents}: each evaluation of a matcher is recorded as a JDK Flight Recorder event,
+     * with the record type, the constrained components and the outcome, to find which assertions
+     * take the most time. When the event is not enabled in a running recording, the matcher is
+     * evaluated directly.</li>
+     * </ul>
+     */
+    @Parameter(property = PLUGIN_CONF_PROP_PREFIX + "options")
+    private Set<RecordMatcherGenerator.Option> options;
+
+
+    /**
+     * Set to also write the time spent in each phase of the goal, and the counts of what
+     * was processed, as JSON to {@code target/record-matcher/report.json}. The same figures
+     * are always logged when the goal completes.
+     */
+    @Parameter(required = true,
+            defaultValue = "false",
+            property = PLUGIN_CONF_PROP_PREFIX + "report")
+    private boolean report;
+
+
+    /**
+     * The build context of an IDE with incremental builds, e.g. Eclipse with m2e, which
+     * tells which classes have changed since the previous build, and is notified of each
+     * matcher file which is written or deleted. If neither the configuration nor the
+     * dependencies of the project have changed since the previous build, an incremental
+     * build only scans the changed class files for records, and keeps the other records
+     * from the previous build. When built by Maven itself, every build is a full build.
+     */
+    @Component
+    private BuildContext buildContext;
+
+
+    /**
+     * The build the project is part of. The classloader of the dependencies of the project
+     * is shared with other projects with the same dependencies which are built at the same
+     * time, and the records found by the {@code classfile} scanner in each classpath element
+     * are shared with the other projects in the same build.
+     */
+    @Parameter(required = true, readonly = true,
+            defaultValue = "${session}")
+    private MavenSession session;
+
+
+    /**
+     * The version of the plugin, which is part of the fingerprint deciding
+     * if previously generated matchers are up to date, together with a fingerprint
+     * of the code of the generator, which may change without changing the version,
+     * e.g. for a snapshot.
+     */
+    @Parameter(required = true, readonly = true,
+            defaultValue = "${plugin.version}")
+    private String pluginVersion;
+
+
 
     @Override
     public void execute() throws MojoExecutionException, MojoFailureException {
@@ -84,34 +197,199 @@ public class GenerateRecordMatcherMojo extends CodeGeneratorBaseMojo {
         }
 
         Path outputDirectory = outputDirectory().path();
+        var classesDirectory = new File(mavenProject.getBuild().getOutputDirectory());
+        var generationReport = new GenerationReport();
+        var manifest = FingerprintManifest.read(outputDirectory, generatorSignature());
+        var classpathElements = generationReport.time("classpath", () -> projectClasspathElements(mavenProject));
+        var inputs = inputsFingerprint(classpathElements, classesDirectory.toPath());
+        var onlyClassesChanged = buildContext.isIncremental() && manifest.isGeneratedFrom(inputs);
+        if (onlyClassesChanged && !buildContext.hasDelta(classesDirectory)) {
+            LOG.debug("No changes in {} since the previous incremental build", classesDirectory);
+            return;
+        }
         LOG.info("Generating matchers in {}", outputDirectory);
 
-        var generator = new RecordMatcherGenerator();
-        var writtenFiles = resolveIncludedRecords()
-            .map(generator::generateFromRecord)
-            .map(compilationUnit -> {
-                try {
-                    return compilationUnit.writeToBaseDirectory(outputDirectory);
-                } catch (IOException e) {
-                    throw new UncheckedIOException(
-                            "Unable to write " + compilationUnit + " to file, " +
-                            "because " + e.getClass().getSimpleName() + ": " + e.getMessage(), e);
-                }
-            })
-            .sorted()
-            .toList();
+        manifest.generatedFrom(inputs);
+        var generator = new RecordMatcherGenerator(requireNonNullElseGet(options, Set::of));
+        List<MatcherFile> matcherFiles;
+        try (var projectClassLoader = generationReport.time("classloader", () ->
+                ProjectClassLoader.open(classpathElements, this.getClass().getClassLoader()))) {
+            var classLoader = projectClassLoader.classLoader();
+            Supplier<Stream<Class<? extends Record>>> scan = onlyClassesChanged
+                    ? () -> scanForChangedRecords(classLoader, classesDirectory, scanPackages, manifest, generationReport)
+                    : () -> scanForRecords(classLoader, classpathElements, scanPackages, generationReport);
+            var records = generationReport.time("scan", () ->
+                    resolveIncludedRecords(classLoader, scan, generationReport).sorted(comparing(Class::getName)).toList());
+            generationReport.count("recordsFound", records.size());
+            matcherFiles = generationReport.time("generate", () ->
+                    mapConcurrently(records, record -> generateMatcherFile(record, generator, manifest, outputDirectory)));
+        }
+
+        var writtenFiles = new ArrayList<Path>();
+        var unchangedFiles = new ArrayList<Path>();
+        var upToDateFiles = new ArrayList<Path>();
+        for (var matcherFile : matcherFiles) {
+            manifest.put(matcherFile.recordName(), matcherFile.fingerprint(), matcherFile.file());
+            switch (matcherFile.status()) {
+                case WRITTEN -> writtenFiles.add(matcherFile.file());
+                case UNCHANGED -> unchangedFiles.add(matcherFile.file());
+                case UP_TO_DATE -> upToDateFiles.add(matcherFile.file());
+            }
+        }
+        var deletedFiles = generationReport.time("manifest", manifest::deleteOrphanedMatchers);
+        if (generationReport.time("manifest", manifest::write)) {
+            buildContext.refresh(outputDirectory.resolve(FingerprintManifest.FILE_NAME).toFile());
+        }
+        concat(writtenFiles.stream(), deletedFiles.stream()).forEach(changedFile -> buildContext.refresh(changedFile.toFile()));
 
+        generationReport.count("classpathElements", classpathElements.size());
+        generationReport.count("matchersWritten", writtenFiles.size());
+        generationReport.count("matchersUnchanged", unchangedFiles.size());
+        generationReport.count("matchersUpToDate", upToDateFiles.size());
+        generationReport.count("matchersDeleted", deletedFiles.size());
+        generationReport.count("generatedBytes", concat(writtenFiles.stream(), unchangedFiles.stream()).mapToLong(GenerateRecordMatcherMojo::sizeOf).sum());
 
-        if (writtenFiles.isEmpty()) {
+
+        if (writtenFiles.isEmpty() && unchangedFiles.isEmpty() && upToDateFiles.isEmpty()) {
             LOG.warn("No matchers were generated!");
         } else {
-            LOG.info("Generated matchers:");
-            for (var writtenFile : writtenFiles) {
-                LOG.info("  {}", outputDirectory.relativize(writtenFile));
+            if (!writtenFiles.isEmpty()) {
+                LOG.info("Generated matchers:");
+                for (var writtenFile : writtenFiles) {
+                    LOG.info("  {}", outputDirectory.relativize(writtenFile));
+                }
+            }
+            LOG.info("Total files written: {}, unchanged: {} (of which {} were not generated again because their records are unchanged)",
+                    writtenFiles.size(), unchangedFiles.size() + upToDateFiles.size(), upToDateFiles.size());
+        }
+        if (!deletedFiles.isEmpty()) {
+            LOG.info("Deleted matchers of records which are no longer included:");
+            for (var deletedFile : deletedFiles) {
+                LOG.info("  {}", outputDirectory.relativize(deletedFile));
+            }
+        }
+        generationReport.log(LOG);
+        if (report) {
+            generationReport.writeJson(Path.of(mavenProject.getBuild().getDirectory(), "record-matcher", "report.json"),
+                    mavenProject.getGroupId() + ":" + mavenProject.getArtifactId());
+        }
+
+    }
+
+    private record MatcherFile(String recordName, String fingerprint, Path file, Status status) {
+        enum Status { WRITTEN, UNCHANGED, UP_TO_DATE }
+    }
+
+    private static MatcherFile generateMatcherFile(
+            Class<? extends Record> record, RecordMatcherGenerator generator, FingerprintManifest manifest, Path outputDirectory) {
+
+        var fingerprint = fingerprintOf(record);
+        var upToDateMatcherFile = manifest.upToDateMatcherFile(record.getName(), fingerprint);
+        if (upToDateMatcherFile.isPresent()) {
+            return new MatcherFile(record.getName(), fingerprint, upToDateMatcherFile.get(), MatcherFile.Status.UP_TO_DATE);
+        }
+        try {
+            var writeResult = generator.writeFromRecord(record, outputDirectory);
+            return new MatcherFile(record.getName(), fingerprint, writeResult.file(),
+                    writeResult.written() ? MatcherFile.Status.WRITTEN : MatcherFile.Status.UNCHANGED);
+        } catch (IOException e) {
+            throw new UncheckedIOException(
+                    "Unable to write matcher of " + record.getName() + " to file, " +
+                    "because " + e.getClass().getSimpleName() + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static long sizeOf(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(
+                    "Unable to resolve size of " + file + ", " +
+                    "because " + e.getClass().getSimpleName() + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Apply a function to each of the given elements, using up to the configured
+     * number of {@link #threads}, and yield the results in the same order as the
+     * given elements.
+     */
+    private <T, R> List<R> mapConcurrently(List<T> elements, Function<? super T, ? extends R> function) {
+        int threadCount = Math.min(elements.size(), threads > 0 ? threads : Runtime.getRuntime().availableProcessors());
+        if (threadCount <= 1) {
+            return elements.stream().<R>map(function).toList();
+        }
+        LOG.debug("Generating {} matchers using {} threads", elements.size(), threadCount);
+        var threadCounter = new AtomicInteger();
+        var executor = Executors.newFixedThreadPool(threadCount, task -> {
+            var thread = new Thread(task, "record-matcher-generator-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            var results = new ArrayList<Future<? extends R>>(elements.size());
+            for (var element : elements) {
+                results.add(executor.submit(() -> function.apply(element)));
+            }
+            var resolved = new ArrayList<R>(elements.size());
+            for (var result : results) {
+                resolved.add(result.get());
+            }
+            return resolved;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            } else if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause().getMessage(), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while generating matchers", e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * The fingerprint of every input of the goal except the classes of the project itself,
+     * i.e. the configuration of which records to include, and the other elements of the
+     * project classpath, where a jar is identified by its size and modification time, and a
+     * directory by the class files in the scanned packages, and the packages of the
+     * explicitly included records.
+     */
+    private String inputsFingerprint(List<Path> classpathElements, Path projectClasses) {
+        var sanitizedIncludes = sanitized(includes);
+        var packageNames = concat(
+                scanEnabled ? sanitized(scanPackages).stream() : Stream.<String>empty(),
+                sanitizedIncludes.stream().filter(include -> include.contains(".")).map(include -> include.substring(0, include.lastIndexOf('.'))))
+                .distinct().toList();
+        var normalizedProjectClasses = projectClasses.toAbsolutePath().normalize();
+        var inputs = new ArrayList<String>();
+        inputs.add("scanEnabled=" + scanEnabled);
+        inputs.add("scanner=" + scanner);
+        inputs.add("scanScope=" + scanScope);
+        inputs.add("scanPackages=" + sanitized(scanPackages));
+        inputs.add("includes=" + sanitizedIncludes);
+        inputs.add("excludes=" + sanitized(excludes));
+        for (var classpathElement : classpathElements) {
+            if (!classpathElement.toAbsolutePath().normalize().equals(normalizedProjectClasses)) {
+                inputs.add(classpathElement + "=" + ScanIndex.keyOf(classpathElement, packageNames));
             }
-            LOG.info("Total files written: {}", writtenFiles.size());
         }
+        return fingerprintOf(String.join("\n", inputs));
+    }
 
+    private static SortedSet<String> sanitized(Collection<String> values) {
+        return requireNonNullElseGet(values, Set::<String>of).stream()
+                .filter(not(String::isBlank)).map(String::trim)
+                .collect(toCollection(TreeSet::new));
+    }
+
+    private String generatorSignature() {
+        var generator = pluginVersion + "@" + CodeSourceFingerprint.of(RecordMatcherGenerator.class);
+        var enabledOptions = requireNonNullElseGet(options, Set::<RecordMatcherGenerator.Option>of).stream().sorted().map(Enum::name).toList();
+        return enabledOptions.isEmpty() ? generator : generator + "+" + String.join(",", enabledOptions);
     }
 
     @Override
@@ -156,12 +434,11 @@ public class GenerateRecordMatcherMojo extends CodeGeneratorBaseMojo {
     }
 
 
-    private Stream<Class<? extends Record>> resolveIncludedRecords() {
-        ClassLoader classLoader = buildProjectClassLoader(mavenProject, this.getClass().getClassLoader());
-
+    private Stream<Class<? extends Record>> resolveIncludedRecords(
+            ClassLoader classLoader, Supplier<Stream<Class<? extends Record>>> scan, GenerationReport generationReport) {
         Stream<Class<? extends Record>> scannedRecords;
         if (scanEnabled) {
-            scannedRecords = scanForRecords(classLoader, scanPackages)
+            scannedRecords = scan.get()
                     .filter(foundRecord -> {
                         var typeParams = foundRecord.getTypeParameters();
                         if (typeParams.length != 0) {
@@ -215,22 +492,27 @@ public class GenerateRecordMatcherMojo extends CodeGeneratorBaseMojo {
         }
     }
 
-    private static Stream<Class<? extends Record>> scanForRecords(ClassLoader classLoader, Collection<String> packageNames) {
+    private Stream<Class<? extends Record>> scanForRecords(
+            ClassLoader classLoader, List<Path> classpathElements, Collection<String> packageNames, GenerationReport generationReport) {
         packageNames = packageNames.stream().filter(not(String::isBlank)).map(String::trim).distinct().toList();
         if (packageNames.isEmpty()) {
             LOG.debug("No packages configured for scanning");
             return Stream.empty();
         }
 
-        LOG.info("Scanning packages {} for records", packageNames);
-        var allRecordsInClassLoader = SearchConfig
-                .byCriteria(ClassCriteria.create().allThoseThatMatch(cls -> cls.isRecord() && isAccessibleFromSamePackage(cls)))
-                .useAsParentClassLoader(classLoader)
-                .addResources(classLoader, packageNames.stream().map(p -> p.replace('.', '/')).toList());
-
-        var classHunter = ComponentSupplier.getInstance().getClassHunter();
-        try (var searchResult = classHunter.findBy(allRecordsInClassLoader)) {
-            return searchResult.getClasses().stream().map(c -> c.asSubclass(Record.class));
+        LOG.info("Scanning packages {} of the {} for records", packageNames, scanScope);
+        if (scanScope == ScanScope.project && scanner == RecordScanner.burningwave) {
+            LOG.warn("""
+                The {} scanner still scans the packages {} of the entire classpath, and only excludes the \
+                records found outside of the project afterwards. Configure <scanner>{}</scanner> to only \
+                scan the classes of the project.\
+                """, scanner, packageNames, RecordScanner.classfile);
+        }
+        try {
+            var scanIndex = ScanIndex.read(Path.of(mavenProject.getBuild().getDirectory(), "record-matcher", "scan-index"), session.getRequest());
+            var projectClasses = Path.of(mavenProject.getBuild().getOutputDirectory());
+            return scanner.scan(classLoader, scanScope.scannedElements(classpathElements, projectClasses), List.copyOf(packageNames), scanIndex, generationReport)
+                    .filter(foundRecord -> scanScope.includes(foundRecord, projectClasses));
         } catch (RuntimeException e) {
             throw new IllegalStateException(
                     "There was an error scanning for records in package(s) " + packageNames + ": " +
@@ -239,6 +521,39 @@ public class GenerateRecordMatcherMojo extends CodeGeneratorBaseMojo {
         }
     }
 
+    /**
+     * Scan only the class files of the project which have changed since the previous
+     * incremental build, and include the records found in the previous build, except
+     * the ones which class files have changed or been deleted.
+     */
+    private Stream<Class<? extends Record>> scanForChangedRecords(
+            ClassLoader classLoader, File classesDirectory, Collection<String> packageNames, FingerprintManifest manifest, GenerationReport generationReport) {
+        packageNames = packageNames.stream().filter(not(String::isBlank)).map(String::trim).distinct().toList();
+        if (packageNames.isEmpty()) {
+            LOG.debug("No packages configured for scanning");
+            return Stream.empty();
+        }
+
+        var changedClassFiles = classFilesOf(buildContext.newScanner(classesDirectory));
+        var deletedClassFiles = classFilesOf(buildContext.newDeleteScanner(classesDirectory));
+        LOG.info("Scanning {} changed class files in packages {} of {} for records", changedClassFiles.size(), packageNames, classesDirectory);
+        var previousRecords = manifest.previousRecordNames().stream()
+                .filter(recordName -> {
+                    var classFile = recordName.replace('.', '/') + ".class";
+                    return !changedClassFiles.contains(classFile) && !deletedClassFiles.contains(classFile);
+                });
+        var changedRecords = ClassFileRecordScanner.scanClassFiles(classesDirectory.toPath(), changedClassFiles, packageNames, generationReport).stream();
+        return concat(previousRecords, changedRecords)
+                .distinct()
+                .<Class<? extends Record>>map(recordName -> load(recordName, Record.class, classLoader));
+    }
+
+    private static Set<String> classFilesOf(Scanner scanner) {
+        scanner.setIncludes(new String[] {"**/*.class"});
+        scanner.scan();
+        return Stream.of(scanner.getIncludedFiles()).map(classFile -> classFile.replace(File.separatorChar, '/')).collect(toUnmodifiableSet());
+    }
+
     private static <C> Class<? extends C> load(String className, Class<C> target, ClassLoader classLoader) {
         try {
             return classLoader.loadClass(className).asSubclass(target);
@@ -249,18 +564,13 @@ public class GenerateRecordMatcherMojo extends CodeGeneratorBaseMojo {
         }
     }
 
-    private static ClassLoader buildProjectClassLoader(MavenProject project, ClassLoader parent) {
+    private static List<Path> projectClasspathElements(MavenProject project) {
         try {
-            List<String> classpathElements = project.getCompileClasspathElements();
-            URL urls[] = new URL[classpathElements.size()];
-            for ( int i = 0; i < classpathElements.size(); ++i ) {
-                urls[i] = new File(classpathElements.get( i ) ).toURI().toURL();
-            }
-            return new URLClassLoader(urls, parent);
+            return project.getCompileClasspathElements().stream().map(Path::of).toList();
         } catch (Exception e) {
             throw new RuntimeException(
-                    "Unable to build classloader for resolving record classes, " +
-                    ", because " + e.getClass().getSimpleName() + ": " + e.getMessage(), e);
+                    "Unable to resolve the classpath for resolving record classes, " +
+                    "because " + e.getClass().getSimpleName() + ": " + e.getMessage(), e);
         }
     }
 
@@ -0,0 +1,86 @@
+package no.rune.record.matcher;
+
+import org.slf4j.Logger;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.synchronizedMap;
+import static java.util.stream.Collectors.joining;
+
+/**
+ * The wall time spent in each phase of generating matchers, and counts of what was
+ * processed, e.g. classpath elements, records, and files. The phases and counts are
+ * reported in the order they are first recorded, and may be recorded concurrently.
+ */
+final class GenerationReport {
+
+    private final Map<String, Long> phaseNanos = synchronizedMap(new LinkedHashMap<>());
+    private final Map<String, Long> counts = synchronizedMap(new LinkedHashMap<>());
+
+    /**
+     * Perform a phase, and record the time it takes.
+     */
+    <T> T time(String phase, Supplier<T> action) {
+        long start = System.nanoTime();
+        try {
+            return action.get();
+        } finally {
+            phaseNanos.merge(phase, System.nanoTime() - start, Long::sum);
+        }
+    }
+
+    void count(String name, long value) {
+        counts.merge(name, value, Long::sum);
+    }
+
+    void log(Logger log) {
+        log.info("Phases: {}", snapshot(phaseNanos).entrySet().stream()
+                .map(phase -> phase.getKey() + " " + millis(phase.getValue()) + " ms")
+                .collect(joining(", ")));
+        log.info("Counts: {}", snapshot(counts).entrySet().stream()
+                .map(count -> count.getKey() + " " + count.getValue())
+                .collect(joining(", ")));
+    }
+
+    void writeJson(Path reportFile, String project) {
+        var json = "{\n" +
+                "  \"project\": \"" + escape(project) + "\",\n" +
+                "  \"phasesMillis\": {" + snapshot(phaseNanos).entrySet().stream()
+                        .map(phase -> "\n    \"" + escape(phase.getKey()) + "\": " + millis(phase.getValue()))
+                        .collect(joining(",")) + "\n  },\n" +
+                "  \"counts\": {" + snapshot(counts).entrySet().stream()
+                        .map(count -> "\n    \"" + escape(count.getKey()) + "\": " + count.getValue())
+                        .collect(joining(",")) + "\n  }\n" +
+                "}\n";
+        try {
+            Files.createDirectories(reportFile.getParent());
+            Files.writeString(reportFile, json, UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(
+                    "Unable to write " + reportFile + ", " +
+                    "because " + e.getClass().getSimpleName() + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static Map<String, Long> snapshot(Map<String, Long> values) {
+        synchronized (values) {
+            return new LinkedHashMap<>(values);
+        }
+    }
+
+    private static long millis(long nanos) {
+        return Math.round(nanos / 1_000_000.0);
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
+}
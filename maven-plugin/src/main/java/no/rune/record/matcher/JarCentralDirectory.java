@@ -0,0 +1,234 @@
+package no.rune.record.matcher;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * The central directory of a jar file, i.e. the list of its entries at the end of the file,
+ * which is read in one go so that the entries can be filtered by the bytes of their names
+ * without decoding the names of every entry, or reading any of their data. The data of an
+ * entry is only read when {@link #open(Entry) opened}, and only as much of it as is read
+ * from the opened stream.
+ * <p>
+ * The central directory is read into a buffer on the heap, and not memory-mapped, as a
+ * mapping is only released when garbage collected, and a mapped file can not be replaced
+ * or deleted on Windows until then, e.g. by building the module of the jar file again.
+ * <p>
+ * Jar files in the ZIP64 format, i.e. with more than 65535 entries, or larger than 4 GB,
+ * are not supported, and must be read by other means, e.g. {@link java.util.zip.ZipFile}.
+ *
+ * @see <a href="https://pkware.cachefly.net/webdocs/casestudies/APPNOTE.TXT">ZIP File Format Specification</a>
+ */
+final class JarCentralDirectory {
+
+    private static final int END_HEADER_SIGNATURE = 0x06054b50;
+    private static final int END_HEADER_SIZE = 22;
+    private static final int CENTRAL_HEADER_SIGNATURE = 0x02014b50;
+    private static final int CENTRAL_HEADER_SIZE = 46;
+    private static final int LOCAL_HEADER_SIGNATURE = 0x04034b50;
+    private static final int LOCAL_HEADER_SIZE = 30;
+    private static final int STORED = 0;
+    private static final int DEFLATED = 8;
+
+    record Entry(String name, int method, long compressedSize, long localHeaderOffset) {}
+
+    /**
+     * Read the central directory of a jar file. Like {@link java.util.zip.ZipFile}, the end
+     * of the central directory is accepted when a central directory is found where it says,
+     * regardless of any bytes following it, e.g. added when signing or repackaging the jar.
+     *
+     * @return the central directory, or empty if the jar file is in the ZIP64 format, or
+     *         the end of its central directory is not found
+     * @throws IOException if the file can not be read
+     */
+    static Optional<JarCentralDirectory> read(FileChannel jar) throws IOException {
+        long fileSize = jar.size();
+        int tailSize = (int) Math.min(fileSize, END_HEADER_SIZE + 0xFFFF);
+        var tail = ByteBuffer.allocate(tailSize).order(LITTLE_ENDIAN);
+        readFully(jar, tail, fileSize - tailSize);
+        for (int endHeader = tailSize - END_HEADER_SIZE; endHeader >= 0; endHeader--) {
+            if (tail.getInt(endHeader) != END_HEADER_SIGNATURE) {
+                continue;
+            }
+            int entryCount = Short.toUnsignedInt(tail.getShort(endHeader + 10));
+            long directorySize = Integer.toUnsignedLong(tail.getInt(endHeader + 12));
+            long directoryOffset = Integer.toUnsignedLong(tail.getInt(endHeader + 16));
+            if (entryCount == 0xFFFF || directorySize == 0xFFFFFFFFL || directoryOffset == 0xFFFFFFFFL) {
+                return Optional.empty();
+            }
+            long directoryPosition = fileSize - tailSize + endHeader - directorySize;
+            if (directoryPosition < 0 || directorySize > Integer.MAX_VALUE || (directorySize == 0) != (entryCount == 0)) {
+                continue;
+            }
+            var directory = ByteBuffer.allocate((int) directorySize).order(LITTLE_ENDIAN);
+            readFully(jar, directory, directoryPosition);
+            if (directorySize == 0 || directory.getInt(0) == CENTRAL_HEADER_SIGNATURE) {
+                return Optional.of(new JarCentralDirectory(jar, directory, directoryPosition - directoryOffset));
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of file");
+            }
+        }
+    }
+
+
+    private final FileChannel jar;
+    private final ByteBuffer directory;
+
+    /**
+     * The position in the file of offset 0 of the zip archive, which is not the start of the
+     * file if any data is prepended to the archive, e.g. an executable launcher script.
+     */
+    private final long archiveStart;
+
+    private JarCentralDirectory(FileChannel jar, ByteBuffer directory, long archiveStart) {
+        this.jar = jar;
+        this.directory = directory;
+        this.archiveStart = archiveStart;
+    }
+
+    /**
+     * Find the entries with a name starting with any of the given prefixes, or equal to
+     * any of the given names. Only the names of the found entries are decoded.
+     */
+    List<Entry> entries(List<String> namePrefixes, List<String> names) throws IOException {
+        var prefixes = namePrefixes.stream().map(prefix -> prefix.getBytes(UTF_8)).toList();
+        var exactNames = names.stream().map(name -> name.getBytes(UTF_8)).toList();
+        var entries = new ArrayList<Entry>();
+        for (int header = 0; header < directory.limit(); ) {
+            if (header + CENTRAL_HEADER_SIZE > directory.limit() || directory.getInt(header) != CENTRAL_HEADER_SIGNATURE) {
+                throw new IOException("Invalid central directory header at offset " + header);
+            }
+            int nameLength = Short.toUnsignedInt(directory.getShort(header + 28));
+            int extraLength = Short.toUnsignedInt(directory.getShort(header + 30));
+            int commentLength = Short.toUnsignedInt(directory.getShort(header + 32));
+            int name = header + CENTRAL_HEADER_SIZE;
+            if (prefixes.stream().anyMatch(prefix -> nameStartsWith(name, nameLength, prefix))
+                    || exactNames.stream().anyMatch(exactName -> exactName.length == nameLength && nameStartsWith(name, nameLength, exactName))) {
+                var nameBytes = new byte[nameLength];
+                directory.get(name, nameBytes);
+                entries.add(new Entry(
+                        new String(nameBytes, UTF_8),
+                        Short.toUnsignedInt(directory.getShort(header + 10)),
+                        Integer.toUnsignedLong(directory.getInt(header + 20)),
+                        Integer.toUnsignedLong(directory.getInt(header + 42))));
+            }
+            header = name + nameLength + extraLength + commentLength;
+        }
+        return entries;
+    }
+
+    private boolean nameStartsWith(int name, int nameLength, byte[] prefix) {
+        if (prefix.length > nameLength) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (directory.get(name + i) != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Open the data of an entry. The returned stream reads from the file channel
+     * of the jar file, and is only valid while the channel is open.
+     */
+    InputStream open(Entry entry) throws IOException {
+        if (entry.compressedSize() == 0xFFFFFFFFL || entry.localHeaderOffset() == 0xFFFFFFFFL) {
+            throw new IOException("ZIP64 entry " + entry.name() + " is not supported");
+        }
+        var localHeader = ByteBuffer.allocate(LOCAL_HEADER_SIZE).order(LITTLE_ENDIAN);
+        long localHeaderPosition = archiveStart + entry.localHeaderOffset();
+        readFully(jar, localHeader, localHeaderPosition);
+        if (localHeader.getInt(0) != LOCAL_HEADER_SIGNATURE) {
+            throw new IOException("Invalid local header of " + entry.name());
+        }
+        long dataPosition = localHeaderPosition + LOCAL_HEADER_SIZE
+                + Short.toUnsignedInt(localHeader.getShort(26)) + Short.toUnsignedInt(localHeader.getShort(28));
+        return switch (entry.method()) {
+            case STORED -> new ChannelRegionInputStream(jar, dataPosition, entry.compressedSize(), false);
+            case DEFLATED -> {
+                var inflater = new Inflater(true);
+                yield new InflaterInputStream(new ChannelRegionInputStream(jar, dataPosition, entry.compressedSize(), true), inflater) {
+                    @Override
+                    public void close() throws IOException {
+                        try {
+                            super.close();
+                        } finally {
+                            inflater.end();
+                        }
+                    }
+                };
+            }
+            default -> throw new IOException("Unsupported compression method " + entry.method() + " of " + entry.name());
+        };
+    }
+
+    /**
+     * Reads a region of a file channel, without changing the position of the channel.
+     */
+    private static final class ChannelRegionInputStream extends InputStream {
+
+        private final FileChannel channel;
+        private long position;
+        private final long end;
+
+        /**
+         * An inflater of raw deflate data needs an extra byte after the data, which is
+         * provided by the stream when the region has been read.
+         */
+        private boolean dummyByte;
+
+        ChannelRegionInputStream(FileChannel channel, long position, long length, boolean dummyByte) {
+            this.channel = channel;
+            this.position = position;
+            this.end = position + length;
+            this.dummyByte = dummyByte;
+        }
+
+        @Override
+        public int read() throws IOException {
+            var single = new byte[1];
+            return read(single, 0, 1) < 0 ? -1 : Byte.toUnsignedInt(single[0]);
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) throws IOException {
+            if (length == 0) {
+                return 0;
+            }
+            if (position >= end) {
+                if (dummyByte) {
+                    dummyByte = false;
+                    bytes[offset] = 0;
+                    return 1;
+                }
+                return -1;
+            }
+            int read = channel.read(ByteBuffer.wrap(bytes, offset, (int) Math.min(length, end - position)), position);
+            if (read < 0) {
+                throw new IOException("Unexpected end of file");
+            }
+            position += read;
+            return read;
+        }
+    }
+
+}
@@ -0,0 +1,228 @@
+package no.rune.record.matcher;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.function.Predicate.not;
+
+/**
+ * The classloader of the classes of a project, which must be closed when the classes are
+ * no longer used, e.g. when the matchers of the records have been generated.
+ * <p>
+ * The jar files of the classpath, typically the dependencies of the project, are loaded by
+ * a classloader which is shared by every project with exactly the same jar files which is
+ * built at the same time, e.g. the modules of a reactor with the same dependencies built in
+ * parallel. Projects with any difference in their jar files do not share a classloader, as
+ * the classes of a shared jar file must be linked to the same classes of the other jar files
+ * in every project.
+ * <p>
+ * The directories of the classpath, i.e. the output directories of the project and any other
+ * modules in the same reactor, are loaded by a classloader of the project only. It looks for
+ * a class in the directories before the shared classloader of the jar files, so that classes
+ * of the project take precedence over classes with the same name in its dependencies, as on
+ * the classpath of the project. Classes in the jar files can not see the classes in the
+ * directories, which dependencies of a project are not expected to depend on anyway.
+ * <p>
+ * The shared classloaders are reference counted, and closed as soon as no project uses them,
+ * so that no classloader, nor any open jar file, outlives the projects using it, regardless of
+ * how the builds are run, e.g. in a daemon running several builds. Jar files which have changed
+ * since a shared classloader was opened, e.g. snapshots installed again, are never loaded from
+ * the same shared classloader.
+ */
+final class ProjectClassLoader implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ProjectClassLoader.class);
+
+    private record Jar(Path path, long size, long lastModified) {
+        static Jar of(Path path) {
+            try {
+                return new Jar(path, Files.size(path), Files.getLastModifiedTime(path).toMillis());
+            } catch (IOException e) {
+                throw new UncheckedIOException(
+                        "Unable to resolve size and modification time of " + path + ", " +
+                        "because " + e.getClass().getSimpleName() + ": " + e.getMessage(), e);
+            }
+        }
+    }
+
+    private record SharedKey(List<Jar> jars, ClassLoader parent) {}
+
+    private static final class Shared {
+        final URLClassLoader classLoader;
+        int projects;
+
+        Shared(URLClassLoader classLoader) {
+            this.classLoader = classLoader;
+        }
+    }
+
+    /**
+     * Guarded by itself.
+     */
+    private static final Map<SharedKey, Shared> SHARED = new HashMap<>();
+
+
+    /**
+     * Open the classloader of the classes of a project.
+     *
+     * @param classpathElements the classpath of the project
+     * @param parent the parent of the classloader
+     */
+    static ProjectClassLoader open(List<Path> classpathElements, ClassLoader parent) {
+        var key = new SharedKey(classpathElements.stream().filter(Files::isRegularFile).map(Jar::of).toList(), parent);
+        var directories = classpathElements.stream().filter(not(Files::isRegularFile)).toList();
+        Shared shared;
+        synchronized (SHARED) {
+            shared = SHARED.get(key);
+            if (shared == null) {
+                shared = new Shared(new URLClassLoader(urlsOf(key.jars().stream().map(Jar::path).toList()), parent));
+                SHARED.put(key, shared);
+            } else {
+                LOG.debug("Reusing classloader of {} jar files", key.jars().size());
+            }
+            shared.projects++;
+        }
+        try {
+            return new ProjectClassLoader(key, new DirectoriesFirstClassLoader(urlsOf(directories), shared.classLoader, parent));
+        } catch (RuntimeException e) {
+            release(key);
+            throw e;
+        }
+    }
+
+    private static void release(SharedKey key) {
+        synchronized (SHARED) {
+            var shared = SHARED.get(key);
+            if (shared != null && --shared.projects == 0) {
+                SHARED.remove(key);
+                close(shared.classLoader);
+            }
+        }
+    }
+
+    private static URL[] urlsOf(List<Path> classpathElements) {
+        var urls = new ArrayList<URL>(classpathElements.size());
+        for (var classpathElement : classpathElements) {
+            try {
+                urls.add(classpathElement.toUri().toURL());
+            } catch (MalformedURLException e) {
+                throw new IllegalArgumentException(
+                        "Unable to build classloader for resolving record classes, " +
+                        "because " + e.getClass().getSimpleName() + ": " + e.getMessage(), e);
+            }
+        }
+        return urls.toArray(URL[]::new);
+    }
+
+    private static void close(URLClassLoader classLoader) {
+        try {
+            classLoader.close();
+        } catch (IOException e) {
+            LOG.warn("Unable to close classloader, because {}: {}", e.getClass().getSimpleName(), e.getMessage());
+        }
+    }
+
+
+    private final SharedKey sharedKey;
+    private final URLClassLoader classLoader;
+    private boolean closed;
+
+    private ProjectClassLoader(SharedKey sharedKey, URLClassLoader classLoader) {
+        this.sharedKey = sharedKey;
+        this.classLoader = classLoader;
+    }
+
+    ClassLoader classLoader() {
+        return classLoader;
+    }
+
+    /**
+     * Close the classloader of the directories of the project, and release the
+     * shared classloader of the jar files.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        close(classLoader);
+        release(sharedKey);
+    }
+
+    /**
+     * Loads classes and resources from the directories of a project before any jar files, but
+     * only after the parent of the classloaders, i.e. the classloader of the plugin itself,
+     * which is the order of a regular classloader of the whole classpath.
+     */
+    private static final class DirectoriesFirstClassLoader extends URLClassLoader {
+
+        static {
+            registerAsParallelCapable();
+        }
+
+        private final ClassLoader jars;
+
+        DirectoriesFirstClassLoader(URL[] directories, ClassLoader jars, ClassLoader parent) {
+            super(directories, parent);
+            this.jars = jars;
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            synchronized (getClassLoadingLock(name)) {
+                var loadedClass = findLoadedClass(name);
+                if (loadedClass == null) {
+                    try {
+                        loadedClass = getParent().loadClass(name);
+                    } catch (ClassNotFoundException notInParent) {
+                        try {
+                            loadedClass = findClass(name);
+                        } catch (ClassNotFoundException notInDirectories) {
+                            loadedClass = jars.loadClass(name);
+                        }
+                    }
+                }
+                if (resolve) {
+                    resolveClass(loadedClass);
+                }
+                return loadedClass;
+            }
+        }
+
+        @Override
+        public URL getResource(String name) {
+            var resource = getParent().getResource(name);
+            if (resource == null) {
+                resource = findResource(name);
+            }
+            return resource != null ? resource : jars.getResource(name);
+        }
+
+        /**
+         * The resources of the directories come first, followed by the resources of the jar
+         * files, which includes the resources of the parent.
+         */
+        @Override
+        public Enumeration<URL> getResources(String name) throws IOException {
+            var resources = Collections.list(findResources(name));
+            resources.addAll(Collections.list(jars.getResources(name)));
+            return Collections.enumeration(resources);
+        }
+    }
+
+}
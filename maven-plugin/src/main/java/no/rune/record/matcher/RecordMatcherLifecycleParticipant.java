@@ -0,0 +1,19 @@
+package no.rune.record.matcher;
+
+import org.apache.maven.AbstractMavenLifecycleParticipant;
+import org.apache.maven.execution.MavenSession;
+
+/**
+ * Forgets what the projects of a build have shared, i.e. the records found in each
+ * {@link ScanIndex scanned classpath element}, as soon as the build ends. The participant is
+ * only notified if the plugin is loaded as a build extension, and what the build has shared
+ * is otherwise forgotten when the build is no longer referenced at all.
+ */
+public final class RecordMatcherLifecycleParticipant extends AbstractMavenLifecycleParticipant {
+
+    @Override
+    public void afterSessionEnd(MavenSession session) {
+        ScanIndex.forget(session.getRequest());
+    }
+
+}
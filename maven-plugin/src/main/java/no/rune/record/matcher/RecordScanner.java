@@ -0,0 +1,79 @@
+package no.rune.record.matcher;
+
+import org.burningwave.core.assembler.ComponentSupplier;
+import org.burningwave.core.classes.ClassCriteria;
+import org.burningwave.core.classes.SearchConfig;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static no.rune.record.matcher.ScanHelper.isAccessibleFromSamePackage;
+
+/**
+ * The available methods for scanning the project classpath for records.
+ */
+enum RecordScanner {
+
+    /**
+     * Uses the <a href="https://github.com/burningwave/core">Burningwave</a> {@code ClassHunter},
+     * which loads every class in the scanned packages to determine if it is a record.
+     */
+    burningwave {
+        @Override
+        Stream<Class<? extends Record>> scan(ClassLoader classLoader, List<Path> classpathElements, List<String> packageNames, ScanIndex index, GenerationReport report) {
+            var allRecordsInClassLoader = SearchConfig
+                    .byCriteria(ClassCriteria.create().allThoseThatMatch(cls -> cls.isRecord() && isAccessibleFromSamePackage(cls)))
+                    .useAsParentClassLoader(classLoader)
+                    .addResources(classLoader, packageNames.stream().map(p -> p.replace('.', '/')).toList());
+
+            var classHunter = ComponentSupplier.getInstance().getClassHunter();
+            try (var searchResult = classHunter.findBy(allRecordsInClassLoader)) {
+                return searchResult.getClasses().stream().map(c -> c.asSubclass(Record.class));
+            }
+        }
+    },
+
+    /**
+     * Reads the class files in the scanned packages of each classpath element, and
+     * only loads the classes which are found to be records. The records found in each
+     * classpath element are kept in a {@link ScanIndex}, and a classpath element is only
+     * scanned again when it has changed.
+     */
+    classfile {
+        @Override
+        Stream<Class<? extends Record>> scan(ClassLoader classLoader, List<Path> classpathElements, List<String> packageNames, ScanIndex index, GenerationReport report) {
+            var recordNames = classpathElements.stream()
+                    .flatMap(classpathElement -> index.recordsIn(classpathElement, packageNames, (element, packages) -> {
+                        report.count("classpathElementsScanned", 1);
+                        return ClassFileRecordScanner.scan(element, packages, report);
+                    }).stream())
+                    .distinct()
+                    .toList();
+            index.write();
+            return recordNames.stream()
+                    .<Class<? extends Record>>map(recordName -> {
+                        try {
+                            return Class.forName(recordName, false, classLoader).asSubclass(Record.class);
+                        } catch (ClassNotFoundException | LinkageError e) {
+                            throw new IllegalStateException(
+                                    "Unable to load record " + recordName + ", " +
+                                    "because " + e.getClass().getSimpleName() + ": " + e.getMessage(), e);
+                        }
+                    })
+                    .filter(ScanHelper::isAccessibleFromSamePackage);
+        }
+    };
+
+    /**
+     * Find the records in the given packages (including sub-packages).
+     *
+     * @param classLoader the classloader to load the records from
+     * @param classpathElements the elements of the classpath of the classloader
+     * @param packageNames the packages to scan
+     * @param index the index of records found in previous scans, if supported by the scanner
+     * @param report where to count what is scanned, if supported by the scanner
+     */
+    abstract Stream<Class<? extends Record>> scan(ClassLoader classLoader, List<Path> classpathElements, List<String> packageNames, ScanIndex index, GenerationReport report);
+
+}
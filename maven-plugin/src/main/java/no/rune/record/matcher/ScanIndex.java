@@ -0,0 +1,182 @@
+package no.rune.record.matcher;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.Files.isDirectory;
+import static java.nio.file.Files.isRegularFile;
+import static java.util.Comparator.comparing;
+
+/**
+ * An index of the records found in each classpath element, persisted between builds
+ * so that only the classpath elements which have changed since the previous build
+ * need to be scanned again.
+ * <p>
+ * A jar file is considered unchanged if its size and modification time are the
+ * same, and a class directory is considered unchanged if the paths, sizes, and
+ * modification times of all its class files in the scanned packages are the same.
+ * <p>
+ * The records found in each classpath element are also kept for the duration of the
+ * build, and shared by every project in the build, so that the jar files of sibling
+ * modules and other dependencies in the scanned packages are only scanned once for
+ * all the modules of a reactor. Several builds may run in the same JVM, e.g. in a daemon,
+ * and each build has its own records, which are {@link #forget(Object) forgotten} when the
+ * build ends, or at the latest when the build is no longer referenced at all.
+ */
+final class ScanIndex {
+
+    private static final String HEADER = "record-matcher-scan-index 1";
+
+    private record Entry(String key, List<String> packageNames, List<String> recordNames) {}
+
+    private record BuildEntryKey(Path classpathElement, String key, List<String> packageNames) {}
+
+    /**
+     * The records found in the classpath elements scanned in each build which is running.
+     * The builds are only weakly referenced, and guarded by the map itself.
+     */
+    private static final Map<Object, Map<BuildEntryKey, List<String>>> BUILD_ENTRIES = new WeakHashMap<>();
+
+    /**
+     * @param indexFile the file of the index persisted by the previous build of the project
+     * @param build identifies the build the project is part of, i.e. the request of the build,
+     *              which is shared by every project in the build
+     */
+    static ScanIndex read(Path indexFile, Object build) {
+        Map<BuildEntryKey, List<String>> buildEntries;
+        synchronized (BUILD_ENTRIES) {
+            buildEntries = BUILD_ENTRIES.computeIfAbsent(build, b -> new ConcurrentHashMap<>());
+        }
+        var entries = new ConcurrentHashMap<Path, Entry>();
+        if (isRegularFile(indexFile)) {
+            List<String> lines;
+            try {
+                lines = Files.readAllLines(indexFile, UTF_8);
+            } catch (IOException e) {
+                throw new UncheckedIOException(
+                        "Unable to read " + indexFile + ", " +
+                        "because " + e.getClass().getSimpleName() + ": " + e.getMessage(), e);
+            }
+            if (!lines.isEmpty() && lines.get(0).equals(HEADER)) {
+                for (var line : lines.subList(1, lines.size())) {
+                    var fields = line.split("\t", -1);
+                    if (fields.length == 4) {
+                        entries.put(Path.of(fields[0]), new Entry(fields[1], split(fields[2]), split(fields[3])));
+                    }
+                }
+            }
+        }
+        return new ScanIndex(indexFile, buildEntries, entries);
+    }
+
+    /**
+     * Forget the records found in the classpath elements scanned in a build which has ended.
+     *
+     * @param build identifies the build, as given when {@link #read(Path, Object) reading}
+     *              the indexes of its projects
+     */
+    static void forget(Object build) {
+        synchronized (BUILD_ENTRIES) {
+            BUILD_ENTRIES.remove(build);
+        }
+    }
+
+    private static List<String> split(String commaSeparated) {
+        return commaSeparated.isEmpty() ? List.of() : List.of(commaSeparated.split(","));
+    }
+
+
+    private final Path indexFile;
+    private final Map<BuildEntryKey, List<String>> buildEntries;
+    private final Map<Path, Entry> previousEntries;
+    private final Map<Path, Entry> currentEntries = new ConcurrentHashMap<>();
+
+    private ScanIndex(Path indexFile, Map<BuildEntryKey, List<String>> buildEntries, Map<Path, Entry> previousEntries) {
+        this.indexFile = indexFile;
+        this.buildEntries = buildEntries;
+        this.previousEntries = previousEntries;
+    }
+
+    /**
+     * Resolve the records of a classpath element from the index, or from another project
+     * in the same build, or scan the classpath element if it has changed since it was
+     * indexed and has not been scanned by any other project in the build.
+     *
+     * @param classpathElement the classpath element
+     * @param packageNames the packages to scan
+     * @param scanner the function used to scan the classpath element for records, if needed
+     *
+     * @return the binary class names of the records in the classpath element
+     */
+    List<String> recordsIn(Path classpathElement, List<String> packageNames, BiFunction<Path, List<String>, List<String>> scanner) {
+        var key = keyOf(classpathElement, packageNames);
+        var previous = previousEntries.get(classpathElement);
+        var entry = previous != null && previous.key().equals(key) && previous.packageNames().equals(packageNames)
+                ? previous
+                : new Entry(key, packageNames, buildEntries.computeIfAbsent(new BuildEntryKey(classpathElement, key, packageNames),
+                        buildEntryKey -> List.copyOf(scanner.apply(classpathElement, packageNames))));
+        currentEntries.put(classpathElement, entry);
+        return entry.recordNames();
+    }
+
+    void write() {
+        var lines = new ArrayList<String>();
+        lines.add(HEADER);
+        currentEntries.entrySet().stream()
+            .sorted(Map.Entry.comparingByKey())
+            .forEach(e -> lines.add(String.join("\t",
+                    e.getKey().toString(), e.getValue().key(), String.join(",", e.getValue().packageNames()), String.join(",", e.getValue().recordNames()))));
+        try {
+            Files.createDirectories(indexFile.getParent());
+            Files.write(indexFile, lines, UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(
+                    "Unable to write " + indexFile + ", " +
+                    "because " + e.getClass().getSimpleName() + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * @return a key which changes when the classpath element changes, i.e. when the jar file
+     *         changes, or any class file of the directory in the given packages changes
+     */
+    static String keyOf(Path classpathElement, List<String> packageNames) {
+        try {
+            if (isRegularFile(classpathElement)) {
+                return "jar:" + Files.size(classpathElement) + ":" + Files.getLastModifiedTime(classpathElement).toMillis();
+            } else if (isDirectory(classpathElement)) {
+                var digest = MessageDigest.getInstance("SHA-256");
+                for (var packageDirectory : packageNames.stream().map(p -> classpathElement.resolve(p.replace('.', '/'))).filter(Files::isDirectory).toList()) {
+                    try (var files = Files.walk(packageDirectory)) {
+                        for (var classFile : files.filter(f -> f.getFileName().toString().endsWith(".class")).sorted(comparing(Path::toString)).toList()) {
+                            digest.update((classpathElement.relativize(classFile) + ":" + Files.size(classFile) + ":" +
+                                    Files.getLastModifiedTime(classFile).toMillis() + "\n").getBytes(UTF_8));
+                        }
+                    }
+                }
+                return "dir:" + HexFormat.of().formatHex(digest.digest());
+            } else {
+                return "none";
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(
+                    "Unable to resolve index key of " + classpathElement + ", " +
+                    "because " + e.getClass().getSimpleName() + ": " + e.getMessage(), e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+}
@@ -0,0 +1,74 @@
+package no.rune.record.matcher;
+
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * The parts of the project classpath which are scanned for records.
+ */
+enum ScanScope {
+
+    /**
+     * Scans every element of the classpath, i.e. the project's own classes,
+     * and its dependencies.
+     */
+    classpath {
+        @Override
+        List<Path> scannedElements(List<Path> classpathElements, Path projectClasses) {
+            return classpathElements;
+        }
+
+        @Override
+        boolean includes(Class<? extends Record> record, Path projectClasses) {
+            return true;
+        }
+    },
+
+    /**
+     * Scans only the project's own classes, i.e. the output directory of the project,
+     * and skips the dependencies entirely. The {@link RecordScanner#burningwave burningwave}
+     * scanner does not scan individual classpath elements, and still scans the entire
+     * classpath. The records it finds outside the output directory are instead excluded
+     * when found, and a warning recommends the {@link RecordScanner#classfile classfile}
+     * scanner.
+     */
+    project {
+        @Override
+        List<Path> scannedElements(List<Path> classpathElements, Path projectClasses) {
+            var normalizedProjectClasses = projectClasses.toAbsolutePath().normalize();
+            return classpathElements.stream()
+                    .filter(classpathElement -> classpathElement.toAbsolutePath().normalize().equals(normalizedProjectClasses))
+                    .toList();
+        }
+
+        @Override
+        boolean includes(Class<? extends Record> record, Path projectClasses) {
+            var codeSource = record.getProtectionDomain().getCodeSource();
+            if (codeSource == null || codeSource.getLocation() == null) {
+                return false;
+            }
+            try {
+                return Path.of(codeSource.getLocation().toURI()).toAbsolutePath().normalize()
+                        .equals(projectClasses.toAbsolutePath().normalize());
+            } catch (URISyntaxException | IllegalArgumentException e) {
+                return false;
+            }
+        }
+    };
+
+    /**
+     * @param classpathElements the elements of the project classpath
+     * @param projectClasses the output directory of the project
+     * @return the classpath elements to scan
+     */
+    abstract List<Path> scannedElements(List<Path> classpathElements, Path projectClasses);
+
+    /**
+     * @param record a record found by scanning
+     * @param projectClasses the output directory of the project
+     * @return if the record was loaded from a classpath element in the scope
+     */
+    abstract boolean includes(Class<? extends Record> record, Path projectClasses);
+
+}